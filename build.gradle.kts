@@ -2,6 +2,7 @@
 plugins {
     id("org.openrewrite.build.recipe-library") version "latest.release"
     id("org.openrewrite.build.moderne-source-available-license") version "latest.release"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "org.openrewrite.recipe"
@@ -19,6 +20,21 @@ recipeDependencies {
     parserClasspath("io.smallrye:smallrye-config-core:3.4.0")
     parserClasspath("org.eclipse.microprofile.health:microprofile-health-api:4.0.1")
     parserClasspath("io.quarkus:quarkus-junit5:3.28.2")
+    parserClasspath("io.smallrye.reactive:mutiny:2.9.4")
+    parserClasspath("io.smallrye.common:smallrye-common-annotation:2.13.9")
+    parserClasspath("org.eclipse.microprofile.context-propagation:microprofile-context-propagation-api:1.3")
+    parserClasspath("io.quarkus:quarkus-cache:3.28.2")
+    parserClasspath("jakarta.persistence:jakarta.persistence-api:3.1.0")
+    parserClasspath("jakarta.transaction:jakarta.transaction-api:2.0.1")
+    parserClasspath("io.quarkus:quarkus-hibernate-reactive-panache:3.28.1")
+    parserClasspath("io.quarkus:quarkus-hibernate-reactive-panache-common:3.28.1")
+    parserClasspath("io.quarkus:quarkus-redis-client:3.28.2")
+    parserClasspath("com.fasterxml.jackson.core:jackson-core:2.20.0")
+    parserClasspath("io.smallrye.reactive:smallrye-reactive-messaging-api:4.29.0")
+    parserClasspath("io.smallrye.reactive:smallrye-reactive-messaging-kafka:4.29.0")
+    parserClasspath("io.quarkus:quarkus-scheduler-api:3.28.2")
+    parserClasspath("org.eclipse.microprofile.rest.client:microprofile-rest-client-api:4.0")
+    parserClasspath("io.quarkus.resteasy.reactive:resteasy-reactive-common:3.28.2")
 }
 
 val rewriteVersion = rewriteRecipe.rewriteVersion.get()
@@ -32,6 +48,10 @@ dependencies {
     implementation("org.openrewrite:rewrite-maven")
     implementation("org.openrewrite:rewrite-xml")
     implementation("org.openrewrite:rewrite-properties")
+    implementation("org.openrewrite:rewrite-yaml")
+    implementation("com.fasterxml.jackson.core:jackson-databind")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+    implementation("com.fasterxml.jackson.module:jackson-module-parameter-names")
     implementation("org.openrewrite.recipe:rewrite-java-dependencies:${rewriteVersion}")
     implementation("org.openrewrite.recipe:rewrite-migrate-java:${rewriteVersion}")
     implementation("org.openrewrite.recipe:rewrite-static-analysis:${rewriteVersion}")
@@ -48,6 +68,7 @@ dependencies {
     testRuntimeOnly("org.springframework:spring-context:6.2.11")
     testRuntimeOnly("org.springframework:spring-beans:6.2.11")
     testRuntimeOnly("org.springframework:spring-web:6.2.11")
+    testRuntimeOnly("org.springframework:spring-webflux:6.2.11")
     testRuntimeOnly("org.springframework:spring-test:6.2.11")
     testRuntimeOnly("org.springframework.boot:spring-boot-test:3.5.4")
     testRuntimeOnly("org.springframework.boot:spring-boot-test-autoconfigure:3.5.4")
@@ -62,10 +83,25 @@ dependencies {
     testRuntimeOnly("io.quarkus:quarkus-hibernate-orm-panache:3.17.8")
     testRuntimeOnly("io.quarkus:quarkus-mongodb-panache:3.17.8")
     testRuntimeOnly("org.springframework.data:spring-data-mongodb:4.4.4")
+    testRuntimeOnly("org.springframework.data:spring-data-redis:3.5.4")
+    testRuntimeOnly("org.springframework.kafka:spring-kafka:3.3.4")
+    testRuntimeOnly("org.springframework.amqp:spring-rabbit:3.2.6")
     testRuntimeOnly("org.aspectj:aspectjweaver:1.9.22")
     testRuntimeOnly("jakarta.interceptor:jakarta.interceptor-api:2.1.0")
     testRuntimeOnly("org.springframework:spring-aop:6.2.11")
     testRuntimeOnly("org.springframework.cloud:spring-cloud-commons:4.1.4")
     testRuntimeOnly("org.springframework.cloud:spring-cloud-netflix-eureka-client:4.1.3")
+    testRuntimeOnly("io.projectreactor:reactor-core:3.7.9")
     testRuntimeOnly(gradleApi())
 }
+
+jmh {
+    // Benchmarks parse their corpora with the same Spring jars the tests use
+    includeTests.set(true)
+    fork.set(1)
+    warmupIterations.set(2)
+    iterations.set(5)
+    // Reports gc.alloc.rate.norm, which for the per-file benchmarks is the allocation per file
+    profilers.add("gc")
+    resultFormat.set("JSON")
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Runs a single Java recipe of this module one file at a time over a {@link SpringBootProjectGenerator generated}
+ * project, so that the reported throughput is in files per second and {@code gc.alloc.rate.norm} (from the {@code gc}
+ * profiler) is the allocation per file.
+ */
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JavaRecipeBenchmark {
+
+    @Param({
+            "WebToJaxRs",
+            "ResponseEntityToJaxRsResponse",
+            "JpaEntityToPanacheEntity",
+            "MongoRepositoryToPanacheMongoRepository",
+            "ConfigurationPropertiesToConfigMapping",
+            "ValueToCdiConfigProperty",
+            "SpringEventListenerToObserves",
+            "SpringHealthIndicatorToQuarkus",
+            "SpringBeanToCdiProduces",
+            "SpringApplicationRunToQuarkusRun"
+    })
+    String recipeName;
+
+    @Param({"100", "1000", "10000"})
+    int files;
+
+    Recipe recipe;
+    List<SourceFile> corpus;
+    ExecutionContext ctx;
+    int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        recipe = recipe(recipeName);
+        corpus = new SpringBootProjectGenerator(files).parse(new InMemoryExecutionContext());
+    }
+
+    @Setup(Level.Iteration)
+    public void newRun() {
+        // One execution context per iteration, shared by its invocations the way a recipe run shares it across files
+        ctx = new InMemoryExecutionContext();
+    }
+
+    @Benchmark
+    public void file(Blackhole blackhole) {
+        SourceFile sourceFile = corpus.get(next);
+        next = (next + 1) % corpus.size();
+        blackhole.consume(recipe.run(new InMemoryLargeSourceSet(singletonList(sourceFile)), ctx)
+                .getChangeset()
+                .getAllResults());
+    }
+
+    static Recipe recipe(String name) {
+        switch (name) {
+            case "WebToJaxRs":
+                return new WebToJaxRs();
+            case "ResponseEntityToJaxRsResponse":
+                return new ResponseEntityToJaxRsResponse(null);
+            case "JpaEntityToPanacheEntity":
+                return new JpaEntityToPanacheEntity(null);
+            case "MongoRepositoryToPanacheMongoRepository":
+                return new MongoRepositoryToPanacheMongoRepository();
+            case "ConfigurationPropertiesToConfigMapping":
+                return new ConfigurationPropertiesToConfigMapping();
+            case "ValueToCdiConfigProperty":
+                return new ValueToCdiConfigProperty();
+            case "SpringEventListenerToObserves":
+                return new SpringEventListenerToObserves();
+            case "SpringHealthIndicatorToQuarkus":
+                return new SpringHealthIndicatorToQuarkus();
+            case "SpringBeanToCdiProduces":
+                return new SpringBeanToCdiProduces();
+            case "SpringApplicationRunToQuarkusRun":
+                return new SpringApplicationRunToQuarkusRun();
+            default:
+                throw new IllegalArgumentException("Unknown recipe " + name);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.config.Environment;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the {@code SpringBootToQuarkus} composite over a whole {@link SpringBootProjectGenerator generated} project per
+ * invocation, as it would run on a repository. The {@code files} counter reports throughput in files per second; the
+ * allocation per file is {@code gc.alloc.rate.norm} divided by the {@code files} parameter.
+ */
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class SpringBootToQuarkusBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    int files;
+
+    Recipe recipe;
+    List<SourceFile> corpus;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class FileCounter {
+        public long files;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            files = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        recipe = Environment.builder()
+                .scanRuntimeClasspath("org.openrewrite.quarkus.spring")
+                .build()
+                .activateRecipes("org.openrewrite.quarkus.spring.SpringBootToQuarkus");
+        corpus = new SpringBootProjectGenerator(files).parse(new InMemoryExecutionContext());
+    }
+
+    @Benchmark
+    public void project(FileCounter counter, Blackhole blackhole) {
+        blackhole.consume(recipe.run(new InMemoryLargeSourceSet(corpus), new InMemoryExecutionContext())
+                .getChangeset()
+                .getAllResults());
+        counter.files += corpus.size();
+    }
+}
@@ -24,6 +24,8 @@ import org.openrewrite.maven.AddPlugin;
 import org.openrewrite.maven.ChangePluginExecutions;
 import org.openrewrite.maven.MavenIsoVisitor;
 import org.openrewrite.maven.tree.ManagedDependency;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
 import org.openrewrite.xml.AddOrUpdateChildTag;
 import org.openrewrite.xml.tree.Xml;
 
@@ -39,9 +41,13 @@ public class AddQuarkusMavenPlugin extends Recipe {
 
     String description = "Adds the Quarkus Maven plugin using the same version as the quarkus-bom in dependency management.";
 
+    transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new MavenIsoVisitor<ExecutionContext>() {
+        return new TimedVisitor(this, fileTimings, new MavenIsoVisitor<ExecutionContext>() {
             @Override
             public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
                 Optional<String> quarkusVersion = getResolutionResult().getPom().getRequested().getDependencyManagement().stream()
@@ -63,7 +69,12 @@ public class AddQuarkusMavenPlugin extends Recipe {
                         .getVisitor()
                         .visitNonNull(document, ctx);
             }
-        };
+        });
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
     }
 
     @Override
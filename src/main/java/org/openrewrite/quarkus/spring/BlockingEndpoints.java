@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Recognizes HTTP endpoints, in their Spring Web or JAX-RS form, and whether they call APIs that block the calling
+ * thread, for the recipes that decide which thread an endpoint runs on.
+ */
+final class BlockingEndpoints {
+
+    static final String BLOCKING_FQN = "io.smallrye.common.annotation.Blocking";
+    static final String NON_BLOCKING_FQN = "io.smallrye.common.annotation.NonBlocking";
+    static final String RUN_ON_VIRTUAL_THREAD_FQN = "io.smallrye.common.annotation.RunOnVirtualThread";
+
+    private static final MethodMatcher[] BLOCKING_CALLS = {
+            new MethodMatcher("org.springframework.data.repository.Repository *(..)", true),
+            new MethodMatcher("org.springframework.jdbc.core.JdbcOperations *(..)", true),
+            new MethodMatcher("org.springframework.web.client.RestOperations *(..)", true),
+            new MethodMatcher("jakarta.persistence.EntityManager *(..)", true),
+            new MethodMatcher("javax.persistence.EntityManager *(..)", true),
+            new MethodMatcher("io.quarkus.hibernate.orm.panache.PanacheEntityBase *(..)", true),
+            new MethodMatcher("io.quarkus.hibernate.orm.panache.PanacheRepositoryBase *(..)", true),
+            new MethodMatcher("java.sql.Connection *(..)", true),
+            new MethodMatcher("java.sql.Statement *(..)", true),
+            new MethodMatcher("javax.sql.DataSource getConnection(..)", true),
+            new MethodMatcher("reactor.core.publisher.Mono block*(..)"),
+            new MethodMatcher("reactor.core.publisher.Flux block*(..)")
+    };
+
+    private static final Set<String> JAX_RS_HTTP_METHODS = new HashSet<>(Arrays.asList(
+            "jakarta.ws.rs.GET", "jakarta.ws.rs.POST", "jakarta.ws.rs.PUT", "jakarta.ws.rs.DELETE",
+            "jakarta.ws.rs.PATCH", "jakarta.ws.rs.HEAD", "jakarta.ws.rs.OPTIONS"));
+
+    private BlockingEndpoints() {
+    }
+
+    /**
+     * @return whether the method is an HTTP endpoint whose threading has not been decided yet with {@code @Blocking},
+     * {@code @NonBlocking} or {@code @RunOnVirtualThread}.
+     */
+    static boolean isUndecidedEndpoint(J.MethodDeclaration method) {
+        boolean endpoint = false;
+        for (J.Annotation annotation : method.getLeadingAnnotations()) {
+            JavaType.FullyQualified type = TypeUtils.asFullyQualified(annotation.getType());
+            if (type == null) {
+                continue;
+            }
+            String fqn = type.getFullyQualifiedName();
+            if (BLOCKING_FQN.equals(fqn) || NON_BLOCKING_FQN.equals(fqn) || RUN_ON_VIRTUAL_THREAD_FQN.equals(fqn)) {
+                return false;
+            }
+            if (isEndpointAnnotation(fqn)) {
+                endpoint = true;
+            }
+        }
+        return endpoint;
+    }
+
+    /**
+     * @return whether the method is an HTTP endpoint, with a Spring Web request mapping or a JAX-RS HTTP method.
+     */
+    static boolean isEndpoint(J.MethodDeclaration method) {
+        for (J.Annotation annotation : method.getLeadingAnnotations()) {
+            JavaType.FullyQualified type = TypeUtils.asFullyQualified(annotation.getType());
+            if (type != null && isEndpointAnnotation(type.getFullyQualifiedName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isEndpointAnnotation(String fqn) {
+        return JAX_RS_HTTP_METHODS.contains(fqn) ||
+               (fqn.startsWith("org.springframework.web.bind.annotation.") && fqn.endsWith("Mapping"));
+    }
+
+    /**
+     * @return whether the method body calls, or references, a method of a blocking API such as a Spring Data or Panache
+     * repository, JDBC, {@code EntityManager} or {@code RestTemplate}.
+     */
+    static boolean callsBlockingApi(J.MethodDeclaration method) {
+        if (method.getBody() == null) {
+            return false;
+        }
+        return new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean found) {
+                if (isBlocking(method.getMethodType())) {
+                    found.set(true);
+                    return method;
+                }
+                return super.visitMethodInvocation(method, found);
+            }
+
+            @Override
+            public J.MemberReference visitMemberReference(J.MemberReference memberRef, AtomicBoolean found) {
+                if (isBlocking(memberRef.getMethodType())) {
+                    found.set(true);
+                }
+                return super.visitMemberReference(memberRef, found);
+            }
+        }.reduce(method.getBody(), new AtomicBoolean()).get();
+    }
+
+    private static boolean isBlocking(JavaType.@Nullable Method methodType) {
+        if (methodType == null) {
+            return false;
+        }
+        // Reactive repositories and clients return publishers and do not block
+        if (TypeUtils.isAssignableTo("org.reactivestreams.Publisher", methodType.getReturnType())) {
+            return false;
+        }
+        for (MethodMatcher blockingCall : BLOCKING_CALLS) {
+            if (blockingCall.matches(methodType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.properties.PropertiesIsoVisitor;
+import org.openrewrite.properties.tree.Properties;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.*;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class CaffeineSpecToQuarkusCache extends ScanningRecipe<Set<String>> {
+
+    private static final String CAFFEINE_SPEC = "spring.cache.caffeine.spec";
+    private static final String CACHE_NAMES = "spring.cache.cache-names";
+
+    private static final Map<String, String> SPEC_TO_QUARKUS = new HashMap<>();
+
+    static {
+        SPEC_TO_QUARKUS.put("initialCapacity", "initial-capacity");
+        SPEC_TO_QUARKUS.put("maximumSize", "maximum-size");
+        SPEC_TO_QUARKUS.put("expireAfterWrite", "expire-after-write");
+        SPEC_TO_QUARKUS.put("expireAfterAccess", "expire-after-access");
+    }
+
+    String displayName = "Convert `spring.cache.caffeine.spec` to Quarkus Caffeine cache properties";
+
+    String description = "Translates the sizing and expiry of a Spring Boot Caffeine spec into " +
+                         "`quarkus.cache.caffeine.<cache>.*` properties for each cache, as Quarkus configures its caches " +
+                         "individually, in properties and YAML files. The caches are those named in " +
+                         "`spring.cache.cache-names` and in the Spring cache annotations of the project. Specs are left " +
+                         "unchanged when no cache names are known, or when they use settings that Quarkus does not support.";
+
+    transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
+    @Override
+    public Set<String> getInitialValue(ExecutionContext ctx) {
+        return new TreeSet<>();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Set<String> cacheNames) {
+        TreeVisitor<?, ExecutionContext> annotations = new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
+                if (TypeUtils.isOfClassType(annotation.getType(), SpringCacheToQuarkusCache.CACHEABLE_FQN) ||
+                    TypeUtils.isOfClassType(annotation.getType(), SpringCacheToQuarkusCache.CACHE_PUT_FQN) ||
+                    TypeUtils.isOfClassType(annotation.getType(), SpringCacheToQuarkusCache.CACHE_EVICT_FQN) ||
+                    TypeUtils.isOfClassType(annotation.getType(), SpringCacheToQuarkusCache.CACHE_CONFIG_FQN)) {
+                    for (Expression name : SpringCacheToQuarkusCache.cacheNames(annotation)) {
+                        if (name instanceof J.Literal && ((J.Literal) name).getValue() instanceof String) {
+                            cacheNames.add((String) ((J.Literal) name).getValue());
+                        }
+                    }
+                }
+                return annotation;
+            }
+        };
+        TreeVisitor<?, ExecutionContext> properties = new PropertiesIsoVisitor<ExecutionContext>() {
+            @Override
+            public Properties.Entry visitEntry(Properties.Entry entry, ExecutionContext ctx) {
+                if (CACHE_NAMES.equals(entry.getKey())) {
+                    addCacheNames(entry.getValue().getText(), cacheNames);
+                }
+                return entry;
+            }
+        };
+        TreeVisitor<?, ExecutionContext> yaml = new YamlIsoVisitor<ExecutionContext>() {
+            @Override
+            public Yaml.Documents visitDocuments(Yaml.Documents documents, ExecutionContext ctx) {
+                String names = YamlProperties.values(documents).get(CACHE_NAMES);
+                if (names != null) {
+                    addCacheNames(names, cacheNames);
+                }
+                return documents;
+            }
+        };
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof SourceFile) {
+                    if (annotations.isAcceptable((SourceFile) tree, ctx)) {
+                        return annotations.visit(tree, ctx);
+                    }
+                    if (properties.isAcceptable((SourceFile) tree, ctx)) {
+                        return properties.visit(tree, ctx);
+                    }
+                    if (yaml.isAcceptable((SourceFile) tree, ctx)) {
+                        return yaml.visit(tree, ctx);
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Set<String> cacheNames) {
+        if (cacheNames.isEmpty()) {
+            return TreeVisitor.noop();
+        }
+        TreeVisitor<?, ExecutionContext> properties = new PropertiesIsoVisitor<ExecutionContext>() {
+            @Override
+            public Properties.File visitFile(Properties.File file, ExecutionContext ctx) {
+                Properties.File f = super.visitFile(file, ctx);
+                List<Properties.Content> content = new ArrayList<>(f.getContent().size());
+                boolean changed = false;
+                for (Properties.Content c : f.getContent()) {
+                    Map<String, String> settings = c instanceof Properties.Entry && CAFFEINE_SPEC.equals(((Properties.Entry) c).getKey()) ?
+                            quarkusSettings(((Properties.Entry) c).getValue().getText()) : null;
+                    if (settings == null) {
+                        content.add(c);
+                        continue;
+                    }
+                    Properties.Entry spec = (Properties.Entry) c;
+                    boolean first = true;
+                    for (String cacheName : cacheNames) {
+                        for (Map.Entry<String, String> setting : settings.entrySet()) {
+                            content.add(spec
+                                    .withId(Tree.randomId())
+                                    .withPrefix(first ? spec.getPrefix() : "\n")
+                                    .withKey("quarkus.cache.caffeine." + cacheName + "." + setting.getKey())
+                                    .withValue(spec.getValue().withText(setting.getValue())));
+                            first = false;
+                        }
+                    }
+                    changed = true;
+                }
+                return changed ? f.withContent(content) : f;
+            }
+        };
+        TreeVisitor<?, ExecutionContext> yaml = new YamlIsoVisitor<ExecutionContext>() {
+            @Override
+            public Yaml.Documents visitDocuments(Yaml.Documents documents, ExecutionContext ctx) {
+                String spec = YamlProperties.values(documents).get(CAFFEINE_SPEC);
+                Map<String, String> settings = spec == null ? null : quarkusSettings(spec);
+                if (settings == null) {
+                    return documents;
+                }
+                Map<String, String> cacheSettings = new LinkedHashMap<>();
+                for (String cacheName : cacheNames) {
+                    for (Map.Entry<String, String> setting : settings.entrySet()) {
+                        cacheSettings.put("quarkus.cache.caffeine." + cacheName + "." + setting.getKey(), setting.getValue());
+                    }
+                }
+                Yaml.Documents d = YamlProperties.add(YamlProperties.remove(documents, Collections.singleton(CAFFEINE_SPEC)), cacheSettings);
+                return d == null ? documents : d;
+            }
+        };
+        return new TimedVisitor(this, fileTimings, new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof SourceFile) {
+                    if (properties.isAcceptable((SourceFile) tree, ctx)) {
+                        return properties.visit(tree, ctx);
+                    }
+                    if (yaml.isAcceptable((SourceFile) tree, ctx)) {
+                        return yaml.visit(tree, ctx);
+                    }
+                }
+                return tree;
+            }
+        });
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
+    }
+
+    private static void addCacheNames(String names, Set<String> cacheNames) {
+        for (String name : names.split(",")) {
+            if (!name.trim().isEmpty()) {
+                cacheNames.add(name.trim());
+            }
+        }
+    }
+
+    /**
+     * @return the Quarkus cache settings of a Caffeine spec such as {@code maximumSize=500,expireAfterWrite=10m}, or
+     * {@code null} when it has a setting without a Quarkus equivalent.
+     */
+    private static @Nullable Map<String, String> quarkusSettings(String spec) {
+        Map<String, String> settings = new LinkedHashMap<>();
+        for (String setting : spec.split(",")) {
+            if (setting.trim().isEmpty()) {
+                continue;
+            }
+            String[] keyValue = setting.split("=", 2);
+            String quarkusKey = SPEC_TO_QUARKUS.get(keyValue[0].trim());
+            if (quarkusKey == null || keyValue.length != 2) {
+                return null;
+            }
+            // Caffeine's durations, such as 10m, are also valid Quarkus durations
+            settings.put(quarkusKey, keyValue[1].trim());
+        }
+        return settings.isEmpty() ? null : settings;
+    }
+}
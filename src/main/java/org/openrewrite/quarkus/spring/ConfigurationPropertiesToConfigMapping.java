@@ -22,9 +22,10 @@ import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.AddImport;
 import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
 
 import java.util.List;
 
@@ -45,10 +46,14 @@ public class ConfigurationPropertiesToConfigMapping extends Recipe {
             "Changes the class to an interface, converts getter methods to interface method declarations, " +
             "and removes fields, setters, and constructors.";
 
+    transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
-                new UsesType<>(CONFIG_PROPS_FQN, false),
+        return new TimedVisitor(this, fileTimings, Preconditions.check(
+                new UsesSpring(SpringUsage.CONFIGURATION_PROPERTIES),
                 new JavaIsoVisitor<ExecutionContext>() {
 
                     @Override
@@ -163,6 +168,11 @@ public class ConfigurationPropertiesToConfigMapping extends Recipe {
                         return m;
                     }
                 }
-        );
+        ));
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
     }
 }
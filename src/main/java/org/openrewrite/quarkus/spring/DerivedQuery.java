@@ -0,0 +1,255 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.java.tree.JavaType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A Spring Data derived query method name, such as {@code findTop10ByStatusAndCreatedAfterOrderByNameDesc}, translated
+ * to a Panache query such as {@code status = ?1 and created > ?2 order by name desc}.
+ * <p>
+ * Only the keywords that translate to a Panache query without changing the method's arguments are supported, so
+ * {@code Containing}, {@code StartingWith}, {@code IgnoreCase} and the like are not.
+ */
+final class DerivedQuery {
+
+    enum Action {
+        FIND, COUNT, EXISTS, DELETE
+    }
+
+    private static final Pattern METHOD_NAME = Pattern.compile(
+            "^(find|read|get|query|search|stream|count|exists|delete|remove)(\\p{Alnum}*?)By(\\p{Alnum}*)$");
+
+    private static final Pattern LIMIT = Pattern.compile("^(?:First|Top)(\\d*)");
+
+    private static final Pattern OR = Pattern.compile("(?<=\\p{Lower}|\\d)Or(?=\\p{Upper})");
+
+    private static final Pattern AND = Pattern.compile("(?<=\\p{Lower}|\\d)And(?=\\p{Upper})");
+
+    private static final Pattern ORDER = Pattern.compile("(?<=Asc|Desc)(?=\\p{Upper})");
+
+    /**
+     * Keywords with their Panache operator and number of arguments, longest first where one ends with another.
+     */
+    private static final String[][] OPERATORS = {
+            {"IsNotNull", "is not null", "0"},
+            {"NotNull", "is not null", "0"},
+            {"IsNull", "is null", "0"},
+            {"Null", "is null", "0"},
+            {"True", "= true", "0"},
+            {"False", "= false", "0"},
+            {"GreaterThanEqual", ">=", "1"},
+            {"GreaterThan", ">", "1"},
+            {"LessThanEqual", "<=", "1"},
+            {"LessThan", "<", "1"},
+            {"After", ">", "1"},
+            {"Before", "<", "1"},
+            {"Between", "between", "2"},
+            {"NotIn", "not in", "1"},
+            {"In", "in", "1"},
+            {"NotLike", "not like", "1"},
+            {"Like", "like", "1"},
+            {"Not", "<>", "1"},
+            {"Equals", "=", "1"},
+    };
+
+    private static final String[] UNSUPPORTED = {
+            "IgnoreCase", "IgnoringCase", "Containing", "Contains", "StartingWith", "StartsWith", "EndingWith",
+            "EndsWith", "Empty", "Near", "Within", "Regex", "Matches", "Exists"
+    };
+
+    final Action action;
+
+    /**
+     * The Panache query, which is empty for a method such as {@code countBy} without criteria.
+     */
+    final String query;
+
+    final int parameterCount;
+
+    /**
+     * The number of results of a {@code First} or {@code Top} method, or {@code 0} without a limit.
+     */
+    final int limit;
+
+    private DerivedQuery(Action action, String query, int parameterCount, int limit) {
+        this.action = action;
+        this.query = query;
+        this.parameterCount = parameterCount;
+        this.limit = limit;
+    }
+
+    /**
+     * @param entity the repository's entity type, whose fields are used to tell property names from keywords when
+     *               its type attribution is available.
+     * @return the translation of a derived query method name, or {@code null} when it is not a derived query or uses
+     * keywords without a Panache equivalent.
+     */
+    static @Nullable DerivedQuery parse(String methodName, JavaType.@Nullable FullyQualified entity) {
+        Matcher matcher = METHOD_NAME.matcher(methodName);
+        if (!matcher.matches() || matcher.group(2).contains("Distinct")) {
+            return null;
+        }
+        Action action;
+        switch (matcher.group(1)) {
+            case "count":
+                action = Action.COUNT;
+                break;
+            case "exists":
+                action = Action.EXISTS;
+                break;
+            case "delete":
+            case "remove":
+                action = Action.DELETE;
+                break;
+            default:
+                action = Action.FIND;
+        }
+        int limit = 0;
+        Matcher limitMatcher = LIMIT.matcher(matcher.group(2));
+        if (limitMatcher.find()) {
+            if (action != Action.FIND) {
+                return null;
+            }
+            limit = limitMatcher.group(1).isEmpty() ? 1 : Integer.parseInt(limitMatcher.group(1));
+        }
+
+        String criteria = matcher.group(3);
+        String orderBy = "";
+        int order = criteria.indexOf("OrderBy");
+        if (order >= 0) {
+            orderBy = criteria.substring(order + "OrderBy".length());
+            criteria = criteria.substring(0, order);
+            if (orderBy.isEmpty() || action != Action.FIND) {
+                return null;
+            }
+        }
+
+        StringBuilder query = new StringBuilder();
+        int parameterCount = 0;
+        if (!criteria.isEmpty()) {
+            for (String disjunct : OR.split(criteria)) {
+                if (query.length() > 0) {
+                    query.append(" or ");
+                }
+                boolean first = true;
+                for (String conjunct : AND.split(disjunct)) {
+                    String predicate = predicate(conjunct, parameterCount + 1, entity);
+                    if (predicate == null) {
+                        return null;
+                    }
+                    if (!first) {
+                        query.append(" and ");
+                    }
+                    query.append(predicate);
+                    parameterCount += countParameters(predicate);
+                    first = false;
+                }
+            }
+        } else if (orderBy.isEmpty()) {
+            return null;
+        }
+
+        if (!orderBy.isEmpty()) {
+            List<String> orders = new ArrayList<>();
+            for (String o : ORDER.split(orderBy)) {
+                boolean descending = o.endsWith("Desc");
+                String property = o.endsWith("Desc") ? o.substring(0, o.length() - 4) :
+                        o.endsWith("Asc") ? o.substring(0, o.length() - 3) : o;
+                if (property.isEmpty() || !isProperty(decapitalize(property), entity)) {
+                    return null;
+                }
+                orders.add(decapitalize(property) + (descending ? " desc" : ""));
+            }
+            query.append(query.length() > 0 ? " " : "").append("order by ").append(String.join(", ", orders));
+        }
+        return new DerivedQuery(action, query.toString(), parameterCount, limit);
+    }
+
+    private static @Nullable String predicate(String criterion, int firstParameter, JavaType.@Nullable FullyQualified entity) {
+        for (String unsupported : UNSUPPORTED) {
+            if (criterion.endsWith(unsupported)) {
+                return null;
+            }
+        }
+        for (String[] operator : OPERATORS) {
+            if (criterion.endsWith(operator[0]) && criterion.length() > operator[0].length()) {
+                String property = criterion.substring(0, criterion.length() - operator[0].length());
+                if (property.endsWith("Is") && property.length() > 2) {
+                    property = property.substring(0, property.length() - 2);
+                }
+                property = decapitalize(property);
+                // A property such as loggedIn ends with a keyword, but is compared for equality
+                if (!isProperty(property, entity)) {
+                    continue;
+                }
+                switch (operator[2]) {
+                    case "0":
+                        return property + " " + operator[1];
+                    case "2":
+                        return property + " between ?" + firstParameter + " and ?" + (firstParameter + 1);
+                    default:
+                        return property + " " + operator[1] + " ?" + firstParameter;
+                }
+            }
+        }
+        String property = decapitalize(criterion.endsWith("Is") && criterion.length() > 2 ?
+                criterion.substring(0, criterion.length() - 2) : criterion);
+        return isProperty(property, entity) ? property + " = ?" + firstParameter : null;
+    }
+
+    private static int countParameters(String predicate) {
+        int count = 0;
+        for (int i = predicate.indexOf('?'); i >= 0; i = predicate.indexOf('?', i + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * @return whether the entity has the property, or {@code true} when the entity's fields are not known.
+     */
+    private static boolean isProperty(String property, JavaType.@Nullable FullyQualified entity) {
+        if (entity == null || entity.getMembers().isEmpty()) {
+            return true;
+        }
+        for (JavaType.FullyQualified type = entity; type != null; type = type.getSupertype()) {
+            for (JavaType.Variable member : type.getMembers()) {
+                if (member.getName().equals(property)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lower cases the first character of a property name, unless it starts with an acronym such as {@code URL}, as
+     * {@code java.beans.Introspector} does.
+     */
+    private static String decapitalize(String name) {
+        if (name.isEmpty() || name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+}
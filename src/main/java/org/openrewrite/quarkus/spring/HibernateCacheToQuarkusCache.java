@@ -0,0 +1,397 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.marker.JavaProject;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.properties.PropertiesIsoVisitor;
+import org.openrewrite.properties.PropertiesParser;
+import org.openrewrite.properties.tree.Properties;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
+import org.openrewrite.xml.XmlIsoVisitor;
+import org.openrewrite.xml.tree.Xml;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class HibernateCacheToQuarkusCache extends ScanningRecipe<HibernateCacheToQuarkusCache.Accumulator> {
+
+    private static final String HIBERNATE_CACHE_FQN = "org.hibernate.annotations.Cache";
+    private static final String CACHEABLE_FQN = "jakarta.persistence.Cacheable";
+
+    /**
+     * Stands in for the project of source files without a {@link JavaProject} marker.
+     */
+    private static final UUID NO_PROJECT = new UUID(0, 0);
+
+    private static final Map<String, String> TIME_UNITS = new HashMap<>();
+
+    static {
+        TIME_UNITS.put("millis", "ms");
+        TIME_UNITS.put("seconds", "s");
+        TIME_UNITS.put("minutes", "m");
+        TIME_UNITS.put("hours", "h");
+        TIME_UNITS.put("days", "d");
+    }
+
+    String displayName = "Convert Hibernate `@Cache` regions to Quarkus second-level cache configuration";
+
+    String description = "Marks entities annotated with Hibernate's `@Cache` as `@Cacheable`, which Quarkus requires to put " +
+                         "them in the second-level cache, and carries the heap size and time-to-idle of their regions in " +
+                         "`ehcache.xml` over to `quarkus.hibernate-orm.cache.\"<region>\".*` properties. They go to " +
+                         "`application.properties`, to the main `application.yml` of projects without one, or to a new " +
+                         "`application.properties` next to `ehcache.xml` when the project has neither.";
+
+    transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
+    static class Accumulator {
+        final Set<String> regions = new TreeSet<>();
+        final Map<String, Map<String, String>> regionSettings = new HashMap<>();
+        final Map<UUID, Project> projects = new HashMap<>();
+
+        Project project(Markers markers) {
+            return projects.computeIfAbsent(projectId(markers), id -> new Project());
+        }
+
+        /**
+         * @return the Quarkus settings of the regions that entities are cached in, by property key.
+         */
+        Map<String, String> settings() {
+            Map<String, String> settings = new LinkedHashMap<>();
+            for (String region : regions) {
+                for (Map.Entry<String, String> setting : regionSettings.getOrDefault(region, Collections.emptyMap()).entrySet()) {
+                    settings.put("quarkus.hibernate-orm.cache.\"" + region + "\"." + setting.getKey(), setting.getValue());
+                }
+            }
+            return settings;
+        }
+    }
+
+    /**
+     * The configuration files of a project, which its region settings go to.
+     */
+    static class Project {
+        boolean applicationProperties;
+        boolean applicationYaml;
+
+        @Nullable
+        Path ehcacheXml;
+
+        /**
+         * Carried over to the {@code application.properties} created for the project, so that later cycles count it.
+         */
+        @Nullable
+        JavaProject javaProject;
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        TreeVisitor<?, ExecutionContext> annotations = new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.Annotation cache = findHibernateCache(classDecl.getLeadingAnnotations());
+                if (cache != null && classDecl.getType() != null) {
+                    acc.regions.add(region(cache, classDecl.getType().getFullyQualifiedName()));
+                }
+                return super.visitClassDeclaration(classDecl, ctx);
+            }
+
+            @Override
+            public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                J.Annotation cache = findHibernateCache(multiVariable.getLeadingAnnotations());
+                J.ClassDeclaration owner = getCursor().firstEnclosing(J.ClassDeclaration.class);
+                if (cache != null && owner != null && owner.getType() != null && !multiVariable.getVariables().isEmpty()) {
+                    // Collection regions are named after the collection role, the entity name and the field name
+                    acc.regions.add(region(cache, owner.getType().getFullyQualifiedName() + "." +
+                                                  multiVariable.getVariables().get(0).getSimpleName()));
+                }
+                return multiVariable;
+            }
+        };
+        TreeVisitor<?, ExecutionContext> ehcache = new XmlIsoVisitor<ExecutionContext>() {
+            @Override
+            public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                return super.isAcceptable(sourceFile, ctx) && sourceFile.getSourcePath().toString().endsWith("ehcache.xml");
+            }
+
+            @Override
+            public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
+                Project project = acc.project(document.getMarkers());
+                project.ehcacheXml = document.getSourcePath();
+                project.javaProject = document.getMarkers().findFirst(JavaProject.class).orElse(null);
+                return super.visitDocument(document, ctx);
+            }
+
+            @Override
+            public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+                if ("cache".equals(tag.getName())) {
+                    String alias = attribute(tag, "alias");
+                    if (alias != null) {
+                        acc.regionSettings.put(alias, ehcache3Settings(tag));
+                    } else if (attribute(tag, "name") != null) {
+                        acc.regionSettings.put(attribute(tag, "name"), ehcache2Settings(tag));
+                    }
+                    return tag;
+                }
+                return super.visitTag(tag, ctx);
+            }
+        };
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof Properties.File && MessagingChannelProperties.isMainApplicationProperties((Properties.File) tree)) {
+                    acc.project(((SourceFile) tree).getMarkers()).applicationProperties = true;
+                } else if (tree instanceof Yaml.Documents && YamlProperties.isMainApplicationYaml((SourceFile) tree) &&
+                           !((Yaml.Documents) tree).getDocuments().isEmpty() &&
+                           ((Yaml.Documents) tree).getDocuments().get(0).getBlock() instanceof Yaml.Mapping) {
+                    acc.project(((SourceFile) tree).getMarkers()).applicationYaml = true;
+                } else if (tree instanceof SourceFile) {
+                    if (annotations.isAcceptable((SourceFile) tree, ctx)) {
+                        return annotations.visit(tree, ctx);
+                    }
+                    if (ehcache.isAcceptable((SourceFile) tree, ctx)) {
+                        return ehcache.visit(tree, ctx);
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        Map<String, String> settings = acc.settings();
+        if (settings.isEmpty()) {
+            return Collections.emptyList();
+        }
+        StringBuilder text = new StringBuilder();
+        for (Map.Entry<String, String> setting : settings.entrySet()) {
+            text.append(setting.getKey()).append('=').append(setting.getValue()).append('\n');
+        }
+        List<SourceFile> generated = new ArrayList<>();
+        for (Project project : acc.projects.values()) {
+            if (project.applicationProperties || project.applicationYaml || project.ehcacheXml == null) {
+                continue;
+            }
+            String ehcacheXml = PathUtils.separatorsToUnix(project.ehcacheXml.toString());
+            int resources = ehcacheXml.indexOf("src/main/resources/");
+            Path path = resources >= 0 ?
+                    Paths.get(ehcacheXml.substring(0, resources) + "src/main/resources/application.properties") :
+                    project.ehcacheXml.resolveSibling("application.properties");
+            PropertiesParser.builder().build()
+                    .parse(text.toString())
+                    .map(file -> project.javaProject == null ? (SourceFile) file.withSourcePath(path) :
+                            (SourceFile) file.withSourcePath(path).withMarkers(file.getMarkers().add(project.javaProject)))
+                    .forEach(generated::add);
+        }
+        return generated;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        if (acc.regions.isEmpty()) {
+            return TreeVisitor.noop();
+        }
+        TreeVisitor<?, ExecutionContext> entities = new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+                if (findHibernateCache(cd.getLeadingAnnotations()) == null ||
+                    cd.getLeadingAnnotations().stream().anyMatch(a -> TypeUtils.isOfClassType(a.getType(), CACHEABLE_FQN))) {
+                    return cd;
+                }
+                maybeAddImport(CACHEABLE_FQN);
+                return JavaTemplateCache.get(ctx, "@Cacheable", "jakarta.persistence-api", CACHEABLE_FQN)
+                        .apply(updateCursor(cd), cd.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
+            }
+        };
+        TreeVisitor<?, ExecutionContext> properties = new PropertiesIsoVisitor<ExecutionContext>() {
+            @Override
+            public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                return super.isAcceptable(sourceFile, ctx) &&
+                       MessagingChannelProperties.isMainApplicationProperties((Properties.File) sourceFile);
+            }
+
+            @Override
+            public Properties.File visitFile(Properties.File file, ExecutionContext ctx) {
+                Properties.File f = super.visitFile(file, ctx);
+                Properties.Entry last = null;
+                Set<String> keys = new HashSet<>();
+                for (Properties.Content c : f.getContent()) {
+                    if (c instanceof Properties.Entry) {
+                        last = (Properties.Entry) c;
+                        keys.add(last.getKey());
+                    }
+                }
+                if (last == null) {
+                    return f;
+                }
+                List<Properties.Content> content = new ArrayList<>(f.getContent());
+                for (Map.Entry<String, String> setting : acc.settings().entrySet()) {
+                    if (keys.add(setting.getKey())) {
+                        content.add(last
+                                .withId(Tree.randomId())
+                                .withPrefix("\n")
+                                .withKey(setting.getKey())
+                                .withValue(last.getValue().withText(setting.getValue())));
+                    }
+                }
+                return content.size() == f.getContent().size() ? f : f.withContent(content);
+            }
+        };
+        TreeVisitor<?, ExecutionContext> yaml = new YamlIsoVisitor<ExecutionContext>() {
+            @Override
+            public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                // The settings go to application.properties whenever there is one
+                return super.isAcceptable(sourceFile, ctx) && YamlProperties.isMainApplicationYaml(sourceFile) &&
+                       !acc.project(sourceFile.getMarkers()).applicationProperties;
+            }
+
+            @Override
+            public Yaml.Documents visitDocuments(Yaml.Documents documents, ExecutionContext ctx) {
+                Map<String, String> settings = acc.settings();
+                Yaml.Documents d = settings.isEmpty() ? null : YamlProperties.add(documents, settings);
+                return d == null ? documents : d;
+            }
+        };
+        return new TimedVisitor(this, fileTimings, new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof SourceFile) {
+                    if (entities.isAcceptable((SourceFile) tree, ctx)) {
+                        return entities.visit(tree, ctx);
+                    }
+                    if (properties.isAcceptable((SourceFile) tree, ctx)) {
+                        return properties.visit(tree, ctx);
+                    }
+                    if (yaml.isAcceptable((SourceFile) tree, ctx)) {
+                        return yaml.visit(tree, ctx);
+                    }
+                }
+                return tree;
+            }
+        });
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
+    }
+
+    private static UUID projectId(Markers markers) {
+        return markers.findFirst(JavaProject.class).map(JavaProject::getId).orElse(NO_PROJECT);
+    }
+
+    private static J.@Nullable Annotation findHibernateCache(List<J.Annotation> annotations) {
+        for (J.Annotation annotation : annotations) {
+            if (TypeUtils.isOfClassType(annotation.getType(), HIBERNATE_CACHE_FQN)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private static String region(J.Annotation cache, String defaultRegion) {
+        if (cache.getArguments() != null) {
+            for (Expression argument : cache.getArguments()) {
+                if (argument instanceof J.Assignment &&
+                    "region".equals(((J.Assignment) argument).getVariable().toString()) &&
+                    ((J.Assignment) argument).getAssignment() instanceof J.Literal) {
+                    Object value = ((J.Literal) ((J.Assignment) argument).getAssignment()).getValue();
+                    if (value instanceof String) {
+                        return (String) value;
+                    }
+                }
+            }
+        }
+        return defaultRegion;
+    }
+
+    /**
+     * Reads an Ehcache 3 cache such as {@code <cache alias="..."><expiry><tti unit="minutes">10</tti></expiry><heap>1000</heap></cache>}.
+     * Only entry-counted heaps and time-to-idle expiry have a Quarkus equivalent.
+     */
+    private static Map<String, String> ehcache3Settings(Xml.Tag cache) {
+        Map<String, String> settings = new LinkedHashMap<>();
+        Optional<Xml.Tag> heap = cache.getChild("heap");
+        if (!heap.isPresent()) {
+            heap = cache.getChild("resources").flatMap(resources -> resources.getChild("heap"));
+        }
+        heap.filter(h -> "entries".equals(Optional.ofNullable(attribute(h, "unit")).orElse("entries")))
+                .flatMap(Xml.Tag::getValue)
+                .map(String::trim)
+                .ifPresent(size -> settings.put("memory.object-count", size));
+        cache.getChild("expiry").flatMap(expiry -> expiry.getChild("tti")).ifPresent(tti -> {
+            String unit = TIME_UNITS.get(Optional.ofNullable(attribute(tti, "unit")).orElse("seconds"));
+            tti.getValue().ifPresent(amount -> {
+                if (unit != null) {
+                    settings.put("expiration.max-idle", amount.trim() + unit);
+                }
+            });
+        });
+        return settings;
+    }
+
+    /**
+     * Reads an Ehcache 2 cache such as {@code <cache name="..." maxEntriesLocalHeap="1000" timeToIdleSeconds="600"/>}.
+     */
+    private static Map<String, String> ehcache2Settings(Xml.Tag cache) {
+        Map<String, String> settings = new LinkedHashMap<>();
+        String size = attribute(cache, "maxEntriesLocalHeap");
+        if (size == null) {
+            size = attribute(cache, "maxElementsInMemory");
+        }
+        // Ehcache 2 uses 0 for unbounded heaps and caches that never expire
+        if (size != null && !"0".equals(size)) {
+            settings.put("memory.object-count", size);
+        }
+        String timeToIdle = attribute(cache, "timeToIdleSeconds");
+        if (timeToIdle != null && !"0".equals(timeToIdle)) {
+            settings.put("expiration.max-idle", timeToIdle + "s");
+        }
+        return settings;
+    }
+
+    private static @Nullable String attribute(Xml.Tag tag, String name) {
+        for (Xml.Attribute attribute : tag.getAttributes()) {
+            if (name.equals(attribute.getKeyAsString())) {
+                return attribute.getValueAsString();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Builds each {@link JavaTemplate} once per recipe run and thread, and shares it across the compilation units visited
+ * on that thread, as a template parses with a compiler that cannot be used by several threads at once. Templates are
+ * keyed by their code, imports, context sensitivity and the classpath resources they are parsed against, and the cache
+ * lives in the {@link ExecutionContext} so that it is released together with the run.
+ * <p>
+ * The cache also counts the templates looked up on each thread, which {@link TimedVisitor} reports per source file. A
+ * lookup does not guarantee an application, as a caller may still decide against applying the template.
+ */
+final class JavaTemplateCache {
+
+    private static final String CACHE_KEY = JavaTemplateCache.class.getName();
+
+    private static final ThreadLocal<long[]> LOOKUPS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private JavaTemplateCache() {
+    }
+
+    static JavaTemplate get(ExecutionContext ctx, String code, String classpathResource, String... imports) {
+        return get(ctx, code, false, new String[]{classpathResource}, imports);
+    }
+
+    static JavaTemplate get(ExecutionContext ctx, String code, String[] classpathResources, String... imports) {
+        return get(ctx, code, false, classpathResources, imports);
+    }
+
+    static JavaTemplate getContextSensitive(ExecutionContext ctx, String code, String classpathResource, String... imports) {
+        return get(ctx, code, true, new String[]{classpathResource}, imports);
+    }
+
+    static JavaTemplate getContextSensitive(ExecutionContext ctx, String code, String[] classpathResources, String... imports) {
+        return get(ctx, code, true, classpathResources, imports);
+    }
+
+    /**
+     * Builds a template that is also parsed against stubs of the project's own types, which no classpath resource
+     * provides and which a template that is not context sensitive would otherwise leave untyped.
+     */
+    static JavaTemplate getWithStubs(ExecutionContext ctx, String code, String[] classpathResources, String[] stubs, String... imports) {
+        return get(ctx, code, false, String.join(",", classpathResources) + '|' + String.join("|", stubs),
+                () -> JavaParser.fromJavaVersion().classpathFromResources(ctx, classpathResources).dependsOn(stubs), imports);
+    }
+
+    /**
+     * @return the number of templates looked up on the current thread so far.
+     */
+    static long lookups() {
+        return LOOKUPS.get()[0];
+    }
+
+    private static JavaTemplate get(ExecutionContext ctx, String code, boolean contextSensitive, String[] classpathResources, String... imports) {
+        return get(ctx, code, contextSensitive, String.join(",", classpathResources),
+                () -> JavaParser.fromJavaVersion().classpathFromResources(ctx, classpathResources), imports);
+    }
+
+    private static JavaTemplate get(ExecutionContext ctx, String code, boolean contextSensitive, String parserKey,
+                                    Supplier<JavaParser.Builder<?, ?>> javaParser, String... imports) {
+        LOOKUPS.get()[0]++;
+        Map<String, JavaTemplate> templates = ctx.computeMessageIfAbsent(CACHE_KEY, k -> new ConcurrentHashMap<String, JavaTemplate>());
+        String key = Thread.currentThread().getId() + "|" + parserKey + '|' + contextSensitive + '|' +
+                     String.join(",", imports) + '|' + code;
+        return templates.computeIfAbsent(key, k -> {
+            JavaTemplate.Builder builder = JavaTemplate.builder(code)
+                    .javaParser(javaParser.get())
+                    .imports(imports);
+            if (contextSensitive) {
+                builder.contextSensitive();
+            }
+            return builder.build();
+        });
+    }
+}
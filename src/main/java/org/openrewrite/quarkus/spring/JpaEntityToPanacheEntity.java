@@ -21,35 +21,72 @@ import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JLeftPadded;
+import org.openrewrite.java.tree.JavaSourceFile;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.Space;
 import org.openrewrite.marker.Markers;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
 
 import static java.util.Collections.emptyList;
 
 @Value
 @EqualsAndHashCode(callSuper = false)
-public class JpaEntityToPanacheEntity extends Recipe {
+public class JpaEntityToPanacheEntity extends ScanningRecipe<ReactorUsage> {
 
     private static final String ENTITY_FQN = "jakarta.persistence.Entity";
     private static final String PANACHE_ENTITY_FQN = "io.quarkus.hibernate.orm.panache.PanacheEntity";
     private static final String PANACHE_ENTITY_BASE_FQN = "io.quarkus.hibernate.orm.panache.PanacheEntityBase";
+    private static final String REACTIVE_PANACHE_ENTITY_FQN = "io.quarkus.hibernate.reactive.panache.PanacheEntity";
+    private static final String REACTIVE_PANACHE_ENTITY_BASE_FQN = "io.quarkus.hibernate.reactive.panache.PanacheEntityBase";
     private static final String ID_FQN = "jakarta.persistence.Id";
     private static final String GENERATED_VALUE_FQN = "jakarta.persistence.GeneratedValue";
     private static final AnnotationMatcher ENTITY_MATCHER = new AnnotationMatcher("@" + ENTITY_FQN);
     private static final AnnotationMatcher ID_MATCHER = new AnnotationMatcher("@" + ID_FQN);
 
+    @Option(displayName = "Reactive",
+            description = "Whether entities extend the Hibernate Reactive Panache entities instead of the Hibernate ORM ones. " +
+                          "When not set, Hibernate Reactive is used in projects whose web tier migrates to reactive Quarkus " +
+                          "REST, which are those depending on both `spring-boot-starter-web` and Project Reactor.",
+            required = false)
+    @Nullable
+    Boolean reactive;
+
     String displayName = "Convert JPA Entity to Panache Entity";
 
     String description = "Transforms standard JPA entities to extend Quarkus PanacheEntity, enabling the Active Record pattern with built-in CRUD operations.";
 
+    transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
+    @Override
+    public ReactorUsage getInitialValue(ExecutionContext ctx) {
+        return new ReactorUsage();
+    }
+
     @Override
-    public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
-                new UsesType<>(ENTITY_FQN, false),
+    public TreeVisitor<?, ExecutionContext> getScanner(ReactorUsage reactorUsage) {
+        if (reactive != null) {
+            return TreeVisitor.noop();
+        }
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof SourceFile) {
+                    reactorUsage.scan((SourceFile) tree, ctx);
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(ReactorUsage reactorUsage) {
+        return new TimedVisitor(this, fileTimings, Preconditions.check(
+                new UsesSpring(SpringUsage.JPA_ENTITY),
                 new JavaIsoVisitor<ExecutionContext>() {
 
                     @Override
@@ -76,7 +113,11 @@ public class JpaEntityToPanacheEntity extends Recipe {
                         boolean idFieldNamedId = idFieldInfo != null && idFieldInfo.isNamedId;
 
                         // Choose base class: PanacheEntity for Long id, PanacheEntityBase otherwise
-                        String panacheFqn = isLongId ? PANACHE_ENTITY_FQN : PANACHE_ENTITY_BASE_FQN;
+                        boolean hibernateReactive = reactive != null ? reactive :
+                                reactorUsage.isReactive(getCursor().firstEnclosingOrThrow(JavaSourceFile.class).getMarkers());
+                        String panacheFqn = hibernateReactive ?
+                                isLongId ? REACTIVE_PANACHE_ENTITY_FQN : REACTIVE_PANACHE_ENTITY_BASE_FQN :
+                                isLongId ? PANACHE_ENTITY_FQN : PANACHE_ENTITY_BASE_FQN;
                         String panacheSimpleName = isLongId ? "PanacheEntity" : "PanacheEntityBase";
 
                         maybeAddImport(panacheFqn);
@@ -105,7 +146,12 @@ public class JpaEntityToPanacheEntity extends Recipe {
                         return cd;
                     }
                 }
-        );
+        ));
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
     }
 
     private static @Nullable IdFieldInfo findIdField(J.ClassDeclaration cd) {
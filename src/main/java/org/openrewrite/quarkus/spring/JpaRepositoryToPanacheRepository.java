@@ -0,0 +1,1257 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.AnnotationMatcher;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.RemoveAnnotationVisitor;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonList;
+import static org.openrewrite.Tree.randomId;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class JpaRepositoryToPanacheRepository extends ScanningRecipe<JpaRepositoryToPanacheRepository.Accumulator> {
+
+    private static final String[] SPRING_REPOSITORIES = {
+            "org.springframework.data.jpa.repository.JpaRepository",
+            "org.springframework.data.repository.ListCrudRepository",
+            "org.springframework.data.repository.CrudRepository",
+            "org.springframework.data.repository.Repository"
+    };
+    private static final String SPRING_DATA_REPOSITORY_FQN = "org.springframework.data.repository.Repository";
+    private static final String REPOSITORY_FQN = "org.springframework.stereotype.Repository";
+    private static final String NO_REPOSITORY_BEAN_FQN = "org.springframework.data.repository.NoRepositoryBean";
+    private static final String QUERY_FQN = "org.springframework.data.jpa.repository.Query";
+    private static final String PANACHE_REPOSITORY_FQN = "io.quarkus.hibernate.orm.panache.PanacheRepository";
+    private static final String PANACHE_REPOSITORY_BASE_FQN = "io.quarkus.hibernate.orm.panache.PanacheRepositoryBase";
+    private static final String APPLICATION_SCOPED_FQN = "jakarta.enterprise.context.ApplicationScoped";
+    private static final String TRANSACTIONAL_FQN = "jakarta.transaction.Transactional";
+    private static final String PAGEABLE_FQN = "org.springframework.data.domain.Pageable";
+    private static final String SPRING_SORT_FQN = "org.springframework.data.domain.Sort";
+    private static final String SPRING_PAGE_FQN = "org.springframework.data.domain.Page";
+    private static final String SLICE_FQN = "org.springframework.data.domain.Slice";
+    private static final String PANACHE_QUERY_FQN = "io.quarkus.hibernate.orm.panache.PanacheQuery";
+    private static final String REACTIVE_PANACHE_REPOSITORY_FQN = "io.quarkus.hibernate.reactive.panache.PanacheRepository";
+    private static final String REACTIVE_PANACHE_REPOSITORY_BASE_FQN = "io.quarkus.hibernate.reactive.panache.PanacheRepositoryBase";
+    private static final String REACTIVE_PANACHE_QUERY_FQN = "io.quarkus.hibernate.reactive.panache.PanacheQuery";
+    private static final String WITH_TRANSACTION_FQN = "io.quarkus.hibernate.reactive.panache.common.WithTransaction";
+    private static final String UNI_FQN = "io.smallrye.mutiny.Uni";
+    private static final String PANACHE_PAGE_FQN = "io.quarkus.panache.common.Page";
+    private static final String PANACHE_SORT_FQN = "io.quarkus.panache.common.Sort";
+    private static final String[] PANACHE_CLASSPATH = {"quarkus-hibernate-orm-panache", "quarkus-panache-common"};
+    private static final String[] REACTIVE_PANACHE_CLASSPATH = {"quarkus-hibernate-reactive-panache", "quarkus-hibernate-reactive-panache-common",
+            "quarkus-panache-common", "mutiny"};
+    private static final MethodMatcher PAGE_REQUEST_OF = new MethodMatcher("org.springframework.data.domain.PageRequest of(int, int)");
+
+    /**
+     * The methods of Spring's {@code Page} and {@code Slice} with a {@code PanacheQuery} equivalent.
+     */
+    private static final Map<String, String> PAGE_TO_PANACHE_QUERY = new HashMap<>();
+
+    static {
+        PAGE_TO_PANACHE_QUERY.put("getContent", "list");
+        PAGE_TO_PANACHE_QUERY.put("getTotalElements", "count");
+        PAGE_TO_PANACHE_QUERY.put("getTotalPages", "pageCount");
+        PAGE_TO_PANACHE_QUERY.put("hasNext", "hasNextPage");
+        PAGE_TO_PANACHE_QUERY.put("hasPrevious", "hasPreviousPage");
+    }
+
+    /**
+     * Methods of {@code PanacheRepositoryBase} that a repository method of the same name would clash with.
+     */
+    private static final Set<String> PANACHE_METHODS = new HashSet<>(Arrays.asList(
+            "findById", "findByIdOptional", "find", "findAll", "list", "listAll", "stream", "streamAll", "count",
+            "delete", "deleteAll", "deleteById", "persist", "persistAndFlush", "update", "flush", "getEntityManager"));
+
+    /**
+     * Inherited repository methods that write, and so need a transaction once they return a {@code Uni}.
+     */
+    private static final Set<String> WRITES = new HashSet<>(Arrays.asList("save", "saveAndFlush", "delete", "deleteById"));
+
+    private static final String CONVERSION = "CONVERSION";
+    private static final String PAGED_VARIABLES = "PAGED_VARIABLES";
+
+    @Option(displayName = "Reactive",
+            description = "Whether repositories implement the Hibernate Reactive Panache repositories, with `Uni` results, " +
+                          "instead of the Hibernate ORM ones. When not set, Hibernate Reactive is used in projects whose web " +
+                          "tier migrates to reactive Quarkus REST, which are those depending on both `spring-boot-starter-web` " +
+                          "and Project Reactor.",
+            required = false)
+    @Nullable
+    Boolean reactive;
+
+    String displayName = "Convert Spring Data `JpaRepository` to Panache `PanacheRepository`";
+
+    String description = "Turns Spring Data JPA repository interfaces into `@ApplicationScoped` classes implementing " +
+                         "`PanacheRepository<T>`, or `PanacheRepositoryBase<T, ID>` for entities without a `Long` id. " +
+                         "Derived query methods such as `findByStatusAndCreatedAfter` and `@Query` methods with positional " +
+                         "parameters are implemented with Panache `find`, `count` and `delete` queries, and calls to the " +
+                         "inherited `findById`, `findAll`, `save`, `existsById` and `findAllById` methods are rewritten " +
+                         "to their Panache equivalents, with a saved entity that is used taking the place of `save`'s result. " +
+                         "Methods taking a `Pageable` return the `PanacheQuery` of the requested `Page` instead of a Spring " +
+                         "`Page` or `Slice`, so that callers still load one page at a time, and `Stream` methods stream " +
+                         "their results within the caller's transaction. With Hibernate Reactive, query methods return " +
+                         "a `Uni` of their result instead, and so do the methods that only return the result of a repository " +
+                         "call, or end with one and return nothing, up to the REST endpoints calling them. Repositories with " +
+                         "methods or call sites that cannot be translated are left unchanged.";
+
+    transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
+    static class Accumulator {
+        final ReactorUsage reactorUsage = new ReactorUsage();
+
+        final Converted blocking = new Converted();
+
+        final Converted reactive = new Converted();
+
+        /**
+         * The markers of the source file of each repository, as its project decides between the two conversions.
+         */
+        final Map<String, Markers> repositoryMarkers = new HashMap<>();
+
+        /**
+         * For each reactive repository or method, the methods that can return a {@code Uni} of the result of a call
+         * to it instead of the result itself, as {@code <declaring type>#<name>(<parameter types>)}.
+         */
+        final Map<String, Set<String>> uniCallers = new HashMap<>();
+
+        /**
+         * The methods called in a way that a {@code Uni} result would break.
+         */
+        final Set<String> calledOtherwise = new HashSet<>();
+
+        /**
+         * For each reactive repository, the methods calling one of its inherited methods that write, as those writes
+         * need a transaction around the {@code Uni} chain they end up in.
+         */
+        final Map<String, Set<String>> uniWriters = new HashMap<>();
+
+        /**
+         * The HTTP endpoints, which Quarkus subscribes to the {@code Uni} results of.
+         */
+        final Set<String> endpoints = new HashSet<>();
+
+        @Nullable
+        Plan plan;
+    }
+
+    /**
+     * Which repositories become Hibernate ORM and which Hibernate Reactive Panache repositories, and the methods that
+     * return a {@code Uni} because they return the result of a Hibernate Reactive one.
+     */
+    static class Plan {
+        final Set<String> blocking = new HashSet<>();
+
+        final Set<String> reactive = new HashSet<>();
+
+        final Set<String> uniMethods = new HashSet<>();
+
+        /**
+         * The endpoints at the top of a {@code Uni} chain ending in a write, which run it in a transaction.
+         */
+        final Set<String> transactionalMethods = new HashSet<>();
+    }
+
+    /**
+     * The repositories that can be converted to either Hibernate ORM or Hibernate Reactive Panache repositories, as
+     * which of them is used is only known once the whole project is scanned.
+     */
+    static class Converted {
+        final Set<String> repositories = new HashSet<>();
+
+        /**
+         * The repositories with call sites that cannot be rewritten for the Panache repository they would become.
+         */
+        final Set<String> unconvertible = new HashSet<>();
+
+        /**
+         * The methods returning a {@code PanacheQuery} instead of a Spring {@code Page} or {@code Slice}, as
+         * {@code <repository>#<method>}.
+         */
+        final Set<String> pagedMethods = new HashSet<>();
+
+        void add(J.ClassDeclaration classDecl, @Nullable Conversion conversion) {
+            if (conversion == null) {
+                return;
+            }
+            //noinspection DataFlowIssue
+            String repository = classDecl.getType().getFullyQualifiedName();
+            repositories.add(repository);
+            for (Statement statement : classDecl.getBody().getStatements()) {
+                if (conversion.paged.contains(statement.getId())) {
+                    pagedMethods.add(repository + "#" + ((J.MethodDeclaration) statement).getSimpleName());
+                }
+            }
+        }
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        TreeVisitor<?, ExecutionContext> repositories = Preconditions.check(
+                new UsesSpring(SpringUsage.DATA_REPOSITORY, SpringUsage.JPA_REPOSITORY),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                        // Only top level interfaces are visited, as nested ones would become inner classes
+                        if (classDecl.getType() != null) {
+                            acc.repositoryMarkers.put(classDecl.getType().getFullyQualifiedName(),
+                                    getCursor().firstEnclosingOrThrow(JavaSourceFile.class).getMarkers());
+                            if (!Boolean.TRUE.equals(reactive)) {
+                                acc.blocking.add(classDecl, Conversion.of(classDecl, false));
+                            }
+                            if (!Boolean.FALSE.equals(reactive)) {
+                                acc.reactive.add(classDecl, Conversion.of(classDecl, true));
+                            }
+                        }
+                        return classDecl;
+                    }
+                });
+        JavaIsoVisitor<ExecutionContext> calls = new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+                JavaType.Method methodType = mi.getMethodType();
+                if (methodType == null) {
+                    return mi;
+                }
+                JavaType.FullyQualified repository = mi.getSelect() == null ? enclosingRepository(getCursor()) : repository(mi.getSelect());
+                if (repository == null || TypeUtils.isOfClassType(methodType.getDeclaringType(), repository.getFullyQualifiedName()) &&
+                                          methodType.hasFlags(Flag.Default)) {
+                    if (!Boolean.FALSE.equals(reactive) && !methodType.getDeclaringType().getFullyQualifiedName().startsWith("java.")) {
+                        // A method that may return a Uni once a repository it calls is a reactive one
+                        String caller = uniCaller(getCursor());
+                        if (caller == null) {
+                            acc.calledOtherwise.add(methodKey(methodType));
+                        } else {
+                            acc.uniCallers.computeIfAbsent(methodKey(methodType), k -> new HashSet<>()).add(caller);
+                        }
+                    }
+                    return mi;
+                }
+                String fqn = repository.getFullyQualifiedName();
+                boolean inherited = !TypeUtils.isOfClassType(methodType.getDeclaringType(), fqn);
+                // Inherited methods called without a receiver, from a default method, are not rewritten
+                boolean rewritable = mi.getSelect() != null || !inherited;
+                if (!Boolean.TRUE.equals(reactive) && !(rewritable && isRewritable(mi, repository, getCursor()))) {
+                    acc.blocking.unconvertible.add(fqn);
+                }
+                if (!Boolean.FALSE.equals(reactive)) {
+                    String caller = rewritable && isReactiveRewritable(mi, inherited) ? uniCaller(getCursor()) : null;
+                    if (caller == null) {
+                        acc.reactive.unconvertible.add(fqn);
+                    } else {
+                        acc.uniCallers.computeIfAbsent(fqn, k -> new HashSet<>()).add(caller);
+                        if (inherited && WRITES.contains(mi.getSimpleName())) {
+                            acc.uniWriters.computeIfAbsent(fqn, k -> new HashSet<>()).add(caller);
+                        }
+                    }
+                }
+                return mi;
+            }
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                if (method.getMethodType() != null && BlockingEndpoints.isEndpoint(method)) {
+                    acc.endpoints.add(methodKey(method.getMethodType()));
+                }
+                return super.visitMethodDeclaration(method, ctx);
+            }
+
+            @Override
+            public J.MemberReference visitMemberReference(J.MemberReference memberRef, ExecutionContext ctx) {
+                J.MemberReference m = super.visitMemberReference(memberRef, ctx);
+                JavaType.FullyQualified repository = repository(m.getContaining());
+                if (repository != null) {
+                    if (m.getMethodType() == null ||
+                        !TypeUtils.isOfClassType(m.getMethodType().getDeclaringType(), repository.getFullyQualifiedName())) {
+                        acc.blocking.unconvertible.add(repository.getFullyQualifiedName());
+                    }
+                    acc.reactive.unconvertible.add(repository.getFullyQualifiedName());
+                } else if (m.getMethodType() != null) {
+                    acc.calledOtherwise.add(methodKey(m.getMethodType()));
+                }
+                return m;
+            }
+        };
+        TreeVisitor<?, ExecutionContext> repositoryCalls = Preconditions.check(new UsesSpring(SpringUsage.CRUD_REPOSITORY_CALL), calls);
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof SourceFile && reactive == null) {
+                    acc.reactorUsage.scan((SourceFile) tree, ctx);
+                }
+                if (tree instanceof JavaSourceFile) {
+                    repositories.visit(tree, ctx);
+                    // The callers of reactive repositories may be anywhere, while blocking ones keep their signatures
+                    (Boolean.FALSE.equals(reactive) ? repositoryCalls : calls).visit(tree, ctx);
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        Plan plan = plan(acc);
+        if (plan.blocking.isEmpty() && plan.reactive.isEmpty()) {
+            return TreeVisitor.noop();
+        }
+        JavaIsoVisitor<ExecutionContext> visitor = new JavaIsoVisitor<ExecutionContext>() {
+
+                    @Override
+                    public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                        String fqn = classDecl.getType() == null ? null : classDecl.getType().getFullyQualifiedName();
+                        Conversion conversion = plan.blocking.contains(fqn) ? Conversion.of(classDecl, false) :
+                                plan.reactive.contains(fqn) ? Conversion.of(classDecl, true) : null;
+                        if (conversion == null) {
+                            return super.visitClassDeclaration(classDecl, ctx);
+                        }
+
+                        J.ClassDeclaration cd = classDecl;
+                        maybeRemoveImport(conversion.springRepository);
+                        maybeAddImport(conversion.panacheRepository);
+                        cd = cd.withKind(J.ClassDeclaration.Kind.Type.Class)
+                                .withImplements(singletonList(toPanacheRepository(conversion)));
+                        if (cd.getType() instanceof JavaType.Class) {
+                            cd = cd.withType(((JavaType.Class) cd.getType()).withKind(JavaType.FullyQualified.Kind.Class));
+                        }
+                        if (cd.getLeadingAnnotations().stream().anyMatch(a -> TypeUtils.isOfClassType(a.getType(), REPOSITORY_FQN))) {
+                            cd = (J.ClassDeclaration) new RemoveAnnotationVisitor(new AnnotationMatcher("@" + REPOSITORY_FQN))
+                                    .visitNonNull(cd, ctx, getCursor().getParentOrThrow());
+                            maybeRemoveImport(REPOSITORY_FQN);
+                        }
+
+                        updateCursor(cd).putMessage(CONVERSION, conversion);
+                        cd = super.visitClassDeclaration(cd, ctx);
+
+                        maybeAddImport(APPLICATION_SCOPED_FQN);
+                        return JavaTemplateCache.get(ctx, "@ApplicationScoped", "jakarta.enterprise.cdi-api", APPLICATION_SCOPED_FQN)
+                                .apply(updateCursor(cd), cd.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
+                    }
+
+                    @Override
+                    public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                        J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+                        if (method.getMethodType() != null && plan.uniMethods.contains(methodKey(method.getMethodType()))) {
+                            m = returnUni(m, ctx);
+                            if (plan.transactionalMethods.contains(methodKey(method.getMethodType())) &&
+                                m.getLeadingAnnotations().stream().noneMatch(a -> TypeUtils.isOfClassType(a.getType(), WITH_TRANSACTION_FQN))) {
+                                maybeAddImport(WITH_TRANSACTION_FQN);
+                                m = JavaTemplateCache.get(ctx, "@WithTransaction", REACTIVE_PANACHE_CLASSPATH, WITH_TRANSACTION_FQN)
+                                        .apply(updateCursor(m), m.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
+                            }
+                        }
+                        Conversion conversion = getCursor().getNearestMessage(CONVERSION);
+                        if (conversion == null || !(getCursor().getParentTreeCursor().getParentTreeCursor().getValue() instanceof J.ClassDeclaration)) {
+                            return m;
+                        }
+                        String body = conversion.bodies.get(method.getId());
+                        if (body == null) {
+                            return makePublic(m);
+                        }
+
+                        if (!m.getLeadingAnnotations().isEmpty()) {
+                            m = m.withLeadingAnnotations(emptyList());
+                            if (!m.getModifiers().isEmpty()) {
+                                m = m.withModifiers(ListUtils.mapFirst(m.getModifiers(), mod -> mod.withPrefix(Space.EMPTY)));
+                            } else if (m.getReturnTypeExpression() != null) {
+                                m = m.withReturnTypeExpression(m.getReturnTypeExpression().withPrefix(Space.EMPTY));
+                            }
+                            maybeRemoveImport(QUERY_FQN);
+                        }
+                        m = makePublic(m);
+                        if (conversion.paged.contains(method.getId()) && m.getReturnTypeExpression() instanceof J.ParameterizedType) {
+                            J.ParameterizedType returnType = (J.ParameterizedType) m.getReturnTypeExpression();
+                            maybeRemoveImport(SPRING_PAGE_FQN);
+                            maybeRemoveImport(SLICE_FQN);
+                            String panacheQuery = conversion.reactive ? REACTIVE_PANACHE_QUERY_FQN : PANACHE_QUERY_FQN;
+                            maybeAddImport(panacheQuery);
+                            J.Identifier clazz = identifier(returnType.getClazz(), panacheQuery);
+                            List<JavaType> typeParameters = returnType.getType() instanceof JavaType.Parameterized ?
+                                    ((JavaType.Parameterized) returnType.getType()).getTypeParameters() : emptyList();
+                            m = m.withReturnTypeExpression(returnType.withClazz(clazz)
+                                    .withType(new JavaType.Parameterized(null, (JavaType.FullyQualified) clazz.getType(), typeParameters)));
+                        } else if (conversion.reactive && m.getReturnTypeExpression() != null) {
+                            maybeAddImport(UNI_FQN);
+                            m = m.withReturnTypeExpression(uni(m.getReturnTypeExpression()));
+                        }
+                        m = m.withParameters(ListUtils.map(m.getParameters(), parameter -> {
+                            if (parameter instanceof J.VariableDeclarations) {
+                                J.VariableDeclarations vd = (J.VariableDeclarations) parameter;
+                                if (TypeUtils.isOfClassType(vd.getType(), PAGEABLE_FQN)) {
+                                    maybeRemoveImport(PAGEABLE_FQN);
+                                    maybeAddImport(PANACHE_PAGE_FQN);
+                                    return retype(vd, PANACHE_PAGE_FQN);
+                                } else if (TypeUtils.isOfClassType(vd.getType(), SPRING_SORT_FQN)) {
+                                    maybeRemoveImport(SPRING_SORT_FQN);
+                                    maybeAddImport(PANACHE_SORT_FQN);
+                                    return retype(vd, PANACHE_SORT_FQN);
+                                }
+                            }
+                            return parameter;
+                        }));
+                        m = retypeSignature(m);
+                        m = (conversion.reactive ?
+                                JavaTemplateCache.getContextSensitive(ctx, body, REACTIVE_PANACHE_CLASSPATH, conversion.panacheRepository) :
+                                JavaTemplateCache.getContextSensitive(ctx, body, PANACHE_CLASSPATH, conversion.panacheRepository))
+                                .apply(updateCursor(m), m.getCoordinates().replaceBody());
+                        String transactional = conversion.transactional.get(method.getId());
+                        if (transactional != null) {
+                            String transactionalFqn = conversion.reactive ? WITH_TRANSACTION_FQN : TRANSACTIONAL_FQN;
+                            maybeAddImport(transactionalFqn);
+                            m = JavaTemplateCache.get(ctx, transactional,
+                                            conversion.reactive ? REACTIVE_PANACHE_CLASSPATH : new String[]{"jakarta.transaction-api"}, transactionalFqn)
+                                    .apply(updateCursor(m), m.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
+                        }
+                        return m;
+                    }
+
+                    @Override
+                    public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                        J.VariableDeclarations vd = super.visitVariableDeclarations(multiVariable, ctx);
+                        // A page assigned to a local variable is a PanacheQuery now, whose page methods are renamed below.
+                        // Pages of reactive repositories are never called, as their calls are not rewritten.
+                        if (vd.getVariables().size() == 1 && isPagedCall(vd.getVariables().get(0).getInitializer()) &&
+                            vd.getTypeExpression() instanceof J.ParameterizedType) {
+                            String panacheQuery = PANACHE_QUERY_FQN;
+                            J.ParameterizedType type = (J.ParameterizedType) vd.getTypeExpression();
+                            getCursor().dropParentUntil(J.Block.class::isInstance)
+                                    .computeMessageIfAbsent(PAGED_VARIABLES, k -> new HashSet<String>())
+                                    .add(vd.getVariables().get(0).getSimpleName());
+                            maybeRemoveImport(SPRING_PAGE_FQN);
+                            maybeRemoveImport(SLICE_FQN);
+                            maybeAddImport(panacheQuery);
+                            return vd.withTypeExpression(type.withClazz(identifier(type.getClazz(), panacheQuery)));
+                        }
+                        return vd;
+                    }
+
+                    @Override
+                    public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+                        J.Block b = super.visitBlock(block, ctx);
+                        // Panache's persist returns nothing, so a saved entity that is used is the one passed in
+                        return b.withStatements(ListUtils.flatMap(b.getStatements(), statement -> {
+                            if (statement instanceof J.Return && isUsedPersist(((J.Return) statement).getExpression())) {
+                                J.Return r = (J.Return) statement;
+                                //noinspection DataFlowIssue
+                                J.MethodInvocation persist = (J.MethodInvocation) r.getExpression();
+                                return Arrays.asList(persist.withPrefix(r.getPrefix()),
+                                        r.withExpression(persist.getArguments().get(0).withPrefix(persist.getPrefix())));
+                            } else if (statement instanceof J.VariableDeclarations &&
+                                       ((J.VariableDeclarations) statement).getVariables().size() == 1 &&
+                                       isUsedPersist(((J.VariableDeclarations) statement).getVariables().get(0).getInitializer())) {
+                                J.VariableDeclarations vd = (J.VariableDeclarations) statement;
+                                //noinspection DataFlowIssue
+                                J.MethodInvocation persist = (J.MethodInvocation) vd.getVariables().get(0).getInitializer();
+                                return Arrays.asList(persist.withPrefix(vd.getPrefix()), vd.withVariables(ListUtils.map(vd.getVariables(),
+                                        v -> v.withInitializer(persist.getArguments().get(0).withPrefix(persist.getPrefix())))));
+                            }
+                            return statement;
+                        }));
+                    }
+
+                    private boolean isUsedPersist(@Nullable Expression expression) {
+                        if (!(expression instanceof J.MethodInvocation)) {
+                            return false;
+                        }
+                        J.MethodInvocation mi = (J.MethodInvocation) expression;
+                        JavaType.FullyQualified receiver = repository(mi.getSelect());
+                        return receiver != null && plan.blocking.contains(receiver.getFullyQualifiedName()) &&
+                               ("persist".equals(mi.getSimpleName()) || "persistAndFlush".equals(mi.getSimpleName()));
+                    }
+
+                    @Override
+                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+                        String pageMethod = PAGE_TO_PANACHE_QUERY.get(mi.getSimpleName());
+                        if (pageMethod != null && (isPagedCall(mi.getSelect()) || isPagedVariable(mi.getSelect()))) {
+                            return rename(mi, pageMethod);
+                        }
+                        JavaType.FullyQualified receiver = mi.getSelect() == null ? null : TypeUtils.asFullyQualified(mi.getSelect().getType());
+                        boolean hibernateReactive = receiver != null && plan.reactive.contains(receiver.getFullyQualifiedName());
+                        if (receiver == null || !hibernateReactive && !plan.blocking.contains(receiver.getFullyQualifiedName())) {
+                            return mi;
+                        }
+                        mi = mi.withArguments(ListUtils.map(mi.getArguments(), argument -> {
+                            if (PAGE_REQUEST_OF.matches(argument)) {
+                                J.MethodInvocation pageRequest = (J.MethodInvocation) argument;
+                                maybeRemoveImport("org.springframework.data.domain.PageRequest");
+                                maybeAddImport(PANACHE_PAGE_FQN);
+                                return JavaTemplateCache.get(ctx, "Page.of(#{any(int)}, #{any(int)})", "quarkus-panache-common", PANACHE_PAGE_FQN)
+                                        .apply(new Cursor(getCursor(), pageRequest), pageRequest.getCoordinates().replace(),
+                                                pageRequest.getArguments().get(0), pageRequest.getArguments().get(1));
+                            }
+                            return argument;
+                        }));
+                        if (mi.getMethodType() == null ||
+                            TypeUtils.isOfClassType(mi.getMethodType().getDeclaringType(), receiver.getFullyQualifiedName())) {
+                            return mi;
+                        }
+                        // Calls whose result is used are split into a persist and the use of the entity in visitBlock(),
+                        // while Hibernate Reactive's persist returns a Uni that is returned by the caller
+                        switch (mi.getSimpleName()) {
+                            case "findById":
+                                if (hibernateReactive) {
+                                    // Hibernate Reactive's findById has a null item for a missing entity
+                                    maybeAddImport("java.util.Optional");
+                                    return JavaTemplateCache.get(ctx, "#{any(io.smallrye.mutiny.Uni)}.map(Optional::ofNullable)",
+                                                    "mutiny", "java.util.Optional")
+                                            .apply(updateCursor(mi), mi.getCoordinates().replace(), mi);
+                                }
+                                return rename(mi, "findByIdOptional");
+                            case "existsById":
+                                if (hibernateReactive) {
+                                    maybeAddImport("java.util.Objects");
+                                    return JavaTemplateCache.get(ctx, "#{any(io.smallrye.mutiny.Uni)}.map(Objects::nonNull)",
+                                                    "mutiny", "java.util.Objects")
+                                            .apply(updateCursor(mi), mi.getCoordinates().replace(), rename(mi, "findById"));
+                                }
+                                return JavaTemplateCache.get(ctx, "#{any(java.util.Optional)}.isPresent()", new String[0])
+                                        .apply(updateCursor(mi), mi.getCoordinates().replace(), rename(mi, "findByIdOptional"));
+                            case "findAllById":
+                                //noinspection DataFlowIssue
+                                return findAllById(mi, idAttribute(receiver));
+                            case "findAll":
+                                return rename(mi, "listAll");
+                            case "save":
+                            case "saveAll":
+                                return rename(mi, "persist");
+                            case "saveAndFlush":
+                                return rename(mi, "persistAndFlush");
+                            default:
+                                return mi;
+                        }
+                    }
+
+                    private boolean isPagedCall(@Nullable Expression expression) {
+                        if (!(expression instanceof J.MethodInvocation) || ((J.MethodInvocation) expression).getSelect() == null) {
+                            return false;
+                        }
+                        J.MethodInvocation mi = (J.MethodInvocation) expression;
+                        //noinspection DataFlowIssue
+                        JavaType.FullyQualified receiver = TypeUtils.asFullyQualified(mi.getSelect().getType());
+                        return receiver != null && plan.blocking.contains(receiver.getFullyQualifiedName()) &&
+                               acc.blocking.pagedMethods.contains(receiver.getFullyQualifiedName() + "#" + mi.getSimpleName());
+                    }
+
+                    private boolean isPagedVariable(@Nullable Expression expression) {
+                        if (!(expression instanceof J.Identifier)) {
+                            return false;
+                        }
+                        for (Cursor c = getCursor(); c != null; c = c.getParent()) {
+                            Set<String> pagedVariables = c.getMessage(PAGED_VARIABLES);
+                            if (pagedVariables != null && pagedVariables.contains(((J.Identifier) expression).getSimpleName())) {
+                                return true;
+                            }
+                        }
+                        return false;
+                    }
+
+                    /**
+                     * Returns a {@code Uni} of the method's result, which is the result of a reactive repository, or a
+                     * {@code Uni<Void>} of the call it ends with.
+                     */
+                    private J.MethodDeclaration returnUni(J.MethodDeclaration m, ExecutionContext ctx) {
+                        if (m.getReturnTypeExpression() == null || m.getBody() == null || m.getBody().getStatements().isEmpty()) {
+                            return m;
+                        }
+                        maybeAddImport(UNI_FQN);
+                        m = m.withReturnTypeExpression(uni(m.getReturnTypeExpression()));
+                        Statement last = m.getBody().getStatements().get(m.getBody().getStatements().size() - 1);
+                        if (!(last instanceof J.MethodInvocation) || ((J.MethodInvocation) last).getMethodType() == null) {
+                            return m;
+                        }
+                        J.MethodInvocation call = (J.MethodInvocation) last;
+                        Expression result = call.withPrefix(Space.SINGLE_SPACE);
+                        //noinspection DataFlowIssue
+                        if (call.getMethodType().getReturnType() != JavaType.Primitive.Void || "deleteById".equals(call.getSimpleName())) {
+                            result = JavaTemplateCache.get(ctx, "#{any(io.smallrye.mutiny.Uni)}.replaceWithVoid()", "mutiny")
+                                    .apply(new Cursor(getCursor(), call), call.getCoordinates().replace(), call.withPrefix(Space.EMPTY))
+                                    .withPrefix(Space.SINGLE_SPACE);
+                        }
+                        J.Return r = new J.Return(randomId(), last.getPrefix(), Markers.EMPTY, result);
+                        return m.withBody(m.getBody().withStatements(ListUtils.mapLast(m.getBody().getStatements(), s -> r)));
+                    }
+                };
+        // The callers of reactive repositories that return a Uni may be anywhere
+        return new TimedVisitor(this, fileTimings, plan.uniMethods.isEmpty() ? Preconditions.check(
+                new UsesSpring(SpringUsage.DATA_REPOSITORY, SpringUsage.JPA_REPOSITORY, SpringUsage.CRUD_REPOSITORY_CALL),
+                visitor) : visitor);
+    }
+
+    private Plan plan(Accumulator acc) {
+        synchronized (acc) {
+            if (acc.plan == null) {
+                Plan plan = new Plan();
+                for (Map.Entry<String, Markers> repository : acc.repositoryMarkers.entrySet()) {
+                    String fqn = repository.getKey();
+                    if (reactive != null ? reactive : acc.reactorUsage.isReactive(repository.getValue())) {
+                        Set<String> uniMethods = acc.reactive.repositories.contains(fqn) && !acc.reactive.unconvertible.contains(fqn) ?
+                                uniCallers(acc, fqn) : null;
+                        // Otherwise left unchanged, as a Hibernate ORM repository would block the reactive web tier
+                        if (uniMethods != null) {
+                            plan.reactive.add(fqn);
+                            plan.uniMethods.addAll(uniMethods);
+                            plan.transactionalMethods.addAll(tops(acc, acc.uniWriters.getOrDefault(fqn, emptySet())));
+                        }
+                    } else if (acc.blocking.repositories.contains(fqn) && !acc.blocking.unconvertible.contains(fqn)) {
+                        plan.blocking.add(fqn);
+                    }
+                }
+                acc.plan = plan;
+            }
+            return acc.plan;
+        }
+    }
+
+    /**
+     * @return the methods that return a {@code Uni} of the results of a reactive repository, directly or through other
+     * such methods, or {@code null} when one of them is also called in a way that a {@code Uni} result would break, or
+     * when one at the top of the chain is not an HTTP endpoint that Quarkus subscribes to.
+     */
+    private static @Nullable Set<String> uniCallers(Accumulator acc, String repository) {
+        Set<String> methods = new HashSet<>();
+        Deque<String> callees = new ArrayDeque<>();
+        callees.push(repository);
+        while (!callees.isEmpty()) {
+            for (String caller : acc.uniCallers.getOrDefault(callees.pop(), emptySet())) {
+                if (acc.calledOtherwise.contains(caller)) {
+                    return null;
+                }
+                if (methods.add(caller)) {
+                    callees.push(caller);
+                }
+            }
+        }
+        for (String top : tops(acc, methods)) {
+            if (!acc.endpoints.contains(top)) {
+                return null;
+            }
+        }
+        return methods;
+    }
+
+    /**
+     * @return the methods at the top of the {@code Uni} chains that the given methods are in, as no method calls them.
+     */
+    private static Set<String> tops(Accumulator acc, Set<String> methods) {
+        Set<String> tops = new HashSet<>();
+        Set<String> seen = new HashSet<>(methods);
+        Deque<String> callees = new ArrayDeque<>(methods);
+        while (!callees.isEmpty()) {
+            String callee = callees.pop();
+            Set<String> callers = acc.uniCallers.getOrDefault(callee, emptySet());
+            if (callers.isEmpty()) {
+                tops.add(callee);
+            }
+            for (String caller : callers) {
+                if (seen.add(caller)) {
+                    callees.push(caller);
+                }
+            }
+        }
+        return tops;
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
+    }
+
+    /**
+     * @return the Spring Data repository interface that a receiver is of.
+     */
+    private static JavaType.@Nullable FullyQualified repository(@Nullable Expression receiver) {
+        JavaType.FullyQualified type = receiver == null ? null : TypeUtils.asFullyQualified(receiver.getType());
+        return type != null && TypeUtils.isAssignableTo(SPRING_DATA_REPOSITORY_FQN, type) ? type : null;
+    }
+
+    /**
+     * @return the Spring Data repository interface whose default method the cursor is in.
+     */
+    private static JavaType.@Nullable FullyQualified enclosingRepository(Cursor cursor) {
+        J.ClassDeclaration classDecl = cursor.firstEnclosing(J.ClassDeclaration.class);
+        return classDecl == null || classDecl.getType() == null ||
+               !TypeUtils.isAssignableTo(SPRING_DATA_REPOSITORY_FQN, classDecl.getType()) ? null : classDecl.getType();
+    }
+
+    private static String methodKey(JavaType.Method method) {
+        return method.getDeclaringType().getFullyQualifiedName() + "#" + method.getName() + method.getParameterTypes();
+    }
+
+    /**
+     * @return whether a call on a repository has a Hibernate Reactive Panache equivalent returning a {@code Uni} of its
+     * result, or of nothing for methods without one.
+     */
+    private static boolean isReactiveRewritable(J.MethodInvocation mi, boolean inherited) {
+        //noinspection DataFlowIssue
+        JavaType returnType = mi.getMethodType().getReturnType();
+        if (!inherited) {
+            // Pages become a PanacheQuery rather than a Uni
+            return !TypeUtils.isOfClassType(returnType, SPRING_PAGE_FQN) && !TypeUtils.isOfClassType(returnType, SLICE_FQN);
+        }
+        boolean noArguments = mi.getArguments().isEmpty() || mi.getArguments().get(0) instanceof J.Empty;
+        switch (mi.getSimpleName()) {
+            case "findById":
+            case "existsById":
+            case "save":
+            case "saveAndFlush":
+            case "delete":
+            case "deleteById":
+                return true;
+            case "count":
+                return noArguments;
+            case "findAll":
+                // listAll() results in a Uni<List>, which a Uni<Iterable> cannot take
+                return noArguments && TypeUtils.isOfClassType(returnType, "java.util.List");
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * @return the method that can return a {@code Uni} of the result of the call at the cursor instead, as it returns
+     * that result as its only statement or ends with the call and returns nothing, or {@code null} when there is none.
+     */
+    private static @Nullable String uniCaller(Cursor cursor) {
+        J.MethodInvocation mi = cursor.getValue();
+        Cursor parent = cursor.getParentTreeCursor();
+        Cursor block = parent.getValue() instanceof J.Return ? parent.getParentTreeCursor() : parent;
+        if (!(block.getValue() instanceof J.Block) || !(block.getParentTreeCursor().getValue() instanceof J.MethodDeclaration)) {
+            return null;
+        }
+        J.MethodDeclaration method = block.getParentTreeCursor().getValue();
+        List<Statement> statements = block.<J.Block>getValue().getStatements();
+        JavaType.Method methodType = method.getMethodType();
+        if (methodType == null || mi.getMethodType() == null || method.isConstructor() ||
+            method.getTypeParameters() != null && !method.getTypeParameters().isEmpty() ||
+            !methodType.getDeclaringType().getTypeParameters().isEmpty() ||
+            method.getLeadingAnnotations().stream().anyMatch(a -> TypeUtils.isOfClassType(a.getType(), "java.lang.Override")) ||
+            statements.get(statements.size() - 1) != parent.getValue() && statements.get(statements.size() - 1) != mi) {
+            return null;
+        }
+        if (parent.getValue() instanceof J.Return) {
+            return statements.size() == 1 && TypeUtils.isOfType(methodType.getReturnType(), mi.getMethodType().getReturnType()) ?
+                    methodKey(methodType) : null;
+        }
+        return methodType.getReturnType() == JavaType.Primitive.Void && !containsReturn(block.getValue()) ? methodKey(methodType) : null;
+    }
+
+    private static boolean containsReturn(J.Block body) {
+        return new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Return visitReturn(J.Return aReturn, AtomicBoolean found) {
+                found.set(true);
+                return aReturn;
+            }
+
+            @Override
+            public J.Lambda visitLambda(J.Lambda lambda, AtomicBoolean found) {
+                return lambda;
+            }
+
+            @Override
+            public J.NewClass visitNewClass(J.NewClass newClass, AtomicBoolean found) {
+                return newClass;
+            }
+        }.reduce(body, new AtomicBoolean()).get();
+    }
+
+    /**
+     * @return whether a call on a repository is still valid once the repository is a Hibernate ORM Panache
+     * repository, as is or as rewritten by {@link #getVisitor(Accumulator)}.
+     */
+    private static boolean isRewritable(J.MethodInvocation mi, JavaType.FullyQualified repository, Cursor cursor) {
+        if (mi.getMethodType() == null) {
+            return false;
+        }
+        if (TypeUtils.isOfClassType(mi.getMethodType().getDeclaringType(), repository.getFullyQualifiedName())) {
+            // The repository's own methods keep their signature
+            return true;
+        }
+        boolean noArguments = mi.getArguments().isEmpty() || mi.getArguments().get(0) instanceof J.Empty;
+        Object parent = cursor.getParentTreeCursor().getValue();
+        switch (mi.getSimpleName()) {
+            case "findById":
+            case "existsById":
+            case "deleteById":
+            case "delete":
+            case "flush":
+                return true;
+            case "findAll":
+            case "count":
+            case "deleteAll":
+                return noArguments;
+            case "findAllById":
+                return idAttribute(repository) != null;
+            case "saveAll":
+                return parent instanceof J.Block;
+            case "save":
+            case "saveAndFlush":
+                if (parent instanceof J.Block) {
+                    return true;
+                }
+                // A used result is replaced with the saved entity, which must not be evaluated twice
+                if (!(mi.getArguments().get(0) instanceof J.Identifier)) {
+                    return false;
+                }
+                Cursor statement = parent instanceof J.VariableDeclarations.NamedVariable ?
+                        cursor.getParentTreeCursor().getParentTreeCursor() : cursor.getParentTreeCursor();
+                return (statement.getValue() instanceof J.Return ||
+                        statement.getValue() instanceof J.VariableDeclarations &&
+                        ((J.VariableDeclarations) statement.getValue()).getVariables().size() == 1) &&
+                       statement.getParentTreeCursor().getValue() instanceof J.Block;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * @return the name of the id attribute of the entity a repository holds, or {@code null} when it is not known.
+     */
+    private static @Nullable String idAttribute(JavaType.FullyQualified repository) {
+        for (JavaType.FullyQualified supertype : repository.getInterfaces()) {
+            JavaType.Parameterized parameterized = TypeUtils.asParameterized(supertype);
+            if (parameterized != null && parameterized.getTypeParameters().size() == 2) {
+                for (JavaType.FullyQualified entity = TypeUtils.asFullyQualified(parameterized.getTypeParameters().get(0));
+                     entity != null && !"java.lang.Object".equals(entity.getFullyQualifiedName()); entity = entity.getSupertype()) {
+                    for (JavaType.Variable member : entity.getMembers()) {
+                        for (JavaType.FullyQualified annotation : member.getAnnotations()) {
+                            if ("jakarta.persistence.Id".equals(annotation.getFullyQualifiedName()) ||
+                                "javax.persistence.Id".equals(annotation.getFullyQualifiedName())) {
+                                return member.getName();
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Panache has no {@code findAllById}, so it is replaced with a query on the entity's id.
+     */
+    private static J.MethodInvocation findAllById(J.MethodInvocation mi, String id) {
+        String query = id + " in ?1";
+        J.Literal literal = new J.Literal(randomId(), Space.EMPTY, Markers.EMPTY, query, "\"" + query + "\"", null,
+                JavaType.Primitive.String);
+        return rename(mi, "list").withArguments(ListUtils.insert(
+                ListUtils.mapFirst(mi.getArguments(), argument -> argument.withPrefix(Space.SINGLE_SPACE)), literal, 0));
+    }
+
+    private static J.MethodInvocation rename(J.MethodInvocation mi, String name) {
+        JavaType.Method methodType = mi.getMethodType() == null ? null : mi.getMethodType().withName(name);
+        return mi.withName(mi.getName().withSimpleName(name).withType(methodType)).withMethodType(methodType);
+    }
+
+    private static J.Identifier identifier(NameTree clazz, String fullyQualifiedName) {
+        return new J.Identifier(randomId(), clazz.getPrefix(), Markers.EMPTY, emptyList(),
+                fullyQualifiedName.substring(fullyQualifiedName.lastIndexOf('.') + 1),
+                JavaType.ShallowClass.build(fullyQualifiedName), null);
+    }
+
+    /**
+     * Wraps a return type in a {@code Uni}, boxing primitive types.
+     */
+    private static J.ParameterizedType uni(TypeTree returnType) {
+        Expression typeArgument;
+        if (returnType instanceof J.Primitive) {
+            JavaType.Primitive primitive = ((J.Primitive) returnType).getType();
+            String boxed = primitive == JavaType.Primitive.Void ? "java.lang.Void" :
+                    primitive == JavaType.Primitive.Boolean ? "java.lang.Boolean" :
+                    primitive == JavaType.Primitive.Int ? "java.lang.Integer" : "java.lang.Long";
+            typeArgument = identifier(returnType, boxed).withPrefix(Space.EMPTY);
+        } else {
+            typeArgument = ((Expression) returnType).withPrefix(Space.EMPTY);
+        }
+        JavaType.FullyQualified uniType = JavaType.ShallowClass.build(UNI_FQN);
+        return new J.ParameterizedType(randomId(), returnType.getPrefix(), Markers.EMPTY,
+                identifier(returnType, UNI_FQN).withPrefix(Space.EMPTY),
+                JContainer.build(Space.EMPTY, singletonList(JRightPadded.build(typeArgument)), Markers.EMPTY),
+                new JavaType.Parameterized(null, uniType, singletonList(typeArgument.getType())));
+    }
+
+    private static J.VariableDeclarations retype(J.VariableDeclarations parameter, String fullyQualifiedName) {
+        //noinspection DataFlowIssue
+        J.Identifier typeExpression = identifier((NameTree) parameter.getTypeExpression(), fullyQualifiedName);
+        JavaType type = typeExpression.getType();
+        return parameter.withTypeExpression(typeExpression)
+                .withVariables(ListUtils.map(parameter.getVariables(), v -> v
+                        .withType(type)
+                        .withName(v.getName()
+                                .withType(type)
+                                .withFieldType(v.getName().getFieldType() == null ? null : v.getName().getFieldType().withType(type)))));
+    }
+
+    /**
+     * @return the method with a method type agreeing with its changed return and parameter types.
+     */
+    private static J.MethodDeclaration retypeSignature(J.MethodDeclaration method) {
+        if (method.getMethodType() == null || method.getReturnTypeExpression() == null) {
+            return method;
+        }
+        List<JavaType> parameterTypes = new ArrayList<>();
+        for (Statement parameter : method.getParameters()) {
+            if (parameter instanceof J.VariableDeclarations) {
+                parameterTypes.add(((J.VariableDeclarations) parameter).getType());
+            }
+        }
+        JavaType.Method methodType = method.getMethodType()
+                .withReturnType(method.getReturnTypeExpression().getType())
+                .withParameterTypes(parameterTypes);
+        return method.withMethodType(methodType).withName(method.getName().withType(methodType));
+    }
+
+    private static J.ParameterizedType toPanacheRepository(Conversion conversion) {
+        J.ParameterizedType springRepository = conversion.implementsClause;
+        String simpleName = conversion.panacheRepository.substring(conversion.panacheRepository.lastIndexOf('.') + 1);
+        JavaType.FullyQualified panacheType = JavaType.ShallowClass.build(conversion.panacheRepository);
+        //noinspection DataFlowIssue
+        List<Expression> typeParameters = PANACHE_REPOSITORY_FQN.equals(conversion.panacheRepository) ||
+                                          REACTIVE_PANACHE_REPOSITORY_FQN.equals(conversion.panacheRepository) ?
+                singletonList(springRepository.getTypeParameters().get(0)) :
+                springRepository.getTypeParameters();
+        List<JavaType> typeParameterTypes = new ArrayList<>(typeParameters.size());
+        for (Expression typeParameter : typeParameters) {
+            typeParameterTypes.add(typeParameter.getType());
+        }
+        return springRepository
+                .withClazz(new J.Identifier(randomId(), springRepository.getClazz().getPrefix(), Markers.EMPTY, emptyList(),
+                        simpleName, panacheType, null))
+                .withTypeParameters(typeParameters)
+                .withType(new JavaType.Parameterized(null, panacheType, typeParameterTypes));
+    }
+
+    /**
+     * Interface methods are implicitly public, class methods are not.
+     */
+    private static J.MethodDeclaration makePublic(J.MethodDeclaration m) {
+        if (m.hasModifier(J.Modifier.Type.Public) || m.hasModifier(J.Modifier.Type.Private)) {
+            return m;
+        }
+        if (m.hasModifier(J.Modifier.Type.Default)) {
+            return m.withModifiers(ListUtils.map(m.getModifiers(),
+                    mod -> mod.getType() == J.Modifier.Type.Default ? mod.withType(J.Modifier.Type.Public) : mod));
+        }
+        if (!m.getModifiers().isEmpty()) {
+            J.Modifier first = m.getModifiers().get(0);
+            return m.withModifiers(ListUtils.insert(
+                    ListUtils.mapFirst(m.getModifiers(), mod -> mod.withPrefix(Space.SINGLE_SPACE)),
+                    publicModifier(first.getPrefix()), 0));
+        }
+        TypeTree returnType = m.getReturnTypeExpression();
+        if (returnType == null) {
+            return m;
+        }
+        return m.withModifiers(singletonList(publicModifier(returnType.getPrefix())))
+                .withReturnTypeExpression(returnType.withPrefix(Space.SINGLE_SPACE));
+    }
+
+    private static J.Modifier publicModifier(Space prefix) {
+        return new J.Modifier(randomId(), prefix, Markers.EMPTY, null, J.Modifier.Type.Public, emptyList());
+    }
+
+    /**
+     * How a Spring Data repository interface becomes a Panache repository class, with the Panache implementation of
+     * each of its query methods.
+     */
+    private static class Conversion {
+        final boolean reactive;
+        final J.ParameterizedType implementsClause;
+        final String springRepository;
+        final String panacheRepository;
+        final Map<UUID, String> bodies = new HashMap<>();
+
+        /**
+         * The {@code @Transactional} annotation of the methods that need one.
+         */
+        final Map<UUID, String> transactional = new HashMap<>();
+
+        /**
+         * The methods taking a {@code Pageable} that return a Spring {@code Page} or {@code Slice}.
+         */
+        final Set<UUID> paged = new HashSet<>();
+
+        private Conversion(boolean reactive, J.ParameterizedType implementsClause, String springRepository, String panacheRepository) {
+            this.reactive = reactive;
+            this.implementsClause = implementsClause;
+            this.springRepository = springRepository;
+            this.panacheRepository = panacheRepository;
+        }
+
+        /**
+         * @return the conversion of a repository interface to a Hibernate ORM or, when {@code reactive}, a Hibernate
+         * Reactive Panache repository, or {@code null} when it is not a Spring Data repository interface or has members
+         * that cannot be converted.
+         */
+        static @Nullable Conversion of(J.ClassDeclaration cd, boolean reactive) {
+            if (cd.getKind() != J.ClassDeclaration.Kind.Type.Interface ||
+                cd.getImplements() == null || cd.getImplements().size() != 1 ||
+                !(cd.getImplements().get(0) instanceof J.ParameterizedType) ||
+                cd.getTypeParameters() != null && !cd.getTypeParameters().isEmpty() ||
+                cd.getLeadingAnnotations().stream().anyMatch(a -> TypeUtils.isOfClassType(a.getType(), NO_REPOSITORY_BEAN_FQN))) {
+                return null;
+            }
+            J.ParameterizedType repository = (J.ParameterizedType) cd.getImplements().get(0);
+            String springRepository = null;
+            for (String candidate : SPRING_REPOSITORIES) {
+                if (TypeUtils.isOfClassType(repository.getType(), candidate)) {
+                    springRepository = candidate;
+                }
+            }
+            if (springRepository == null || repository.getTypeParameters() == null || repository.getTypeParameters().size() != 2) {
+                return null;
+            }
+            JavaType.FullyQualified entity = TypeUtils.asFullyQualified(repository.getTypeParameters().get(0).getType());
+            boolean longId = TypeUtils.isOfClassType(repository.getTypeParameters().get(1).getType(), "java.lang.Long");
+            String panacheRepository = reactive ?
+                    longId ? REACTIVE_PANACHE_REPOSITORY_FQN : REACTIVE_PANACHE_REPOSITORY_BASE_FQN :
+                    longId ? PANACHE_REPOSITORY_FQN : PANACHE_REPOSITORY_BASE_FQN;
+
+            Conversion conversion = new Conversion(reactive, repository, springRepository, panacheRepository);
+            for (Statement statement : cd.getBody().getStatements()) {
+                if (!(statement instanceof J.MethodDeclaration)) {
+                    return null;
+                }
+                J.MethodDeclaration method = (J.MethodDeclaration) statement;
+                if (method.getBody() != null) {
+                    continue;
+                }
+                if (method.hasModifier(J.Modifier.Type.Static) || PANACHE_METHODS.contains(method.getSimpleName()) ||
+                    method.getTypeParameters() != null && !method.getTypeParameters().isEmpty()) {
+                    return null;
+                }
+                if (!conversion.add(method, entity)) {
+                    return null;
+                }
+            }
+            return conversion;
+        }
+
+        private boolean add(J.MethodDeclaration method, JavaType.@Nullable FullyQualified entity) {
+            List<String> parameters = new ArrayList<>();
+            String pageable = null;
+            String sort = null;
+            for (Statement parameter : method.getParameters()) {
+                if (parameter instanceof J.VariableDeclarations) {
+                    J.VariableDeclarations vd = (J.VariableDeclarations) parameter;
+                    String name = vd.getVariables().get(0).getSimpleName();
+                    if (pageable != null || sort != null) {
+                        // Spring Data passes a Pageable or Sort last
+                        return false;
+                    } else if (TypeUtils.isOfClassType(vd.getType(), PAGEABLE_FQN)) {
+                        pageable = name;
+                    } else if (TypeUtils.isOfClassType(vd.getType(), SPRING_SORT_FQN)) {
+                        sort = name;
+                    } else {
+                        parameters.add(name);
+                    }
+                }
+            }
+            StringBuilder arguments = new StringBuilder(sort == null ? "" : ", " + sort);
+            for (String parameter : parameters) {
+                arguments.append(", ").append(parameter);
+            }
+
+            String query = null;
+            for (J.Annotation annotation : method.getLeadingAnnotations()) {
+                if (!TypeUtils.isOfClassType(annotation.getType(), QUERY_FQN)) {
+                    return false;
+                }
+                query = jpqlQuery(annotation);
+                if (query == null) {
+                    return false;
+                }
+            }
+
+            DerivedQuery derived = null;
+            if (query == null) {
+                derived = DerivedQuery.parse(method.getSimpleName(), entity);
+                if (derived == null || derived.parameterCount != parameters.size() ||
+                    (sort != null || pageable != null) && derived.action != DerivedQuery.Action.FIND ||
+                    sort != null && derived.query.contains("order by")) {
+                    return false;
+                }
+                query = "\"" + derived.query + "\"";
+            }
+            JavaType returnType = method.getReturnTypeExpression() == null ? null : method.getReturnTypeExpression().getType();
+            int limit = derived == null ? 0 : derived.limit;
+            if (pageable != null && limit > 0) {
+                return false;
+            }
+            String body = null;
+            if (derived != null && derived.action == DerivedQuery.Action.COUNT) {
+                if (isLong(returnType)) {
+                    body = "return count(" + query + arguments + ");";
+                }
+            } else if (derived != null && derived.action == DerivedQuery.Action.EXISTS) {
+                if (returnType == JavaType.Primitive.Boolean || TypeUtils.isOfClassType(returnType, "java.lang.Boolean")) {
+                    body = reactive ?
+                            "return count(" + query + arguments + ").map(count -> count > 0);" :
+                            "return count(" + query + arguments + ") > 0;";
+                }
+            } else if (derived != null && derived.action == DerivedQuery.Action.DELETE) {
+                if (returnType == JavaType.Primitive.Void) {
+                    body = reactive ?
+                            "return delete(" + query + arguments + ").replaceWithVoid();" :
+                            "delete(" + query + arguments + ");";
+                } else if (isLong(returnType)) {
+                    body = "return delete(" + query + arguments + ");";
+                }
+                transactional.put(method.getId(), reactive ? "@WithTransaction" : "@Transactional");
+            } else if (pageable != null) {
+                JavaType.Parameterized parameterized = TypeUtils.asParameterized(returnType);
+                if (parameterized != null && parameterized.getTypeParameters().size() == 1 &&
+                    isOf(parameterized.getTypeParameters().get(0), entity)) {
+                    if (TypeUtils.isOfClassType(parameterized, SPRING_PAGE_FQN) || TypeUtils.isOfClassType(parameterized, SLICE_FQN)) {
+                        body = "return find(" + query + arguments + ").page(" + pageable + ");";
+                        paged.add(method.getId());
+                    } else if (TypeUtils.isOfClassType(parameterized, "java.util.List")) {
+                        body = "return find(" + query + arguments + ").page(" + pageable + ").list();";
+                    }
+                }
+            } else if (isStreamOf(returnType, entity)) {
+                // Hibernate Reactive has no streaming queries
+                if (reactive) {
+                    return false;
+                } else if (limit == 0) {
+                    body = "return find(" + query + arguments + ").stream();";
+                } else if (limit > 1) {
+                    body = "return find(" + query + arguments + ").range(0, " + (limit - 1) + ").stream();";
+                }
+                // Like Spring Data, Panache streams from an open result set, so the caller must hold a transaction
+                transactional.put(method.getId(), "@Transactional(Transactional.TxType.MANDATORY)");
+            } else {
+                String results = reactive ? reactiveResults(returnType, entity, limit) : results(returnType, entity, limit);
+                if (results != null) {
+                    body = "return find(" + query + arguments + ")" + results + ";";
+                }
+            }
+            if (body == null) {
+                return false;
+            }
+            bodies.put(method.getId(), body);
+            return true;
+        }
+
+        /**
+         * @return how the results of a {@code PanacheQuery} are returned for the method's return type.
+         */
+        private static @Nullable String results(@Nullable JavaType returnType, JavaType.@Nullable FullyQualified entity, int limit) {
+            if (isOf(returnType, entity)) {
+                return limit == 1 ? ".firstResult()" : limit == 0 ? ".singleResultOptional().orElse(null)" : null;
+            }
+            JavaType.Parameterized parameterized = TypeUtils.asParameterized(returnType);
+            if (parameterized == null || parameterized.getTypeParameters().size() != 1 ||
+                !isOf(parameterized.getTypeParameters().get(0), entity)) {
+                return null;
+            }
+            if (TypeUtils.isOfClassType(parameterized, "java.util.Optional")) {
+                return limit == 1 ? ".firstResultOptional()" : limit == 0 ? ".singleResultOptional()" : null;
+            }
+            if (TypeUtils.isOfClassType(parameterized, "java.util.List") ||
+                TypeUtils.isOfClassType(parameterized, "java.util.Collection") ||
+                TypeUtils.isOfClassType(parameterized, "java.lang.Iterable")) {
+                return limit == 0 ? ".list()" : ".range(0, " + (limit - 1) + ").list()";
+            }
+            return null;
+        }
+
+        /**
+         * @return how the results of a Hibernate Reactive {@code PanacheQuery} are returned, in a {@code Uni}, for the
+         * method's return type.
+         */
+        private static @Nullable String reactiveResults(@Nullable JavaType returnType, JavaType.@Nullable FullyQualified entity, int limit) {
+            if (isOf(returnType, entity)) {
+                // The reactive PanacheQuery has no singleResultOptional(), and singleResult() fails when nothing is found
+                return limit == 1 ? ".firstResult()" : null;
+            }
+            JavaType.Parameterized parameterized = TypeUtils.asParameterized(returnType);
+            if (parameterized == null || parameterized.getTypeParameters().size() != 1 ||
+                !isOf(parameterized.getTypeParameters().get(0), entity)) {
+                return null;
+            }
+            if (TypeUtils.isOfClassType(parameterized, "java.util.Optional")) {
+                return limit == 1 ? ".firstResult().map(Optional::ofNullable)" : null;
+            }
+            if (TypeUtils.isOfClassType(parameterized, "java.util.List")) {
+                return limit == 0 ? ".list()" : ".range(0, " + (limit - 1) + ").list()";
+            }
+            return null;
+        }
+
+        /**
+         * @return the source of the JPQL query of a {@code @Query} annotation with positional parameters, or
+         * {@code null} for a native query or one with named parameters.
+         */
+        private static @Nullable String jpqlQuery(J.Annotation query) {
+            if (query.getArguments() == null || query.getArguments().size() != 1) {
+                return null;
+            }
+            Expression value = query.getArguments().get(0);
+            if (value instanceof J.Assignment) {
+                if (!"value".equals(((J.Assignment) value).getVariable().toString())) {
+                    return null;
+                }
+                value = ((J.Assignment) value).getAssignment();
+            }
+            if (!(value instanceof J.Literal) || !(((J.Literal) value).getValue() instanceof String)) {
+                return null;
+            }
+            String jpql = (String) ((J.Literal) value).getValue();
+            //noinspection DataFlowIssue
+            return jpql.contains(":") ? null : ((J.Literal) value).getValueSource();
+        }
+
+        private static boolean isStreamOf(@Nullable JavaType type, JavaType.@Nullable FullyQualified entity) {
+            JavaType.Parameterized parameterized = TypeUtils.asParameterized(type);
+            return parameterized != null && TypeUtils.isOfClassType(parameterized, "java.util.stream.Stream") &&
+                   parameterized.getTypeParameters().size() == 1 && isOf(parameterized.getTypeParameters().get(0), entity);
+        }
+
+        private static boolean isOf(@Nullable JavaType type, JavaType.@Nullable FullyQualified entity) {
+            return entity != null && TypeUtils.isOfClassType(type, entity.getFullyQualifiedName());
+        }
+
+        private static boolean isLong(@Nullable JavaType type) {
+            return type == JavaType.Primitive.Long || TypeUtils.isOfClassType(type, "java.lang.Long");
+        }
+    }
+}
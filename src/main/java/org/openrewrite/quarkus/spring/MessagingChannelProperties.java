@@ -0,0 +1,351 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.properties.PropertiesIsoVisitor;
+import org.openrewrite.properties.PropertiesParser;
+import org.openrewrite.properties.tree.Properties;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Moves Spring properties that apply to all listeners or all templates of a messaging client to the
+ * {@code mp.messaging.incoming.<channel>.*} or {@code mp.messaging.outgoing.<channel>.*} properties of each channel, as
+ * SmallRye Reactive Messaging configures its channels individually. Settings declared on the listeners themselves take
+ * precedence over these, as they do in Spring.
+ */
+final class MessagingChannelProperties {
+
+    static final String INCOMING = "incoming";
+    static final String OUTGOING = "outgoing";
+
+    private static final Pattern DATA_SIZE = Pattern.compile("(\\d+)\\s*(B|KB|MB|GB)?");
+    private static final Pattern DURATION = Pattern.compile("(\\d+)\\s*(ms|s|m)?");
+
+    private MessagingChannelProperties() {
+    }
+
+    static final class Mapping {
+        final String springKey;
+        final String direction;
+        final String attribute;
+
+        /**
+         * Converts the Spring value to the channel attribute's value, or returns {@code null} when it cannot.
+         */
+        final Function<String, @Nullable String> value;
+
+        /**
+         * Combines the values of Spring properties mapped to the same attribute, by default keeping the last one.
+         */
+        final BinaryOperator<String> merge;
+
+        Mapping(String springKey, String direction, String attribute) {
+            this(springKey, direction, attribute, v -> v);
+        }
+
+        Mapping(String springKey, String direction, String attribute, Function<String, @Nullable String> value) {
+            this(springKey, direction, attribute, value, (previous, v) -> v);
+        }
+
+        Mapping(String springKey, String direction, String attribute, Function<String, @Nullable String> value,
+                BinaryOperator<String> merge) {
+            this.springKey = springKey;
+            this.direction = direction;
+            this.attribute = attribute;
+            this.value = value;
+            this.merge = merge;
+        }
+    }
+
+    /**
+     * Replaces the mapped Spring properties of a file with the channel properties of every channel they apply to.
+     *
+     * @param channels the channel names, by direction.
+     * @param declared the channel attributes declared in code, by {@code <direction>.<channel>}, added to the file when
+     *                 {@code withDeclared} is set.
+     */
+    static Properties.File apply(Properties.File file, List<Mapping> mappings, Map<String, ? extends Set<String>> channels,
+                                 Map<String, Map<String, String>> declared, boolean withDeclared) {
+        Map<String, Map<String, String>> settings = new TreeMap<>();
+        Set<String> present = new HashSet<>();
+        List<Properties.Content> content = new ArrayList<>(file.getContent().size());
+        int insertAt = -1;
+        String prefix = null;
+        for (Properties.Content c : file.getContent()) {
+            if (c instanceof Properties.Entry) {
+                present.add(((Properties.Entry) c).getKey());
+            }
+            if (!(c instanceof Properties.Entry) ||
+                !collect(mappings, channels, declared, ((Properties.Entry) c).getKey(), ((Properties.Entry) c).getValue().getText(), settings)) {
+                content.add(c);
+                continue;
+            }
+            if (insertAt < 0) {
+                insertAt = content.size();
+                prefix = c.getPrefix();
+            }
+        }
+        if (withDeclared) {
+            addDeclared(declared, settings);
+        }
+        if (settings.isEmpty()) {
+            return file;
+        }
+        List<Properties.Entry> entries = new ArrayList<>();
+        for (Map.Entry<String, String> setting : channelProperties(settings).entrySet()) {
+            // Left as they are when another cycle of the recipe finds them
+            if (!present.contains(setting.getKey())) {
+                entries.add(new Properties.Entry(Tree.randomId(), entries.isEmpty() ? "" : "\n", Markers.EMPTY,
+                        setting.getKey(), "", Properties.Entry.Delimiter.EQUALS,
+                        new Properties.Value(Tree.randomId(), "", Markers.EMPTY, setting.getValue())));
+            }
+        }
+        if (entries.isEmpty()) {
+            return file.withContent(content);
+        }
+
+        if (insertAt < 0) {
+            insertAt = content.size();
+            prefix = content.isEmpty() ? "" : "\n";
+        }
+        entries.set(0, entries.get(0).withPrefix(prefix));
+        content.addAll(insertAt, entries);
+        return file.withContent(content);
+    }
+
+    /**
+     * Does the same for a YAML file, whose keys may be nested.
+     */
+    static Yaml.Documents apply(Yaml.Documents documents, List<Mapping> mappings, Map<String, ? extends Set<String>> channels,
+                                Map<String, Map<String, String>> declared, boolean withDeclared) {
+        Map<String, Map<String, String>> settings = new TreeMap<>();
+        Set<String> mapped = new HashSet<>();
+        for (Map.Entry<String, String> value : YamlProperties.values(documents).entrySet()) {
+            if (collect(mappings, channels, declared, value.getKey(), value.getValue(), settings)) {
+                mapped.add(value.getKey());
+            }
+        }
+        if (withDeclared) {
+            addDeclared(declared, settings);
+        }
+        if (settings.isEmpty()) {
+            return documents;
+        }
+        Yaml.Documents d = YamlProperties.add(YamlProperties.remove(documents, mapped), channelProperties(settings));
+        return d == null ? documents : d;
+    }
+
+    /**
+     * @return a new {@code application.properties} holding the channel attributes declared in code, for projects
+     * without an application configuration file to add them to.
+     */
+    private static Properties.File newApplicationProperties(Path sourcePath, Map<String, Map<String, String>> declared) {
+        Map<String, Map<String, String>> settings = new TreeMap<>();
+        addDeclared(declared, settings);
+        StringBuilder text = new StringBuilder();
+        for (Map.Entry<String, String> setting : channelProperties(settings).entrySet()) {
+            text.append(setting.getKey()).append('=').append(setting.getValue()).append('\n');
+        }
+        return PropertiesParser.builder().build()
+                .parse(text.toString())
+                .findFirst()
+                .map(file -> (Properties.File) file.withSourcePath(sourcePath))
+                .orElseThrow(() -> new IllegalStateException("Unable to parse " + sourcePath));
+    }
+
+    /**
+     * Collects the channel attributes that a Spring property maps to, unless the listeners declare them.
+     *
+     * @return whether the property maps to channel attributes, and can be removed.
+     */
+    private static boolean collect(List<Mapping> mappings, Map<String, ? extends Set<String>> channels,
+                                   Map<String, Map<String, String>> declared, String key, String springValue,
+                                   Map<String, Map<String, String>> settings) {
+        Mapping mapping = mapping(mappings, key);
+        Set<String> mappedChannels = mapping == null ? null : channels.get(mapping.direction);
+        String value = mappedChannels == null || mappedChannels.isEmpty() ? null : mapping.value.apply(springValue.trim());
+        if (value == null) {
+            return false;
+        }
+        for (String channel : mappedChannels) {
+            String name = mapping.direction + "." + channel;
+            if (!declared.getOrDefault(name, Collections.emptyMap()).containsKey(mapping.attribute)) {
+                settings.computeIfAbsent(name, k -> new LinkedHashMap<>()).merge(mapping.attribute, value, mapping.merge);
+            }
+        }
+        return true;
+    }
+
+    private static void addDeclared(Map<String, Map<String, String>> declared, Map<String, Map<String, String>> settings) {
+        for (Map.Entry<String, Map<String, String>> channel : declared.entrySet()) {
+            settings.computeIfAbsent(channel.getKey(), k -> new LinkedHashMap<>()).putAll(channel.getValue());
+        }
+    }
+
+    /**
+     * @return the channel attributes by {@code mp.messaging.<direction>.<channel>.<attribute>} property key.
+     */
+    private static Map<String, String> channelProperties(Map<String, Map<String, String>> settings) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, String>> channel : settings.entrySet()) {
+            for (Map.Entry<String, String> setting : channel.getValue().entrySet()) {
+                properties.put("mp.messaging." + channel.getKey() + "." + setting.getKey(), setting.getValue());
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * @return a visitor of the application configuration files, in properties or YAML, that replaces the mapped Spring
+     * properties and adds the attributes declared in code to the main one.
+     */
+    static TreeVisitor<?, ExecutionContext> visitor(List<Mapping> mappings, ReactiveMessaging.Channels channels) {
+        Map<String, Set<String>> byDirection = channels.byDirection();
+        Map<String, Map<String, String>> declared = channels.declared();
+        TreeVisitor<?, ExecutionContext> properties = new PropertiesIsoVisitor<ExecutionContext>() {
+            @Override
+            public Properties.File visitFile(Properties.File file, ExecutionContext ctx) {
+                return apply(super.visitFile(file, ctx), mappings, byDirection, declared, isMainApplicationProperties(file));
+            }
+        };
+        TreeVisitor<?, ExecutionContext> yaml = new YamlIsoVisitor<ExecutionContext>() {
+            @Override
+            public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                return super.isAcceptable(sourceFile, ctx) &&
+                       sourceFile.getSourcePath().getFileName().toString().matches("application.*\\.ya?ml");
+            }
+
+            @Override
+            public Yaml.Documents visitDocuments(Yaml.Documents documents, ExecutionContext ctx) {
+                return apply(documents, mappings, byDirection, declared,
+                        channels.isDeclaredInYaml() && YamlProperties.isMainApplicationYaml(documents));
+            }
+        };
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                return properties.isAcceptable(sourceFile, ctx) || yaml.isAcceptable(sourceFile, ctx);
+            }
+
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof SourceFile) {
+                    if (properties.isAcceptable((SourceFile) tree, ctx)) {
+                        return properties.visit(tree, ctx);
+                    }
+                    if (yaml.isAcceptable((SourceFile) tree, ctx)) {
+                        return yaml.visit(tree, ctx);
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    /**
+     * @return the {@code application.properties} to create for the attributes declared in code, if any.
+     */
+    static Collection<Properties.File> generate(ReactiveMessaging.Channels channels) {
+        Path path = channels.newApplicationProperties();
+        Map<String, Map<String, String>> declared = channels.declared();
+        return path == null || declared.isEmpty() ? Collections.emptyList() :
+                Collections.singletonList(newApplicationProperties(path, declared));
+    }
+
+    static boolean isMainApplicationProperties(Properties.File file) {
+        return "application.properties".equals(file.getSourcePath().getFileName().toString()) &&
+               YamlProperties.isInMainSourceSet(file);
+    }
+
+    /**
+     * @return a whole number, or {@code null} for anything else, such as a placeholder.
+     */
+    static @Nullable String number(String value) {
+        return value.matches("\\d+") ? value : null;
+    }
+
+    /**
+     * @return the larger of two whole numbers.
+     */
+    static String max(String first, String second) {
+        return Long.parseLong(first) >= Long.parseLong(second) ? first : second;
+    }
+
+    /**
+     * @return the number of bytes of a Spring {@code DataSize}, such as {@code 16KB}.
+     */
+    static @Nullable String bytes(String dataSize) {
+        Matcher matcher = DATA_SIZE.matcher(dataSize);
+        if (!matcher.matches()) {
+            return null;
+        }
+        long bytes = Long.parseLong(matcher.group(1));
+        String unit = matcher.group(2) == null ? "B" : matcher.group(2);
+        switch (unit) {
+            case "GB":
+                bytes *= 1024;
+                // fall through
+            case "MB":
+                bytes *= 1024;
+                // fall through
+            case "KB":
+                bytes *= 1024;
+                // fall through
+            default:
+                return Long.toString(bytes);
+        }
+    }
+
+    /**
+     * @return the number of milliseconds of a Spring {@code Duration}, where a bare number is in milliseconds.
+     */
+    static @Nullable String millis(String duration) {
+        Matcher matcher = DURATION.matcher(duration);
+        if (!matcher.matches()) {
+            return null;
+        }
+        long millis = Long.parseLong(matcher.group(1));
+        if ("s".equals(matcher.group(2))) {
+            millis *= 1000;
+        } else if ("m".equals(matcher.group(2))) {
+            millis *= 60_000;
+        }
+        return Long.toString(millis);
+    }
+
+    private static @Nullable Mapping mapping(List<Mapping> mappings, String key) {
+        for (Mapping mapping : mappings) {
+            if (mapping.springKey.equals(key)) {
+                return mapping;
+            }
+        }
+        return null;
+    }
+}
@@ -23,9 +23,10 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
 
 import java.util.List;
 
@@ -44,10 +45,14 @@ public class MongoRepositoryToPanacheMongoRepository extends Recipe {
 
     String description = "Transforms Spring Data `MongoRepository<T, ID>` interfaces to Quarkus `PanacheMongoRepository<T>`, dropping the ID type parameter.";
 
+    transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
-                new UsesType<>(MONGO_REPO_FQN, false),
+        return new TimedVisitor(this, fileTimings, Preconditions.check(
+                new UsesSpring(SpringUsage.MONGO_REPOSITORY),
                 new JavaIsoVisitor<ExecutionContext>() {
 
                     @Override
@@ -110,6 +115,11 @@ public class MongoRepositoryToPanacheMongoRepository extends Recipe {
                         return pt.withClazz(newClazz).withTypeParameters(newTypeParams).withType(newParamType);
                     }
                 }
-        );
+        ));
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
     }
 }
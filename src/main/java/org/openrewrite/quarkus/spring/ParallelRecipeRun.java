@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.scheduling.RecipeRunCycle;
+import org.openrewrite.scheduling.WatchableExecutionContext;
+import org.openrewrite.table.RecipeRunStats;
+import org.openrewrite.table.SearchResults;
+import org.openrewrite.table.SourcesFileErrors;
+import org.openrewrite.table.SourcesFileResults;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Runs {@link ThreadSafeRecipe thread-safe} recipes over many source files at once, spreading the source files over
+ * the threads of a {@link ForkJoinPool}.
+ * <p>
+ * Each source file goes through the recipes in the given order, in a single pass, with a new visitor per recipe and
+ * source file. This suits recipes that converge in one cycle and never look beyond the source file they visit, which is
+ * what {@link ThreadSafeRecipe} promises.
+ */
+public class ParallelRecipeRun {
+
+    private final List<Recipe> recipes;
+
+    private final ForkJoinPool pool;
+
+    public ParallelRecipeRun(List<Recipe> recipes, ForkJoinPool pool) {
+        for (Recipe recipe : recipes) {
+            if (!recipe.getClass().isAnnotationPresent(ThreadSafeRecipe.class) ||
+                !recipe.getRecipeList().isEmpty() || recipe instanceof ScanningRecipe) {
+                throw new IllegalArgumentException(recipe.getName() + " is not a @ThreadSafeRecipe without sub-recipes");
+            }
+        }
+        this.recipes = recipes;
+        this.pool = pool;
+    }
+
+    /**
+     * @return the results for the source files that changed, in the order of the given source files.
+     */
+    public List<Result> run(List<SourceFile> sourceFiles, ExecutionContext ctx) {
+        startCycle(ctx);
+        List<Result> results;
+        try {
+            results = pool.submit(() -> sourceFiles.parallelStream()
+                    .map(sourceFile -> visit(sourceFile, ctx))
+                    .filter(Objects::nonNull)
+                    .collect(toList())
+            ).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        for (Recipe recipe : recipes) {
+            recipe.onComplete(ctx);
+        }
+        return results;
+    }
+
+    /**
+     * Recipes read the cycle from the context, as do data tables before accepting rows, so outside of a recipe run the
+     * single pass is made the first cycle. The data table store is created up front, as it is otherwise created on
+     * first use, by whichever thread gets there first.
+     */
+    private static void startCycle(ExecutionContext ctx) {
+        if (ctx.getMessage(ExecutionContext.CURRENT_CYCLE) == null) {
+            WatchableExecutionContext watchable = new WatchableExecutionContext(ctx);
+            Recipe noop = Recipe.noop();
+            watchable.putCycle(new RecipeRunCycle<LargeSourceSet>(noop, 1, new Cursor(null, Cursor.ROOT_VALUE), watchable,
+                    new RecipeRunStats(noop), new SearchResults(noop), new SourcesFileResults(noop),
+                    new SourcesFileErrors(noop), LargeSourceSet::edit));
+        }
+        DataTableExecutionContextView.view(ctx).getDataTableStore();
+    }
+
+    private @Nullable Result visit(SourceFile before, ExecutionContext ctx) {
+        SourceFile after = before;
+        List<List<Recipe>> recipesThatMadeChanges = new ArrayList<>();
+        for (Recipe recipe : recipes) {
+            try {
+                TreeVisitor<?, ExecutionContext> visitor = recipe.getVisitor();
+                if (visitor.isAcceptable(after, ctx)) {
+                    SourceFile visited = (SourceFile) visitor.visit(after, ctx, new Cursor(null, Cursor.ROOT_VALUE));
+                    if (visited != after && visited != null) {
+                        after = visited;
+                        recipesThatMadeChanges.add(singletonList(recipe));
+                    }
+                }
+            } catch (Throwable t) {
+                ctx.getOnError().accept(t);
+            }
+        }
+        return after == before ? null : new Result(before, after, recipesThatMadeChanges);
+    }
+}
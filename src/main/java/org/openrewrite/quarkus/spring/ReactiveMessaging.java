@@ -0,0 +1,401 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.PathUtils;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.properties.tree.Properties;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.openrewrite.quarkus.spring.MessagingChannelProperties.INCOMING;
+import static org.openrewrite.quarkus.spring.MessagingChannelProperties.OUTGOING;
+
+/**
+ * What the conversions of Spring messaging listeners and templates to SmallRye Reactive Messaging channels share: the
+ * channel names of destinations, the literal attributes they can be converted from, the replacement of injected
+ * templates by emitters, and the channels collected while scanning a project.
+ */
+final class ReactiveMessaging {
+
+    static final String INCOMING_FQN = "org.eclipse.microprofile.reactive.messaging.Incoming";
+    static final String CHANNEL_FQN = "org.eclipse.microprofile.reactive.messaging.Channel";
+    static final String EMITTER_FQN = "org.eclipse.microprofile.reactive.messaging.Emitter";
+
+    private ReactiveMessaging() {
+    }
+
+    /**
+     * @return the channel of a topic or queue, as a name that configuration property keys can hold.
+     */
+    static String channel(String destination) {
+        return destination.replaceAll("[^A-Za-z0-9_-]", "-");
+    }
+
+    /**
+     * @return the value of a string literal, unless it is a property placeholder or an expression that Spring resolves.
+     */
+    static @Nullable String literal(Expression expression) {
+        if (!(expression instanceof J.Literal) || !(((J.Literal) expression).getValue() instanceof String)) {
+            return null;
+        }
+        String value = (String) ((J.Literal) expression).getValue();
+        //noinspection DataFlowIssue
+        return value.contains("${") || value.contains("#{") ? null : value;
+    }
+
+    /**
+     * @return the literal of an annotation attribute holding one, or an array of just one.
+     */
+    static @Nullable String singleLiteral(Expression expression) {
+        if (expression instanceof J.NewArray && ((J.NewArray) expression).getInitializer() != null &&
+            ((J.NewArray) expression).getInitializer().size() == 1) {
+            return literal(((J.NewArray) expression).getInitializer().get(0));
+        }
+        return literal(expression);
+    }
+
+    /**
+     * A source file's templates can be replaced by emitters when they are only injected, through a constructor or
+     * field, and only used to send messages that an emitter can send.
+     *
+     * @param declaration whether a declaration of a template can become one of an emitter.
+     * @param send        whether the template call at the cursor can become an emitter call.
+     */
+    static boolean isOnlyInjected(J.CompilationUnit cu, String templateType, Predicate<J.VariableDeclarations> declaration,
+                                  Predicate<Cursor> send) {
+        AtomicBoolean convertible = new AtomicBoolean(true);
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Import visitImport(J.Import anImport, AtomicBoolean c) {
+                return anImport;
+            }
+
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, AtomicBoolean c) {
+                // The constructor that Lombok generates would inject the emitter without naming its channel
+                for (J.Annotation annotation : classDecl.getLeadingAnnotations()) {
+                    JavaType.FullyQualified type = TypeUtils.asFullyQualified(annotation.getType());
+                    if (type != null && "lombok".equals(type.getPackageName())) {
+                        for (Statement statement : classDecl.getBody().getStatements()) {
+                            if (statement instanceof J.VariableDeclarations &&
+                                TypeUtils.isAssignableTo(templateType, ((J.VariableDeclarations) statement).getType())) {
+                                c.set(false);
+                            }
+                        }
+                    }
+                }
+                return super.visitClassDeclaration(classDecl, c);
+            }
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, AtomicBoolean c) {
+                if (method.getMethodType() != null && TypeUtils.isAssignableTo(templateType, method.getMethodType().getReturnType())) {
+                    c.set(false);
+                }
+                return super.visitMethodDeclaration(method, c);
+            }
+
+            @Override
+            public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, AtomicBoolean c) {
+                if (TypeUtils.isAssignableTo(templateType, multiVariable.getType())) {
+                    Object parent = getCursor().getParentTreeCursor().getValue();
+                    if (multiVariable.getTypeExpression() == null || !declaration.test(multiVariable) ||
+                        (parent instanceof J.MethodDeclaration && !((J.MethodDeclaration) parent).isConstructor())) {
+                        c.set(false);
+                    }
+                    for (J.VariableDeclarations.NamedVariable variable : multiVariable.getVariables()) {
+                        if (variable.getInitializer() != null) {
+                            c.set(false);
+                        }
+                    }
+                }
+                return super.visitVariableDeclarations(multiVariable, c);
+            }
+
+            @Override
+            public J.NewClass visitNewClass(J.NewClass newClass, AtomicBoolean c) {
+                if (TypeUtils.isAssignableTo(templateType, newClass.getType())) {
+                    c.set(false);
+                }
+                return super.visitNewClass(newClass, c);
+            }
+
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean c) {
+                // Type names have no field type, references to variables do
+                if (identifier.getFieldType() != null && TypeUtils.isAssignableTo(templateType, identifier.getType())) {
+                    checkReference(identifier, c);
+                }
+                return identifier;
+            }
+
+            @Override
+            public J.FieldAccess visitFieldAccess(J.FieldAccess fieldAccess, AtomicBoolean c) {
+                if (fieldAccess.getName().getFieldType() != null && TypeUtils.isAssignableTo(templateType, fieldAccess.getType())) {
+                    checkReference(fieldAccess, c);
+                    return fieldAccess;
+                }
+                return super.visitFieldAccess(fieldAccess, c);
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean c) {
+                if (method.getSelect() != null && TypeUtils.isAssignableTo(templateType, method.getSelect().getType())) {
+                    // Spring completes a send with its result, an emitter with an acknowledgement
+                    if (!(getCursor().getParentTreeCursor().getValue() instanceof J.Block) || !send.test(getCursor())) {
+                        c.set(false);
+                    }
+                }
+                return super.visitMethodInvocation(method, c);
+            }
+
+            private void checkReference(Expression reference, AtomicBoolean c) {
+                Object parent = getCursor().getParentTreeCursor().getValue();
+                if (!(parent instanceof J.VariableDeclarations.NamedVariable) &&
+                    !(parent instanceof J.Assignment) &&
+                    !(parent instanceof J.FieldAccess && ((J.FieldAccess) parent).getName() == reference) &&
+                    !(parent instanceof J.MethodInvocation && ((J.MethodInvocation) parent).getSelect() == reference)) {
+                    c.set(false);
+                }
+            }
+        }.visit(cu, convertible);
+        return convertible.get();
+    }
+
+    /**
+     * @return the declaration of a template as one of an {@code Emitter} of the given payload type.
+     */
+    static J.VariableDeclarations toEmitter(J.VariableDeclarations vd, Expression payloadType) {
+        //noinspection DataFlowIssue
+        Space prefix = vd.getTypeExpression().getPrefix();
+        JavaType.FullyQualified emitter = JavaType.ShallowClass.build(EMITTER_FQN);
+        //noinspection DataFlowIssue
+        JavaType.Parameterized emitterType = new JavaType.Parameterized(null, emitter, singletonList(payloadType.getType()));
+        return vd
+                .withTypeExpression(new J.ParameterizedType(Tree.randomId(), prefix, Markers.EMPTY,
+                        new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), "Emitter", emitter, null),
+                        JContainer.build(Space.EMPTY, singletonList(JRightPadded.build(payloadType.withPrefix(Space.EMPTY))), Markers.EMPTY),
+                        emitterType))
+                .withVariables(ListUtils.map(vd.getVariables(), v -> {
+                    JavaType.Variable fieldType = v.getName().getFieldType();
+                    return v.withName(v.getName()
+                            .withType(emitterType)
+                            .withFieldType(fieldType == null ? null : fieldType.withType(emitterType)));
+                }));
+    }
+
+    /**
+     * Constructor parameters and injected fields of an emitter name the channel it sends to, final fields assigned
+     * from a constructor parameter do not.
+     */
+    static boolean isInjectionPoint(J.VariableDeclarations vd, Cursor cursor) {
+        return cursor.getParentTreeCursor().getValue() instanceof J.MethodDeclaration || !vd.getLeadingAnnotations().isEmpty();
+    }
+
+    /**
+     * The channels of the listeners and templates that a conversion replaces, collected while scanning the project.
+     */
+    static final class Channels {
+
+        /**
+         * The attribute naming the topic or queue that an incoming channel consumes, when it is not the channel name.
+         */
+        private final String incomingDestination;
+
+        /**
+         * The attribute naming the destination of an outgoing channel, when it is not the channel name, or
+         * {@code null} when the templates declare all attributes of their channels.
+         */
+        private final @Nullable String outgoingDestination;
+
+        /**
+         * The channel attributes declared by each listener, by channel.
+         */
+        private final Map<String, List<Map<String, String>>> incoming = new HashMap<>();
+
+        /**
+         * The channel attributes of each destination that templates send to.
+         */
+        private final Map<String, Map<String, String>> outgoing = new HashMap<>();
+
+        /**
+         * Whether the project has a main {@code application.properties}, which takes the attributes declared in code.
+         */
+        private boolean applicationProperties;
+
+        /**
+         * Whether the project has a main {@code application.yml} that can take them otherwise.
+         */
+        private boolean applicationYaml;
+
+        /**
+         * The {@code application.properties} to create for them when there is neither, next to the main sources of a
+         * listener or template.
+         */
+        private @Nullable Path newApplicationProperties;
+
+        Channels(String incomingDestination, @Nullable String outgoingDestination) {
+            this.incomingDestination = incomingDestination;
+            this.outgoingDestination = outgoingDestination;
+        }
+
+        void addIncoming(String destination, Map<String, String> settings) {
+            String channel = channel(destination);
+            Map<String, String> declared = new LinkedHashMap<>();
+            if (!channel.equals(destination)) {
+                declared.put(incomingDestination, destination);
+            }
+            declared.putAll(settings);
+            incoming.computeIfAbsent(channel, k -> new ArrayList<>()).add(declared);
+        }
+
+        void addOutgoing(String destination, Map<String, String> settings) {
+            outgoing.put(destination, settings);
+        }
+
+        /**
+         * Records the application configuration files of the project.
+         */
+        void scan(SourceFile sourceFile) {
+            if (sourceFile instanceof Properties.File &&
+                MessagingChannelProperties.isMainApplicationProperties((Properties.File) sourceFile)) {
+                applicationProperties = true;
+            } else if (sourceFile instanceof Yaml.Documents && YamlProperties.isMainApplicationYaml(sourceFile) &&
+                       !((Yaml.Documents) sourceFile).getDocuments().isEmpty() &&
+                       ((Yaml.Documents) sourceFile).getDocuments().get(0).getBlock() instanceof Yaml.Mapping) {
+                applicationYaml = true;
+            }
+        }
+
+        /**
+         * Records the source file of a listener or template.
+         */
+        void addSource(Path sourcePath) {
+            if (newApplicationProperties == null) {
+                String path = PathUtils.separatorsToUnix(sourcePath.toString());
+                int main = path.indexOf("src/main/java/");
+                if (main >= 0) {
+                    newApplicationProperties = Paths.get(path.substring(0, main) + "src/main/resources/application.properties");
+                } else if (!path.startsWith("src/") && !path.contains("/src/")) {
+                    // Sources outside of a Maven or Gradle layout
+                    newApplicationProperties = Paths.get("src/main/resources/application.properties");
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return incoming.isEmpty() && outgoing.isEmpty();
+        }
+
+        /**
+         * @return whether the attributes declared in code are added to the main {@code application.yml}, for projects
+         * without a main {@code application.properties}.
+         */
+        boolean isDeclaredInYaml() {
+            return !applicationProperties && applicationYaml;
+        }
+
+        /**
+         * @return the {@code application.properties} to create for the attributes declared in code, or {@code null} when
+         * the project has an application configuration file for them already.
+         */
+        @Nullable Path newApplicationProperties() {
+            return applicationProperties || applicationYaml ? null : newApplicationProperties;
+        }
+
+        /**
+         * @return whether the attributes declared in code have a configuration file to go to. Listeners and templates
+         * are left as they are otherwise, as their channels would lose these attributes.
+         */
+        boolean isConfigurable() {
+            return applicationProperties || applicationYaml || newApplicationProperties != null || declared().isEmpty();
+        }
+
+        /**
+         * Two listeners of the same destination, such as in different consumer groups, would share a channel.
+         */
+        boolean isIncoming(String destination) {
+            return isIncomingChannel(channel(destination));
+        }
+
+        String outgoingChannel(String destination) {
+            String channel = channel(destination);
+            // A channel that is both incoming and outgoing connects the emitter to the method in memory
+            return incoming.containsKey(channel) ? channel + "-out" : channel;
+        }
+
+        Map<String, Set<String>> byDirection() {
+            Set<String> incomingChannels = new TreeSet<>();
+            for (String channel : incoming.keySet()) {
+                if (isIncomingChannel(channel)) {
+                    incomingChannels.add(channel);
+                }
+            }
+            Set<String> outgoingChannels = new TreeSet<>();
+            for (String destination : outgoing.keySet()) {
+                outgoingChannels.add(outgoingChannel(destination));
+            }
+            Map<String, Set<String>> channels = new HashMap<>();
+            channels.put(INCOMING, incomingChannels);
+            channels.put(OUTGOING, outgoingChannels);
+            return channels;
+        }
+
+        /**
+         * @return the attributes declared in code, by {@code <direction>.<channel>}.
+         */
+        Map<String, Map<String, String>> declared() {
+            Map<String, Map<String, String>> declared = new HashMap<>();
+            for (Map.Entry<String, List<Map<String, String>>> listener : incoming.entrySet()) {
+                if (isIncomingChannel(listener.getKey()) && !listener.getValue().get(0).isEmpty()) {
+                    declared.put(INCOMING + "." + listener.getKey(), listener.getValue().get(0));
+                }
+            }
+            for (Map.Entry<String, Map<String, String>> destination : outgoing.entrySet()) {
+                String channel = outgoingChannel(destination.getKey());
+                Map<String, String> settings = new LinkedHashMap<>();
+                if (outgoingDestination != null && !channel.equals(destination.getKey())) {
+                    settings.put(outgoingDestination, destination.getKey());
+                }
+                settings.putAll(destination.getValue());
+                if (!settings.isEmpty()) {
+                    declared.put(OUTGOING + "." + channel, settings);
+                }
+            }
+            return declared;
+        }
+
+        private boolean isIncomingChannel(String channel) {
+            List<Map<String, String>> declared = incoming.get(channel);
+            return declared != null && declared.size() == 1;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.ChangeType;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+@ThreadSafeRecipe
+public class ReactorToMutiny extends Recipe {
+
+    private static final String MONO_FQN = "reactor.core.publisher.Mono";
+    private static final String FLUX_FQN = "reactor.core.publisher.Flux";
+    private static final String UNI_FQN = "io.smallrye.mutiny.Uni";
+    private static final String MULTI_FQN = "io.smallrye.mutiny.Multi";
+
+    private static final MethodMatcher MONO_JUST = new MethodMatcher(MONO_FQN + " just(*)");
+    private static final MethodMatcher MONO_FROM_SUPPLIER = new MethodMatcher(MONO_FQN + " fromSupplier(..)");
+    private static final MethodMatcher MONO_EMPTY = new MethodMatcher(MONO_FQN + " empty()");
+    private static final MethodMatcher MONO_ERROR = new MethodMatcher(MONO_FQN + " error(java.lang.Throwable)");
+    private static final MethodMatcher MONO_MAP = new MethodMatcher(MONO_FQN + " map(..)");
+    private static final MethodMatcher MONO_FLAT_MAP = new MethodMatcher(MONO_FQN + " flatMap(..)");
+    private static final MethodMatcher MONO_DO_ON_NEXT = new MethodMatcher(MONO_FQN + " doOnNext(..)");
+    private static final MethodMatcher MONO_ON_ERROR_RETURN = new MethodMatcher(MONO_FQN + " onErrorReturn(*)");
+    private static final MethodMatcher MONO_ON_ERROR_RESUME = new MethodMatcher(MONO_FQN + " onErrorResume(java.util.function.Function)");
+    private static final MethodMatcher MONO_BLOCK = new MethodMatcher(MONO_FQN + " block()");
+
+    private static final MethodMatcher FLUX_JUST = new MethodMatcher(FLUX_FQN + " just(..)");
+    private static final MethodMatcher FLUX_FROM_ITERABLE = new MethodMatcher(FLUX_FQN + " fromIterable(..)");
+    private static final MethodMatcher FLUX_EMPTY = new MethodMatcher(FLUX_FQN + " empty()");
+    private static final MethodMatcher FLUX_ERROR = new MethodMatcher(FLUX_FQN + " error(java.lang.Throwable)");
+    private static final MethodMatcher FLUX_MAP = new MethodMatcher(FLUX_FQN + " map(..)");
+    private static final MethodMatcher FLUX_FILTER = new MethodMatcher(FLUX_FQN + " filter(..)");
+    private static final MethodMatcher FLUX_TAKE = new MethodMatcher(FLUX_FQN + " take(long)");
+    private static final MethodMatcher FLUX_DO_ON_NEXT = new MethodMatcher(FLUX_FQN + " doOnNext(..)");
+    private static final MethodMatcher FLUX_COLLECT_LIST = new MethodMatcher(FLUX_FQN + " collectList()");
+
+    String displayName = "Convert Reactor `Mono` and `Flux` to Mutiny `Uni` and `Multi`";
+
+    String description = "Converts Project Reactor `Mono` and `Flux` types, their common factory methods and operators to " +
+                         "Mutiny `Uni` and `Multi`, which Quarkus REST serves from the event loop. Endpoints returning " +
+                         "`Mono` or `Flux` that call blocking APIs such as Spring Data repositories, `JdbcTemplate` or " +
+                         "`EntityManager` are annotated with `@Blocking`, so they are dispatched to a worker thread instead " +
+                         "of stalling the event loop.";
+
+    transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new TimedVisitor(this, fileTimings, Preconditions.check(
+                new UsesSpring(SpringUsage.REACTOR),
+                new JavaVisitor<ExecutionContext>() {
+
+                    @Override
+                    public J visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                        // Operators are converted first, while their method types still refer to Reactor
+                        doAfterVisit(new ChangeType(MONO_FQN, UNI_FQN, null).getVisitor());
+                        doAfterVisit(new ChangeType(FLUX_FQN, MULTI_FQN, null).getVisitor());
+                        return super.visitCompilationUnit(cu, ctx);
+                    }
+
+                    @Override
+                    public J visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                        boolean blockingEndpoint = isReactive(method) &&
+                                                   BlockingEndpoints.isUndecidedEndpoint(method) &&
+                                                   BlockingEndpoints.callsBlockingApi(method);
+                        J j = super.visitMethodDeclaration(method, ctx);
+                        if (!blockingEndpoint || !(j instanceof J.MethodDeclaration)) {
+                            return j;
+                        }
+                        J.MethodDeclaration m = (J.MethodDeclaration) j;
+                        maybeAddImport(BlockingEndpoints.BLOCKING_FQN);
+                        return JavaTemplateCache.get(ctx, "@Blocking", "smallrye-common-annotation", BlockingEndpoints.BLOCKING_FQN)
+                                .apply(updateCursor(m), m.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
+                    }
+
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J j = super.visitMethodInvocation(method, ctx);
+                        if (!(j instanceof J.MethodInvocation)) {
+                            return j;
+                        }
+                        J.MethodInvocation mi = (J.MethodInvocation) j;
+
+                        if (MONO_JUST.matches(mi) || MONO_FROM_SUPPLIER.matches(mi)) {
+                            return createFrom(mi, UNI_FQN, "Uni.createFrom().item(#{any()})", ctx);
+                        } else if (MONO_EMPTY.matches(mi)) {
+                            return createFrom(mi, UNI_FQN, "Uni.createFrom().nullItem()", ctx);
+                        } else if (MONO_ERROR.matches(mi)) {
+                            return createFrom(mi, UNI_FQN, "Uni.createFrom().failure(#{any(java.lang.Throwable)})", ctx);
+                        } else if (MONO_MAP.matches(mi)) {
+                            return operator(mi, UNI_FQN, "onItem().transform(#{any()})", ctx);
+                        } else if (MONO_FLAT_MAP.matches(mi)) {
+                            return operator(mi, UNI_FQN, "onItem().transformToUni(#{any()})", ctx);
+                        } else if (MONO_DO_ON_NEXT.matches(mi)) {
+                            return operator(mi, UNI_FQN, "onItem().invoke(#{any()})", ctx);
+                        } else if (MONO_ON_ERROR_RETURN.matches(mi)) {
+                            return operator(mi, UNI_FQN, "onFailure().recoverWithItem(#{any()})", ctx);
+                        } else if (MONO_ON_ERROR_RESUME.matches(mi)) {
+                            return operator(mi, UNI_FQN, "onFailure().recoverWithUni(#{any()})", ctx);
+                        } else if (MONO_BLOCK.matches(mi)) {
+                            return operator(mi, UNI_FQN, "await().indefinitely()", ctx);
+                        } else if (FLUX_JUST.matches(mi)) {
+                            String[] items = new String[mi.getArguments().size()];
+                            Arrays.fill(items, "#{any()}");
+                            return createFrom(mi, MULTI_FQN, "Multi.createFrom().items(" + String.join(", ", items) + ")", ctx);
+                        } else if (FLUX_FROM_ITERABLE.matches(mi)) {
+                            return createFrom(mi, MULTI_FQN, "Multi.createFrom().iterable(#{any(java.lang.Iterable)})", ctx);
+                        } else if (FLUX_EMPTY.matches(mi)) {
+                            return createFrom(mi, MULTI_FQN, "Multi.createFrom().empty()", ctx);
+                        } else if (FLUX_ERROR.matches(mi)) {
+                            return createFrom(mi, MULTI_FQN, "Multi.createFrom().failure(#{any(java.lang.Throwable)})", ctx);
+                        } else if (FLUX_MAP.matches(mi)) {
+                            return operator(mi, MULTI_FQN, "onItem().transform(#{any()})", ctx);
+                        } else if (FLUX_FILTER.matches(mi)) {
+                            return operator(mi, MULTI_FQN, "select().where(#{any()})", ctx);
+                        } else if (FLUX_TAKE.matches(mi)) {
+                            return operator(mi, MULTI_FQN, "select().first(#{any(long)})", ctx);
+                        } else if (FLUX_DO_ON_NEXT.matches(mi)) {
+                            return operator(mi, MULTI_FQN, "onItem().invoke(#{any()})", ctx);
+                        } else if (FLUX_COLLECT_LIST.matches(mi)) {
+                            return operator(mi, MULTI_FQN, "collect().asList()", ctx);
+                        }
+                        return mi;
+                    }
+
+                    private J createFrom(J.MethodInvocation mi, String mutinyType, String code, ExecutionContext ctx) {
+                        maybeAddImport(mutinyType);
+                        return JavaTemplateCache.get(ctx, code, "mutiny", mutinyType)
+                                .apply(getCursor(), mi.getCoordinates().replace(), mi.getArguments().stream()
+                                        .filter(arg -> !(arg instanceof J.Empty))
+                                        .toArray());
+                    }
+
+                    private J operator(J.MethodInvocation mi, String mutinyType, String code, ExecutionContext ctx) {
+                        Expression select = mi.getSelect();
+                        if (select == null) {
+                            return mi;
+                        }
+                        Object[] args = new Object[mi.getArguments().size() + 1];
+                        args[0] = select;
+                        int i = 1;
+                        for (Expression arg : mi.getArguments()) {
+                            if (!(arg instanceof J.Empty)) {
+                                args[i++] = arg;
+                            }
+                        }
+                        return JavaTemplateCache.get(ctx, "#{any(" + mutinyType + ")}." + code, "mutiny")
+                                .apply(getCursor(), mi.getCoordinates().replace(), Arrays.copyOf(args, i));
+                    }
+                }
+        ));
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
+    }
+
+    private static boolean isReactive(J.MethodDeclaration method) {
+        JavaType.Method methodType = method.getMethodType();
+        return methodType != null &&
+               (TypeUtils.isOfClassType(methodType.getReturnType(), MONO_FQN) ||
+                TypeUtils.isOfClassType(methodType.getReturnType(), FLUX_FQN));
+    }
+}
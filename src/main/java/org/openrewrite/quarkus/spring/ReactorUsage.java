@@ -0,0 +1,160 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.marker.JavaProject;
+import org.openrewrite.java.marker.JavaSourceSet;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.maven.tree.Dependency;
+import org.openrewrite.maven.tree.MavenResolutionResult;
+import org.openrewrite.maven.tree.ResolvedDependency;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Which projects have their web tier migrated to the reactive Quarkus REST stack. With a Maven model, that is when
+ * {@code SpringBootWebToQuarkusReactive} swaps a direct {@code spring-boot-starter-web} dependency of a project that
+ * also depends on Project Reactor, or when the project already depends on {@code quarkus-rest} directly. Without one,
+ * it is when the project's own sources use Project Reactor. Recipes with a tier that can be blocking or reactive scan
+ * for it to follow the same choice, project by project.
+ */
+final class ReactorUsage {
+
+    /**
+     * Stands in for the project of source files without a {@link JavaProject} marker.
+     */
+    private static final UUID NO_PROJECT = new UUID(0, 0);
+
+    private static final String SOURCE_SETS_KEY = ReactorUsage.class.getName() + ".sourceSets";
+    private static final String QUARKUS_REST_RESPONSE_FQN = "org.jboss.resteasy.reactive.RestResponse";
+    private static final String SPRING_REST_CONTROLLER_FQN = "org.springframework.web.bind.annotation.RestController";
+
+    private final Map<UUID, Project> projects = new ConcurrentHashMap<>();
+
+    void scan(SourceFile sourceFile, ExecutionContext ctx) {
+        Project project = projects.computeIfAbsent(projectId(sourceFile.getMarkers()), id -> new Project());
+        MavenResolutionResult maven = sourceFile.getMarkers().findFirst(MavenResolutionResult.class).orElse(null);
+        if (maven != null) {
+            project.scan(maven);
+        } else if (sourceFile instanceof JavaSourceFile && !project.reactorInSources &&
+                   SpringUsage.in((JavaSourceFile) sourceFile, ctx).contains(SpringUsage.REACTOR)) {
+            project.reactorInSources = true;
+        }
+    }
+
+    /**
+     * @return whether the project of a source file with these markers migrates to reactive Quarkus REST.
+     */
+    boolean isReactive(Markers markers) {
+        Project project = projects.get(projectId(markers));
+        return project != null && project.isReactive();
+    }
+
+    /**
+     * @return whether the project of a source file with these markers also migrates its JPA tier to Hibernate Reactive,
+     * which {@code SpringBootDataJpaToQuarkusReactive} does for projects depending directly on
+     * {@code spring-boot-starter-data-jpa}.
+     */
+    boolean isHibernateReactive(Markers markers) {
+        Project project = projects.get(projectId(markers));
+        return project != null && project.isReactive() && (!project.mavenModel || project.jpa);
+    }
+
+    /**
+     * Tells the same from the classpath of a source file's source set, for recipes that only see the source file they
+     * visit: a project migrates to reactive Quarkus REST when its classpath holds Quarkus REST already, or the Spring web
+     * annotations along with Project Reactor.
+     *
+     * @return whether the project of the source file migrates to reactive Quarkus REST, or {@code null} when its
+     * classpath is unknown or holds no web tier.
+     */
+    static @Nullable Boolean isReactive(JavaSourceFile sourceFile, ExecutionContext ctx) {
+        JavaSourceSet sourceSet = sourceFile.getMarkers().findFirst(JavaSourceSet.class).orElse(null);
+        if (sourceSet == null) {
+            return null;
+        }
+        Map<UUID, Optional<Boolean>> bySourceSet = ctx.computeMessageIfAbsent(SOURCE_SETS_KEY,
+                k -> new ConcurrentHashMap<UUID, Optional<Boolean>>());
+        return bySourceSet.computeIfAbsent(sourceSet.getId(), id -> {
+            boolean springWeb = false;
+            boolean reactor = false;
+            for (JavaType.FullyQualified type : sourceSet.getClasspath()) {
+                String fqn = type.getFullyQualifiedName();
+                if (QUARKUS_REST_RESPONSE_FQN.equals(fqn)) {
+                    return Optional.of(true);
+                }
+                springWeb |= SPRING_REST_CONTROLLER_FQN.equals(fqn);
+                reactor |= fqn.startsWith("reactor.core.publisher.");
+            }
+            return springWeb ? Optional.of(reactor) : Optional.empty();
+        }).orElse(null);
+    }
+
+    private static UUID projectId(Markers markers) {
+        return markers.findFirst(JavaProject.class).map(JavaProject::getId).orElse(NO_PROJECT);
+    }
+
+    private static class Project {
+        volatile boolean mavenModel;
+        volatile boolean webStarter;
+        volatile boolean reactor;
+        volatile boolean quarkusRest;
+        volatile boolean jpa;
+        volatile boolean reactorInSources;
+
+        void scan(MavenResolutionResult maven) {
+            mavenModel = true;
+            // Requested rather than resolved, as a Quarkus extension added earlier in the run may not be resolved yet
+            for (Dependency requested : maven.getPom().getRequestedDependencies()) {
+                if ("io.quarkus".equals(requested.getGroupId()) &&
+                    ("quarkus-rest".equals(requested.getArtifactId()) || "quarkus-rest-jackson".equals(requested.getArtifactId()))) {
+                    quarkusRest = true;
+                } else if ("io.quarkus".equals(requested.getGroupId()) &&
+                           requested.getArtifactId().startsWith("quarkus-hibernate-reactive")) {
+                    jpa = true;
+                }
+            }
+            for (List<ResolvedDependency> dependencies : maven.getDependencies().values()) {
+                for (ResolvedDependency dependency : dependencies) {
+                    if (dependency.isDirect() && "org.springframework.boot".equals(dependency.getGroupId()) &&
+                        "spring-boot-starter-web".equals(dependency.getArtifactId())) {
+                        webStarter = true;
+                    } else if (dependency.isDirect() && "org.springframework.boot".equals(dependency.getGroupId()) &&
+                               "spring-boot-starter-data-jpa".equals(dependency.getArtifactId())) {
+                        jpa = true;
+                    } else if ("io.projectreactor".equals(dependency.getGroupId())) {
+                        reactor = true;
+                    } else if ("io.quarkus".equals(dependency.getGroupId()) && "quarkus-rest".equals(dependency.getArtifactId())) {
+                        quarkusRest = true;
+                    }
+                }
+            }
+        }
+
+        boolean isReactive() {
+            return mavenModel ? webStarter && reactor || quarkusRest : reactorInSources;
+        }
+    }
+}
@@ -0,0 +1,715 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.emptyList;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+@ThreadSafeRecipe
+public class RedisTemplateToRedisDataSource extends Recipe {
+
+    private static final String REDIS_OPERATIONS_FQN = "org.springframework.data.redis.core.RedisOperations";
+    private static final String REACTIVE_REDIS_OPERATIONS_FQN = "org.springframework.data.redis.core.ReactiveRedisOperations";
+    private static final String STRING_REDIS_TEMPLATE_FQN = "org.springframework.data.redis.core.StringRedisTemplate";
+    private static final String REACTIVE_STRING_REDIS_TEMPLATE_FQN = "org.springframework.data.redis.core.ReactiveStringRedisTemplate";
+    private static final String VALUE_OPERATIONS_FQN = "org.springframework.data.redis.core.ValueOperations";
+    private static final String HASH_OPERATIONS_FQN = "org.springframework.data.redis.core.HashOperations";
+    private static final String REACTIVE_VALUE_OPERATIONS_FQN = "org.springframework.data.redis.core.ReactiveValueOperations";
+    private static final String REACTIVE_HASH_OPERATIONS_FQN = "org.springframework.data.redis.core.ReactiveHashOperations";
+
+    private static final String SESSION_CALLBACK_FQN = "org.springframework.data.redis.core.SessionCallback";
+
+    private static final String[] SPRING_TYPES = {
+            "org.springframework.data.redis.core.RedisTemplate", STRING_REDIS_TEMPLATE_FQN, REDIS_OPERATIONS_FQN,
+            "org.springframework.data.redis.core.ReactiveRedisTemplate", REACTIVE_STRING_REDIS_TEMPLATE_FQN, REACTIVE_REDIS_OPERATIONS_FQN,
+            SESSION_CALLBACK_FQN, "org.springframework.dao.DataAccessException"
+    };
+
+    private static final String REDIS_DATA_SOURCE_FQN = "io.quarkus.redis.datasource.RedisDataSource";
+    private static final String REACTIVE_REDIS_DATA_SOURCE_FQN = "io.quarkus.redis.datasource.ReactiveRedisDataSource";
+    private static final String SET_ARGS_FQN = "io.quarkus.redis.datasource.value.SetArgs";
+
+    /**
+     * The blocking and reactive data sources, as each gives access to the other's types, and the Jackson type
+     * references that the command groups are overloaded with.
+     */
+    private static final String[] REDIS_CLASSPATH = {"quarkus-redis-client", "mutiny", "jackson-core"};
+
+    private static final MethodMatcher OPS_FOR_VALUE = new MethodMatcher(REDIS_OPERATIONS_FQN + " opsForValue()", true);
+    private static final MethodMatcher OPS_FOR_HASH = new MethodMatcher(REDIS_OPERATIONS_FQN + " opsForHash()", true);
+    private static final MethodMatcher REACTIVE_OPS_FOR_VALUE = new MethodMatcher(REACTIVE_REDIS_OPERATIONS_FQN + " opsForValue()", true);
+    private static final MethodMatcher REACTIVE_OPS_FOR_HASH = new MethodMatcher(REACTIVE_REDIS_OPERATIONS_FQN + " opsForHash()", true);
+    private static final MethodMatcher EXECUTE_SESSION = new MethodMatcher(REDIS_OPERATIONS_FQN + " execute(org.springframework.data.redis.core.SessionCallback)", true);
+    private static final MethodMatcher EXECUTE_PIPELINED = new MethodMatcher(REDIS_OPERATIONS_FQN + " executePipelined(org.springframework.data.redis.core.SessionCallback)", true);
+    private static final MethodMatcher MULTI = new MethodMatcher(REDIS_OPERATIONS_FQN + " multi()", true);
+    private static final MethodMatcher EXEC = new MethodMatcher(REDIS_OPERATIONS_FQN + " exec()", true);
+    private static final MethodMatcher SET_WITH_TIMEOUT = new MethodMatcher(VALUE_OPERATIONS_FQN + " set(*, *, java.time.Duration)", true);
+
+    /**
+     * The Spring Data Redis operations with a Quarkus Redis command of the same signature, by their method name.
+     */
+    private static final Map<String, List<Command>> COMMANDS = new HashMap<>();
+
+    static {
+        for (Command command : Arrays.asList(
+                // ValueOperations
+                new Command(Group.VALUE, "get(*)", "get"),
+                new Command(Group.VALUE, "set(*, *)", "set"),
+                new Command(Group.VALUE, "set(*, *, java.time.Duration)", "set"),
+                new Command(Group.VALUE, "setIfAbsent(*, *)", "setnx"),
+                new Command(Group.VALUE, "getAndSet(*, *)", "getset"),
+                new Command(Group.VALUE, "getAndDelete(*)", "getdel"),
+                new Command(Group.VALUE, "increment(*)", "incr"),
+                new Command(Group.VALUE, "increment(*, long)", "incrby"),
+                new Command(Group.VALUE, "decrement(*)", "decr"),
+                new Command(Group.VALUE, "decrement(*, long)", "decrby"),
+                new Command(Group.VALUE, "size(*)", "strlen"),
+                new Command(Group.VALUE, "multiSet(java.util.Map)", "mset"),
+                // Spring returns the new length as an Integer, Quarkus as a long
+                new Command(Group.VALUE, "append(*, java.lang.String)", "append", true),
+                // HashOperations
+                new Command(Group.HASH, "put(*, *, *)", "hset"),
+                new Command(Group.HASH, "putAll(*, java.util.Map)", "hset"),
+                new Command(Group.HASH, "putIfAbsent(*, *, *)", "hsetnx"),
+                new Command(Group.HASH, "get(*, *)", "hget"),
+                new Command(Group.HASH, "entries(*)", "hgetall"),
+                new Command(Group.HASH, "hasKey(*, *)", "hexists"),
+                new Command(Group.HASH, "size(*)", "hlen"),
+                new Command(Group.HASH, "values(*)", "hvals"),
+                new Command(Group.HASH, "increment(*, *, long)", "hincrby"),
+                // Spring returns the number of deleted fields as a Long, Quarkus as an int
+                new Command(Group.HASH, "delete(..)", "hdel", true),
+                // RedisOperations
+                new Command(Group.KEY, "hasKey(*)", "exists"),
+                new Command(Group.KEY, "expire(*, java.time.Duration)", "expire"),
+                // Spring returns whether the key was deleted, Quarkus the number of deleted keys
+                new Command(Group.KEY, "delete(*)", "del", true),
+                // ReactiveValueOperations, for those with the same Mono and Uni results
+                new Command(Group.REACTIVE_VALUE, "get(*)", "get"),
+                new Command(Group.REACTIVE_VALUE, "setIfAbsent(*, *)", "setnx"),
+                new Command(Group.REACTIVE_VALUE, "getAndSet(*, *)", "getset"),
+                new Command(Group.REACTIVE_VALUE, "getAndDelete(*)", "getdel"),
+                new Command(Group.REACTIVE_VALUE, "increment(*)", "incr"),
+                new Command(Group.REACTIVE_VALUE, "increment(*, long)", "incrby"),
+                new Command(Group.REACTIVE_VALUE, "decrement(*)", "decr"),
+                new Command(Group.REACTIVE_VALUE, "decrement(*, long)", "decrby"),
+                new Command(Group.REACTIVE_VALUE, "size(*)", "strlen"),
+                // ReactiveHashOperations
+                new Command(Group.REACTIVE_HASH, "putIfAbsent(*, *, *)", "hsetnx"),
+                new Command(Group.REACTIVE_HASH, "get(*, *)", "hget"),
+                new Command(Group.REACTIVE_HASH, "hasKey(*, *)", "hexists"),
+                new Command(Group.REACTIVE_HASH, "size(*)", "hlen"),
+                new Command(Group.REACTIVE_HASH, "increment(*, *, long)", "hincrby"),
+                // ReactiveRedisOperations
+                new Command(Group.REACTIVE_KEY, "hasKey(*)", "exists"))) {
+            COMMANDS.computeIfAbsent(command.springMethod, k -> new ArrayList<>()).add(command);
+        }
+    }
+
+    String displayName = "Convert Spring Data Redis `RedisTemplate` to Quarkus `RedisDataSource`";
+
+    String description = "Replaces injected `RedisTemplate` and `StringRedisTemplate` with the Quarkus Redis client's " +
+                         "`RedisDataSource`, and their reactive counterparts with `ReactiveRedisDataSource`. " +
+                         "`opsForValue()` and `opsForHash()` operations become the commands of the `value()` and `hash()` " +
+                         "command groups, including the batched `multiSet` and `putAll`, and `hasKey`, `expire` and " +
+                         "`delete` become key commands. A `SessionCallback` running commands between `multi()` and " +
+                         "`exec()` becomes a `withTransaction` block, and a pipelined `SessionCallback` whose results are " +
+                         "not used becomes commands of the reactive data source chained in their original order and " +
+                         "awaited. Source files using templates in any other way, such as pipelined callbacks on the " +
+                         "connection, keys that are not strings or operations held in variables, are left unchanged.";
+
+    transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new TimedVisitor(this, fileTimings, Preconditions.check(
+                new UsesSpring(SpringUsage.REDIS),
+                new JavaVisitor<ExecutionContext>() {
+
+                    @Override
+                    public J visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                        if (!isConvertible(cu)) {
+                            return cu;
+                        }
+                        for (String springType : SPRING_TYPES) {
+                            maybeRemoveImport(springType);
+                        }
+                        J c = super.visitCompilationUnit(cu, ctx);
+                        // References to a template keep its type while its calls are converted, as the commands are
+                        // chosen by the template's value type, and only now take the data source's type
+                        return new JavaIsoVisitor<ExecutionContext>() {
+                            @Override
+                            public J.Import visitImport(J.Import anImport, ExecutionContext ctx) {
+                                return anImport;
+                            }
+
+                            @Override
+                            public @Nullable JavaType visitType(@Nullable JavaType javaType, ExecutionContext ctx) {
+                                if (javaType instanceof JavaType.Method) {
+                                    JavaType.Method method = (JavaType.Method) javaType;
+                                    return method.withParameterTypes(ListUtils.map(method.getParameterTypes(), t -> visitType(t, ctx)));
+                                } else if (javaType instanceof JavaType.Variable) {
+                                    JavaType.Variable variable = (JavaType.Variable) javaType;
+                                    //noinspection DataFlowIssue
+                                    return variable
+                                            .withOwner(visitType(variable.getOwner(), ctx))
+                                            .withType(visitType(variable.getType(), ctx));
+                                }
+                                String dataSource = dataSourceType(javaType);
+                                return dataSource == null ? javaType : JavaType.ShallowClass.build(dataSource);
+                            }
+                        }.visitNonNull(c, ctx);
+                    }
+
+                    @Override
+                    public J visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                        J j = super.visitVariableDeclarations(multiVariable, ctx);
+                        if (!(j instanceof J.VariableDeclarations)) {
+                            return j;
+                        }
+                        J.VariableDeclarations vd = (J.VariableDeclarations) j;
+                        String dataSource = dataSourceType(vd.getType());
+                        if (dataSource == null || vd.getTypeExpression() == null) {
+                            return vd;
+                        }
+                        maybeAddImport(dataSource);
+                        JavaType.FullyQualified dataSourceType = JavaType.ShallowClass.build(dataSource);
+                        return vd
+                                .withTypeExpression(new J.Identifier(Tree.randomId(), vd.getTypeExpression().getPrefix(), Markers.EMPTY,
+                                        emptyList(), dataSource.substring(dataSource.lastIndexOf('.') + 1), dataSourceType, null))
+                                .withVariables(ListUtils.map(vd.getVariables(), v -> {
+                                    JavaType.Variable fieldType = v.getName().getFieldType();
+                                    return v.withName(v.getName()
+                                            .withType(dataSourceType)
+                                            .withFieldType(fieldType == null ? null : fieldType.withType(dataSourceType)));
+                                }));
+                    }
+
+                    @Override
+                    public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+                        // The commands of a SessionCallback are converted together with the template call running it
+                        if (TypeUtils.isAssignableTo(SESSION_CALLBACK_FQN, newClass.getType())) {
+                            return newClass;
+                        }
+                        return super.visitNewClass(newClass, ctx);
+                    }
+
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J j = super.visitMethodInvocation(method, ctx);
+                        if (!(j instanceof J.MethodInvocation)) {
+                            return j;
+                        }
+                        J.MethodInvocation mi = (J.MethodInvocation) j;
+                        if (mi.getSelect() == null) {
+                            return mi;
+                        }
+                        if (OPS_FOR_VALUE.matches(mi) || OPS_FOR_HASH.matches(mi) ||
+                            REACTIVE_OPS_FOR_VALUE.matches(mi) || REACTIVE_OPS_FOR_HASH.matches(mi)) {
+                            boolean reactive = REACTIVE_OPS_FOR_VALUE.matches(mi) || REACTIVE_OPS_FOR_HASH.matches(mi);
+                            boolean hash = OPS_FOR_HASH.matches(mi) || REACTIVE_OPS_FOR_HASH.matches(mi);
+                            //noinspection DataFlowIssue
+                            JavaType.FullyQualified valueType = valueType(mi);
+                            //noinspection DataFlowIssue
+                            return applyGroupTemplate(ctx, "#{any(" + (reactive ? REACTIVE_REDIS_DATA_SOURCE_FQN : REDIS_DATA_SOURCE_FQN) + ")}." +
+                                                           (hash ? "hash(" : "value(") + classLiteral(valueType) + ")", valueType, mi, mi.getSelect());
+                        }
+                        if (EXECUTE_SESSION.matches(mi)) {
+                            return transaction(mi, ctx);
+                        }
+                        if (EXECUTE_PIPELINED.matches(mi)) {
+                            return pipeline(mi, ctx);
+                        }
+                        Command command = command(mi);
+                        if (command == null) {
+                            return mi;
+                        }
+                        if (SET_WITH_TIMEOUT.matches(mi)) {
+                            maybeAddImport(SET_ARGS_FQN);
+                        }
+                        return command.apply(mi, getCursor(), ctx);
+                    }
+
+                    private J transaction(J.MethodInvocation mi, ExecutionContext ctx) {
+                        //noinspection DataFlowIssue
+                        List<J.MethodInvocation> commands = callbackCommands(mi, false);
+                        //noinspection DataFlowIssue
+                        JavaType.FullyQualified valueType = templateValueType(mi.getSelect().getType());
+                        List<Object> args = new ArrayList<>();
+                        args.add(mi.getSelect());
+                        StringBuilder code = new StringBuilder("#{any(" + REDIS_DATA_SOURCE_FQN + ")}.withTransaction(tx -> {\n");
+                        //noinspection DataFlowIssue
+                        for (J.MethodInvocation commandCall : commands) {
+                            //noinspection DataFlowIssue
+                            Command command = command(commandCall);
+                            //noinspection DataFlowIssue
+                            code.append("tx.").append(command.group == Group.HASH ? "hash(" : "value(")
+                                    .append(classLiteral(valueType)).append(").")
+                                    .append(command.code(commandCall)).append(";\n");
+                            args.addAll(command.arguments(commandCall));
+                        }
+                        code.append("})");
+                        if (code.indexOf("SetArgs") >= 0) {
+                            maybeAddImport(SET_ARGS_FQN);
+                        }
+                        // The result type of the callback
+                        maybeRemoveImport("java.util.List");
+                        //noinspection DataFlowIssue
+                        return applyGroupTemplate(ctx, code.toString(), valueType, mi, args.toArray());
+                    }
+
+                    private J pipeline(J.MethodInvocation mi, ExecutionContext ctx) {
+                        //noinspection DataFlowIssue
+                        List<J.MethodInvocation> commands = callbackCommands(mi, true);
+                        //noinspection DataFlowIssue
+                        JavaType.FullyQualified valueType = templateValueType(mi.getSelect().getType());
+                        List<Object> args = new ArrayList<>();
+                        // Each command is only sent once the previous one completed, so that they run in the order
+                        // Spring sends them on the pipeline's connection
+                        StringBuilder chain = new StringBuilder();
+                        //noinspection DataFlowIssue
+                        for (J.MethodInvocation commandCall : commands) {
+                            //noinspection DataFlowIssue
+                            Command command = command(commandCall);
+                            chain.append(chain.length() == 0 ? "" : "\n.chain(() -> ");
+                            //noinspection DataFlowIssue
+                            chain.append("#{any(" + REDIS_DATA_SOURCE_FQN + ")}.getReactive().")
+                                    .append(command.group == Group.KEY ? "" : (command.group == Group.HASH ? "hash(" : "value(") +
+                                                                             classLiteral(valueType) + ").")
+                                    .append(command.code(commandCall))
+                                    .append(args.isEmpty() ? "" : ")");
+                            // Each command is sent by the same data source
+                            args.add(args.isEmpty() ? mi.getSelect() : mi.getSelect().withId(Tree.randomId()));
+                            args.addAll(command.arguments(commandCall));
+                        }
+                        String code = chain.append("\n.replaceWithVoid().await().indefinitely()").toString();
+                        if (code.contains("SetArgs")) {
+                            maybeAddImport(SET_ARGS_FQN);
+                        }
+                        //noinspection DataFlowIssue
+                        return applyGroupTemplate(ctx, code, valueType, mi, args.toArray());
+                    }
+
+                    private J applyGroupTemplate(ExecutionContext ctx, String code, JavaType.FullyQualified valueType,
+                                                 J.MethodInvocation mi, Object... args) {
+                        String valueTypeName = valueType.getFullyQualifiedName();
+                        JavaTemplate template;
+                        if (valueTypeName.startsWith("java.lang.")) {
+                            template = JavaTemplateCache.get(ctx, code, REDIS_CLASSPATH, SET_ARGS_FQN);
+                        } else if (valueTypeName.startsWith("java.")) {
+                            maybeAddImport(valueTypeName);
+                            template = JavaTemplateCache.get(ctx, code, REDIS_CLASSPATH, SET_ARGS_FQN, valueTypeName);
+                        } else {
+                            // Value types of the project are not on the template's classpath, so it is parsed against stubs
+                            maybeAddImport(valueTypeName);
+                            template = JavaTemplateCache.getWithStubs(ctx, code, REDIS_CLASSPATH, new String[]{stub(valueType)},
+                                    valueType.getPackageName().isEmpty() ? new String[]{SET_ARGS_FQN} :
+                                            new String[]{SET_ARGS_FQN, valueType.getPackageName() + '.' + valueType.getClassName().split("\\.")[0]});
+                        }
+                        return template.apply(getCursor(), mi.getCoordinates().replace(), args);
+                    }
+                }
+        ));
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
+    }
+
+    /**
+     * A source file can be converted when its templates are only injected, and only used with commands that have a
+     * Quarkus equivalent, on string keys and values of a type that a class literal can name.
+     */
+    private static boolean isConvertible(J.CompilationUnit cu) {
+        AtomicBoolean convertible = new AtomicBoolean(true);
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Import visitImport(J.Import anImport, AtomicBoolean c) {
+                return anImport;
+            }
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, AtomicBoolean c) {
+                if (method.getMethodType() != null && (isTemplate(method.getMethodType().getReturnType()) ||
+                                                       isOperations(method.getMethodType().getReturnType()))) {
+                    c.set(false);
+                }
+                return super.visitMethodDeclaration(method, c);
+            }
+
+            @Override
+            public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, AtomicBoolean c) {
+                if (isOperations(multiVariable.getType())) {
+                    c.set(false);
+                } else if (isTemplate(multiVariable.getType())) {
+                    for (J.VariableDeclarations.NamedVariable variable : multiVariable.getVariables()) {
+                        if (variable.getInitializer() != null) {
+                            c.set(false);
+                        }
+                    }
+                }
+                return super.visitVariableDeclarations(multiVariable, c);
+            }
+
+            @Override
+            public J.NewClass visitNewClass(J.NewClass newClass, AtomicBoolean c) {
+                if (isTemplate(newClass.getType())) {
+                    c.set(false);
+                }
+                return super.visitNewClass(newClass, c);
+            }
+
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean c) {
+                // Type names have no field type, references to variables do
+                if (identifier.getFieldType() != null && (isTemplate(identifier.getType()) || isOperations(identifier.getType()))) {
+                    checkReference(identifier, c);
+                }
+                return identifier;
+            }
+
+            @Override
+            public J.FieldAccess visitFieldAccess(J.FieldAccess fieldAccess, AtomicBoolean c) {
+                if (fieldAccess.getName().getFieldType() != null && isTemplate(fieldAccess.getType())) {
+                    checkReference(fieldAccess, c);
+                    return fieldAccess;
+                }
+                return super.visitFieldAccess(fieldAccess, c);
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean c) {
+                Expression select = method.getSelect();
+                if (select != null && isOperations(select.getType())) {
+                    Command command = command(method);
+                    if (command == null || command.group.isKey() || !(select instanceof J.MethodInvocation) ||
+                        valueType((J.MethodInvocation) select) == null ||
+                        (command.resultUnused && !(getCursor().getParentTreeCursor().getValue() instanceof J.Block))) {
+                        c.set(false);
+                    }
+                } else if (select != null && isTemplate(select.getType())) {
+                    if (EXECUTE_SESSION.matches(method) || EXECUTE_PIPELINED.matches(method)) {
+                        if (callbackCommands(method, EXECUTE_PIPELINED.matches(method)) == null ||
+                            templateValueType(select.getType()) == null ||
+                            !(getCursor().getParentTreeCursor().getValue() instanceof J.Block)) {
+                            c.set(false);
+                        }
+                        // The commands of the callback were checked with the callback
+                        return method;
+                    }
+                    if (OPS_FOR_VALUE.matches(method) || OPS_FOR_HASH.matches(method) ||
+                        REACTIVE_OPS_FOR_VALUE.matches(method) || REACTIVE_OPS_FOR_HASH.matches(method)) {
+                        // Checked as the select of the command it is used with
+                        Object parent = getCursor().getParentTreeCursor().getValue();
+                        if (!(parent instanceof J.MethodInvocation) || ((J.MethodInvocation) parent).getSelect() != method) {
+                            c.set(false);
+                        }
+                    } else {
+                        Command command = command(method);
+                        // A single string key, as opposed to a collection of them
+                        if (command == null || !command.group.isKey() || templateValueType(select.getType()) == null ||
+                            !TypeUtils.isString(method.getArguments().get(0).getType()) ||
+                            (command.resultUnused && !(getCursor().getParentTreeCursor().getValue() instanceof J.Block))) {
+                            c.set(false);
+                        }
+                    }
+                }
+                return super.visitMethodInvocation(method, c);
+            }
+
+            private void checkReference(Expression reference, AtomicBoolean c) {
+                Object parent = getCursor().getParentTreeCursor().getValue();
+                if (!(parent instanceof J.VariableDeclarations.NamedVariable) &&
+                    !(parent instanceof J.Assignment) &&
+                    !(parent instanceof J.FieldAccess && ((J.FieldAccess) parent).getName() == reference) &&
+                    !(parent instanceof J.MethodInvocation && ((J.MethodInvocation) parent).getSelect() == reference)) {
+                    c.set(false);
+                }
+            }
+        }.visit(cu, convertible);
+        return convertible.get();
+    }
+
+    /**
+     * @return the commands run by a {@code SessionCallback}, when they all have a Quarkus equivalent: in a transaction,
+     * between {@code multi()} and a returned {@code exec()}, or pipelined, before returning {@code null} as Spring
+     * requires.
+     */
+    private static @Nullable List<J.MethodInvocation> callbackCommands(J.MethodInvocation execute, boolean pipelined) {
+        Expression callback = execute.getArguments().get(0);
+        if (!(callback instanceof J.NewClass) || ((J.NewClass) callback).getBody() == null) {
+            return null;
+        }
+        //noinspection DataFlowIssue
+        List<Statement> members = ((J.NewClass) callback).getBody().getStatements();
+        if (members.size() != 1 || !(members.get(0) instanceof J.MethodDeclaration)) {
+            return null;
+        }
+        J.MethodDeclaration md = (J.MethodDeclaration) members.get(0);
+        if (md.getBody() == null || md.getParameters().size() != 1 || !(md.getParameters().get(0) instanceof J.VariableDeclarations)) {
+            return null;
+        }
+        String operations = ((J.VariableDeclarations) md.getParameters().get(0)).getVariables().get(0).getSimpleName();
+        List<Statement> statements = md.getBody().getStatements();
+        int first = pipelined ? 0 : 1;
+        if (statements.size() < first + 2 || !(statements.get(statements.size() - 1) instanceof J.Return)) {
+            return null;
+        }
+        Expression returned = ((J.Return) statements.get(statements.size() - 1)).getExpression();
+        if (pipelined ? !J.Literal.isLiteralValue(returned, null) :
+                !(statements.get(0) instanceof J.MethodInvocation) || !MULTI.matches((J.MethodInvocation) statements.get(0)) ||
+                !(returned instanceof J.MethodInvocation) || !EXEC.matches((J.MethodInvocation) returned)) {
+            return null;
+        }
+
+        List<J.MethodInvocation> commands = new ArrayList<>();
+        for (Statement statement : statements.subList(first, statements.size() - 1)) {
+            if (!(statement instanceof J.MethodInvocation)) {
+                return null;
+            }
+            J.MethodInvocation commandCall = (J.MethodInvocation) statement;
+            Command command = command(commandCall);
+            if (command == null) {
+                return null;
+            }
+            if (command.group == Group.KEY) {
+                // The results of pipelined commands are discarded, so that key commands of any result type can be sent
+                if (!pipelined || !isIdentifier(commandCall.getSelect(), operations) ||
+                    !TypeUtils.isString(commandCall.getArguments().get(0).getType())) {
+                    return null;
+                }
+            } else if ((command.group != Group.VALUE && command.group != Group.HASH) ||
+                       !(commandCall.getSelect() instanceof J.MethodInvocation)) {
+                return null;
+            } else {
+                J.MethodInvocation ops = (J.MethodInvocation) commandCall.getSelect();
+                if (!isIdentifier(ops.getSelect(), operations) ||
+                    !(command.group == Group.VALUE ? OPS_FOR_VALUE.matches(ops) :
+                            OPS_FOR_HASH.matches(ops) && TypeUtils.isAssignableTo(STRING_REDIS_TEMPLATE_FQN, execute.getSelect().getType()))) {
+                    return null;
+                }
+            }
+            commands.add(commandCall);
+        }
+        return commands;
+    }
+
+    private static boolean isIdentifier(@Nullable Expression expression, String name) {
+        return expression instanceof J.Identifier && name.equals(((J.Identifier) expression).getSimpleName());
+    }
+
+    private static @Nullable Command command(J.MethodInvocation method) {
+        List<Command> candidates = COMMANDS.get(method.getSimpleName());
+        if (candidates != null) {
+            for (Command command : candidates) {
+                if (command.matcher.matches(method)) {
+                    return command;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the value type of the command group that {@code opsForValue()} or {@code opsForHash()} returns, when its
+     * keys and hash fields are strings.
+     */
+    private static JavaType.@Nullable FullyQualified valueType(J.MethodInvocation opsFor) {
+        JavaType.Parameterized operations = opsFor.getMethodType() == null ? null :
+                TypeUtils.asParameterized(opsFor.getMethodType().getReturnType());
+        if (operations == null || !TypeUtils.isString(operations.getTypeParameters().get(0))) {
+            return null;
+        }
+        List<JavaType> typeParameters = operations.getTypeParameters();
+        if (typeParameters.size() == 3 && !TypeUtils.isString(typeParameters.get(1))) {
+            // A hash chained to the template call is inferred as one of objects, which a string template stores as strings
+            return opsFor.getSelect() != null && isStringTemplate(opsFor.getSelect().getType()) ?
+                    JavaType.ShallowClass.build("java.lang.String") : null;
+        }
+        return classType(typeParameters.get(typeParameters.size() - 1));
+    }
+
+    /**
+     * @return the value type of a template with string keys.
+     */
+    private static JavaType.@Nullable FullyQualified templateValueType(@Nullable JavaType template) {
+        if (isStringTemplate(template)) {
+            return JavaType.ShallowClass.build("java.lang.String");
+        }
+        JavaType.Parameterized parameterized = TypeUtils.asParameterized(template);
+        if (parameterized == null || parameterized.getTypeParameters().size() != 2 ||
+            !TypeUtils.isString(parameterized.getTypeParameters().get(0))) {
+            return null;
+        }
+        return classType(parameterized.getTypeParameters().get(1));
+    }
+
+    /**
+     * @return the type, when a class literal can name it.
+     */
+    private static JavaType.@Nullable FullyQualified classType(JavaType type) {
+        JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+        if (fq == null || type instanceof JavaType.Parameterized || TypeUtils.isObject(fq)) {
+            return null;
+        }
+        return fq;
+    }
+
+    /**
+     * @return a stub of a value type of the project, enough for the template to type the class literal naming it.
+     */
+    private static String stub(JavaType.FullyQualified type) {
+        String[] names = type.getClassName().split("\\.");
+        StringBuilder stub = new StringBuilder(type.getPackageName().isEmpty() ? "" : "package " + type.getPackageName() + ";\n");
+        for (int i = 0; i < names.length; i++) {
+            stub.append(i == 0 ? "public class " : " public static class ").append(names[i]).append(" {");
+        }
+        for (String ignored : names) {
+            stub.append('}');
+        }
+        return stub.toString();
+    }
+
+    private static String classLiteral(JavaType.FullyQualified type) {
+        return type.getClassName() + ".class";
+    }
+
+    private static boolean isStringTemplate(@Nullable JavaType type) {
+        return TypeUtils.isAssignableTo(STRING_REDIS_TEMPLATE_FQN, type) ||
+               TypeUtils.isAssignableTo(REACTIVE_STRING_REDIS_TEMPLATE_FQN, type);
+    }
+
+    private static boolean isTemplate(@Nullable JavaType type) {
+        return dataSourceType(type) != null;
+    }
+
+    private static boolean isOperations(@Nullable JavaType type) {
+        return TypeUtils.isAssignableTo(VALUE_OPERATIONS_FQN, type) ||
+               TypeUtils.isAssignableTo(HASH_OPERATIONS_FQN, type) ||
+               TypeUtils.isAssignableTo(REACTIVE_VALUE_OPERATIONS_FQN, type) ||
+               TypeUtils.isAssignableTo(REACTIVE_HASH_OPERATIONS_FQN, type);
+    }
+
+    private static @Nullable String dataSourceType(@Nullable JavaType type) {
+        if (TypeUtils.isAssignableTo(REDIS_OPERATIONS_FQN, type)) {
+            return REDIS_DATA_SOURCE_FQN;
+        } else if (TypeUtils.isAssignableTo(REACTIVE_REDIS_OPERATIONS_FQN, type)) {
+            return REACTIVE_REDIS_DATA_SOURCE_FQN;
+        }
+        return null;
+    }
+
+    private enum Group {
+        VALUE(VALUE_OPERATIONS_FQN, "io.quarkus.redis.datasource.value.ValueCommands"),
+        HASH(HASH_OPERATIONS_FQN, "io.quarkus.redis.datasource.hash.HashCommands"),
+        KEY(REDIS_OPERATIONS_FQN, REDIS_DATA_SOURCE_FQN),
+        REACTIVE_VALUE(REACTIVE_VALUE_OPERATIONS_FQN, "io.quarkus.redis.datasource.value.ReactiveValueCommands"),
+        REACTIVE_HASH(REACTIVE_HASH_OPERATIONS_FQN, "io.quarkus.redis.datasource.hash.ReactiveHashCommands"),
+        REACTIVE_KEY(REACTIVE_REDIS_OPERATIONS_FQN, REACTIVE_REDIS_DATA_SOURCE_FQN);
+
+        final String springType;
+
+        /**
+         * The Quarkus command group, or the data source for key commands.
+         */
+        final String quarkusType;
+
+        Group(String springType, String quarkusType) {
+            this.springType = springType;
+            this.quarkusType = quarkusType;
+        }
+
+        boolean isKey() {
+            return this == KEY || this == REACTIVE_KEY;
+        }
+    }
+
+    private static class Command {
+        final Group group;
+        final String springMethod;
+        final MethodMatcher matcher;
+        final String quarkusMethod;
+
+        /**
+         * Whether the command can only be converted where its result is not used, as the Quarkus command returns a
+         * different type.
+         */
+        final boolean resultUnused;
+
+        Command(Group group, String signature, String quarkusMethod) {
+            this(group, signature, quarkusMethod, false);
+        }
+
+        Command(Group group, String signature, String quarkusMethod, boolean resultUnused) {
+            this.group = group;
+            this.springMethod = signature.substring(0, signature.indexOf('('));
+            this.matcher = new MethodMatcher(group.springType + " " + signature, true);
+            this.quarkusMethod = quarkusMethod;
+            this.resultUnused = resultUnused;
+        }
+
+        /**
+         * @return the Quarkus command, with a parameter for each argument of the Spring operation.
+         */
+        String code(J.MethodInvocation method) {
+            if (SET_WITH_TIMEOUT.matches(method)) {
+                return "set(#{any()}, #{any()}, new SetArgs().ex(#{any(java.time.Duration)}))";
+            }
+            StringJoiner parameters = new StringJoiner(", ", (group.isKey() ? "key()." : "") + quarkusMethod + "(", ")");
+            for (int i = 0; i < arguments(method).size(); i++) {
+                parameters.add("#{any()}");
+            }
+            return parameters.toString();
+        }
+
+        List<Expression> arguments(J.MethodInvocation method) {
+            return ListUtils.map(method.getArguments(), arg -> arg instanceof J.Empty ? null : arg);
+        }
+
+        J apply(J.MethodInvocation method, Cursor cursor, ExecutionContext ctx) {
+            Object[] args = new Object[method.getArguments().size() + 1];
+            args[0] = method.getSelect();
+            int i = 1;
+            for (Expression arg : arguments(method)) {
+                args[i++] = arg;
+            }
+            return JavaTemplateCache.get(ctx, "#{any(" + group.quarkusType + ")}." + code(method),
+                            REDIS_CLASSPATH, SET_ARGS_FQN)
+                    .apply(cursor, method.getCoordinates().replace(), Arrays.copyOf(args, i));
+        }
+    }
+}
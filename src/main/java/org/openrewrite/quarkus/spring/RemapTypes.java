@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.AnnotationMatcher;
+import org.openrewrite.java.ChangeType;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.RemoveAnnotationVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
+
+import java.util.*;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class RemapTypes extends Recipe {
+
+    @Option(displayName = "Type mappings",
+            description = "Fully qualified names of types to change, each written as `old=new`.",
+            example = "org.springframework.boot.test.context.SpringBootTest=io.quarkus.test.junit.QuarkusTest",
+            required = false)
+    @Nullable
+    List<String> typeMappings;
+
+    @Option(displayName = "Removed annotations",
+            description = "Fully qualified names of annotation types to remove wherever they are used.",
+            example = "org.springframework.test.context.ActiveProfiles",
+            required = false)
+    @Nullable
+    List<String> removedAnnotations;
+
+    String displayName = "Change types and remove annotations from a remapping table";
+
+    String description = "Applies a table of type changes and annotation removals. Each source file is checked once " +
+                         "against the whole table with a hash lookup per type in use, and only the changes for the types " +
+                         "it actually uses are applied, instead of one `ChangeType` or `RemoveAnnotation` pass per entry.";
+
+    transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
+    @Override
+    public Validated<Object> validate() {
+        Validated<Object> validated = super.validate();
+        if (typeMappings != null) {
+            for (String typeMapping : typeMappings) {
+                validated = validated.and(Validated.test("typeMappings", "must be written as `old=new`", typeMapping,
+                        m -> m.indexOf('=') > 0 && m.indexOf('=') < m.length() - 1));
+            }
+        }
+        return validated;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        // Keyed by the normalized name that the types in use are looked up with
+        Map<String, String[]> changes = new LinkedHashMap<>();
+        if (typeMappings != null) {
+            for (String typeMapping : typeMappings) {
+                int equals = typeMapping.indexOf('=');
+                String oldFqn = typeMapping.substring(0, equals).trim();
+                changes.put(normalize(oldFqn), new String[]{oldFqn, typeMapping.substring(equals + 1).trim()});
+            }
+        }
+        Set<String> removals = new LinkedHashSet<>();
+        if (removedAnnotations != null) {
+            for (String removedAnnotation : removedAnnotations) {
+                removals.add(normalize(removedAnnotation.trim()));
+            }
+        }
+
+        return new TimedVisitor(this, fileTimings, new JavaVisitor<ExecutionContext>() {
+            @Override
+            public @Nullable J visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof JavaSourceFile)) {
+                    return (J) tree;
+                }
+                JavaSourceFile sourceFile = (JavaSourceFile) tree;
+                Set<String> used = new HashSet<>();
+                for (JavaType type : sourceFile.getTypesInUse().getTypesInUse()) {
+                    if (type instanceof JavaType.FullyQualified) {
+                        String fqn = normalize(((JavaType.FullyQualified) type).getFullyQualifiedName());
+                        if (changes.containsKey(fqn) || removals.contains(fqn)) {
+                            used.add(fqn);
+                        }
+                    }
+                }
+                for (J.Import anImport : sourceFile.getImports()) {
+                    String fqn = normalize(anImport.getTypeName());
+                    if (changes.containsKey(fqn) || removals.contains(fqn)) {
+                        used.add(fqn);
+                    }
+                }
+                if (used.isEmpty()) {
+                    return sourceFile;
+                }
+
+                J j = sourceFile;
+                for (String removal : removals) {
+                    if (used.contains(removal)) {
+                        j = new RemoveAnnotationVisitor(new AnnotationMatcher("@" + removal)).visitNonNull(j, ctx);
+                    }
+                }
+                for (Map.Entry<String, String[]> change : changes.entrySet()) {
+                    if (used.contains(change.getKey())) {
+                        j = (J) new ChangeType(change.getValue()[0], change.getValue()[1], null).getVisitor().visitNonNull(j, ctx);
+                    }
+                }
+                return j;
+            }
+        });
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
+    }
+
+    private static String normalize(String fullyQualifiedName) {
+        return fullyQualifiedName.replace('$', '.');
+    }
+}
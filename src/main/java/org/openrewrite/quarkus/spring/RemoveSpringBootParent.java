@@ -22,6 +22,8 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.maven.MavenIsoVisitor;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
 import org.openrewrite.xml.tree.Xml;
 
 @Value
@@ -32,9 +34,13 @@ public class RemoveSpringBootParent extends Recipe {
 
     String description = "Removes the Spring Boot 3.x starter parent POM from Maven projects.";
 
+    transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new MavenIsoVisitor<ExecutionContext>() {
+        return new TimedVisitor(this, fileTimings, new MavenIsoVisitor<ExecutionContext>() {
 
             @Override
             public  Xml.@Nullable Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
@@ -60,6 +66,11 @@ public class RemoveSpringBootParent extends Recipe {
                        "spring-boot-starter-parent".equals(artifactId) &&
                        version.startsWith("3.");
             }
-        };
+        });
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
     }
 }
@@ -18,37 +18,127 @@ package org.openrewrite.quarkus.spring;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
-import org.openrewrite.ExecutionContext;
-import org.openrewrite.Preconditions;
-import org.openrewrite.Recipe;
-import org.openrewrite.TreeVisitor;
+import org.openrewrite.*;
 import org.openrewrite.java.*;
-import org.openrewrite.java.search.UsesType;
-import org.openrewrite.java.tree.Expression;
-import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 
 @Value
 @EqualsAndHashCode(callSuper = false)
+@ThreadSafeRecipe
 public class ResponseEntityToJaxRsResponse extends Recipe {
 
     public static final String RESPONSE_ENTITY_FQN = "org.springframework.http.ResponseEntity";
     public static final String RESPONSE_FQN = "jakarta.ws.rs.core.Response";
     public static final String HTTP_STATUS_FQN = "org.springframework.http.HttpStatus";
 
+    private static final String JAKARTA_WS_RS_API = "jakarta.ws.rs-api";
+    private static final String REST_RESPONSE_FQN = "org.jboss.resteasy.reactive.RestResponse";
+    private static final String RESPONSE_STATUS_FQN = "org.jboss.resteasy.reactive.ResponseStatus";
+    private static final String[] REST_RESPONSE_CLASSPATH = {"resteasy-reactive-common", JAKARTA_WS_RS_API};
+    private static final String SPRING_RESPONSE_STATUS_FQN = "org.springframework.web.bind.annotation.ResponseStatus";
+    private static final String MULTI_VALUE_MAP_FQN = "org.springframework.util.MultiValueMap";
+
+    private static final Set<String> ENDPOINT_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            "org.springframework.web.bind.annotation.RequestMapping",
+            "org.springframework.web.bind.annotation.GetMapping",
+            "org.springframework.web.bind.annotation.PostMapping",
+            "org.springframework.web.bind.annotation.PutMapping",
+            "org.springframework.web.bind.annotation.DeleteMapping",
+            "org.springframework.web.bind.annotation.PatchMapping",
+            "jakarta.ws.rs.GET",
+            "jakarta.ws.rs.POST",
+            "jakarta.ws.rs.PUT",
+            "jakarta.ws.rs.DELETE",
+            "jakarta.ws.rs.PATCH"));
+
+    /**
+     * The status codes of the {@code HttpStatus} constants that {@code RestResponse.Status} has under the same name.
+     */
+    private static final Map<String, Integer> STATUS_CODES = new LinkedHashMap<>();
+
+    /**
+     * The statuses of the {@code ResponseEntity} builders that have a shortcut.
+     */
+    private static final Map<String, String> STATUS_SHORTCUTS = new HashMap<>();
+
+    static {
+        String[] statuses = {
+                "OK:200", "CREATED:201", "ACCEPTED:202", "NO_CONTENT:204", "RESET_CONTENT:205", "PARTIAL_CONTENT:206",
+                "MOVED_PERMANENTLY:301", "FOUND:302", "SEE_OTHER:303", "NOT_MODIFIED:304", "TEMPORARY_REDIRECT:307",
+                "PERMANENT_REDIRECT:308", "BAD_REQUEST:400", "UNAUTHORIZED:401", "PAYMENT_REQUIRED:402", "FORBIDDEN:403",
+                "NOT_FOUND:404", "METHOD_NOT_ALLOWED:405", "NOT_ACCEPTABLE:406", "PROXY_AUTHENTICATION_REQUIRED:407",
+                "REQUEST_TIMEOUT:408", "CONFLICT:409", "GONE:410", "LENGTH_REQUIRED:411", "PRECONDITION_FAILED:412",
+                "UNSUPPORTED_MEDIA_TYPE:415", "REQUESTED_RANGE_NOT_SATISFIABLE:416", "EXPECTATION_FAILED:417",
+                "PRECONDITION_REQUIRED:428", "TOO_MANY_REQUESTS:429", "REQUEST_HEADER_FIELDS_TOO_LARGE:431",
+                "INTERNAL_SERVER_ERROR:500", "NOT_IMPLEMENTED:501", "BAD_GATEWAY:502", "SERVICE_UNAVAILABLE:503",
+                "GATEWAY_TIMEOUT:504", "HTTP_VERSION_NOT_SUPPORTED:505", "NETWORK_AUTHENTICATION_REQUIRED:511"
+        };
+        for (String status : statuses) {
+            String[] nameAndCode = status.split(":");
+            STATUS_CODES.put(nameAndCode[0], Integer.parseInt(nameAndCode[1]));
+        }
+        STATUS_SHORTCUTS.put("ok", "OK");
+        STATUS_SHORTCUTS.put("accepted", "ACCEPTED");
+        STATUS_SHORTCUTS.put("noContent", "NO_CONTENT");
+        STATUS_SHORTCUTS.put("badRequest", "BAD_REQUEST");
+        STATUS_SHORTCUTS.put("notFound", "NOT_FOUND");
+        STATUS_SHORTCUTS.put("internalServerError", "INTERNAL_SERVER_ERROR");
+    }
+
     private static final MethodMatcher RESPONSE_ENTITY_OK = new MethodMatcher("org.springframework.http.ResponseEntity ok(..)");
     private static final MethodMatcher RESPONSE_ENTITY_NOT_FOUND = new MethodMatcher("org.springframework.http.ResponseEntity notFound()");
     private static final MethodMatcher RESPONSE_ENTITY_STATUS = new MethodMatcher("org.springframework.http.ResponseEntity status(..)");
     private static final MethodMatcher BODY_METHOD = new MethodMatcher("org.springframework.http.ResponseEntity$* body(..)");
+    private static final MethodMatcher BUILD_METHOD = new MethodMatcher("org.springframework.http.ResponseEntity$* build()");
+
+    @Option(displayName = "Direct return",
+            description = "Whether endpoints that only return static status codes stop returning a `Response`, so that Quarkus " +
+                          "REST serializes their bodies with the writers it generates at build time. Endpoints that only " +
+                          "return a body with one status return the body itself, with `@ResponseStatus` for statuses other " +
+                          "than 200, and endpoints returning several statuses return a `RestResponse`. As Quarkus REST " +
+                          "responds with 204 to a `null` body returned directly, only bodies that cannot be `null`, such as " +
+                          "new objects, are returned directly, and others go in a `RestResponse`. Projects whose classpath " +
+                          "holds the Spring web annotations without Project Reactor migrate to RESTEasy Classic, so they " +
+                          "keep the `Response`. This changes the return types of the endpoint methods, and Java code " +
+                          "calling them, such as tests reading the body of the `ResponseEntity`, is left for you to update.",
+            required = false)
+    @Nullable
+    Boolean directReturn;
 
     String displayName = "Convert Spring `ResponseEntity` to JAX-RS `Response`";
 
     String description = "Transforms Spring `ResponseEntity` patterns to JAX-RS `Response` API equivalents.";
 
+    transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>(RESPONSE_ENTITY_FQN, false), new JavaIsoVisitor<ExecutionContext>() {
+        return new TimedVisitor(this, fileTimings, Preconditions.check(new UsesSpring(SpringUsage.RESPONSE_ENTITY), new JavaIsoVisitor<ExecutionContext>() {
             private final ChangeType changeType = new ChangeType(RESPONSE_ENTITY_FQN, RESPONSE_FQN, false);
 
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                // RestResponse and @ResponseStatus are Quarkus REST types, which RESTEasy Classic projects do not get
+                if (Boolean.TRUE.equals(directReturn) &&
+                    !Boolean.FALSE.equals(ReactorUsage.isReactive(getCursor().firstEnclosingOrThrow(JavaSourceFile.class), ctx))) {
+                    J.MethodDeclaration direct = toDirectReturn(method, ctx);
+                    if (direct != null) {
+                        return super.visitMethodDeclaration(direct, ctx);
+                    }
+                }
+                return super.visitMethodDeclaration(method, ctx);
+            }
+
             @Override
             public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
                 J.CompilationUnit c = super.visitCompilationUnit(cu, ctx);
@@ -64,42 +154,28 @@ public class ResponseEntityToJaxRsResponse extends Recipe {
 
                 if (RESPONSE_ENTITY_OK.matches(m)) {
                     if (m.getArguments().isEmpty()) {
-                        return JavaTemplate.builder("Response.ok()")
-                                .imports(RESPONSE_FQN)
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jakarta.ws.rs-api"))
-                                .build()
+                        return JavaTemplateCache.get(ctx, "Response.ok()", JAKARTA_WS_RS_API, RESPONSE_FQN)
                                 .apply(getCursor(), m.getCoordinates().replace());
                     }
-                    return JavaTemplate.builder("Response.ok(#{any()})")
-                            .imports(RESPONSE_FQN)
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jakarta.ws.rs-api"))
-                            .build()
+                    return JavaTemplateCache.get(ctx, "Response.ok(#{any()})", JAKARTA_WS_RS_API, RESPONSE_FQN)
                             .apply(getCursor(), m.getCoordinates().replace(), m.getArguments().get(0));
                 }
 
                 if (RESPONSE_ENTITY_NOT_FOUND.matches(m)) {
-                    return JavaTemplate.builder("Response.status(Response.Status.NOT_FOUND)")
-                            .imports(RESPONSE_FQN)
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jakarta.ws.rs-api"))
-                            .build()
+                    return JavaTemplateCache.get(ctx, "Response.status(Response.Status.NOT_FOUND)", JAKARTA_WS_RS_API, RESPONSE_FQN)
                             .apply(getCursor(), m.getCoordinates().replace());
                 }
 
                 if (RESPONSE_ENTITY_STATUS.matches(m) && !m.getArguments().isEmpty()) {
                     String statusMapping = mapHttpStatusToResponseStatus(m.getArguments().get(0));
                     if (statusMapping != null) {
-                        return JavaTemplate.builder("Response.status(" + statusMapping + ")")
-                                .imports(RESPONSE_FQN)
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jakarta.ws.rs-api"))
-                                .build()
+                        return JavaTemplateCache.get(ctx, "Response.status(" + statusMapping + ")", JAKARTA_WS_RS_API, RESPONSE_FQN)
                                 .apply(getCursor(), m.getCoordinates().replace());
                     }
                 }
 
                 if (BODY_METHOD.matches(m)) {
-                    return JavaTemplate.builder("#{any()}.entity(#{any()})")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jakarta.ws.rs-api"))
-                            .build()
+                    return JavaTemplateCache.get(ctx, "#{any()}.entity(#{any()})", JAKARTA_WS_RS_API)
                             .apply(getCursor(),
                                     m.getCoordinates().replace(),
                                     m.getSelect(),
@@ -109,6 +185,100 @@ public class ResponseEntityToJaxRsResponse extends Recipe {
                 return m;
             }
 
+            /**
+             * Rewrites an endpoint returning a {@code ResponseEntity} built with static statuses only to return its body,
+             * or a {@code RestResponse} when it returns several statuses or no body.
+             */
+            private J.@Nullable MethodDeclaration toDirectReturn(J.MethodDeclaration method, ExecutionContext ctx) {
+                if (!isEndpoint(method) || method.getBody() == null ||
+                    !(method.getReturnTypeExpression() instanceof J.ParameterizedType)) {
+                    return null;
+                }
+                J.ParameterizedType returnType = (J.ParameterizedType) method.getReturnTypeExpression();
+                if (!TypeUtils.isOfClassType(returnType.getType(), RESPONSE_ENTITY_FQN) ||
+                    returnType.getTypeParameters() == null || returnType.getTypeParameters().size() != 1 ||
+                    !(returnType.getTypeParameters().get(0) instanceof TypeTree) ||
+                    returnType.getTypeParameters().get(0) instanceof J.Wildcard) {
+                    return null;
+                }
+                TypeTree entityType = (TypeTree) returnType.getTypeParameters().get(0);
+
+                List<StaticResponse> responses = new ArrayList<>();
+                AtomicBoolean convertible = new AtomicBoolean(true);
+                new ReturnVisitor<Integer>() {
+                    @Override
+                    public J.Return visitReturn(J.Return _return, Integer p) {
+                        StaticResponse response = _return.getExpression() == null ? null : staticResponse(_return.getExpression());
+                        if (response == null) {
+                            convertible.set(false);
+                        } else {
+                            responses.add(response);
+                        }
+                        return _return;
+                    }
+                }.visit(method.getBody(), 0);
+                if (!convertible.get() || responses.isEmpty()) {
+                    return null;
+                }
+
+                String status = responses.get(0).status;
+                // A body that turns out null would make Quarkus REST respond with 204, which a RestResponse does not
+                J.Block methodBody = method.getBody();
+                boolean bodyOnly = responses.stream().allMatch(r -> r.body != null && r.status.equals(status) &&
+                                                                    isNonNull(r.body, methodBody));
+                J.Block body = (J.Block) new ReturnVisitor<ExecutionContext>() {
+                    @Override
+                    public J.Return visitReturn(J.Return _return, ExecutionContext ctx) {
+                        // Every return statement was read as a static response above
+                        //noinspection DataFlowIssue
+                        StaticResponse response = staticResponse(_return.getExpression());
+                        if (bodyOnly) {
+                            //noinspection DataFlowIssue
+                            return _return.withExpression(response.body.withPrefix(_return.getExpression().getPrefix()));
+                        }
+                        String code = response.body == null ?
+                                "OK".equals(response.status) ? "RestResponse.ok()" :
+                                        "NO_CONTENT".equals(response.status) ? "RestResponse.noContent()" :
+                                                "NOT_FOUND".equals(response.status) ? "RestResponse.notFound()" :
+                                                        "RestResponse.status(RestResponse.Status." + response.status + ")" :
+                                "OK".equals(response.status) ? "RestResponse.ok(#{any()})" :
+                                        "RestResponse.status(RestResponse.Status." + response.status + ", #{any()})";
+                        Expression restResponse = JavaTemplateCache.get(ctx, code, REST_RESPONSE_CLASSPATH, REST_RESPONSE_FQN)
+                                .apply(new Cursor(getCursor(), _return.getExpression()),
+                                        _return.getExpression().getCoordinates().replace(),
+                                        response.body == null ? new Object[0] : new Object[]{response.body});
+                        return _return.withExpression(restResponse);
+                    }
+                }.visitNonNull(method.getBody(), ctx, new Cursor(getCursor().getParentOrThrow(), method));
+                // Anything else using the ResponseEntity, such as a lambda building one, keeps the Response
+                if (referencesResponseEntity(body)) {
+                    return null;
+                }
+
+                J.MethodDeclaration m = method.withBody(body);
+                JavaType.Method methodType = m.getMethodType();
+                if (bodyOnly) {
+                    m = m.withReturnTypeExpression((TypeTree) entityType.withPrefix(returnType.getPrefix()))
+                            .withMethodType(methodType == null ? null : methodType.withReturnType(entityType.getType()));
+                    if (!"OK".equals(status)) {
+                        maybeAddImport(RESPONSE_STATUS_FQN);
+                        m = JavaTemplateCache.get(ctx, "@ResponseStatus(" + STATUS_CODES.get(status) + ")",
+                                        REST_RESPONSE_CLASSPATH, RESPONSE_STATUS_FQN)
+                                .apply(updateCursor(m), m.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
+                    }
+                    return m;
+                }
+                maybeAddImport(REST_RESPONSE_FQN);
+                JavaType.FullyQualified restResponseClass = JavaType.ShallowClass.build(REST_RESPONSE_FQN);
+                JavaType.Parameterized restResponseType = new JavaType.Parameterized(null, restResponseClass,
+                        singletonList(entityType.getType()));
+                return m.withReturnTypeExpression(returnType
+                                .withClazz(new J.Identifier(Tree.randomId(), returnType.getClazz().getPrefix(), returnType.getClazz().getMarkers(),
+                                        emptyList(), restResponseClass.getClassName(), restResponseClass, null))
+                                .withType(restResponseType))
+                        .withMethodType(methodType == null ? null : methodType.withReturnType(restResponseType));
+            }
+
             private @Nullable String mapHttpStatusToResponseStatus(Expression statusExpr) {
                 if (statusExpr instanceof J.FieldAccess) {
                     J.FieldAccess fieldAccess = (J.FieldAccess) statusExpr;
@@ -128,6 +298,199 @@ public class ResponseEntityToJaxRsResponse extends Recipe {
                 }
                 return null;
             }
-        });
+        }));
+    }
+
+    private static boolean isEndpoint(J.MethodDeclaration method) {
+        boolean endpoint = false;
+        for (J.Annotation annotation : method.getLeadingAnnotations()) {
+            JavaType.FullyQualified type = TypeUtils.asFullyQualified(annotation.getType());
+            if (type == null) {
+                continue;
+            }
+            if (SPRING_RESPONSE_STATUS_FQN.equals(type.getFullyQualifiedName()) ||
+                RESPONSE_STATUS_FQN.equals(type.getFullyQualifiedName())) {
+                return false;
+            }
+            endpoint |= ENDPOINT_ANNOTATIONS.contains(type.getFullyQualifiedName());
+        }
+        return endpoint;
+    }
+
+    /**
+     * @return the static status and the body of a {@code ResponseEntity} such as {@code ResponseEntity.ok(body)},
+     * {@code ResponseEntity.status(HttpStatus.CREATED).body(body)}, {@code ResponseEntity.notFound().build()} or
+     * {@code new ResponseEntity<>(body, HttpStatus.ACCEPTED)}, or {@code null} for any other expression.
+     */
+    private static @Nullable StaticResponse staticResponse(Expression expression) {
+        if (expression instanceof J.NewClass) {
+            J.NewClass newClass = (J.NewClass) expression;
+            List<Expression> arguments = arguments(newClass.getArguments());
+            JavaType.Method constructor = newClass.getConstructorType();
+            if (!TypeUtils.isOfClassType(newClass.getType(), RESPONSE_ENTITY_FQN) || newClass.getBody() != null ||
+                constructor == null || arguments.isEmpty() || arguments.size() > 2 ||
+                TypeUtils.isOfClassType(constructor.getParameterTypes().get(0), MULTI_VALUE_MAP_FQN)) {
+                return null;
+            }
+            String status = status(arguments.get(arguments.size() - 1));
+            Expression body = arguments.size() == 2 ? arguments.get(0) : null;
+            return status == null || isNull(body) ? null : new StaticResponse(status, body);
+        }
+        if (!(expression instanceof J.MethodInvocation)) {
+            return null;
+        }
+        J.MethodInvocation mi = (J.MethodInvocation) expression;
+        List<Expression> arguments = arguments(mi.getArguments());
+        if (RESPONSE_ENTITY_OK.matches(mi) && arguments.size() == 1) {
+            return isNull(arguments.get(0)) ? null : new StaticResponse("OK", arguments.get(0));
+        }
+        boolean withBody = BODY_METHOD.matches(mi);
+        if (!(withBody || BUILD_METHOD.matches(mi)) || !(mi.getSelect() instanceof J.MethodInvocation)) {
+            return null;
+        }
+        J.MethodInvocation builder = (J.MethodInvocation) mi.getSelect();
+        List<Expression> builderArguments = arguments(builder.getArguments());
+        if (builder.getMethodType() == null || !TypeUtils.isOfClassType(builder.getMethodType().getDeclaringType(), RESPONSE_ENTITY_FQN)) {
+            return null;
+        }
+        String status = "status".equals(builder.getSimpleName()) && builderArguments.size() == 1 ? status(builderArguments.get(0)) :
+                builderArguments.isEmpty() ? STATUS_SHORTCUTS.get(builder.getSimpleName()) : null;
+        Expression body = withBody ? arguments.get(0) : null;
+        return status == null || isNull(body) ? null : new StaticResponse(status, body);
+    }
+
+    /**
+     * @return the name of a status given as an {@code HttpStatus} constant or a literal code.
+     */
+    private static @Nullable String status(Expression expression) {
+        if (expression instanceof J.Literal && ((J.Literal) expression).getValue() instanceof Integer) {
+            for (Map.Entry<String, Integer> status : STATUS_CODES.entrySet()) {
+                if (status.getValue().equals(((J.Literal) expression).getValue())) {
+                    return status.getKey();
+                }
+            }
+            return null;
+        }
+        JavaType.Variable field = expression instanceof J.FieldAccess ? ((J.FieldAccess) expression).getName().getFieldType() :
+                expression instanceof J.Identifier ? ((J.Identifier) expression).getFieldType() : null;
+        if (field != null && TypeUtils.isOfClassType(field.getOwner(), HTTP_STATUS_FQN) && STATUS_CODES.containsKey(field.getName())) {
+            return field.getName();
+        }
+        return null;
+    }
+
+    private static List<Expression> arguments(@Nullable List<Expression> arguments) {
+        List<Expression> nonEmpty = new ArrayList<>();
+        if (arguments != null) {
+            for (Expression argument : arguments) {
+                if (!(argument instanceof J.Empty)) {
+                    nonEmpty.add(argument);
+                }
+            }
+        }
+        return nonEmpty;
+    }
+
+    /**
+     * A {@code null} body makes Quarkus REST respond with 204, so such a response keeps its status.
+     */
+    private static boolean isNull(@Nullable Expression body) {
+        return body instanceof J.Literal && ((J.Literal) body).getValue() == null;
+    }
+
+    /**
+     * @return whether a body cannot be {@code null}, as it is a new object, a non-null literal or an operation, or a
+     * local variable only ever assigned one of these where it is declared.
+     */
+    private static boolean isNonNull(Expression body, J.Block methodBody) {
+        if (body instanceof J.NewClass || body instanceof J.NewArray || body instanceof J.Binary ||
+            body instanceof J.Literal && !isNull(body)) {
+            return true;
+        }
+        if (!(body instanceof J.Identifier) || ((J.Identifier) body).getFieldType() == null ||
+            ((J.Identifier) body).getFieldType().getOwner() instanceof JavaType.FullyQualified) {
+            return false;
+        }
+        String name = ((J.Identifier) body).getSimpleName();
+        AtomicBoolean initializedNonNull = new AtomicBoolean();
+        AtomicBoolean reassigned = new AtomicBoolean();
+        new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, Integer p) {
+                if (name.equals(variable.getSimpleName())) {
+                    Expression initializer = variable.getInitializer();
+                    initializedNonNull.set(initializer != null && !(initializer instanceof J.Identifier) &&
+                                           isNonNull(initializer, methodBody));
+                }
+                return super.visitVariable(variable, p);
+            }
+
+            @Override
+            public J.Assignment visitAssignment(J.Assignment assignment, Integer p) {
+                if (assignment.getVariable() instanceof J.Identifier &&
+                    name.equals(((J.Identifier) assignment.getVariable()).getSimpleName())) {
+                    reassigned.set(true);
+                }
+                return super.visitAssignment(assignment, p);
+            }
+        }.visit(methodBody, 0);
+        return initializedNonNull.get() && !reassigned.get();
+    }
+
+    private static boolean referencesResponseEntity(J tree) {
+        AtomicBoolean found = new AtomicBoolean();
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public @Nullable J visit(@Nullable Tree tree, AtomicBoolean found) {
+                if (found.get()) {
+                    return (J) tree;
+                }
+                if (tree instanceof TypedTree) {
+                    JavaType.FullyQualified type = TypeUtils.asFullyQualified(((TypedTree) tree).getType());
+                    if (type != null && (RESPONSE_ENTITY_FQN.equals(type.getFullyQualifiedName()) ||
+                                         type.getFullyQualifiedName().startsWith(RESPONSE_ENTITY_FQN + '$'))) {
+                        found.set(true);
+                        return (J) tree;
+                    }
+                }
+                return super.visit(tree, found);
+            }
+        }.visit(tree, found);
+        return found.get();
+    }
+
+    /**
+     * Visits the return statements of a method, but not those of the lambdas and classes declared in it.
+     */
+    private static class ReturnVisitor<P> extends JavaIsoVisitor<P> {
+        @Override
+        public J.Lambda visitLambda(J.Lambda lambda, P p) {
+            return lambda;
+        }
+
+        @Override
+        public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, P p) {
+            return classDecl;
+        }
+
+        @Override
+        public J.NewClass visitNewClass(J.NewClass newClass, P p) {
+            return newClass.getBody() == null ? super.visitNewClass(newClass, p) : newClass;
+        }
+    }
+
+    private static class StaticResponse {
+        final String status;
+        final @Nullable Expression body;
+
+        StaticResponse(String status, @Nullable Expression body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
     }
 }
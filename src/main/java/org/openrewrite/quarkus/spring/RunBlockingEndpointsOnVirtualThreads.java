@@ -0,0 +1,190 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.marker.JavaProject;
+import org.openrewrite.java.marker.JavaVersion;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.maven.MavenIsoVisitor;
+import org.openrewrite.maven.tree.Dependency;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
+import org.openrewrite.xml.ChangeTagValueVisitor;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class RunBlockingEndpointsOnVirtualThreads extends ScanningRecipe<Set<UUID>> {
+
+    private static final int MINIMUM_JAVA_VERSION = 21;
+
+    /**
+     * Stands in for the project of source files without a {@link JavaProject} marker.
+     */
+    private static final UUID NO_PROJECT = new UUID(0, 0);
+
+    private static final List<String> ASYNCHRONOUS_RETURN_TYPES = Arrays.asList(
+            "io.smallrye.mutiny.Uni",
+            "io.smallrye.mutiny.Multi",
+            "org.reactivestreams.Publisher",
+            "java.util.concurrent.CompletionStage");
+
+    private static final Map<String, String> RESTEASY_CLASSIC_TO_QUARKUS_REST = new HashMap<>();
+
+    static {
+        RESTEASY_CLASSIC_TO_QUARKUS_REST.put("quarkus-resteasy", "quarkus-rest");
+        RESTEASY_CLASSIC_TO_QUARKUS_REST.put("quarkus-resteasy-jackson", "quarkus-rest-jackson");
+        RESTEASY_CLASSIC_TO_QUARKUS_REST.put("quarkus-resteasy-jsonb", "quarkus-rest-jsonb");
+    }
+
+    String displayName = "Run blocking endpoints on virtual threads";
+
+    String description = "On Java 21 or later, annotates HTTP endpoints that call blocking APIs, such as Spring Data or " +
+                         "Panache repositories, JDBC, `EntityManager` or `RestTemplate`, with `@RunOnVirtualThread`, so " +
+                         "that they are no longer bounded by the size of the worker thread pool. The RESTEasy Classic " +
+                         "extensions of projects with sources on Java 21 are replaced by Quarkus REST, which is required " +
+                         "for `@RunOnVirtualThread`, or removed when the project already depends on Quarkus REST. " +
+                         "Source files and projects on earlier Java versions are left unchanged.";
+
+    transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
+    @Override
+    public Set<UUID> getInitialValue(ExecutionContext ctx) {
+        return ConcurrentHashMap.newKeySet();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Set<UUID> projectsOnVirtualThreadCapableJava) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof JavaSourceFile && isOnVirtualThreadCapableJava((JavaSourceFile) tree)) {
+                    projectsOnVirtualThreadCapableJava.add(projectId(((JavaSourceFile) tree).getMarkers()));
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Set<UUID> projectsOnVirtualThreadCapableJava) {
+        if (projectsOnVirtualThreadCapableJava.isEmpty()) {
+            return TreeVisitor.noop();
+        }
+        TreeVisitor<?, ExecutionContext> endpoints = new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+                if (isAsynchronous(m) ||
+                    !BlockingEndpoints.isUndecidedEndpoint(m) ||
+                    !BlockingEndpoints.callsBlockingApi(m)) {
+                    return m;
+                }
+                maybeAddImport(BlockingEndpoints.RUN_ON_VIRTUAL_THREAD_FQN);
+                return JavaTemplateCache.get(ctx, "@RunOnVirtualThread", "smallrye-common-annotation",
+                                BlockingEndpoints.RUN_ON_VIRTUAL_THREAD_FQN)
+                        .apply(updateCursor(m), m.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
+            }
+        };
+        TreeVisitor<?, ExecutionContext> extensions = new MavenIsoVisitor<ExecutionContext>() {
+            @Override
+            public Xml.@Nullable Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+                Xml.Tag t = super.visitTag(tag, ctx);
+                for (Map.Entry<String, String> extension : RESTEASY_CLASSIC_TO_QUARKUS_REST.entrySet()) {
+                    if (isDependencyTag("io.quarkus", extension.getKey())) {
+                        maybeUpdateModel();
+                        if (dependsOn(extension.getValue())) {
+                            // Swapping would declare Quarkus REST twice
+                            return null;
+                        }
+                        t.getChild("artifactId").ifPresent(artifactId ->
+                                doAfterVisit(new ChangeTagValueVisitor<>(artifactId, extension.getValue())));
+                        break;
+                    }
+                }
+                return t;
+            }
+
+            private boolean dependsOn(String artifactId) {
+                for (Dependency requested : getResolutionResult().getPom().getRequestedDependencies()) {
+                    if ("io.quarkus".equals(requested.getGroupId()) && artifactId.equals(requested.getArtifactId())) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        };
+        return new TimedVisitor(this, fileTimings, new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof SourceFile) {
+                    // Whether a source file can run on virtual threads is its own, the Quarkus extensions are its project's
+                    if (tree instanceof JavaSourceFile) {
+                        return endpoints.isAcceptable((SourceFile) tree, ctx) && isOnVirtualThreadCapableJava((JavaSourceFile) tree) ?
+                                endpoints.visit(tree, ctx) : tree;
+                    }
+                    if (extensions.isAcceptable((SourceFile) tree, ctx) &&
+                        projectsOnVirtualThreadCapableJava.contains(projectId(((SourceFile) tree).getMarkers()))) {
+                        return extensions.visit(tree, ctx);
+                    }
+                }
+                return tree;
+            }
+        });
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
+    }
+
+    private static boolean isOnVirtualThreadCapableJava(JavaSourceFile sourceFile) {
+        return sourceFile.getMarkers().findFirst(JavaVersion.class)
+                .filter(javaVersion -> javaVersion.getMajorVersion() >= MINIMUM_JAVA_VERSION)
+                .isPresent();
+    }
+
+    private static UUID projectId(Markers markers) {
+        return markers.findFirst(JavaProject.class).map(JavaProject::getId).orElse(NO_PROJECT);
+    }
+
+    private static boolean isAsynchronous(J.MethodDeclaration method) {
+        JavaType.Method methodType = method.getMethodType();
+        if (methodType == null) {
+            return false;
+        }
+        for (String asynchronousType : ASYNCHRONOUS_RETURN_TYPES) {
+            if (TypeUtils.isAssignableTo(asynchronousType, methodType.getReturnType())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,364 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.ConstructorDetector;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedConstructor;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.marker.RecipesThatMadeChanges;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A {@link LargeSourceSet} that keeps only one Java LST in memory at a time, so that running
+ * {@code org.openrewrite.quarkus.spring.SpringBootToQuarkus} on a large repository does not need a heap proportional to
+ * its size.
+ * <p>
+ * Java source files are spooled to a directory as serialized LSTs as soon as they are added, with their type
+ * attribution, and their markers are kept in memory. Every {@link #edit(UnaryOperator)} reads them back one by one,
+ * passes each file through the whole recipe stack and spools the files it changed again, deleting the version it
+ * superseded unless that is the initial one, which the changeset compares against. Because each file goes through
+ * every recipe before the next one is read, the order of the composite's {@code recipeList} is respected, and scanning
+ * recipes still see every file before any file is edited. Build files, properties and other non-Java sources are few
+ * and stay in memory.
+ * <p>
+ * As spooled files are never parsed again, they keep the types the original parser attributed, including those
+ * declared in other source files of the project, and a file that cannot be serialized or read back fails the run
+ * rather than being dropped.
+ */
+public class SpoolingLargeSourceSet implements LargeSourceSet {
+
+    private final Spool spool;
+
+    private final @Nullable SpoolingLargeSourceSet initialState;
+
+    private final List<SourceFile> inMemory;
+
+    private final List<SpooledSourceFile> spooled;
+
+    private final Map<UUID, List<Recipe>> deletions;
+
+    private List<Recipe> currentRecipeStack = emptyList();
+
+    /**
+     * @param spoolDirectory an existing directory to spool Java source files to, owned by the caller.
+     * @param sourceFiles    the source files, which may be parsed lazily while they are being added.
+     */
+    public SpoolingLargeSourceSet(Path spoolDirectory, Iterable<? extends SourceFile> sourceFiles) {
+        this.spool = new Spool(spoolDirectory);
+        this.initialState = null;
+        this.inMemory = new ArrayList<>();
+        this.spooled = new ArrayList<>();
+        this.deletions = new LinkedHashMap<>();
+        for (SourceFile sourceFile : sourceFiles) {
+            if (sourceFile instanceof JavaSourceFile) {
+                spooled.add(spool.write(sourceFile));
+            } else {
+                inMemory.add(sourceFile);
+            }
+        }
+    }
+
+    private SpoolingLargeSourceSet(Spool spool, SpoolingLargeSourceSet initialState, List<SourceFile> inMemory,
+                                   List<SpooledSourceFile> spooled, Map<UUID, List<Recipe>> deletions) {
+        this.spool = spool;
+        this.initialState = initialState;
+        this.inMemory = inMemory;
+        this.spooled = spooled;
+        this.deletions = deletions;
+    }
+
+    @Override
+    public void setRecipe(List<Recipe> recipeStack) {
+        this.currentRecipeStack = recipeStack;
+    }
+
+    @Override
+    public LargeSourceSet edit(UnaryOperator<SourceFile> map) {
+        Map<UUID, List<Recipe>> edited = new LinkedHashMap<>(deletions);
+        List<SourceFile> editedInMemory = ListUtils.map(inMemory, before -> {
+            SourceFile after = map.apply(before);
+            if (after == null) {
+                edited.put(before.getId(), currentRecipeStack);
+            }
+            return after;
+        });
+
+        // The initial files are kept for the changeset, while the versions in between are superseded by the edit
+        Set<SpooledSourceFile> initialSpooled = Collections.newSetFromMap(new IdentityHashMap<>());
+        initialSpooled.addAll(getInitialState().spooled);
+        List<SpooledSourceFile> editedSpooled = new ArrayList<>(spooled.size());
+        for (SpooledSourceFile spooledBefore : spooled) {
+            SourceFile before = spool.read(spooledBefore);
+            SourceFile after = map.apply(before);
+            if (after == before) {
+                editedSpooled.add(spooledBefore);
+                continue;
+            }
+            if (after == null) {
+                edited.put(before.getId(), currentRecipeStack);
+            } else {
+                editedSpooled.add(spool.write(after));
+            }
+            if (!initialSpooled.contains(spooledBefore)) {
+                spool.delete(spooledBefore);
+            }
+        }
+
+        if (editedInMemory == inMemory && editedSpooled.equals(spooled) && edited.size() == deletions.size()) {
+            return this;
+        }
+        return new SpoolingLargeSourceSet(spool, getInitialState(), editedInMemory, editedSpooled, edited);
+    }
+
+    @Override
+    public LargeSourceSet generate(@Nullable Collection<? extends SourceFile> generated) {
+        if (generated == null || generated.isEmpty()) {
+            return this;
+        }
+        List<SourceFile> withGenerated = new ArrayList<>(inMemory);
+        List<SpooledSourceFile> withGeneratedSpooled = new ArrayList<>(spooled);
+        for (SourceFile sourceFile : generated) {
+            if (sourceFile instanceof JavaSourceFile) {
+                withGeneratedSpooled.add(spool.write(sourceFile));
+            } else {
+                withGenerated.add(sourceFile);
+            }
+        }
+        return new SpoolingLargeSourceSet(spool, getInitialState(), withGenerated, withGeneratedSpooled, deletions);
+    }
+
+    @Override
+    public Changeset getChangeset() {
+        SpoolingLargeSourceSet initial = getInitialState();
+        Map<UUID, SourceFile> initialInMemory = new HashMap<>();
+        for (SourceFile sourceFile : initial.inMemory) {
+            initialInMemory.put(sourceFile.getId(), sourceFile);
+        }
+        Map<UUID, SpooledSourceFile> initialSpooled = new HashMap<>();
+        for (SpooledSourceFile sourceFile : initial.spooled) {
+            initialSpooled.put(sourceFile.id, sourceFile);
+        }
+
+        List<Supplier<Result>> changes = new ArrayList<>();
+        for (SourceFile after : inMemory) {
+            SourceFile before = initialInMemory.get(after.getId());
+            if (before != after) {
+                changes.add(() -> new Result(before, after, recipesThatMadeChanges(after.getMarkers())));
+            }
+        }
+        for (SpooledSourceFile after : spooled) {
+            SpooledSourceFile before = initialSpooled.get(after.id);
+            if (before != after) {
+                changes.add(() -> new Result(before == null ? null : spool.read(before), spool.read(after),
+                        recipesThatMadeChanges(after.markers)));
+            }
+        }
+        for (Map.Entry<UUID, List<Recipe>> deletion : deletions.entrySet()) {
+            SourceFile inMemoryBefore = initialInMemory.get(deletion.getKey());
+            SpooledSourceFile spooledBefore = initialSpooled.get(deletion.getKey());
+            if (inMemoryBefore != null || spooledBefore != null) {
+                changes.add(() -> new Result(inMemoryBefore != null ? inMemoryBefore : spool.read(spooledBefore), null,
+                        singletonList(deletion.getValue())));
+            }
+        }
+
+        return new Changeset() {
+            @Override
+            public int size() {
+                return changes.size();
+            }
+
+            @Override
+            public List<Result> getPage(int start, int pageSize) {
+                return changes.subList(start, Math.min(start + pageSize, changes.size())).stream()
+                        .map(Supplier::get)
+                        .collect(toList());
+            }
+        };
+    }
+
+    @Override
+    public @Nullable SourceFile getBefore(Path sourcePath) {
+        SpoolingLargeSourceSet initial = getInitialState();
+        for (SourceFile sourceFile : initial.inMemory) {
+            if (sourceFile.getSourcePath().equals(sourcePath)) {
+                return sourceFile;
+            }
+        }
+        for (SpooledSourceFile sourceFile : initial.spooled) {
+            if (sourceFile.sourcePath.equals(sourcePath)) {
+                return spool.read(sourceFile);
+            }
+        }
+        return null;
+    }
+
+    private SpoolingLargeSourceSet getInitialState() {
+        return initialState == null ? this : initialState;
+    }
+
+    private static Collection<List<Recipe>> recipesThatMadeChanges(Markers markers) {
+        return markers.findFirst(RecipesThatMadeChanges.class)
+                .map(RecipesThatMadeChanges::getRecipes)
+                .orElse(emptyList());
+    }
+
+    private static class Spool {
+        /**
+         * Serializes trees, types and markers in the binary Smile format with the settings of rewrite's
+         * {@link RecipeSerializer}: through the fields that their constructors take, leaving out transient fields, and
+         * writing types referenced from several places of a source file once.
+         */
+        static final ObjectMapper MAPPER;
+
+        static {
+            MAPPER = JsonMapper.builder(new SmileFactory().configure(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES, true))
+                    .constructorDetector(ConstructorDetector.USE_PROPERTIES_BASED)
+                    .configure(MapperFeature.PROPAGATE_TRANSIENT_MARKER, true)
+                    .build()
+                    .registerModules(new ParameterNamesModule(), new JavaTimeModule(), new SimpleModule()
+                            // Source paths are relative, while Jackson writes paths as URIs resolved against the
+                            // working directory
+                            .addSerializer(Path.class, ToStringSerializer.instance)
+                            .addDeserializer(Path.class, new FromStringDeserializer<Path>(Path.class) {
+                                @Override
+                                protected Path _deserialize(String value, DeserializationContext ctxt) {
+                                    return Paths.get(value);
+                                }
+                            }))
+                    .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+            MAPPER.setVisibility(MAPPER.getSerializationConfig().getDefaultVisibilityChecker()
+                    .withCreatorVisibility(JsonAutoDetect.Visibility.PUBLIC_ONLY)
+                    .withGetterVisibility(JsonAutoDetect.Visibility.NONE)
+                    .withIsGetterVisibility(JsonAutoDetect.Visibility.NONE)
+                    .withFieldVisibility(JsonAutoDetect.Visibility.ANY));
+            MAPPER.setAnnotationIntrospector(AnnotationIntrospector.pair(new LargestPublicConstructorIntrospector(),
+                    MAPPER.getSerializationConfig().getAnnotationIntrospector()));
+        }
+
+        final Path directory;
+        final AtomicLong files = new AtomicLong();
+
+        Spool(Path directory) {
+            this.directory = directory;
+        }
+
+        SpooledSourceFile write(SourceFile sourceFile) {
+            Path file = directory.resolve(files.incrementAndGet() + ".lst");
+            try {
+                // The markers, such as the recipes that made changes, stay in memory
+                MAPPER.writeValue(file.toFile(), sourceFile.withMarkers(Markers.EMPTY));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to spool " + sourceFile.getSourcePath(), e);
+            }
+            return new SpooledSourceFile(sourceFile.getId(), sourceFile.getSourcePath(), file, sourceFile.getMarkers());
+        }
+
+        void delete(SpooledSourceFile sourceFile) {
+            try {
+                Files.delete(sourceFile.file);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to delete the spooled " + sourceFile.sourcePath, e);
+            }
+        }
+
+        SourceFile read(SpooledSourceFile sourceFile) {
+            try {
+                return MAPPER.readValue(sourceFile.file.toFile(), SourceFile.class).withMarkers(sourceFile.markers);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to read back " + sourceFile.sourcePath, e);
+            }
+        }
+    }
+
+    /**
+     * Unlike recipes, not every tree annotates its constructor with {@code @JsonCreator}, and some also have a private
+     * constructor taking their cached state. A tree without an annotated constructor is created through its public
+     * constructor with the most parameters.
+     */
+    private static class LargestPublicConstructorIntrospector extends NopAnnotationIntrospector {
+        @Override
+        public JsonCreator.@Nullable Mode findCreatorAnnotation(MapperConfig<?> config, Annotated a) {
+            if (!(a instanceof AnnotatedConstructor)) {
+                return null;
+            }
+            Constructor<?> constructor = ((AnnotatedConstructor) a).getAnnotated();
+            if (!Modifier.isPublic(constructor.getModifiers()) || constructor.getParameterCount() == 0) {
+                return null;
+            }
+            for (Constructor<?> other : constructor.getDeclaringClass().getDeclaredConstructors()) {
+                if (other.isAnnotationPresent(JsonCreator.class) ||
+                    Modifier.isPublic(other.getModifiers()) && other.getParameterCount() > constructor.getParameterCount()) {
+                    return null;
+                }
+            }
+            return JsonCreator.Mode.PROPERTIES;
+        }
+    }
+
+    private static class SpooledSourceFile {
+        final UUID id;
+        final Path sourcePath;
+        final Path file;
+        final Markers markers;
+
+        SpooledSourceFile(UUID id, Path sourcePath, Path file, Markers markers) {
+            this.id = id;
+            this.sourcePath = sourcePath;
+            this.file = file;
+            this.markers = markers;
+        }
+    }
+}
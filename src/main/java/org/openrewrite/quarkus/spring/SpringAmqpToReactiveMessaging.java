@@ -0,0 +1,391 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.quarkus.spring.MessagingChannelProperties.Mapping;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+import static org.openrewrite.quarkus.spring.MessagingChannelProperties.INCOMING;
+import static org.openrewrite.quarkus.spring.ReactiveMessaging.*;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class SpringAmqpToReactiveMessaging extends ScanningRecipe<ReactiveMessaging.Channels> {
+
+    private static final String RABBIT_LISTENER_FQN = "org.springframework.amqp.rabbit.annotation.RabbitListener";
+    private static final String AMQP_TEMPLATE_FQN = "org.springframework.amqp.core.AmqpTemplate";
+
+    private static final String[] SPRING_TYPES = {
+            AMQP_TEMPLATE_FQN, "org.springframework.amqp.rabbit.core.RabbitOperations",
+            "org.springframework.amqp.rabbit.core.RabbitTemplate"
+    };
+
+    private static final MethodMatcher SEND_TO_QUEUE = new MethodMatcher(AMQP_TEMPLATE_FQN + " convertAndSend(java.lang.String, java.lang.Object)", true);
+    private static final MethodMatcher SEND_TO_EXCHANGE = new MethodMatcher(AMQP_TEMPLATE_FQN + " convertAndSend(java.lang.String, java.lang.String, java.lang.Object)", true);
+
+    private static final String INCOMING_CHANNEL = "INCOMING_CHANNEL";
+    private static final String OUTGOING_CHANNEL = "OUTGOING_CHANNEL";
+    private static final String PAYLOAD_TYPE = "PAYLOAD_TYPE";
+
+    /**
+     * The Spring Boot properties of all listener containers, and the channel attributes they become.
+     */
+    private static final List<Mapping> PROPERTIES = Arrays.asList(
+            // The number of unacknowledged messages the broker delivers to a consumer, its basic.qos
+            new Mapping("spring.rabbitmq.listener.simple.prefetch", INCOMING, "max-outstanding-messages"),
+            new Mapping("spring.rabbitmq.listener.direct.prefetch", INCOMING, "max-outstanding-messages"),
+            // Channels run a fixed number of consumers, so a container scaling between two bounds keeps its upper one
+            new Mapping("spring.rabbitmq.listener.simple.concurrency", INCOMING, "concurrency",
+                    MessagingChannelProperties::number, MessagingChannelProperties::max),
+            new Mapping("spring.rabbitmq.listener.simple.max-concurrency", INCOMING, "concurrency",
+                    MessagingChannelProperties::number, MessagingChannelProperties::max),
+            new Mapping("spring.rabbitmq.listener.direct.consumers-per-queue", INCOMING, "concurrency",
+                    MessagingChannelProperties::number, MessagingChannelProperties::max));
+
+    String displayName = "Convert Spring AMQP listeners and templates to SmallRye Reactive Messaging";
+
+    String description = "Replaces `@RabbitListener` methods with `@Incoming` methods of a channel named after their queue, " +
+                         "and an injected `RabbitTemplate` whose `convertAndSend` calls all publish one type of payload to a " +
+                         "single exchange and routing key with an `Emitter` of an outgoing channel. The concurrency of the " +
+                         "listeners, and the `spring.rabbitmq.listener.*` prefetch and concurrency settings, become " +
+                         "`mp.messaging.incoming.<channel>.*` properties of the RabbitMQ connector, and the exchange and " +
+                         "routing key of the templates `mp.messaging.outgoing.<channel>.*` properties, in `application.properties`, " +
+                         "`application.yml`, or a new `application.properties` when the project has neither. Listeners with " +
+                         "placeholders, queue bindings, container factories or other parameters, templates used in any " +
+                         "other way, and all listeners and templates whose settings have no configuration file to go to, " +
+                         "are left unchanged.";
+
+    transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
+    @Override
+    public Channels getInitialValue(ExecutionContext ctx) {
+        // Outgoing channels always name their exchange and routing key
+        return new Channels("queue.name", null);
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Channels acc) {
+        TreeVisitor<?, ExecutionContext> java = new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                Set<SpringUsage> usages = SpringUsage.in(cu, ctx);
+                if (!usages.contains(SpringUsage.RABBIT_LISTENER) && !usages.contains(SpringUsage.RABBIT_TEMPLATE) &&
+                    !usages.contains(SpringUsage.AMQP_TEMPLATE)) {
+                    return cu;
+                }
+                acc.addSource(cu.getSourcePath());
+                Destination destination = sentDestination(cu);
+                if (destination != null) {
+                    Map<String, String> settings = new LinkedHashMap<>();
+                    // The connector reads a quoted empty name as the default exchange, which routes by queue name
+                    settings.put("exchange.name", destination.exchange.isEmpty() ? "\"\"" : destination.exchange);
+                    settings.put("default-routing-key", destination.routingKey);
+                    acc.addOutgoing(destination.name(), settings);
+                }
+                return super.visitCompilationUnit(cu, ctx);
+            }
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                Listener listener = listener(method);
+                if (listener != null) {
+                    acc.addIncoming(listener.queue, listener.settings);
+                }
+                return super.visitMethodDeclaration(method, ctx);
+            }
+        };
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof SourceFile) {
+                    acc.scan((SourceFile) tree);
+                    if (java.isAcceptable((SourceFile) tree, ctx)) {
+                        java.visit(tree, ctx);
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Channels acc, ExecutionContext ctx) {
+        return acc.isEmpty() ? emptyList() : MessagingChannelProperties.generate(acc);
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Channels acc) {
+        if (acc.isEmpty() || !acc.isConfigurable()) {
+            return TreeVisitor.noop();
+        }
+        TreeVisitor<?, ExecutionContext> java = Preconditions.check(
+                new UsesSpring(SpringUsage.RABBIT_LISTENER, SpringUsage.RABBIT_TEMPLATE, SpringUsage.AMQP_TEMPLATE),
+                new JavaVisitor<ExecutionContext>() {
+
+                    @Override
+                    public J visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                        Destination destination = sentDestination(cu);
+                        if (destination != null) {
+                            getCursor().putMessage(OUTGOING_CHANNEL, acc.outgoingChannel(destination.name()));
+                            getCursor().putMessage(PAYLOAD_TYPE, destination.payloadType);
+                            for (String springType : SPRING_TYPES) {
+                                maybeRemoveImport(springType);
+                            }
+                        }
+                        maybeRemoveImport(RABBIT_LISTENER_FQN);
+                        return super.visitCompilationUnit(cu, ctx);
+                    }
+
+                    @Override
+                    public J visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                        Listener listener = listener(method);
+                        if (listener != null && acc.isIncoming(listener.queue)) {
+                            getCursor().putMessage(INCOMING_CHANNEL, channel(listener.queue));
+                        }
+                        return super.visitMethodDeclaration(method, ctx);
+                    }
+
+                    @Override
+                    public J visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
+                        J.Annotation a = (J.Annotation) super.visitAnnotation(annotation, ctx);
+                        String channel = getCursor().getParentTreeCursor().getMessage(INCOMING_CHANNEL);
+                        if (channel == null || !TypeUtils.isOfClassType(a.getType(), RABBIT_LISTENER_FQN)) {
+                            return a;
+                        }
+                        maybeAddImport(INCOMING_FQN);
+                        return JavaTemplateCache.get(ctx, "@Incoming(\"" + channel + "\")",
+                                        "smallrye-reactive-messaging-api", INCOMING_FQN)
+                                .apply(getCursor(), a.getCoordinates().replace());
+                    }
+
+                    @Override
+                    public J visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                        J j = super.visitVariableDeclarations(multiVariable, ctx);
+                        String channel = getCursor().getNearestMessage(OUTGOING_CHANNEL);
+                        if (channel == null || !(j instanceof J.VariableDeclarations) ||
+                            !TypeUtils.isAssignableTo(AMQP_TEMPLATE_FQN, ((J.VariableDeclarations) j).getType())) {
+                            return j;
+                        }
+                        J.VariableDeclarations vd = (J.VariableDeclarations) j;
+                        JavaType.FullyQualified payloadType = getCursor().getNearestMessage(PAYLOAD_TYPE);
+                        //noinspection DataFlowIssue
+                        maybeAddImport(payloadType.getFullyQualifiedName());
+                        maybeAddImport(EMITTER_FQN);
+                        vd = toEmitter(vd, new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(),
+                                payloadType.getClassName(), payloadType, null));
+                        if (!isInjectionPoint(vd, getCursor())) {
+                            return vd;
+                        }
+                        maybeAddImport(CHANNEL_FQN);
+                        return JavaTemplateCache.get(ctx, "@Channel(\"" + channel + "\")",
+                                        "smallrye-reactive-messaging-api", CHANNEL_FQN)
+                                .apply(updateCursor(vd), vd.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
+                    }
+
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J j = super.visitMethodInvocation(method, ctx);
+                        if (getCursor().getNearestMessage(OUTGOING_CHANNEL) == null || !(j instanceof J.MethodInvocation)) {
+                            return j;
+                        }
+                        J.MethodInvocation mi = (J.MethodInvocation) j;
+                        if (!SEND_TO_QUEUE.matches(mi) && !SEND_TO_EXCHANGE.matches(mi)) {
+                            return mi;
+                        }
+                        // The exchange and routing key are those of the channel
+                        return JavaTemplateCache.get(ctx, "#{any(" + EMITTER_FQN + ")}.send(#{any()})",
+                                        "smallrye-reactive-messaging-api")
+                                .apply(getCursor(), mi.getCoordinates().replace(), mi.getSelect(),
+                                        mi.getArguments().get(mi.getArguments().size() - 1));
+                    }
+                });
+        TreeVisitor<?, ExecutionContext> configuration = MessagingChannelProperties.visitor(PROPERTIES, acc);
+        return new TimedVisitor(this, fileTimings, new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof SourceFile) {
+                    if (java.isAcceptable((SourceFile) tree, ctx)) {
+                        return java.visit(tree, ctx);
+                    }
+                    if (configuration.isAcceptable((SourceFile) tree, ctx)) {
+                        return configuration.visit(tree, ctx);
+                    }
+                }
+                return tree;
+            }
+        });
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
+    }
+
+    /**
+     * A {@code @RabbitListener} method that an {@code @Incoming} method of the channel of its queue can replace.
+     */
+    private static class Listener {
+        final String queue;
+
+        /**
+         * The attributes of the incoming channel that the annotation declares.
+         */
+        final Map<String, String> settings;
+
+        Listener(String queue, Map<String, String> settings) {
+            this.queue = queue;
+            this.settings = settings;
+        }
+    }
+
+    /**
+     * @return the listener of a method with a single {@code @RabbitListener} of a single literal queue, whose
+     * attributes all have a channel equivalent, and a single parameter receiving the payload.
+     */
+    private static @Nullable Listener listener(J.MethodDeclaration method) {
+        J.Annotation rabbitListener = null;
+        for (J.Annotation annotation : method.getLeadingAnnotations()) {
+            if (TypeUtils.isOfClassType(annotation.getType(), RABBIT_LISTENER_FQN)) {
+                if (rabbitListener != null) {
+                    return null;
+                }
+                rabbitListener = annotation;
+            }
+        }
+        if (rabbitListener == null || rabbitListener.getArguments() == null ||
+            !(method.getReturnTypeExpression() instanceof J.Primitive) ||
+            ((J.Primitive) method.getReturnTypeExpression()).getType() != JavaType.Primitive.Void ||
+            method.getParameters().size() != 1 || !(method.getParameters().get(0) instanceof J.VariableDeclarations)) {
+            return null;
+        }
+
+        String queue = null;
+        Map<String, String> settings = new LinkedHashMap<>();
+        for (Expression argument : rabbitListener.getArguments()) {
+            if (!(argument instanceof J.Assignment) || !(((J.Assignment) argument).getVariable() instanceof J.Identifier)) {
+                return null;
+            }
+            String attribute = ((J.Identifier) ((J.Assignment) argument).getVariable()).getSimpleName();
+            Expression value = ((J.Assignment) argument).getAssignment();
+            if ("queues".equals(attribute)) {
+                queue = singleLiteral(value);
+            } else if ("concurrency".equals(attribute)) {
+                // Either a fixed number of consumers, or the bounds the container scales between
+                String concurrency = literal(value);
+                if (concurrency == null || !concurrency.matches("\\d+(-\\d+)?")) {
+                    return null;
+                }
+                settings.put("concurrency", concurrency.substring(concurrency.indexOf('-') + 1));
+            } else if (!"id".equals(attribute) || literal(value) == null) {
+                return null;
+            }
+        }
+        if (queue == null || queue.isEmpty()) {
+            return null;
+        }
+
+        J.VariableDeclarations parameter = (J.VariableDeclarations) method.getParameters().get(0);
+        // Such as Spring's Message, a RabbitMQ Channel, or a batch the connector cannot deliver
+        JavaType.FullyQualified payloadType = TypeUtils.asFullyQualified(parameter.getType());
+        if (!parameter.getLeadingAnnotations().isEmpty() || payloadType == null ||
+            payloadType.getFullyQualifiedName().startsWith("org.springframework.") ||
+            payloadType.getFullyQualifiedName().startsWith("com.rabbitmq.") ||
+            TypeUtils.isAssignableTo("java.util.Collection", payloadType)) {
+            return null;
+        }
+        return new Listener(queue, settings);
+    }
+
+    /**
+     * The exchange and routing key that the templates of a source file publish to, and the type of their payloads.
+     */
+    private static class Destination {
+        /**
+         * Empty for the default exchange, which routes to the queue the routing key names.
+         */
+        final String exchange;
+
+        final String routingKey;
+
+        final JavaType.FullyQualified payloadType;
+
+        Destination(String exchange, String routingKey, JavaType.FullyQualified payloadType) {
+            this.exchange = exchange;
+            this.routingKey = routingKey;
+            this.payloadType = payloadType;
+        }
+
+        String name() {
+            return exchange.isEmpty() ? routingKey : exchange + "." + routingKey;
+        }
+    }
+
+    /**
+     * @return the destination of the templates of a source file, when they all publish one type of payload to the same
+     * exchange and routing key, and emitters can replace the templates.
+     */
+    private static @Nullable Destination sentDestination(J.CompilationUnit cu) {
+        Set<List<String>> destinations = new HashSet<>();
+        Map<String, JavaType.FullyQualified> payloadTypes = new HashMap<>();
+        boolean convertible = isOnlyInjected(cu, AMQP_TEMPLATE_FQN,
+                vd -> true,
+                cursor -> {
+                    J.MethodInvocation send = cursor.getValue();
+                    List<Expression> args = send.getArguments();
+                    String exchange;
+                    String routingKey;
+                    if (SEND_TO_QUEUE.matches(send)) {
+                        exchange = "";
+                        routingKey = literal(args.get(0));
+                    } else if (SEND_TO_EXCHANGE.matches(send)) {
+                        exchange = literal(args.get(0));
+                        routingKey = literal(args.get(1));
+                    } else {
+                        return false;
+                    }
+                    // A payload type that the emitter can be declared with, and an import can name
+                    JavaType.FullyQualified type = TypeUtils.asFullyQualified(args.get(args.size() - 1).getType());
+                    if (exchange == null || routingKey == null || routingKey.isEmpty() || type == null ||
+                        type instanceof JavaType.Parameterized || !type.getTypeParameters().isEmpty() ||
+                        type.getOwningClass() != null || TypeUtils.isObject(type)) {
+                        return false;
+                    }
+                    destinations.add(Arrays.asList(exchange, routingKey));
+                    payloadTypes.putIfAbsent(type.getFullyQualifiedName(), type);
+                    return true;
+                });
+        if (!convertible || destinations.size() != 1 || payloadTypes.size() != 1) {
+            return null;
+        }
+        List<String> destination = destinations.iterator().next();
+        return new Destination(destination.get(0), destination.get(1), payloadTypes.values().iterator().next());
+    }
+}
@@ -23,18 +23,18 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
-import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.Space;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
 
 import java.util.List;
 
 @Value
 @EqualsAndHashCode(callSuper = false)
+@ThreadSafeRecipe
 public class SpringApplicationRunToQuarkusRun extends Recipe {
 
     private static final MethodMatcher SPRING_APPLICATION_RUN = new MethodMatcher("org.springframework.boot.SpringApplication run(..)", true);
@@ -43,9 +43,13 @@ public class SpringApplicationRunToQuarkusRun extends Recipe {
 
     String description = "Replace Spring Boot's `SpringApplication.run()` method calls with Quarkus's `Quarkus.run()`.";
 
+    transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesMethod<>(SPRING_APPLICATION_RUN), new JavaIsoVisitor<ExecutionContext>() {
+        return new TimedVisitor(this, fileTimings, Preconditions.check(new UsesSpring(SpringUsage.SPRING_APPLICATION_RUN), new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                         J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
@@ -53,10 +57,7 @@ public class SpringApplicationRunToQuarkusRun extends Recipe {
                             maybeRemoveImport("org.springframework.boot.SpringApplication");
                             maybeAddImport("io.quarkus.runtime.Quarkus");
                             // SpringApplication.run(AppClass.class, args) -> Quarkus.run(args)
-                            J.MethodInvocation quarkusRun = JavaTemplate.builder("Quarkus.run()")
-                                    .imports("io.quarkus.runtime.Quarkus")
-                                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "quarkus-core-3"))
-                                    .build()
+                            J.MethodInvocation quarkusRun = JavaTemplateCache.get(ctx, "Quarkus.run()", "quarkus-core-3", "io.quarkus.runtime.Quarkus")
                                     .apply(getCursor(), mi.getCoordinates().replace());
                             List<Expression> args = ListUtils.mapFirst(mi.getArguments(), arg -> null);
                             return quarkusRun.withArguments(ListUtils.mapFirst(args, arg -> arg.withPrefix(Space.EMPTY)));
@@ -64,6 +65,11 @@ public class SpringApplicationRunToQuarkusRun extends Recipe {
                         return mi;
                     }
                 }
-        );
+        ));
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
     }
 }
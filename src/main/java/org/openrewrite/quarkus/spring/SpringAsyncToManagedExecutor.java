@@ -0,0 +1,364 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.ChangeType;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+@ThreadSafeRecipe
+public class SpringAsyncToManagedExecutor extends Recipe {
+
+    private static final String ASYNC_FQN = "org.springframework.scheduling.annotation.Async";
+    private static final String MANAGED_EXECUTOR_FQN = "org.eclipse.microprofile.context.ManagedExecutor";
+    private static final String INJECT_FQN = "jakarta.inject.Inject";
+    private static final String COMPLETABLE_FUTURE_FQN = "java.util.concurrent.CompletableFuture";
+
+    private static final List<String> SPRING_EXECUTOR_TYPES = Arrays.asList(
+            "org.springframework.core.task.TaskExecutor",
+            "org.springframework.core.task.AsyncTaskExecutor",
+            "org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor");
+
+    private static final MethodMatcher COMPLETED_FUTURE = new MethodMatcher(COMPLETABLE_FUTURE_FQN + " completedFuture(..)");
+
+    private static final JavaType.FullyQualified MANAGED_EXECUTOR_TYPE = JavaType.ShallowClass.build(MANAGED_EXECUTOR_FQN);
+
+    private static final String EXECUTOR = "MANAGED_EXECUTOR";
+
+    String displayName = "Convert Spring `@Async` methods and task executors to `ManagedExecutor`";
+
+    String description = "Runs the bodies of Spring `@Async` methods that return `void` or `CompletableFuture` on an " +
+                         "injected MicroProfile Context Propagation `ManagedExecutor`, with `runAsync` or `supplyAsync`, " +
+                         "so that they stay asynchronous without Spring's proxies. Injected `TaskExecutor`, " +
+                         "`AsyncTaskExecutor` and `ThreadPoolTaskExecutor` fields and parameters become `ManagedExecutor`.";
+
+    transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new TimedVisitor(this, fileTimings, Preconditions.check(
+                new UsesSpring(SpringUsage.ASYNC, SpringUsage.TASK_EXECUTOR, SpringUsage.THREAD_POOL_TASK_EXECUTOR),
+                new JavaIsoVisitor<ExecutionContext>() {
+
+                    @Override
+                    public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                        J.CompilationUnit c = super.visitCompilationUnit(cu, ctx);
+                        // Once no declaration names a Spring executor type anymore, the references to the injected
+                        // executors, such as their calls and assignments, are retyped too
+                        for (String springExecutorType : SPRING_EXECUTOR_TYPES) {
+                            if (c != cu && !declares(c, springExecutorType)) {
+                                c = (J.CompilationUnit) new ChangeType(springExecutorType, MANAGED_EXECUTOR_FQN, false)
+                                        .getVisitor().visitNonNull(c, ctx, getCursor().getParentOrThrow());
+                            }
+                        }
+                        return c;
+                    }
+
+                    @Override
+                    public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                        J.ClassDeclaration cd = classDecl;
+                        boolean hasConvertibleMethods = false;
+                        for (Statement statement : cd.getBody().getStatements()) {
+                            if (statement instanceof J.MethodDeclaration && isConvertible((J.MethodDeclaration) statement)) {
+                                hasConvertibleMethods = true;
+                                break;
+                            }
+                        }
+                        if (!hasConvertibleMethods) {
+                            return super.visitClassDeclaration(cd, ctx);
+                        }
+
+                        J.Identifier executor = findExecutorField(cd);
+                        if (executor == null) {
+                            maybeAddImport(INJECT_FQN);
+                            maybeAddImport(MANAGED_EXECUTOR_FQN);
+                            cd = JavaTemplateCache.get(ctx, "@Inject\nManagedExecutor managedExecutor;",
+                                            new String[]{"jakarta.inject-api", "microprofile-context-propagation-api"}, INJECT_FQN, MANAGED_EXECUTOR_FQN)
+                                    .apply(getCursor(), cd.getBody().getCoordinates().firstStatement());
+                            executor = findExecutorField(cd);
+                        }
+                        getCursor().putMessage(EXECUTOR, executor);
+                        return super.visitClassDeclaration(cd, ctx);
+                    }
+
+                    @Override
+                    public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                        J.VariableDeclarations vd = super.visitVariableDeclarations(multiVariable, ctx);
+                        String springExecutorType = springExecutorType(vd);
+                        if (springExecutorType == null || !(vd.getTypeExpression() instanceof J.Identifier)) {
+                            return vd;
+                        }
+                        maybeRemoveImport(springExecutorType);
+                        maybeAddImport(MANAGED_EXECUTOR_FQN);
+                        J.Identifier typeExpression = (J.Identifier) vd.getTypeExpression();
+                        return vd
+                                .withTypeExpression(typeExpression.withSimpleName("ManagedExecutor").withType(MANAGED_EXECUTOR_TYPE))
+                                .withVariables(ListUtils.map(vd.getVariables(), v -> v.withName(retype(v.getName()))));
+                    }
+
+                    @Override
+                    public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                        J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+                        J.Identifier executor = getCursor().getNearestMessage(EXECUTOR);
+                        if (executor == null || !isConvertible(method)) {
+                            return m;
+                        }
+
+                        // Remove @Async, keeping the method's position if it was the only annotation
+                        Space asyncPrefix = m.getLeadingAnnotations().get(0).getPrefix();
+                        m = m.withLeadingAnnotations(ListUtils.map(m.getLeadingAnnotations(),
+                                a -> TypeUtils.isOfClassType(a.getType(), ASYNC_FQN) ? null : a));
+                        if (m.getLeadingAnnotations().isEmpty()) {
+                            m = m.withPrefix(asyncPrefix);
+                        }
+                        maybeRemoveImport(ASYNC_FQN);
+
+                        //noinspection DataFlowIssue
+                        J.Block body = m.getBody();
+                        boolean returnsFuture = !isVoid(m);
+                        if (returnsFuture) {
+                            body = unwrapCompletedFutures(body);
+                        }
+                        String code = returnsFuture ?
+                                "return #{any(" + MANAGED_EXECUTOR_FQN + ")}.supplyAsync(() -> {\nreturn null;\n});" :
+                                "#{any(" + MANAGED_EXECUTOR_FQN + ")}.runAsync(() -> {\n});";
+                        m = JavaTemplateCache.get(ctx, code, "microprofile-context-propagation-api")
+                                .apply(updateCursor(m), m.getCoordinates().replaceBody(), executor.withId(Tree.randomId()).withPrefix(Space.EMPTY));
+
+                        J.Block lambdaBody = body;
+                        //noinspection DataFlowIssue
+                        m = m.withBody(m.getBody().withStatements(ListUtils.mapFirst(m.getBody().getStatements(), statement -> {
+                            if (statement instanceof J.Return && ((J.Return) statement).getExpression() instanceof J.MethodInvocation) {
+                                J.Return r = (J.Return) statement;
+                                //noinspection DataFlowIssue
+                                return r.withExpression(withLambdaBody((J.MethodInvocation) r.getExpression(), lambdaBody));
+                            }
+                            if (statement instanceof J.MethodInvocation) {
+                                return withLambdaBody((J.MethodInvocation) statement, lambdaBody);
+                            }
+                            return statement;
+                        })));
+                        return autoFormat(m, ctx, getCursor().getParentOrThrow());
+                    }
+
+                    private J.MethodInvocation withLambdaBody(J.MethodInvocation executorCall, J.Block lambdaBody) {
+                        return executorCall.withArguments(ListUtils.mapFirst(executorCall.getArguments(),
+                                arg -> arg instanceof J.Lambda ? ((J.Lambda) arg).withBody(lambdaBody) : arg));
+                    }
+                }
+        ));
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
+    }
+
+    /**
+     * An {@code @Async} method can run its body on an executor when the body can move into a lambda unchanged: it
+     * throws no checked exceptions, does not reassign its parameters and, for a {@code CompletableFuture}, only
+     * returns {@code CompletableFuture.completedFuture(..)}.
+     */
+    private static boolean isConvertible(J.MethodDeclaration method) {
+        if (method.getBody() == null ||
+            (method.getThrows() != null && !method.getThrows().isEmpty()) ||
+            method.getLeadingAnnotations().stream().noneMatch(a -> TypeUtils.isOfClassType(a.getType(), ASYNC_FQN))) {
+            return false;
+        }
+        boolean returnsFuture;
+        if (isVoid(method)) {
+            returnsFuture = false;
+        } else if (method.getMethodType() != null &&
+                   TypeUtils.isOfClassType(method.getMethodType().getReturnType(), COMPLETABLE_FUTURE_FQN)) {
+            returnsFuture = true;
+        } else {
+            return false;
+        }
+
+        Set<String> parameters = new HashSet<>();
+        for (Statement parameter : method.getParameters()) {
+            if (parameter instanceof J.VariableDeclarations) {
+                for (J.VariableDeclarations.NamedVariable variable : ((J.VariableDeclarations) parameter).getVariables()) {
+                    parameters.add(variable.getSimpleName());
+                }
+            }
+        }
+        AtomicBoolean convertible = new AtomicBoolean(true);
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Assignment visitAssignment(J.Assignment assignment, AtomicBoolean c) {
+                checkParameterWrite(assignment.getVariable(), c);
+                return super.visitAssignment(assignment, c);
+            }
+
+            @Override
+            public J.AssignmentOperation visitAssignmentOperation(J.AssignmentOperation assignOp, AtomicBoolean c) {
+                checkParameterWrite(assignOp.getVariable(), c);
+                return super.visitAssignmentOperation(assignOp, c);
+            }
+
+            @Override
+            public J.Unary visitUnary(J.Unary unary, AtomicBoolean c) {
+                if (unary.getOperator().isModifying()) {
+                    checkParameterWrite(unary.getExpression(), c);
+                }
+                return super.visitUnary(unary, c);
+            }
+
+            @Override
+            public J.Return visitReturn(J.Return aReturn, AtomicBoolean c) {
+                if (returnsFuture && !isEnclosedInLambdaOrClass(getCursor()) &&
+                    !(aReturn.getExpression() instanceof J.MethodInvocation &&
+                      COMPLETED_FUTURE.matches((J.MethodInvocation) aReturn.getExpression()))) {
+                    c.set(false);
+                }
+                return super.visitReturn(aReturn, c);
+            }
+
+            private void checkParameterWrite(Expression variable, AtomicBoolean c) {
+                if (variable instanceof J.Identifier && parameters.contains(((J.Identifier) variable).getSimpleName())) {
+                    c.set(false);
+                }
+            }
+        }.visit(method.getBody(), convertible);
+        return convertible.get();
+    }
+
+    private static boolean isVoid(J.MethodDeclaration method) {
+        return method.getReturnTypeExpression() != null &&
+               method.getReturnTypeExpression().getType() == JavaType.Primitive.Void;
+    }
+
+    private static boolean isEnclosedInLambdaOrClass(Cursor cursor) {
+        return cursor.getParentTreeCursor().firstEnclosing(J.Lambda.class) != null ||
+               cursor.getParentTreeCursor().firstEnclosing(J.NewClass.class) != null ||
+               cursor.getParentTreeCursor().firstEnclosing(J.ClassDeclaration.class) != null;
+    }
+
+    /**
+     * Replaces {@code return CompletableFuture.completedFuture(value)} with {@code return value} for the body of a
+     * {@code supplyAsync} lambda.
+     */
+    private static J.Block unwrapCompletedFutures(J.Block body) {
+        return (J.Block) new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.Lambda visitLambda(J.Lambda lambda, Integer p) {
+                return lambda;
+            }
+
+            @Override
+            public J.NewClass visitNewClass(J.NewClass newClass, Integer p) {
+                return newClass;
+            }
+
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Integer p) {
+                return classDecl;
+            }
+
+            @Override
+            public J.Return visitReturn(J.Return aReturn, Integer p) {
+                Expression expression = aReturn.getExpression();
+                if (expression instanceof J.MethodInvocation && COMPLETED_FUTURE.matches((J.MethodInvocation) expression)) {
+                    Expression value = ((J.MethodInvocation) expression).getArguments().get(0);
+                    return aReturn.withExpression(value.withPrefix(expression.getPrefix()));
+                }
+                return aReturn;
+            }
+        }.visitNonNull(body, 0);
+    }
+
+    private static @Nullable String springExecutorType(J.VariableDeclarations vd) {
+        for (String springExecutorType : SPRING_EXECUTOR_TYPES) {
+            if (TypeUtils.isOfClassType(vd.getType(), springExecutorType)) {
+                // Only injection points, where Quarkus can provide the managed executor instead
+                for (J.VariableDeclarations.NamedVariable variable : vd.getVariables()) {
+                    if (variable.getInitializer() != null) {
+                        return null;
+                    }
+                }
+                return springExecutorType;
+            }
+        }
+        return null;
+    }
+
+    private static J.@Nullable Identifier findExecutorField(J.ClassDeclaration cd) {
+        for (Statement statement : cd.getBody().getStatements()) {
+            if (statement instanceof J.VariableDeclarations && !((J.VariableDeclarations) statement).hasModifier(J.Modifier.Type.Static)) {
+                J.VariableDeclarations field = (J.VariableDeclarations) statement;
+                if (TypeUtils.isOfClassType(field.getType(), MANAGED_EXECUTOR_FQN)) {
+                    return field.getVariables().get(0).getName();
+                }
+                if (springExecutorType(field) != null) {
+                    return retype(field.getVariables().get(0).getName());
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return whether a type name other than an import still refers to the type, as a declaration left unchanged does.
+     */
+    private static boolean declares(J.CompilationUnit cu, String fullyQualifiedName) {
+        return new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Import visitImport(J.Import anImport, AtomicBoolean found) {
+                return anImport;
+            }
+
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean found) {
+                if (identifier.getFieldType() == null && TypeUtils.isOfClassType(identifier.getType(), fullyQualifiedName)) {
+                    found.set(true);
+                }
+                return identifier;
+            }
+
+            @Override
+            public J.FieldAccess visitFieldAccess(J.FieldAccess fieldAccess, AtomicBoolean found) {
+                if (TypeUtils.isOfClassType(fieldAccess.getType(), fullyQualifiedName) &&
+                    fullyQualifiedName.equals(fieldAccess.toString())) {
+                    found.set(true);
+                }
+                return super.visitFieldAccess(fieldAccess, found);
+            }
+        }.reduce(cu, new AtomicBoolean()).get();
+    }
+
+    private static J.Identifier retype(J.Identifier name) {
+        JavaType.Variable fieldType = name.getFieldType();
+        return name
+                .withType(MANAGED_EXECUTOR_TYPE)
+                .withFieldType(fieldType == null ? null : fieldType.withType(MANAGED_EXECUTOR_TYPE));
+    }
+}
@@ -23,13 +23,12 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
-import org.openrewrite.java.JavaTemplate;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.trait.Annotated;
 import org.openrewrite.java.trait.Literal;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
 
 import java.util.Optional;
 
@@ -55,10 +54,14 @@ public class SpringBeanToCdiProduces extends Recipe {
 
     String description = "Transform Spring `@Bean` methods to CDI `@Produces` methods with appropriate scope annotations.";
 
+    transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
-                new UsesType<>(BEAN_FQN, false),
+        return new TimedVisitor(this, fileTimings, Preconditions.check(
+                new UsesSpring(SpringUsage.BEAN),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
@@ -81,10 +84,8 @@ public class SpringBeanToCdiProduces extends Recipe {
                         String template = createTemplate(
                                 beanAnnotation.getDefaultAttribute("name").map(Literal::getString).orElse(null),
                                 determineCdiScope(SCOPE_MATCHER.lower(getCursor()).findFirst().map(Annotated::getTree).orElse(null)));
-                        return JavaTemplate.builder(template)
-                                .imports(PRODUCES_FQN, APPLICATION_SCOPED_FQN, DEPENDENT_FQN, NAMED_FQN)
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jakarta.enterprise.cdi-api", "jakarta.inject-api"))
-                                .build()
+                        return JavaTemplateCache.get(ctx, template, new String[]{"jakarta.enterprise.cdi-api", "jakarta.inject-api"},
+                                        PRODUCES_FQN, APPLICATION_SCOPED_FQN, DEPENDENT_FQN, NAMED_FQN)
                                 .apply(getCursor(), m.getCoordinates().replaceAnnotations());
                     }
 
@@ -116,6 +117,11 @@ public class SpringBeanToCdiProduces extends Recipe {
 
                         return scopeValue != null && scopeValue.toLowerCase().contains("prototype") ? DEPENDENT : APPLICATION_SCOPED;
                     }
-                });
+                }));
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
     }
 }
@@ -0,0 +1,330 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.AnnotationMatcher;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.RemoveAnnotationVisitor;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+@ThreadSafeRecipe
+public class SpringCacheToQuarkusCache extends Recipe {
+
+    static final String CACHEABLE_FQN = "org.springframework.cache.annotation.Cacheable";
+    static final String CACHE_PUT_FQN = "org.springframework.cache.annotation.CachePut";
+    static final String CACHE_EVICT_FQN = "org.springframework.cache.annotation.CacheEvict";
+    static final String CACHE_CONFIG_FQN = "org.springframework.cache.annotation.CacheConfig";
+
+    private static final String CACHE_KEY_FQN = "io.quarkus.cache.CacheKey";
+
+    /**
+     * Attributes without a Quarkus equivalent. Annotations using them are left for manual migration.
+     */
+    private static final Set<String> UNSUPPORTED_ATTRIBUTES = new HashSet<>(Arrays.asList(
+            "condition", "unless", "keyGenerator", "cacheManager", "cacheResolver"));
+
+    /**
+     * SpEL keys naming a single parameter, by name or as {@code #p0} or {@code #a0}.
+     */
+    private static final Pattern PARAMETER_KEY = Pattern.compile("#(?:(?:p|a)(\\d+)|(\\w+))");
+
+    private static final String DEFAULT_CACHE_NAME = "DEFAULT_CACHE_NAME";
+
+    String displayName = "Convert Spring cache annotations to Quarkus cache annotations";
+
+    String description = "Converts `@Cacheable` to `@CacheResult`, and `@CachePut` and `@CacheEvict` to `@CacheInvalidate`, " +
+                         "or to `@CacheInvalidateAll` when all entries are evicted. A SpEL `key` naming a single parameter " +
+                         "becomes a `@CacheKey` on that parameter. When an invalidation's key cannot be expressed that " +
+                         "way, the whole cache is invalidated instead, so that no stale entry survives. Annotations using " +
+                         "`condition`, `unless`, a key generator or a custom cache manager are left unchanged.";
+
+    transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new TimedVisitor(this, fileTimings, Preconditions.check(
+                new UsesSpring(SpringUsage.CACHE_ANNOTATION),
+                new JavaIsoVisitor<ExecutionContext>() {
+
+                    @Override
+                    public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                        J.Annotation cacheConfig = null;
+                        for (J.Annotation annotation : classDecl.getLeadingAnnotations()) {
+                            if (TypeUtils.isOfClassType(annotation.getType(), CACHE_CONFIG_FQN)) {
+                                cacheConfig = annotation;
+                                List<Expression> names = cacheNames(annotation);
+                                if (names.size() == 1) {
+                                    getCursor().putMessage(DEFAULT_CACHE_NAME, names.get(0));
+                                }
+                            }
+                        }
+                        J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+                        if (cacheConfig == null || usesSpringCacheAnnotations(cd)) {
+                            return cd;
+                        }
+                        // Every method was converted, so the class-level defaults are no longer used
+                        maybeRemoveImport(CACHE_CONFIG_FQN);
+                        return (J.ClassDeclaration) new RemoveAnnotationVisitor(new AnnotationMatcher("@" + CACHE_CONFIG_FQN))
+                                .visitNonNull(cd, ctx, getCursor().getParentOrThrow());
+                    }
+
+                    @Override
+                    public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                        J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+
+                        List<Conversion> conversions = new ArrayList<>();
+                        for (J.Annotation annotation : m.getLeadingAnnotations()) {
+                            Conversion conversion = conversion(annotation, m);
+                            if (conversion != null) {
+                                conversions.add(conversion);
+                            }
+                        }
+                        if (conversions.isEmpty()) {
+                            return m;
+                        }
+
+                        // @CacheKey applies to all the cache annotations of a method, so they must agree on the key.
+                        // A cached result keeps its key, or is left unconverted, while an invalidation can fall back to
+                        // invalidating all entries.
+                        Set<String> keys = new HashSet<>();
+                        boolean cachesResult = false;
+                        for (Conversion conversion : conversions) {
+                            if ("CacheResult".equals(conversion.quarkusAnnotation)) {
+                                if (!cachesResult) {
+                                    keys.clear();
+                                }
+                                cachesResult = true;
+                                keys.add(conversion.keyParameter);
+                            } else if (!cachesResult && conversion.keyParameter != null) {
+                                keys.add(conversion.keyParameter);
+                            }
+                        }
+                        String keyParameter = keys.size() == 1 ? keys.iterator().next() : null;
+
+                        Map<UUID, Conversion> byAnnotation = new HashMap<>();
+                        for (Conversion conversion : conversions) {
+                            if ("CacheResult".equals(conversion.quarkusAnnotation)) {
+                                if (keys.size() > 1) {
+                                    continue;
+                                }
+                            } else if (conversion.keyParameter != null && !conversion.keyParameter.equals(keyParameter)) {
+                                conversion = conversion.withoutKey();
+                            }
+                            byAnnotation.put(conversion.annotation.getId(), conversion);
+                        }
+                        if (byAnnotation.isEmpty()) {
+                            return m;
+                        }
+                        m = m.withLeadingAnnotations(ListUtils.map(m.getLeadingAnnotations(), annotation -> {
+                            Conversion conversion = byAnnotation.get(annotation.getId());
+                            if (conversion == null) {
+                                return annotation;
+                            }
+                            maybeRemoveImport(conversion.springAnnotation);
+                            maybeAddImport("io.quarkus.cache." + conversion.quarkusAnnotation);
+                            J.Annotation quarkusAnnotation = JavaTemplateCache.get(ctx, "@" + conversion.quarkusAnnotation + "(cacheName = #{any(java.lang.String)})",
+                                            "quarkus-cache", "io.quarkus.cache." + conversion.quarkusAnnotation)
+                                    .apply(new Cursor(getCursor(), annotation), annotation.getCoordinates().replace(),
+                                            conversion.cacheName.<Expression>withId(Tree.randomId()));
+                            // The cache name keeps the spacing of the template rather than of the Spring annotation
+                            return quarkusAnnotation.withArguments(ListUtils.map(quarkusAnnotation.getArguments(), argument ->
+                                    argument instanceof J.Assignment ?
+                                            ((J.Assignment) argument).withAssignment(((J.Assignment) argument).getAssignment().withPrefix(Space.SINGLE_SPACE)) :
+                                            argument));
+                        }));
+
+                        if (keyParameter != null) {
+                            maybeAddImport(CACHE_KEY_FQN);
+                            m = m.withParameters(ListUtils.map(m.getParameters(), parameter -> {
+                                if (!(parameter instanceof J.VariableDeclarations) ||
+                                    !keyParameter.equals(((J.VariableDeclarations) parameter).getVariables().get(0).getSimpleName())) {
+                                    return parameter;
+                                }
+                                J.VariableDeclarations vd = (J.VariableDeclarations) parameter;
+                                return JavaTemplateCache.get(ctx, "@CacheKey", "quarkus-cache", CACHE_KEY_FQN)
+                                        .apply(new Cursor(getCursor(), vd), vd.getCoordinates().addAnnotation((a1, a2) -> 0));
+                            }));
+                        }
+                        return m;
+                    }
+
+                    private @Nullable Conversion conversion(J.Annotation annotation, J.MethodDeclaration method) {
+                        String springAnnotation;
+                        if (TypeUtils.isOfClassType(annotation.getType(), CACHEABLE_FQN)) {
+                            springAnnotation = CACHEABLE_FQN;
+                        } else if (TypeUtils.isOfClassType(annotation.getType(), CACHE_PUT_FQN)) {
+                            springAnnotation = CACHE_PUT_FQN;
+                        } else if (TypeUtils.isOfClassType(annotation.getType(), CACHE_EVICT_FQN)) {
+                            springAnnotation = CACHE_EVICT_FQN;
+                        } else {
+                            return null;
+                        }
+
+                        String key = null;
+                        boolean allEntries = false;
+                        if (annotation.getArguments() != null) {
+                            for (Expression argument : annotation.getArguments()) {
+                                if (!(argument instanceof J.Assignment)) {
+                                    continue;
+                                }
+                                J.Assignment assignment = (J.Assignment) argument;
+                                String attribute = ((J.Identifier) assignment.getVariable()).getSimpleName();
+                                if (UNSUPPORTED_ATTRIBUTES.contains(attribute)) {
+                                    return null;
+                                } else if ("key".equals(attribute)) {
+                                    if (!(assignment.getAssignment() instanceof J.Literal)) {
+                                        return null;
+                                    }
+                                    key = String.valueOf(((J.Literal) assignment.getAssignment()).getValue()).trim();
+                                } else if ("allEntries".equals(attribute)) {
+                                    allEntries = J.Literal.isLiteralValue(assignment.getAssignment(), true);
+                                }
+                            }
+                        }
+
+                        List<Expression> names = cacheNames(annotation);
+                        Expression cacheName;
+                        if (names.size() == 1) {
+                            cacheName = names.get(0);
+                        } else if (names.isEmpty()) {
+                            cacheName = getCursor().getNearestMessage(DEFAULT_CACHE_NAME);
+                            if (cacheName == null) {
+                                return null;
+                            }
+                        } else {
+                            // Quarkus cache annotations name a single cache
+                            return null;
+                        }
+
+                        boolean invalidation = !CACHEABLE_FQN.equals(springAnnotation);
+                        if (allEntries) {
+                            return new Conversion(annotation, springAnnotation, "CacheInvalidateAll", cacheName, null);
+                        }
+                        String keyParameter = null;
+                        if (key != null) {
+                            keyParameter = parameterNamed(key, method);
+                            if (keyParameter == null) {
+                                // The entry cannot be identified, so invalidate them all rather than leave it stale,
+                                // while a result cached under another key would not be found by Spring's key
+                                return invalidation ?
+                                        new Conversion(annotation, springAnnotation, "CacheInvalidateAll", cacheName, null) :
+                                        null;
+                            }
+                        }
+                        return new Conversion(annotation, springAnnotation, invalidation ? "CacheInvalidate" : "CacheResult",
+                                cacheName, keyParameter);
+                    }
+                }
+        ));
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
+    }
+
+    /**
+     * @return the {@code value} or {@code cacheNames} of a Spring cache annotation, as written.
+     */
+    static List<Expression> cacheNames(J.Annotation annotation) {
+        if (annotation.getArguments() == null) {
+            return Collections.emptyList();
+        }
+        for (Expression argument : annotation.getArguments()) {
+            Expression names = null;
+            if (argument instanceof J.Assignment) {
+                J.Assignment assignment = (J.Assignment) argument;
+                String attribute = ((J.Identifier) assignment.getVariable()).getSimpleName();
+                if ("value".equals(attribute) || "cacheNames".equals(attribute)) {
+                    names = assignment.getAssignment();
+                }
+            } else if (!(argument instanceof J.Empty)) {
+                names = argument;
+            }
+            if (names instanceof J.NewArray) {
+                List<Expression> initializer = ((J.NewArray) names).getInitializer();
+                return initializer == null ? Collections.emptyList() : ListUtils.map(initializer, e -> e instanceof J.Empty ? null : e);
+            } else if (names != null) {
+                return Collections.singletonList(names);
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    private static boolean usesSpringCacheAnnotations(J.ClassDeclaration cd) {
+        for (Statement statement : cd.getBody().getStatements()) {
+            if (statement instanceof J.MethodDeclaration) {
+                for (J.Annotation annotation : ((J.MethodDeclaration) statement).getLeadingAnnotations()) {
+                    if (TypeUtils.isOfClassType(annotation.getType(), CACHEABLE_FQN) ||
+                        TypeUtils.isOfClassType(annotation.getType(), CACHE_PUT_FQN) ||
+                        TypeUtils.isOfClassType(annotation.getType(), CACHE_EVICT_FQN)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static @Nullable String parameterNamed(String key, J.MethodDeclaration method) {
+        Matcher matcher = PARAMETER_KEY.matcher(key);
+        if (!matcher.matches()) {
+            return null;
+        }
+        List<String> parameters = new ArrayList<>();
+        for (Statement parameter : method.getParameters()) {
+            if (parameter instanceof J.VariableDeclarations) {
+                parameters.add(((J.VariableDeclarations) parameter).getVariables().get(0).getSimpleName());
+            }
+        }
+        if (matcher.group(1) != null) {
+            int index = Integer.parseInt(matcher.group(1));
+            return index < parameters.size() ? parameters.get(index) : null;
+        }
+        return parameters.contains(matcher.group(2)) ? matcher.group(2) : null;
+    }
+
+    @Value
+    private static class Conversion {
+        J.Annotation annotation;
+        String springAnnotation;
+        String quarkusAnnotation;
+        Expression cacheName;
+
+        @Nullable
+        String keyParameter;
+
+        Conversion withoutKey() {
+            // A key that cannot be applied leaves an invalidation unable to find its entry
+            return new Conversion(annotation, springAnnotation, "CacheInvalidateAll", cacheName, null);
+        }
+    }
+}
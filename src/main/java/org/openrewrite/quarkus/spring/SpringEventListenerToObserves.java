@@ -20,17 +20,17 @@ import lombok.Value;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
-import org.openrewrite.java.JavaTemplate;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.Space;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Value
 @EqualsAndHashCode(callSuper = false)
+@ThreadSafeRecipe
 public class SpringEventListenerToObserves extends Recipe {
 
     private static final String EVENT_LISTENER_FQN = "org.springframework.context.event.EventListener";
@@ -40,10 +40,14 @@ public class SpringEventListenerToObserves extends Recipe {
 
     String description = "Transforms Spring's @EventListener method annotation to CDI's @Observes parameter annotation pattern.";
 
+    transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
-                new UsesType<>(EVENT_LISTENER_FQN, false),
+        return new TimedVisitor(this, fileTimings, Preconditions.check(
+                new UsesSpring(SpringUsage.EVENT_LISTENER),
                 new JavaIsoVisitor<ExecutionContext>() {
 
                     @Override
@@ -95,15 +99,16 @@ public class SpringEventListenerToObserves extends Recipe {
                                 return param;
                             }
                             J.VariableDeclarations vd = (J.VariableDeclarations) param;
-                            return JavaTemplate.builder("@Observes")
-                                    .javaParser(JavaParser.fromJavaVersion()
-                                            .classpathFromResources(ctx, "jakarta.enterprise.cdi-api"))
-                                    .imports(OBSERVES_FQN)
-                                    .build()
+                            return JavaTemplateCache.get(ctx, "@Observes", "jakarta.enterprise.cdi-api", OBSERVES_FQN)
                                     .apply(new Cursor(getCursor(), vd), vd.getCoordinates().addAnnotation((a1, a2) -> 0));
                         }));
                     }
                 }
-        );
+        ));
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
     }
 }
@@ -22,16 +22,16 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
-import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.TypeTree;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
 
 @Value
 @EqualsAndHashCode(callSuper = false)
+@ThreadSafeRecipe
 public class SpringHealthIndicatorToQuarkus extends Recipe {
 
     private static final String HEALTH_INDICATOR_FQN = "org.springframework.boot.actuate.health.HealthIndicator";
@@ -51,10 +51,14 @@ public class SpringHealthIndicatorToQuarkus extends Recipe {
 
     String description = "Transforms Spring Boot Actuator `HealthIndicator` implementations to MicroProfile Health `HealthCheck` pattern used by Quarkus.";
 
+    transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
-                new UsesType<>(HEALTH_INDICATOR_FQN, false),
+        return new TimedVisitor(this, fileTimings, Preconditions.check(
+                new UsesSpring(SpringUsage.HEALTH_INDICATOR),
                 new JavaIsoVisitor<ExecutionContext>() {
 
                     @Override
@@ -92,11 +96,7 @@ public class SpringHealthIndicatorToQuarkus extends Recipe {
                                 .anyMatch(ann -> "Liveness".equals(ann.getSimpleName()) ||
                                         "Readiness".equals(ann.getSimpleName()));
                         if (!hasLiveness) {
-                            cd = JavaTemplate.builder("@Liveness")
-                                    .javaParser(JavaParser.fromJavaVersion()
-                                            .classpathFromResources(ctx, "microprofile-health-api"))
-                                    .imports(LIVENESS_FQN)
-                                    .build()
+                            cd = JavaTemplateCache.get(ctx, "@Liveness", "microprofile-health-api", LIVENESS_FQN)
                                     .apply(getCursor(), cd.getCoordinates().addAnnotation((a1, a2) -> 0));
                         }
 
@@ -104,11 +104,7 @@ public class SpringHealthIndicatorToQuarkus extends Recipe {
                         boolean hasApplicationScoped = cd.getLeadingAnnotations().stream()
                                 .anyMatch(ann -> "ApplicationScoped".equals(ann.getSimpleName()));
                         if (!hasApplicationScoped) {
-                            cd = JavaTemplate.builder("@ApplicationScoped")
-                                    .javaParser(JavaParser.fromJavaVersion()
-                                            .classpathFromResources(ctx, "jakarta.enterprise.cdi-api"))
-                                    .imports(APPLICATION_SCOPED_FQN)
-                                    .build()
+                            cd = JavaTemplateCache.get(ctx, "@ApplicationScoped", "jakarta.enterprise.cdi-api", APPLICATION_SCOPED_FQN)
                                     .apply(updateCursor(cd), cd.getCoordinates().addAnnotation((a1, a2) -> 0));
                         }
 
@@ -156,21 +152,13 @@ public class SpringHealthIndicatorToQuarkus extends Recipe {
 
                         // Health.up() -> HealthCheckResponse.up("name")
                         if (HEALTH_UP.matches(m)) {
-                            return JavaTemplate.builder("HealthCheckResponse.up(\"health\")")
-                                    .javaParser(JavaParser.fromJavaVersion()
-                                            .classpathFromResources(ctx, "microprofile-health-api"))
-                                    .imports(QUARKUS_HEALTH_RESPONSE_FQN)
-                                    .build()
+                            return JavaTemplateCache.get(ctx, "HealthCheckResponse.up(\"health\")", "microprofile-health-api", QUARKUS_HEALTH_RESPONSE_FQN)
                                     .apply(getCursor(), m.getCoordinates().replace());
                         }
 
                         // Health.down() -> HealthCheckResponse.down("name")
                         if (HEALTH_DOWN.matches(m)) {
-                            return JavaTemplate.builder("HealthCheckResponse.down(\"health\")")
-                                    .javaParser(JavaParser.fromJavaVersion()
-                                            .classpathFromResources(ctx, "microprofile-health-api"))
-                                    .imports(QUARKUS_HEALTH_RESPONSE_FQN)
-                                    .build()
+                            return JavaTemplateCache.get(ctx, "HealthCheckResponse.down(\"health\")", "microprofile-health-api", QUARKUS_HEALTH_RESPONSE_FQN)
                                     .apply(getCursor(), m.getCoordinates().replace());
                         }
 
@@ -188,6 +176,11 @@ public class SpringHealthIndicatorToQuarkus extends Recipe {
                         return m;
                     }
                 }
-        );
+        ));
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
     }
 }
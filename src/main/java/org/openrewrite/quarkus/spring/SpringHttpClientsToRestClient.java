@@ -0,0 +1,1158 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.properties.PropertiesIsoVisitor;
+import org.openrewrite.properties.tree.Properties;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
+
+import javax.lang.model.SourceVersion;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.openrewrite.quarkus.spring.ReactiveMessaging.isInjectionPoint;
+import static org.openrewrite.quarkus.spring.ReactiveMessaging.literal;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class SpringHttpClientsToRestClient extends ScanningRecipe<SpringHttpClientsToRestClient.Accumulator> {
+
+    private static final String REST_TEMPLATE_FQN = "org.springframework.web.client.RestTemplate";
+    private static final String WEB_CLIENT_FQN = "org.springframework.web.reactive.function.client.WebClient";
+    private static final String REGISTER_REST_CLIENT_FQN = "org.eclipse.microprofile.rest.client.inject.RegisterRestClient";
+    private static final String REST_CLIENT_FQN = "org.eclipse.microprofile.rest.client.inject.RestClient";
+    private static final String MONO_FQN = "reactor.core.publisher.Mono";
+    private static final String FLUX_FQN = "reactor.core.publisher.Flux";
+    private static final String UNI_FQN = "io.smallrye.mutiny.Uni";
+    private static final String MULTI_FQN = "io.smallrye.mutiny.Multi";
+    private static final String DURATION_FQN = "java.time.Duration";
+
+    private static final String CLIENT_TYPES = "CLIENT_TYPES";
+
+    private static final Pattern URL = Pattern.compile("(https?://[^/?#{}]+)?(/[^?#]*)?(?:\\?([^#]*))?");
+    private static final Pattern URI_VARIABLE = Pattern.compile("\\{([^{}]*)}");
+    private static final Pattern QUERY_VARIABLE = Pattern.compile("([A-Za-z0-9_.-]+)=\\{([^{}]*)}");
+
+    private static final String CONNECT_TIMEOUT = "quarkus.rest-client.connect-timeout";
+    private static final String READ_TIMEOUT = "quarkus.rest-client.read-timeout";
+    private static final String CONNECTION_POOL_SIZE = "quarkus.rest-client.connection-pool-size";
+    private static final String CONNECTION_TTL = "quarkus.rest-client.connection-ttl";
+    private static final String KEEP_ALIVE_ENABLED = "quarkus.rest-client.keep-alive-enabled";
+
+    /**
+     * The Spring Boot properties of the HTTP clients that Spring Boot's builders configure, and the Quarkus REST Client
+     * properties they become.
+     */
+    private static final Map<String, String> PROPERTIES = new HashMap<>();
+
+    /**
+     * The configuration methods of the request factories and connection pools behind a {@code RestTemplate} or a
+     * {@code WebClient}, by the type declaring them, and the Quarkus REST Client properties they become. These settings
+     * apply to all REST Clients, as they applied to all calls of a Spring HTTP client bean.
+     */
+    private static final Map<String, Map<String, String>> SETTINGS = new HashMap<>();
+
+    static {
+        PROPERTIES.put("spring.http.client.connect-timeout", CONNECT_TIMEOUT);
+        PROPERTIES.put("spring.http.client.read-timeout", READ_TIMEOUT);
+
+        Map<String, String> timeouts = new HashMap<>();
+        timeouts.put("setConnectTimeout", CONNECT_TIMEOUT);
+        timeouts.put("connectTimeout", CONNECT_TIMEOUT);
+        timeouts.put("setReadTimeout", READ_TIMEOUT);
+        timeouts.put("readTimeout", READ_TIMEOUT);
+        SETTINGS.put("org.springframework.boot.web.client.RestTemplateBuilder", timeouts);
+        SETTINGS.put("org.springframework.http.client.SimpleClientHttpRequestFactory", timeouts);
+        SETTINGS.put("org.springframework.http.client.HttpComponentsClientHttpRequestFactory", timeouts);
+        SETTINGS.put("org.springframework.http.client.JdkClientHttpRequestFactory", timeouts);
+        SETTINGS.put("org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager",
+                Collections.singletonMap("setMaxTotal", CONNECTION_POOL_SIZE));
+        SETTINGS.put("org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder",
+                Collections.singletonMap("setMaxConnTotal", CONNECTION_POOL_SIZE));
+        Map<String, String> connectionProvider = new HashMap<>();
+        connectionProvider.put("maxConnections", CONNECTION_POOL_SIZE);
+        connectionProvider.put("maxIdleTime", CONNECTION_TTL);
+        SETTINGS.put("reactor.netty.resources.ConnectionProvider$ConnectionPoolSpec", connectionProvider);
+        Map<String, String> httpClient = new HashMap<>();
+        httpClient.put("responseTimeout", READ_TIMEOUT);
+        httpClient.put("keepAlive", KEEP_ALIVE_ENABLED);
+        SETTINGS.put("reactor.netty.http.client.HttpClient", httpClient);
+    }
+
+    String displayName = "Convert `RestTemplate` and `WebClient` calls to Quarkus REST Client interfaces";
+
+    String description = "Generates a `@RegisterRestClient` interface for each base URL that injected `RestTemplate` and " +
+                         "`WebClient` instances call, with a method for each call, and injects it with `@RestClient` " +
+                         "instead. `getForObject`, `postForObject`, `put` and `delete` become blocking methods, and " +
+                         "`WebClient` requests returned as `Mono` or `Flux` become methods returning `Uni` or `Multi`. " +
+                         "Connect and read timeouts, connection pool sizes and keep-alive settings of Spring Boot's " +
+                         "`spring.http.client.*` properties, `RestTemplateBuilder`, the request factories and the Apache " +
+                         "and Reactor Netty connection pools become `quarkus.rest-client.*` properties. Source files using " +
+                         "a client in any other way, such as with exchanges, headers or URLs that are not literals, are " +
+                         "left unchanged.";
+
+    transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
+    static class Accumulator {
+        final Set<Path> sourcePaths = new HashSet<>();
+        final List<ClientUsage> usages = new ArrayList<>();
+        final Set<String> baseUrls = new HashSet<>();
+        final Map<String, String> settings = new TreeMap<>();
+        final Set<String> conflictingSettings = new HashSet<>();
+
+        final Map<String, RestClientInterface> interfaces = new LinkedHashMap<>();
+        final Map<Path, Map<String, String>> clientTypes = new HashMap<>();
+        final Map<UUID, RestClientMethod> calls = new HashMap<>();
+        final Set<UUID> reactiveMethods = new HashSet<>();
+        boolean planned;
+
+        void setting(String key, String value) {
+            String previous = settings.putIfAbsent(key, value);
+            if (previous != null && !previous.equals(value)) {
+                conflictingSettings.add(key);
+            }
+        }
+
+        /**
+         * Decides, once all source files are scanned, which base URL each client calls and so which interface it
+         * becomes, and names the interface methods.
+         */
+        void plan() {
+            if (planned) {
+                return;
+            }
+            planned = true;
+            settings.keySet().removeAll(conflictingSettings);
+            String rootUri = baseUrls.size() == 1 ? baseUrls.iterator().next().replaceAll("/+$", "") : null;
+            for (ClientUsage usage : usages) {
+                Map<String, String> baseUrlByClient = new HashMap<>();
+                boolean convertible = true;
+                for (Map.Entry<String, List<Call>> client : usage.calls.entrySet()) {
+                    Set<String> bases = new HashSet<>();
+                    for (Call call : client.getValue()) {
+                        bases.add(call.baseUrl != null ? call.baseUrl : String.valueOf(rootUri));
+                    }
+                    if (bases.size() != 1 || bases.contains("null")) {
+                        convertible = false;
+                        break;
+                    }
+                    baseUrlByClient.put(client.getKey(), bases.iterator().next());
+                }
+                if (!convertible) {
+                    continue;
+                }
+
+                Map<String, String> types = new HashMap<>();
+                for (Map.Entry<String, List<Call>> client : usage.calls.entrySet()) {
+                    String baseUrl = baseUrlByClient.get(client.getKey());
+                    RestClientInterface restClient = restClientInterface(usage, baseUrl);
+                    types.put(client.getKey(), restClient.fullyQualifiedName());
+                    for (Call call : client.getValue()) {
+                        calls.put(call.invocationId, restClient.method(call));
+                        if (call.reactiveMethodId != null) {
+                            reactiveMethods.add(call.reactiveMethodId);
+                        }
+                    }
+                }
+                for (Map.Entry<String, String> alias : usage.aliases.entrySet()) {
+                    types.put(alias.getKey(), types.get(alias.getValue()));
+                }
+                clientTypes.put(usage.sourcePath, types);
+            }
+        }
+
+        private RestClientInterface restClientInterface(ClientUsage usage, String baseUrl) {
+            RestClientInterface existing = interfaces.get(usage.packageName + '|' + baseUrl);
+            if (existing != null) {
+                return existing;
+            }
+            String name = serviceName(baseUrl);
+            String simpleName = name + "Client";
+            for (int i = 2; isTaken(usage, simpleName); i++) {
+                simpleName = name + i + "Client";
+            }
+            RestClientInterface restClient = new RestClientInterface(usage.packageName, simpleName,
+                    configKey(simpleName.substring(0, simpleName.length() - "Client".length())), baseUrl,
+                    usage.sourcePath.resolveSibling(simpleName + ".java"));
+            interfaces.put(usage.packageName + '|' + baseUrl, restClient);
+            return restClient;
+        }
+
+        private boolean isTaken(ClientUsage usage, String simpleName) {
+            if (sourcePaths.contains(usage.sourcePath.resolveSibling(simpleName + ".java"))) {
+                return true;
+            }
+            for (RestClientInterface restClient : interfaces.values()) {
+                if (restClient.packageName.equals(usage.packageName) && restClient.simpleName.equals(simpleName)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The calls of the injected HTTP clients of a source file, by the name of the field holding the client.
+     */
+    static class ClientUsage {
+        final Path sourcePath;
+        final String packageName;
+        final Map<String, List<Call>> calls;
+
+        /**
+         * The constructor parameters that are assigned to a client field, by their name.
+         */
+        final Map<String, String> aliases;
+
+        ClientUsage(Path sourcePath, String packageName, Map<String, List<Call>> calls, Map<String, String> aliases) {
+            this.sourcePath = sourcePath;
+            this.packageName = packageName;
+            this.calls = calls;
+            this.aliases = aliases;
+        }
+    }
+
+    /**
+     * A {@code RestTemplate} call or {@code WebClient} request that a REST Client method can make.
+     */
+    static class Call {
+        final UUID invocationId;
+        final String httpMethod;
+        final @Nullable String baseUrl;
+        final String path;
+
+        /**
+         * The URI variables in the order Spring expands them, and the names of the query parameters they are the values
+         * of, or {@code null} for path variables.
+         */
+        final List<String> variableNames = new ArrayList<>();
+        final List<@Nullable String> queryParameters = new ArrayList<>();
+        final List<Expression> variables;
+        final @Nullable Expression body;
+        final @Nullable JavaType responseType;
+
+        /**
+         * {@link #UNI_FQN} or {@link #MULTI_FQN} for a {@code WebClient} request, {@code null} for a blocking call.
+         */
+        final @Nullable String reactiveType;
+
+        final Expression client;
+        final String callerName;
+        @Nullable UUID reactiveMethodId;
+
+        Call(UUID invocationId, String httpMethod, @Nullable String baseUrl, String path, List<Expression> variables,
+             @Nullable Expression body, @Nullable JavaType responseType, @Nullable String reactiveType, Expression client,
+             String callerName) {
+            this.invocationId = invocationId;
+            this.httpMethod = httpMethod;
+            this.baseUrl = baseUrl;
+            this.path = path;
+            this.variables = variables;
+            this.body = body;
+            this.responseType = responseType;
+            this.reactiveType = reactiveType;
+            this.client = client;
+            this.callerName = callerName;
+        }
+
+        List<Expression> arguments() {
+            return body == null ? variables : ListUtils.concat(variables, body);
+        }
+
+        List<String> parameterNames() {
+            return body == null ? variableNames : ListUtils.concat(variableNames, "body");
+        }
+
+        @Nullable JavaType returnType() {
+            if (reactiveType == null || responseType == null) {
+                return responseType;
+            }
+            return new JavaType.Parameterized(null, JavaType.ShallowClass.build(reactiveType), singletonList(responseType));
+        }
+    }
+
+    /**
+     * A method of a generated REST Client interface.
+     */
+    static class RestClientMethod {
+        final String interfaceName;
+        final String name;
+
+        RestClientMethod(String interfaceName, String name) {
+            this.interfaceName = interfaceName;
+            this.name = name;
+        }
+    }
+
+    /**
+     * A generated {@code @RegisterRestClient} interface, calling one base URL for the clients of one package.
+     */
+    static class RestClientInterface {
+        final String packageName;
+        final String simpleName;
+        final String configKey;
+        final String baseUrl;
+        final Path sourcePath;
+        final Set<String> imports = new TreeSet<>();
+        final Map<String, String> importedSimpleNames = new HashMap<>();
+        final Map<String, RestClientMethod> methodsBySignature = new HashMap<>();
+        final Set<String> methodNames = new HashSet<>();
+        final List<String> methods = new ArrayList<>();
+
+        RestClientInterface(String packageName, String simpleName, String configKey, String baseUrl, Path sourcePath) {
+            this.packageName = packageName;
+            this.simpleName = simpleName;
+            this.configKey = configKey;
+            this.baseUrl = baseUrl;
+            this.sourcePath = sourcePath;
+            imports.add(REGISTER_REST_CLIENT_FQN);
+        }
+
+        String fullyQualifiedName() {
+            return packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+        }
+
+        RestClientMethod method(Call call) {
+            StringBuilder parameters = new StringBuilder();
+            List<String> names = call.parameterNames();
+            List<Expression> arguments = call.arguments();
+            for (int i = 0; i < arguments.size(); i++) {
+                if (i > 0) {
+                    parameters.append(", ");
+                }
+                if (i < call.variableNames.size()) {
+                    String queryParameter = call.queryParameters.get(i);
+                    String annotation = queryParameter == null ? "PathParam" : "QueryParam";
+                    imports.add("jakarta.ws.rs." + annotation);
+                    parameters.append('@').append(annotation).append("(\"")
+                            .append(queryParameter == null ? names.get(i) : queryParameter).append("\") ");
+                }
+                //noinspection DataFlowIssue
+                parameters.append(typeName(arguments.get(i).getType())).append(' ').append(names.get(i));
+            }
+            String returnType = call.responseType == null || TypeUtils.isOfClassType(call.responseType, "java.lang.Void") && call.reactiveType == null ?
+                    "void" : typeName(call.responseType);
+            if (call.reactiveType != null) {
+                returnType = typeName(JavaType.ShallowClass.build(call.reactiveType)) + '<' + returnType + '>';
+            }
+            String signature = call.httpMethod + ' ' + call.path + ' ' + returnType + '(' + parameters + ')';
+            RestClientMethod existing = methodsBySignature.get(signature);
+            if (existing != null) {
+                return existing;
+            }
+
+            String name = call.callerName;
+            for (int i = 2; !methodNames.add(name); i++) {
+                name = call.callerName + i;
+            }
+            imports.add("jakarta.ws.rs." + call.httpMethod);
+            imports.add("jakarta.ws.rs.Path");
+            methods.add("    @" + call.httpMethod + "\n" +
+                        "    @Path(\"" + call.path + "\")\n" +
+                        "    " + returnType + ' ' + name + '(' + parameters + ");\n");
+            RestClientMethod method = new RestClientMethod(fullyQualifiedName(), name);
+            methodsBySignature.put(signature, method);
+            return method;
+        }
+
+        private String typeName(JavaType type) {
+            if (type instanceof JavaType.Primitive) {
+                return ((JavaType.Primitive) type).getKeyword();
+            }
+            JavaType.FullyQualified fq = (JavaType.FullyQualified) type;
+            String fqn = fq.getFullyQualifiedName().replace('$', '.');
+            String simpleName = fqn.substring(fqn.lastIndexOf('.') + 1);
+            if (fq.getOwningClass() != null) {
+                return fqn;
+            }
+            String imported = importedSimpleNames.putIfAbsent(simpleName, fqn);
+            if (imported != null && !imported.equals(fqn)) {
+                return fqn;
+            }
+            if (!fq.getPackageName().equals("java.lang") && !fq.getPackageName().equals(packageName)) {
+                imports.add(fqn);
+            }
+            return simpleName;
+        }
+
+        String source() {
+            StringBuilder source = new StringBuilder();
+            if (!packageName.isEmpty()) {
+                source.append("package ").append(packageName).append(";\n\n");
+            }
+            List<String> java = imports.stream().filter(i -> i.startsWith("java.")).collect(Collectors.toList());
+            List<String> others = imports.stream().filter(i -> !i.startsWith("java.")).collect(Collectors.toList());
+            for (String anImport : others) {
+                source.append("import ").append(anImport).append(";\n");
+            }
+            if (!java.isEmpty()) {
+                source.append('\n');
+                for (String anImport : java) {
+                    source.append("import ").append(anImport).append(";\n");
+                }
+            }
+            source.append('\n')
+                    .append("@RegisterRestClient(configKey = \"").append(configKey).append("\", baseUri = \"").append(baseUrl).append("\")\n")
+                    .append("public interface ").append(simpleName).append(" {\n");
+            for (String method : methods) {
+                source.append('\n').append(method);
+            }
+            return source.append("}\n").toString();
+        }
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof SourceFile) {
+                    acc.sourcePaths.add(((SourceFile) tree).getSourcePath());
+                }
+                if (!(tree instanceof J.CompilationUnit)) {
+                    return tree;
+                }
+                J.CompilationUnit cu = (J.CompilationUnit) tree;
+                collectSettings(cu, acc);
+                Set<SpringUsage> usages = SpringUsage.in(cu, ctx);
+                if (usages.contains(SpringUsage.REST_TEMPLATE) || usages.contains(SpringUsage.WEB_CLIENT)) {
+                    ClientUsage usage = clientUsage(cu);
+                    if (usage != null) {
+                        acc.usages.add(usage);
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        acc.plan();
+        if (acc.interfaces.isEmpty() || acc.interfaces.values().iterator().next().methods.isEmpty()) {
+            return emptyList();
+        }
+        JavaParser parser = JavaParser.fromJavaVersion()
+                .classpathFromResources(ctx, "jakarta.ws.rs-api", "microprofile-rest-client-api", "mutiny")
+                .build();
+        List<SourceFile> generated = new ArrayList<>();
+        for (RestClientInterface restClient : acc.interfaces.values()) {
+            parser.parse(ctx, restClient.source())
+                    .map(sourceFile -> (SourceFile) sourceFile.withSourcePath(restClient.sourcePath))
+                    .forEach(generated::add);
+            parser.reset();
+        }
+        // The interfaces are generated once, even if the recipe runs another cycle
+        acc.interfaces.values().forEach(restClient -> restClient.methods.clear());
+        return generated;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        acc.plan();
+        TreeVisitor<?, ExecutionContext> clients = Preconditions.check(
+                new UsesSpring(SpringUsage.REST_TEMPLATE, SpringUsage.WEB_CLIENT),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                        Map<String, String> types = acc.clientTypes.get(cu.getSourcePath());
+                        if (types == null) {
+                            return cu;
+                        }
+                        getCursor().putMessage(CLIENT_TYPES, types);
+                        maybeRemoveImport(REST_TEMPLATE_FQN);
+                        maybeRemoveImport(WEB_CLIENT_FQN);
+                        return super.visitCompilationUnit(cu, ctx);
+                    }
+
+                    @Override
+                    public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                        J.VariableDeclarations vd = super.visitVariableDeclarations(multiVariable, ctx);
+                        String restClient = clientType(vd.getType(), vd.getVariables().get(0).getSimpleName());
+                        if (restClient == null || vd.getTypeExpression() == null) {
+                            return vd;
+                        }
+                        JavaType.FullyQualified type = JavaType.ShallowClass.build(restClient);
+                        vd = vd.withTypeExpression(new J.Identifier(Tree.randomId(), vd.getTypeExpression().getPrefix(),
+                                        Markers.EMPTY, emptyList(), type.getClassName(), type, null))
+                                .withVariables(ListUtils.map(vd.getVariables(), v -> {
+                                    JavaType.Variable fieldType = v.getName().getFieldType();
+                                    return v.withName(v.getName()
+                                            .withType(type)
+                                            .withFieldType(fieldType == null ? null : fieldType.withType(type)));
+                                }));
+                        if (!isInjectionPoint(vd, getCursor())) {
+                            return vd;
+                        }
+                        maybeAddImport(REST_CLIENT_FQN);
+                        return JavaTemplateCache.get(ctx, "@RestClient", "microprofile-rest-client-api", REST_CLIENT_FQN)
+                                .apply(updateCursor(vd), vd.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
+                    }
+
+                    @Override
+                    public J.Identifier visitIdentifier(J.Identifier identifier, ExecutionContext ctx) {
+                        J.Identifier i = super.visitIdentifier(identifier, ctx);
+                        String restClient = i.getFieldType() == null ? null : clientType(i.getType(), i.getSimpleName());
+                        if (restClient == null) {
+                            return i;
+                        }
+                        JavaType.FullyQualified type = JavaType.ShallowClass.build(restClient);
+                        //noinspection DataFlowIssue
+                        return i.withType(type).withFieldType(i.getFieldType().withType(type));
+                    }
+
+                    @Override
+                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+                        RestClientMethod restClientMethod = acc.calls.get(mi.getId());
+                        Call call = restClientMethod == null ? null : call(mi);
+                        if (call == null) {
+                            return mi;
+                        }
+                        List<Expression> arguments = call.arguments();
+                        List<JavaType> parameterTypes = new ArrayList<>();
+                        for (Expression argument : arguments) {
+                            parameterTypes.add(argument.getType());
+                        }
+                        JavaType.Method methodType = mi.getMethodType() == null ? null : mi.getMethodType()
+                                .withDeclaringType(JavaType.ShallowClass.build(restClientMethod.interfaceName))
+                                .withName(restClientMethod.name)
+                                .withReturnType(call.returnType() == null ? JavaType.Primitive.Void : call.returnType())
+                                .withParameterNames(call.parameterNames())
+                                .withParameterTypes(parameterTypes);
+                        return mi.getPadding().withSelect(JRightPadded.build(call.client))
+                                .withName(mi.getName().withSimpleName(restClientMethod.name).withType(methodType))
+                                .withArguments(arguments.isEmpty() ? singletonList(new J.Empty(Tree.randomId(), Space.EMPTY, Markers.EMPTY)) :
+                                        ListUtils.map(arguments, (i, a) -> a.withPrefix(i == 0 ? Space.EMPTY : Space.SINGLE_SPACE)))
+                                .withMethodType(methodType);
+                    }
+
+                    @Override
+                    public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                        J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+                        if (!acc.reactiveMethods.contains(m.getId()) || !(m.getReturnTypeExpression() instanceof J.ParameterizedType)) {
+                            return m;
+                        }
+                        J.ParameterizedType returnType = (J.ParameterizedType) m.getReturnTypeExpression();
+                        String mutinyType = TypeUtils.isOfClassType(returnType.getType(), MONO_FQN) ? UNI_FQN :
+                                TypeUtils.isOfClassType(returnType.getType(), FLUX_FQN) ? MULTI_FQN : null;
+                        if (mutinyType == null || !(returnType.getClazz() instanceof J.Identifier) ||
+                            !(returnType.getType() instanceof JavaType.Parameterized)) {
+                            return m;
+                        }
+                        maybeRemoveImport(MONO_FQN);
+                        maybeRemoveImport(FLUX_FQN);
+                        maybeAddImport(mutinyType);
+                        JavaType.FullyQualified mutiny = JavaType.ShallowClass.build(mutinyType);
+                        JavaType.Parameterized type = ((JavaType.Parameterized) returnType.getType()).withType(mutiny);
+                        return m.withReturnTypeExpression(returnType
+                                        .withClazz(((J.Identifier) returnType.getClazz()).withSimpleName(mutiny.getClassName()).withType(mutiny))
+                                        .withType(type))
+                                .withMethodType(m.getMethodType() == null ? null : m.getMethodType().withReturnType(type));
+                    }
+
+                    private @Nullable String clientType(@Nullable JavaType type, String name) {
+                        Map<String, String> types = getCursor().getNearestMessage(CLIENT_TYPES);
+                        if (types == null || !(TypeUtils.isOfClassType(type, REST_TEMPLATE_FQN) || TypeUtils.isOfClassType(type, WEB_CLIENT_FQN))) {
+                            return null;
+                        }
+                        return types.get(name);
+                    }
+                });
+        TreeVisitor<?, ExecutionContext> properties = new PropertiesIsoVisitor<ExecutionContext>() {
+            @Override
+            public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                return super.isAcceptable(sourceFile, ctx) &&
+                       sourceFile.getSourcePath().getFileName().toString().matches("application.*\\.properties");
+            }
+
+            @Override
+            public Properties.File visitFile(Properties.File file, ExecutionContext ctx) {
+                Properties.File f = super.visitFile(file, ctx);
+                Set<String> keys = new HashSet<>();
+                Properties.Entry last = null;
+                for (Properties.Content c : f.getContent()) {
+                    if (c instanceof Properties.Entry) {
+                        last = (Properties.Entry) c;
+                        keys.add(last.getKey());
+                    }
+                }
+                Properties.Entry template = last;
+                List<Properties.Content> content = ListUtils.map(f.getContent(), c -> {
+                    if (!(c instanceof Properties.Entry) || !PROPERTIES.containsKey(((Properties.Entry) c).getKey())) {
+                        return c;
+                    }
+                    Properties.Entry entry = (Properties.Entry) c;
+                    String millis = MessagingChannelProperties.millis(entry.getValue().getText());
+                    String key = PROPERTIES.get(entry.getKey());
+                    if (millis == null || keys.contains(key)) {
+                        return c;
+                    }
+                    return entry.withKey(key).withValue(entry.getValue().withText(millis));
+                });
+                if (template != null && !acc.clientTypes.isEmpty() && MessagingChannelProperties.isMainApplicationProperties(f)) {
+                    for (Map.Entry<String, String> setting : acc.settings.entrySet()) {
+                        if (keys.add(setting.getKey())) {
+                            content = ListUtils.concat(content, template
+                                    .withId(Tree.randomId())
+                                    .withPrefix("\n")
+                                    .withKey(setting.getKey())
+                                    .withValue(template.getValue().withText(setting.getValue())));
+                        }
+                    }
+                }
+                return f.withContent(content);
+            }
+        };
+        return new TimedVisitor(this, fileTimings, new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof SourceFile) {
+                    if (clients.isAcceptable((SourceFile) tree, ctx)) {
+                        return clients.visit(tree, ctx);
+                    }
+                    if (properties.isAcceptable((SourceFile) tree, ctx)) {
+                        return properties.visit(tree, ctx);
+                    }
+                }
+                return tree;
+            }
+        });
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
+    }
+
+    /**
+     * Collects the base URL of {@code RestTemplateBuilder.rootUri(..)} and {@code WebClient.Builder.baseUrl(..)}, and
+     * the settings of the underlying HTTP clients, when they are literals.
+     */
+    private static void collectSettings(J.CompilationUnit cu, Accumulator acc) {
+        new JavaIsoVisitor<Accumulator>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Accumulator acc) {
+                JavaType.Method methodType = method.getMethodType();
+                List<Expression> arguments = method.getArguments();
+                if (methodType != null && arguments.size() == 1) {
+                    String declaringType = methodType.getDeclaringType().getFullyQualifiedName();
+                    String name = methodType.getName();
+                    if (("org.springframework.boot.web.client.RestTemplateBuilder".equals(declaringType) && "rootUri".equals(name)) ||
+                        ((WEB_CLIENT_FQN + "$Builder").equals(declaringType) && "baseUrl".equals(name))) {
+                        String baseUrl = literal(arguments.get(0));
+                        if (baseUrl != null) {
+                            acc.baseUrls.add(baseUrl);
+                        }
+                    }
+                    String property = SETTINGS.getOrDefault(declaringType, Collections.emptyMap()).get(name);
+                    String value = property == null ? null :
+                            KEEP_ALIVE_ENABLED.equals(property) ? booleanValue(arguments.get(0)) :
+                                    CONNECTION_POOL_SIZE.equals(property) ? String.valueOf(number(arguments.get(0))) :
+                                            millis(arguments.get(0));
+                    if (value != null && !"null".equals(value)) {
+                        acc.setting(property, value);
+                    }
+                } else if (methodType != null && arguments.size() == 2 && "option".equals(methodType.getName()) &&
+                           methodType.getDeclaringType().getFullyQualifiedName().startsWith("reactor.netty.") &&
+                           arguments.get(0) instanceof J.FieldAccess &&
+                           "CONNECT_TIMEOUT_MILLIS".equals(((J.FieldAccess) arguments.get(0)).getSimpleName())) {
+                    Long connectTimeout = number(arguments.get(1));
+                    if (connectTimeout != null) {
+                        acc.setting(CONNECT_TIMEOUT, connectTimeout.toString());
+                    }
+                }
+                return super.visitMethodInvocation(method, acc);
+            }
+        }.visit(cu, acc);
+    }
+
+    private static @Nullable Long number(Expression expression) {
+        if (expression instanceof J.Literal && (((J.Literal) expression).getValue() instanceof Integer ||
+                                                ((J.Literal) expression).getValue() instanceof Long)) {
+            return ((Number) Objects.requireNonNull(((J.Literal) expression).getValue())).longValue();
+        }
+        return null;
+    }
+
+    private static @Nullable String booleanValue(Expression expression) {
+        if (expression instanceof J.Literal && ((J.Literal) expression).getValue() instanceof Boolean) {
+            return String.valueOf(((J.Literal) expression).getValue());
+        }
+        return null;
+    }
+
+    /**
+     * @return the milliseconds of a literal number of milliseconds or of a {@code Duration.ofMillis(..)},
+     * {@code ofSeconds(..)} or {@code ofMinutes(..)} of a literal.
+     */
+    private static @Nullable String millis(Expression expression) {
+        Long number = number(expression);
+        if (number != null) {
+            return number.toString();
+        }
+        if (!(expression instanceof J.MethodInvocation)) {
+            return null;
+        }
+        J.MethodInvocation duration = (J.MethodInvocation) expression;
+        if (duration.getMethodType() == null || !TypeUtils.isOfClassType(duration.getMethodType().getDeclaringType(), DURATION_FQN) ||
+            duration.getArguments().size() != 1 || (number = number(duration.getArguments().get(0))) == null) {
+            return null;
+        }
+        switch (duration.getSimpleName()) {
+            case "ofMillis":
+                return number.toString();
+            case "ofSeconds":
+                return String.valueOf(number * 1_000);
+            case "ofMinutes":
+                return String.valueOf(number * 60_000);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * The calls of the HTTP clients of a source file, when every client is only injected, through a constructor or
+     * field, and only used for calls that a REST Client method can make.
+     */
+    private static @Nullable ClientUsage clientUsage(J.CompilationUnit cu) {
+        Map<String, List<Call>> calls = new LinkedHashMap<>();
+        Set<String> parameters = new HashSet<>();
+        Map<String, String> aliases = new HashMap<>();
+        boolean[] convertible = {true};
+        new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.Import visitImport(J.Import anImport, Integer p) {
+                return anImport;
+            }
+
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Integer p) {
+                // The constructor that Lombok generates would inject the interface without the @RestClient qualifier
+                for (J.Annotation annotation : classDecl.getLeadingAnnotations()) {
+                    JavaType.FullyQualified type = TypeUtils.asFullyQualified(annotation.getType());
+                    if (type != null && "lombok".equals(type.getPackageName())) {
+                        for (Statement statement : classDecl.getBody().getStatements()) {
+                            if (statement instanceof J.VariableDeclarations && isClient(((J.VariableDeclarations) statement).getType())) {
+                                convertible[0] = false;
+                            }
+                        }
+                    }
+                }
+                return super.visitClassDeclaration(classDecl, p);
+            }
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Integer p) {
+                if (method.getMethodType() != null && isClient(method.getMethodType().getReturnType())) {
+                    convertible[0] = false;
+                }
+                return super.visitMethodDeclaration(method, p);
+            }
+
+            @Override
+            public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, Integer p) {
+                if (isClient(multiVariable.getType())) {
+                    Object parent = getCursor().getParentTreeCursor().getValue();
+                    boolean field = parent instanceof J.Block && getCursor().getParentTreeCursor().getParentTreeCursor().getValue() instanceof J.ClassDeclaration;
+                    boolean constructorParameter = parent instanceof J.MethodDeclaration && ((J.MethodDeclaration) parent).isConstructor();
+                    if (multiVariable.getTypeExpression() == null || multiVariable.getVariables().size() != 1 ||
+                        multiVariable.getVariables().get(0).getInitializer() != null ||
+                        multiVariable.hasModifier(J.Modifier.Type.Static) || !(field || constructorParameter)) {
+                        convertible[0] = false;
+                    } else if (field) {
+                        calls.putIfAbsent(multiVariable.getVariables().get(0).getSimpleName(), new ArrayList<>());
+                    } else {
+                        parameters.add(multiVariable.getVariables().get(0).getSimpleName());
+                    }
+                }
+                return super.visitVariableDeclarations(multiVariable, p);
+            }
+
+            @Override
+            public J.NewClass visitNewClass(J.NewClass newClass, Integer p) {
+                if (isClient(newClass.getType())) {
+                    convertible[0] = false;
+                }
+                return super.visitNewClass(newClass, p);
+            }
+
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, Integer p) {
+                // Type names have no field type, references to variables do
+                if (identifier.getFieldType() != null && isClient(identifier.getType())) {
+                    checkReference(identifier, identifier.getSimpleName());
+                }
+                return identifier;
+            }
+
+            @Override
+            public J.FieldAccess visitFieldAccess(J.FieldAccess fieldAccess, Integer p) {
+                if (fieldAccess.getName().getFieldType() != null && isClient(fieldAccess.getType())) {
+                    checkReference(fieldAccess, fieldAccess.getSimpleName());
+                    return fieldAccess;
+                }
+                return super.visitFieldAccess(fieldAccess, p);
+            }
+
+            private void checkReference(Expression reference, String name) {
+                Cursor parentCursor = getCursor().getParentTreeCursor();
+                Object parent = parentCursor.getValue();
+                if (parent instanceof J.VariableDeclarations.NamedVariable ||
+                    (parent instanceof J.FieldAccess && ((J.FieldAccess) parent).getName() == reference)) {
+                    return;
+                }
+                if (parent instanceof J.Assignment) {
+                    J.Assignment assignment = (J.Assignment) parent;
+                    if (assignment.getVariable() == reference) {
+                        // A field assigned anything but an injected client, such as a client it builds, stays as it is
+                        if (!(assignment.getAssignment() instanceof J.Identifier) || !isClient(assignment.getAssignment().getType())) {
+                            convertible[0] = false;
+                        }
+                        return;
+                    }
+                    J.MethodDeclaration constructor = parentCursor.firstEnclosing(J.MethodDeclaration.class);
+                    if (assignment.getAssignment() == reference && constructor != null && constructor.isConstructor() &&
+                        parentCursor.getParentTreeCursor().getValue() instanceof J.Block) {
+                        J.Identifier field = assignment.getVariable() instanceof J.FieldAccess ?
+                                ((J.FieldAccess) assignment.getVariable()).getName() :
+                                assignment.getVariable() instanceof J.Identifier ? (J.Identifier) assignment.getVariable() : null;
+                        if (field != null) {
+                            aliases.put(name, field.getSimpleName());
+                            return;
+                        }
+                    }
+                    convertible[0] = false;
+                    return;
+                }
+                if (!(parent instanceof J.MethodInvocation) || ((J.MethodInvocation) parent).getSelect() != reference) {
+                    convertible[0] = false;
+                    return;
+                }
+                // A WebClient request is a chain of calls, the outermost of which is replaced
+                Cursor outermost = parentCursor;
+                for (Cursor c = parentCursor.getParentTreeCursor(); c.getValue() instanceof J.MethodInvocation &&
+                                                                    ((J.MethodInvocation) c.getValue()).getSelect() == outermost.getValue();
+                     c = c.getParentTreeCursor()) {
+                    outermost = c;
+                }
+                Call call = call(outermost.getValue());
+                if (call == null || call.client != reference || !isPositionedFor(call, outermost)) {
+                    convertible[0] = false;
+                    return;
+                }
+                calls.computeIfAbsent(name, k -> new ArrayList<>()).add(call);
+            }
+        }.visit(cu, 0);
+
+        if (!convertible[0] || calls.isEmpty()) {
+            return null;
+        }
+        for (String parameter : parameters) {
+            String field = aliases.get(parameter);
+            if (field == null || !calls.containsKey(field)) {
+                return null;
+            }
+        }
+        for (Map.Entry<String, String> alias : aliases.entrySet()) {
+            List<Call> parameterCalls = calls.remove(alias.getKey());
+            if (!alias.getKey().equals(alias.getValue())) {
+                if (parameterCalls != null) {
+                    calls.get(alias.getValue()).addAll(parameterCalls);
+                }
+            } else if (parameterCalls != null) {
+                calls.put(alias.getKey(), parameterCalls);
+            }
+        }
+        Map<String, String> renamed = new HashMap<>(aliases);
+        renamed.keySet().removeIf(parameter -> parameter.equals(aliases.get(parameter)));
+        for (List<Call> clientCalls : calls.values()) {
+            if (clientCalls.isEmpty()) {
+                return null;
+            }
+        }
+        String packageName = cu.getPackageDeclaration() == null ? "" :
+                cu.getPackageDeclaration().getExpression().printTrimmed(new Cursor(null, cu));
+        return new ClientUsage(cu.getSourcePath(), packageName, calls, renamed);
+    }
+
+    /**
+     * Blocking calls return what a REST Client method returns. A {@code WebClient} request must be returned, as the
+     * {@code Mono} or {@code Flux} of its method, which then returns a {@code Uni} or {@code Multi}.
+     */
+    private static boolean isPositionedFor(Call call, Cursor invocation) {
+        if (call.reactiveType == null) {
+            return true;
+        }
+        Cursor parent = invocation.getParentTreeCursor();
+        if (!(parent.getValue() instanceof J.Return) || !(parent.getParentTreeCursor().getValue() instanceof J.Block) ||
+            !(parent.getParentTreeCursor().getParentTreeCursor().getValue() instanceof J.MethodDeclaration)) {
+            return false;
+        }
+        J.MethodDeclaration method = parent.getParentTreeCursor().getParentTreeCursor().getValue();
+        JavaType.Parameterized returnType = method.getMethodType() == null ? null :
+                TypeUtils.asParameterized(method.getMethodType().getReturnType());
+        boolean uni = UNI_FQN.equals(call.reactiveType);
+        if (returnType == null || returnType.getTypeParameters().size() != 1 ||
+            !TypeUtils.isOfType(returnType.getTypeParameters().get(0), call.responseType) ||
+            !(TypeUtils.isOfClassType(returnType, uni ? MONO_FQN : FLUX_FQN) || TypeUtils.isOfClassType(returnType, uni ? UNI_FQN : MULTI_FQN))) {
+            return false;
+        }
+        call.reactiveMethodId = method.getId();
+        return true;
+    }
+
+    private static boolean isClient(@Nullable JavaType type) {
+        return TypeUtils.isOfClassType(type, REST_TEMPLATE_FQN) || TypeUtils.isOfClassType(type, WEB_CLIENT_FQN);
+    }
+
+    /**
+     * @return the REST Client method call of a {@code RestTemplate} call or the outermost invocation of a
+     * {@code WebClient} request, or {@code null} when it has none.
+     */
+    private static @Nullable Call call(Object tree) {
+        if (!(tree instanceof J.MethodInvocation)) {
+            return null;
+        }
+        J.MethodInvocation mi = (J.MethodInvocation) tree;
+        JavaType.Method methodType = mi.getMethodType();
+        if (methodType == null) {
+            return null;
+        }
+        if (TypeUtils.isOfClassType(methodType.getDeclaringType(), REST_TEMPLATE_FQN)) {
+            return restTemplateCall(mi, methodType);
+        } else if (methodType.getDeclaringType().getFullyQualifiedName().startsWith(WEB_CLIENT_FQN + '$')) {
+            return webClientCall(mi);
+        }
+        return null;
+    }
+
+    private static @Nullable Call restTemplateCall(J.MethodInvocation mi, JavaType.Method methodType) {
+        String httpMethod;
+        int body = -1;
+        int responseType = -1;
+        int variables;
+        switch (methodType.getName()) {
+            case "getForObject":
+                httpMethod = "GET";
+                responseType = 1;
+                variables = 2;
+                break;
+            case "postForObject":
+                httpMethod = "POST";
+                body = 1;
+                responseType = 2;
+                variables = 3;
+                break;
+            case "put":
+                httpMethod = "PUT";
+                body = 1;
+                variables = 2;
+                break;
+            case "delete":
+                httpMethod = "DELETE";
+                variables = 1;
+                break;
+            default:
+                return null;
+        }
+        // The URI variables are expanded from an array, not from a map, and the URL is not a URI
+        List<JavaType> parameterTypes = methodType.getParameterTypes();
+        if (parameterTypes.size() != variables + 1 || !(parameterTypes.get(variables) instanceof JavaType.Array) ||
+            !TypeUtils.isString(parameterTypes.get(0)) || mi.getSelect() == null) {
+            return null;
+        }
+        List<Expression> arguments = arguments(mi);
+        if (arguments.size() < variables) {
+            return null;
+        }
+        JavaType response = responseType < 0 ? null : classLiteral(arguments.get(responseType));
+        if (responseType >= 0 && response == null) {
+            return null;
+        }
+        return call(mi.getId(), httpMethod, arguments.get(0), arguments.subList(variables, arguments.size()),
+                body < 0 ? null : arguments.get(body), response, null, mi.getSelect(), mi);
+    }
+
+    /**
+     * Reads a request such as {@code webClient.get().uri("...", id).retrieve().bodyToMono(Item.class)} or
+     * {@code webClient.post().uri("...").bodyValue(item).retrieve().bodyToMono(Item.class)}.
+     */
+    private static @Nullable Call webClientCall(J.MethodInvocation bodyTo) {
+        String reactiveType = "bodyToMono".equals(bodyTo.getSimpleName()) ? UNI_FQN :
+                "bodyToFlux".equals(bodyTo.getSimpleName()) ? MULTI_FQN : null;
+        if (reactiveType == null || bodyTo.getArguments().size() != 1) {
+            return null;
+        }
+        JavaType response = classLiteral(bodyTo.getArguments().get(0));
+        J.MethodInvocation retrieve = webClientInvocation(bodyTo.getSelect(), "retrieve");
+        if (response == null || retrieve == null) {
+            return null;
+        }
+        Expression body = null;
+        J.MethodInvocation uri = webClientInvocation(retrieve.getSelect(), "uri");
+        if (uri == null) {
+            J.MethodInvocation bodyValue = webClientInvocation(retrieve.getSelect(), "bodyValue");
+            if (bodyValue == null) {
+                return null;
+            }
+            body = bodyValue.getArguments().get(0);
+            uri = webClientInvocation(bodyValue.getSelect(), "uri");
+        }
+        if (uri == null || uri.getMethodType() == null || uri.getMethodType().getParameterTypes().size() != 2 ||
+            !TypeUtils.isString(uri.getMethodType().getParameterTypes().get(0)) ||
+            !(uri.getMethodType().getParameterTypes().get(1) instanceof JavaType.Array)) {
+            return null;
+        }
+        J.MethodInvocation request = uri.getSelect() instanceof J.MethodInvocation ? (J.MethodInvocation) uri.getSelect() : null;
+        if (request == null || request.getSelect() == null || request.getMethodType() == null ||
+            !TypeUtils.isOfClassType(request.getMethodType().getDeclaringType(), WEB_CLIENT_FQN) ||
+            !(request.getArguments().isEmpty() || request.getArguments().get(0) instanceof J.Empty)) {
+            return null;
+        }
+        String httpMethod = request.getSimpleName().toUpperCase(Locale.ROOT);
+        if (!Arrays.asList("GET", "POST", "PUT", "DELETE").contains(httpMethod) ||
+            (body != null && !("POST".equals(httpMethod) || "PUT".equals(httpMethod)))) {
+            return null;
+        }
+        List<Expression> arguments = arguments(uri);
+        return call(bodyTo.getId(), httpMethod, arguments.get(0), arguments.subList(1, arguments.size()), body,
+                response, reactiveType, request.getSelect(), bodyTo);
+    }
+
+    private static List<Expression> arguments(J.MethodInvocation method) {
+        List<Expression> arguments = new ArrayList<>();
+        for (Expression argument : method.getArguments()) {
+            if (!(argument instanceof J.Empty)) {
+                arguments.add(argument);
+            }
+        }
+        return arguments;
+    }
+
+    private static J.@Nullable MethodInvocation webClientInvocation(@Nullable Expression expression, String name) {
+        if (expression instanceof J.MethodInvocation && name.equals(((J.MethodInvocation) expression).getSimpleName()) &&
+            ((J.MethodInvocation) expression).getMethodType() != null &&
+            ((J.MethodInvocation) expression).getMethodType().getDeclaringType().getFullyQualifiedName().startsWith(WEB_CLIENT_FQN + '$')) {
+            J.MethodInvocation mi = (J.MethodInvocation) expression;
+            if ("retrieve".equals(name) ? mi.getArguments().get(0) instanceof J.Empty : mi.getArguments().size() >= 1) {
+                return mi;
+            }
+        }
+        return null;
+    }
+
+    private static @Nullable Call call(UUID invocationId, String httpMethod, Expression urlArgument, List<Expression> variables,
+                                       @Nullable Expression body, @Nullable JavaType responseType, @Nullable String reactiveType,
+                                       Expression client, J.MethodInvocation invocation) {
+        String url = literal(urlArgument);
+        Matcher matcher = url == null ? null : URL.matcher(url);
+        if (matcher == null || !matcher.matches() || (matcher.group(1) == null && matcher.group(2) == null)) {
+            return null;
+        }
+        String path = matcher.group(2) == null ? "/" : matcher.group(2);
+        Call call = new Call(invocationId, httpMethod, matcher.group(1), path, variables, body, responseType,
+                reactiveType, client, invocation.getSimpleName());
+        Matcher pathVariable = URI_VARIABLE.matcher(path);
+        while (pathVariable.find()) {
+            call.variableNames.add(pathVariable.group(1));
+            call.queryParameters.add(null);
+        }
+        if (matcher.group(3) != null) {
+            for (String parameter : matcher.group(3).split("&")) {
+                Matcher queryVariable = QUERY_VARIABLE.matcher(parameter);
+                if (!queryVariable.matches()) {
+                    return null;
+                }
+                call.variableNames.add(queryVariable.group(2));
+                call.queryParameters.add(queryVariable.group(1));
+            }
+        }
+        // Spring expands the variables by position, the names become the parameter names
+        if (call.variableNames.size() != variables.size() || new HashSet<>(call.variableNames).size() != variables.size() ||
+            call.parameterNames().stream().anyMatch(name -> !SourceVersion.isName(name)) ||
+            (body != null && call.variableNames.contains("body"))) {
+            return null;
+        }
+        for (Expression argument : call.arguments()) {
+            if (!isDeclarable(argument.getType())) {
+                return null;
+            }
+        }
+        return call;
+    }
+
+    /**
+     * Types that a parameter of the generated interface can declare without type arguments.
+     */
+    private static boolean isDeclarable(@Nullable JavaType type) {
+        if (type instanceof JavaType.Primitive) {
+            return type != JavaType.Primitive.Null && type != JavaType.Primitive.None && type != JavaType.Primitive.Void;
+        }
+        return type instanceof JavaType.Class && ((JavaType.Class) type).getTypeParameters().isEmpty();
+    }
+
+    private static @Nullable JavaType classLiteral(Expression expression) {
+        if (expression instanceof J.FieldAccess && "class".equals(((J.FieldAccess) expression).getSimpleName())) {
+            JavaType type = ((J.FieldAccess) expression).getTarget().getType();
+            if (isDeclarable(type) && !(type instanceof JavaType.Primitive)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the name of the service at a base URL, such as {@code InventoryService} for
+     * {@code http://inventory-service.internal:8080}.
+     */
+    private static String serviceName(String baseUrl) {
+        String host = baseUrl.replaceFirst("^https?://", "").replaceFirst("[.:].*$", "");
+        StringBuilder name = new StringBuilder();
+        for (String part : host.split("[^A-Za-z0-9]+")) {
+            if (!part.isEmpty()) {
+                name.append(Character.toUpperCase(part.charAt(0))).append(part.substring(1));
+            }
+        }
+        return name.length() == 0 || !Character.isJavaIdentifierStart(name.charAt(0)) ? "Remote" + name : name.toString();
+    }
+
+    private static String configKey(String serviceName) {
+        return serviceName.replaceAll("([a-z0-9])([A-Z])", "$1-$2").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,466 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.quarkus.spring.MessagingChannelProperties.Mapping;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.emptyList;
+import static org.openrewrite.quarkus.spring.MessagingChannelProperties.INCOMING;
+import static org.openrewrite.quarkus.spring.MessagingChannelProperties.OUTGOING;
+import static org.openrewrite.quarkus.spring.ReactiveMessaging.*;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class SpringKafkaToReactiveMessaging extends ScanningRecipe<ReactiveMessaging.Channels> {
+
+    private static final String KAFKA_LISTENER_FQN = "org.springframework.kafka.annotation.KafkaListener";
+    private static final String KAFKA_TEMPLATE_FQN = "org.springframework.kafka.core.KafkaTemplate";
+    private static final String CONSUMER_RECORD_FQN = "org.apache.kafka.clients.consumer.ConsumerRecord";
+    private static final String CONSUMER_RECORDS_FQN = "org.apache.kafka.clients.consumer.ConsumerRecords";
+
+    private static final String KAFKA_RECORD_FQN = "io.smallrye.reactive.messaging.kafka.KafkaRecord";
+    private static final String[] REACTIVE_MESSAGING_CLASSPATH = {"smallrye-reactive-messaging-api", "smallrye-reactive-messaging-kafka"};
+
+    private static final MethodMatcher SEND_VALUE = new MethodMatcher(KAFKA_TEMPLATE_FQN + " send(java.lang.String, *)", true);
+    private static final MethodMatcher SEND_KEY_VALUE = new MethodMatcher(KAFKA_TEMPLATE_FQN + " send(java.lang.String, *, *)", true);
+
+    private static final String INCOMING_CHANNEL = "INCOMING_CHANNEL";
+    private static final String OUTGOING_CHANNEL = "OUTGOING_CHANNEL";
+
+    /**
+     * The Spring Boot properties of all listeners or all templates, and the channel attributes they become.
+     */
+    private static final List<Mapping> PROPERTIES = Arrays.asList(
+            new Mapping("spring.kafka.consumer.group-id", INCOMING, "group.id"),
+            new Mapping("spring.kafka.consumer.auto-offset-reset", INCOMING, "auto.offset.reset"),
+            new Mapping("spring.kafka.consumer.max-poll-records", INCOMING, "max.poll.records"),
+            new Mapping("spring.kafka.consumer.fetch-min-size", INCOMING, "fetch.min.bytes", MessagingChannelProperties::bytes),
+            new Mapping("spring.kafka.consumer.fetch-max-wait", INCOMING, "fetch.max.wait.ms", MessagingChannelProperties::millis),
+            // Each concurrent copy of a channel consumes its own partitions, in order, like a Spring listener container
+            new Mapping("spring.kafka.listener.concurrency", INCOMING, "concurrency"),
+            new Mapping("spring.kafka.producer.acks", OUTGOING, "acks"),
+            new Mapping("spring.kafka.producer.batch-size", OUTGOING, "batch.size", MessagingChannelProperties::bytes),
+            new Mapping("spring.kafka.producer.buffer-memory", OUTGOING, "buffer.memory", MessagingChannelProperties::bytes),
+            new Mapping("spring.kafka.producer.compression-type", OUTGOING, "compression.type"),
+            new Mapping("spring.kafka.producer.properties.linger.ms", OUTGOING, "linger.ms"));
+
+    String displayName = "Convert Spring Kafka listeners and templates to SmallRye Reactive Messaging";
+
+    String description = "Replaces `@KafkaListener` methods with `@Incoming` methods of a channel named after their topic, " +
+                         "and an injected `KafkaTemplate` sending to a single topic with an `Emitter` of an outgoing channel. " +
+                         "Batch listeners keep their `List` parameter, and a list of `ConsumerRecord` becomes `ConsumerRecords`. " +
+                         "The group id, concurrency and batch mode of the listeners, and the consumer and producer settings " +
+                         "of `spring.kafka.*` such as `max-poll-records`, `fetch-min-size` and `listener.concurrency`, become " +
+                         "`mp.messaging.incoming.<channel>.*` and `mp.messaging.outgoing.<channel>.*` properties, in " +
+                         "`application.properties`, `application.yml`, or a new `application.properties` when the project " +
+                         "has neither. Listeners with placeholders, topic patterns, container factories or other parameters, " +
+                         "templates used in any other way, and all listeners and templates whose settings have no " +
+                         "configuration file to go to, are left unchanged.";
+
+    transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
+    @Override
+    public Channels getInitialValue(ExecutionContext ctx) {
+        return new Channels("topic", "topic");
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Channels acc) {
+        TreeVisitor<?, ExecutionContext> java = new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                Set<SpringUsage> usages = SpringUsage.in(cu, ctx);
+                if (!usages.contains(SpringUsage.KAFKA_LISTENER) && !usages.contains(SpringUsage.KAFKA_TEMPLATE)) {
+                    return cu;
+                }
+                acc.addSource(cu.getSourcePath());
+                String topic = sentTopic(cu);
+                if (topic != null) {
+                    acc.addOutgoing(topic, Collections.emptyMap());
+                }
+                return super.visitCompilationUnit(cu, ctx);
+            }
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                Listener listener = listener(method);
+                if (listener != null) {
+                    acc.addIncoming(listener.topic, listener.settings);
+                }
+                return super.visitMethodDeclaration(method, ctx);
+            }
+        };
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof SourceFile) {
+                    acc.scan((SourceFile) tree);
+                    if (java.isAcceptable((SourceFile) tree, ctx)) {
+                        java.visit(tree, ctx);
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Channels acc, ExecutionContext ctx) {
+        return acc.isEmpty() ? emptyList() : MessagingChannelProperties.generate(acc);
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Channels acc) {
+        if (acc.isEmpty() || !acc.isConfigurable()) {
+            return TreeVisitor.noop();
+        }
+        TreeVisitor<?, ExecutionContext> java = Preconditions.check(
+                new UsesSpring(SpringUsage.KAFKA_LISTENER, SpringUsage.KAFKA_TEMPLATE),
+                new JavaVisitor<ExecutionContext>() {
+
+                    @Override
+                    public J visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                        String topic = sentTopic(cu);
+                        if (topic != null) {
+                            getCursor().putMessage(OUTGOING_CHANNEL, acc.outgoingChannel(topic));
+                            maybeRemoveImport(KAFKA_TEMPLATE_FQN);
+                        }
+                        maybeRemoveImport(KAFKA_LISTENER_FQN);
+                        return super.visitCompilationUnit(cu, ctx);
+                    }
+
+                    @Override
+                    public J visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                        Listener listener = listener(method);
+                        boolean incoming = listener != null && acc.isIncoming(listener.topic);
+                        if (incoming) {
+                            getCursor().putMessage(INCOMING_CHANNEL, channel(listener.topic));
+                        }
+                        J j = super.visitMethodDeclaration(method, ctx);
+                        if (incoming && listener.records && j instanceof J.MethodDeclaration) {
+                            return toConsumerRecords((J.MethodDeclaration) j);
+                        }
+                        return j;
+                    }
+
+                    @Override
+                    public J visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
+                        J.Annotation a = (J.Annotation) super.visitAnnotation(annotation, ctx);
+                        String channel = getCursor().getParentTreeCursor().getMessage(INCOMING_CHANNEL);
+                        if (channel == null || !TypeUtils.isOfClassType(a.getType(), KAFKA_LISTENER_FQN)) {
+                            return a;
+                        }
+                        maybeAddImport(INCOMING_FQN);
+                        return JavaTemplateCache.get(ctx, "@Incoming(\"" + channel + "\")",
+                                        REACTIVE_MESSAGING_CLASSPATH, INCOMING_FQN)
+                                .apply(getCursor(), a.getCoordinates().replace());
+                    }
+
+                    @Override
+                    public J visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                        J j = super.visitVariableDeclarations(multiVariable, ctx);
+                        String channel = getCursor().getNearestMessage(OUTGOING_CHANNEL);
+                        if (channel == null || !(j instanceof J.VariableDeclarations) ||
+                            !TypeUtils.isAssignableTo(KAFKA_TEMPLATE_FQN, ((J.VariableDeclarations) j).getType())) {
+                            return j;
+                        }
+                        J.VariableDeclarations vd = (J.VariableDeclarations) j;
+                        //noinspection DataFlowIssue
+                        Expression valueType = ((J.ParameterizedType) vd.getTypeExpression()).getTypeParameters().get(1);
+                        maybeAddImport(EMITTER_FQN);
+                        vd = toEmitter(vd, valueType);
+                        if (!isInjectionPoint(vd, getCursor())) {
+                            return vd;
+                        }
+                        maybeAddImport(CHANNEL_FQN);
+                        return JavaTemplateCache.get(ctx, "@Channel(\"" + channel + "\")",
+                                        REACTIVE_MESSAGING_CLASSPATH, CHANNEL_FQN)
+                                .apply(updateCursor(vd), vd.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
+                    }
+
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J j = super.visitMethodInvocation(method, ctx);
+                        if (getCursor().getNearestMessage(OUTGOING_CHANNEL) == null || !(j instanceof J.MethodInvocation)) {
+                            return j;
+                        }
+                        J.MethodInvocation mi = (J.MethodInvocation) j;
+                        if (SEND_VALUE.matches(mi)) {
+                            return JavaTemplateCache.get(ctx, "#{any(" + EMITTER_FQN + ")}.send(#{any()})",
+                                            REACTIVE_MESSAGING_CLASSPATH)
+                                    .apply(getCursor(), mi.getCoordinates().replace(), mi.getSelect(), mi.getArguments().get(1));
+                        } else if (SEND_KEY_VALUE.matches(mi)) {
+                            maybeAddImport(KAFKA_RECORD_FQN);
+                            return JavaTemplateCache.get(ctx, "#{any(" + EMITTER_FQN + ")}.send(KafkaRecord.of(#{any()}, #{any()}))",
+                                            REACTIVE_MESSAGING_CLASSPATH, KAFKA_RECORD_FQN)
+                                    .apply(getCursor(), mi.getCoordinates().replace(), mi.getSelect(),
+                                            mi.getArguments().get(1), mi.getArguments().get(2));
+                        }
+                        return mi;
+                    }
+
+                    private J.MethodDeclaration toConsumerRecords(J.MethodDeclaration m) {
+                        J.VariableDeclarations parameter = (J.VariableDeclarations) m.getParameters().get(0);
+                        //noinspection DataFlowIssue
+                        J.ParameterizedType list = (J.ParameterizedType) parameter.getTypeExpression();
+                        //noinspection DataFlowIssue
+                        J.ParameterizedType record = (J.ParameterizedType) list.getTypeParameters().get(0);
+                        //noinspection DataFlowIssue
+                        JavaType.Parameterized recordsType = new JavaType.Parameterized(null,
+                                JavaType.ShallowClass.build(CONSUMER_RECORDS_FQN),
+                                ((JavaType.Parameterized) record.getType()).getTypeParameters());
+                        String name = parameter.getVariables().get(0).getSimpleName();
+                        maybeAddImport(CONSUMER_RECORDS_FQN);
+                        maybeRemoveImport("java.util.List");
+                        maybeRemoveImport(CONSUMER_RECORD_FQN);
+                        m = m.withParameters(ListUtils.mapFirst(m.getParameters(), p -> parameter.withTypeExpression(record
+                                .withPrefix(list.getPrefix())
+                                .withClazz(new J.Identifier(Tree.randomId(), record.getClazz().getPrefix(), Markers.EMPTY,
+                                        emptyList(), "ConsumerRecords", recordsType.getType(), null))
+                                .withType(recordsType))));
+                        return (J.MethodDeclaration) new JavaIsoVisitor<Integer>() {
+                            @Override
+                            public J.Identifier visitIdentifier(J.Identifier identifier, Integer p) {
+                                JavaType.Variable fieldType = identifier.getFieldType();
+                                if (fieldType != null && fieldType.getOwner() instanceof JavaType.Method &&
+                                    name.equals(identifier.getSimpleName())) {
+                                    return identifier.withType(recordsType).withFieldType(fieldType.withType(recordsType));
+                                }
+                                return identifier;
+                            }
+                        }.visitNonNull(m, 0);
+                    }
+                });
+        TreeVisitor<?, ExecutionContext> configuration = MessagingChannelProperties.visitor(PROPERTIES, acc);
+        return new TimedVisitor(this, fileTimings, new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof SourceFile) {
+                    if (java.isAcceptable((SourceFile) tree, ctx)) {
+                        return java.visit(tree, ctx);
+                    }
+                    if (configuration.isAcceptable((SourceFile) tree, ctx)) {
+                        return configuration.visit(tree, ctx);
+                    }
+                }
+                return tree;
+            }
+        });
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
+    }
+
+    /**
+     * A {@code @KafkaListener} method that an {@code @Incoming} method of the channel of its topic can replace.
+     */
+    private static class Listener {
+        final String topic;
+
+        /**
+         * The attributes of the incoming channel that the annotation declares.
+         */
+        final Map<String, String> settings;
+
+        /**
+         * Whether a list of {@code ConsumerRecord} becomes {@code ConsumerRecords}.
+         */
+        final boolean records;
+
+        Listener(String topic, Map<String, String> settings, boolean records) {
+            this.topic = topic;
+            this.settings = settings;
+            this.records = records;
+        }
+    }
+
+    /**
+     * @return the listener of a method with a single {@code @KafkaListener} of a single literal topic, whose attributes
+     * all have a channel equivalent, and a single parameter receiving the payload, the record or a batch of them.
+     */
+    private static @Nullable Listener listener(J.MethodDeclaration method) {
+        J.Annotation kafkaListener = null;
+        for (J.Annotation annotation : method.getLeadingAnnotations()) {
+            if (TypeUtils.isOfClassType(annotation.getType(), KAFKA_LISTENER_FQN)) {
+                if (kafkaListener != null) {
+                    return null;
+                }
+                kafkaListener = annotation;
+            }
+        }
+        if (kafkaListener == null || kafkaListener.getArguments() == null ||
+            !(method.getReturnTypeExpression() instanceof J.Primitive) ||
+            ((J.Primitive) method.getReturnTypeExpression()).getType() != JavaType.Primitive.Void ||
+            method.getParameters().size() != 1 || !(method.getParameters().get(0) instanceof J.VariableDeclarations)) {
+            return null;
+        }
+
+        String topic = null;
+        String groupId = null;
+        String id = null;
+        String concurrency = null;
+        String batch = null;
+        for (Expression argument : kafkaListener.getArguments()) {
+            if (!(argument instanceof J.Assignment) || !(((J.Assignment) argument).getVariable() instanceof J.Identifier)) {
+                return null;
+            }
+            String attribute = ((J.Identifier) ((J.Assignment) argument).getVariable()).getSimpleName();
+            Expression value = ((J.Assignment) argument).getAssignment();
+            if ("topics".equals(attribute)) {
+                topic = singleLiteral(value);
+            } else if ("groupId".equals(attribute)) {
+                groupId = literal(value);
+                if (groupId == null) {
+                    return null;
+                }
+            } else if ("id".equals(attribute)) {
+                id = literal(value);
+                if (id == null) {
+                    return null;
+                }
+            } else if ("concurrency".equals(attribute)) {
+                concurrency = literal(value);
+                if (concurrency == null || !concurrency.matches("\\d+")) {
+                    return null;
+                }
+            } else if ("batch".equals(attribute)) {
+                batch = literal(value);
+                if (!"true".equals(batch) && !"false".equals(batch)) {
+                    return null;
+                }
+            } else {
+                return null;
+            }
+        }
+        if (topic == null || topic.isEmpty()) {
+            return null;
+        }
+
+        J.VariableDeclarations parameter = (J.VariableDeclarations) method.getParameters().get(0);
+        if (!parameter.getLeadingAnnotations().isEmpty() || parameter.getTypeExpression() == null) {
+            return null;
+        }
+        boolean records = false;
+        JavaType payload = parameter.getType();
+        // Spring passes a batch to a list parameter
+        boolean batchParameter = TypeUtils.isOfClassType(payload, "java.util.List");
+        if (batchParameter) {
+            JavaType.Parameterized list = TypeUtils.asParameterized(payload);
+            if (list == null || list.getTypeParameters().size() != 1 ||
+                !(parameter.getTypeExpression() instanceof J.ParameterizedType) || "false".equals(batch)) {
+                return null;
+            }
+            payload = list.getTypeParameters().get(0);
+            if (TypeUtils.isOfClassType(payload, CONSUMER_RECORD_FQN)) {
+                //noinspection DataFlowIssue
+                if (!(((J.ParameterizedType) parameter.getTypeExpression()).getTypeParameters().get(0) instanceof J.ParameterizedType) ||
+                    !(payload instanceof JavaType.Parameterized) ||
+                    !isOnlyIterated(method, parameter.getVariables().get(0).getSimpleName())) {
+                    return null;
+                }
+                records = true;
+            }
+        } else if ("true".equals(batch)) {
+            return null;
+        }
+        // Such as Spring's Message, or an Acknowledgment
+        JavaType.FullyQualified payloadType = TypeUtils.asFullyQualified(payload);
+        if (payloadType == null || payloadType.getFullyQualifiedName().startsWith("org.springframework.")) {
+            return null;
+        }
+
+        Map<String, String> settings = new LinkedHashMap<>();
+        // Without a group id, the id of the listener container is the consumer group
+        if (groupId != null || id != null) {
+            settings.put("group.id", groupId != null ? groupId : id);
+        }
+        if (concurrency != null) {
+            settings.put("concurrency", concurrency);
+        }
+        if (batchParameter) {
+            settings.put("batch", "true");
+        }
+        return new Listener(topic, settings, records);
+    }
+
+    /**
+     * @return whether the parameter of a method is only the iterable of for-each loops.
+     */
+    private static boolean isOnlyIterated(J.MethodDeclaration method, String parameter) {
+        if (method.getBody() == null) {
+            return false;
+        }
+        AtomicBoolean iterated = new AtomicBoolean(true);
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean i) {
+                JavaType.Variable fieldType = identifier.getFieldType();
+                if (fieldType != null && fieldType.getOwner() instanceof JavaType.Method && parameter.equals(identifier.getSimpleName())) {
+                    Object parent = getCursor().getParentTreeCursor().getValue();
+                    if (!(parent instanceof J.ForEachLoop.Control) || ((J.ForEachLoop.Control) parent).getIterable() != identifier) {
+                        i.set(false);
+                    }
+                }
+                return identifier;
+            }
+        }.visit(method.getBody(), iterated);
+        return iterated.get();
+    }
+
+    /**
+     * @return the topic that the templates of a source file send to, when it is the only one and emitters can replace
+     * the templates.
+     */
+    private static @Nullable String sentTopic(J.CompilationUnit cu) {
+        Set<String> topics = new HashSet<>();
+        boolean convertible = isOnlyInjected(cu, KAFKA_TEMPLATE_FQN,
+                vd -> {
+                    JavaType.Parameterized template = TypeUtils.asParameterized(vd.getType());
+                    return template != null && template.getTypeParameters().size() == 2 &&
+                           vd.getTypeExpression() instanceof J.ParameterizedType;
+                },
+                cursor -> {
+                    J.MethodInvocation send = cursor.getValue();
+                    String topic = SEND_VALUE.matches(send) || SEND_KEY_VALUE.matches(send) ?
+                            literal(send.getArguments().get(0)) : null;
+                    if (topic == null || topic.isEmpty()) {
+                        return false;
+                    }
+                    topics.add(topic);
+                    return true;
+                });
+        return convertible && topics.size() == 1 ? topics.iterator().next() : null;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.properties.PropertiesIsoVisitor;
+import org.openrewrite.properties.tree.Properties;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.*;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class SpringRedisEndpointToQuarkusRedisHosts extends Recipe {
+
+    private static final String HOST = "spring.data.redis.host";
+    private static final String PORT = "spring.data.redis.port";
+    private static final String DATABASE = "spring.data.redis.database";
+    private static final String URL = "spring.data.redis.url";
+    private static final String HOSTS = "quarkus.redis.hosts";
+
+    private static final List<String> ENDPOINT_KEYS = Arrays.asList(HOST, PORT, DATABASE);
+
+    String displayName = "Combine the Spring Data Redis host, port and database into `quarkus.redis.hosts`";
+
+    String description = "Replaces `spring.data.redis.host`, `spring.data.redis.port` and `spring.data.redis.database` " +
+                         "with a `quarkus.redis.hosts` URL of the form `redis://host:port/database`, as the Quarkus Redis " +
+                         "client only takes its endpoint as a URL. Missing parts take the Spring Boot defaults, `localhost` " +
+                         "and `6379`. When the file also has a `spring.data.redis.url`, which takes precedence over them " +
+                         "in Spring Boot, or a `quarkus.redis.hosts` already, they are only removed.";
+
+    transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        TreeVisitor<?, ExecutionContext> properties = new PropertiesIsoVisitor<ExecutionContext>() {
+            @Override
+            public Properties.File visitFile(Properties.File file, ExecutionContext ctx) {
+                Map<String, String> values = new HashMap<>();
+                for (Properties.Content c : file.getContent()) {
+                    if (c instanceof Properties.Entry) {
+                        values.put(((Properties.Entry) c).getKey(), ((Properties.Entry) c).getValue().getText().trim());
+                    }
+                }
+                String hosts = hosts(values);
+                if (hosts == null) {
+                    return file;
+                }
+                List<Properties.Content> content = new ArrayList<>(file.getContent().size());
+                for (Properties.Content c : file.getContent()) {
+                    if (!(c instanceof Properties.Entry) || !ENDPOINT_KEYS.contains(((Properties.Entry) c).getKey())) {
+                        content.add(c);
+                    } else if (!hosts.isEmpty()) {
+                        // The URL takes the place of the first of the settings it combines
+                        Properties.Entry entry = (Properties.Entry) c;
+                        content.add(entry.withKey(HOSTS).withValue(entry.getValue().withText(hosts)));
+                        hosts = "";
+                    }
+                }
+                return file.withContent(content);
+            }
+        };
+        TreeVisitor<?, ExecutionContext> yaml = new YamlIsoVisitor<ExecutionContext>() {
+            @Override
+            public Yaml.Documents visitDocuments(Yaml.Documents documents, ExecutionContext ctx) {
+                String hosts = hosts(YamlProperties.values(documents));
+                if (hosts == null) {
+                    return documents;
+                }
+                Yaml.Documents d = YamlProperties.remove(documents, ENDPOINT_KEYS);
+                if (!hosts.isEmpty()) {
+                    d = YamlProperties.add(d, Collections.singletonMap(HOSTS, hosts));
+                }
+                return d == null ? documents : d;
+            }
+        };
+        return new TimedVisitor(this, fileTimings, new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof SourceFile) {
+                    if (properties.isAcceptable((SourceFile) tree, ctx)) {
+                        return properties.visit(tree, ctx);
+                    }
+                    if (yaml.isAcceptable((SourceFile) tree, ctx)) {
+                        return yaml.visit(tree, ctx);
+                    }
+                }
+                return tree;
+            }
+        });
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
+    }
+
+    /**
+     * @return the {@code quarkus.redis.hosts} URL of the endpoint settings, an empty string when they are only removed,
+     * or {@code null} when there are none.
+     */
+    private static @Nullable String hosts(Map<String, String> values) {
+        if (!values.containsKey(HOST) && !values.containsKey(PORT) && !values.containsKey(DATABASE)) {
+            return null;
+        }
+        if (values.containsKey(URL) || values.containsKey(HOSTS)) {
+            return "";
+        }
+        String database = values.get(DATABASE);
+        return "redis://" + values.getOrDefault(HOST, "localhost") + ":" + values.getOrDefault(PORT, "6379") +
+               (database == null ? "" : "/" + database);
+    }
+}
@@ -0,0 +1,404 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.marker.JavaVersion;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+@ThreadSafeRecipe
+public class SpringScheduledToQuarkusScheduled extends Recipe {
+
+    private static final String SPRING_SCHEDULED_FQN = "org.springframework.scheduling.annotation.Scheduled";
+    private static final String QUARKUS_SCHEDULED_FQN = "io.quarkus.scheduler.Scheduled";
+    private static final String TIME_UNIT_FQN = "java.util.concurrent.TimeUnit";
+    private static final String ON_VIRTUAL_THREADS = "ON_VIRTUAL_THREADS";
+
+    private static final int MINIMUM_JAVA_VERSION = 21;
+
+    private static final Pattern SIMPLE_DURATION = Pattern.compile("(\\d+)(ms|s|m|h|d)");
+    private static final Pattern NUMERIC_DAYS_OF_WEEK = Pattern.compile("[0-7](-[0-7])?(,[0-7](-[0-7])?)*");
+    private static final Pattern NAMED_DAYS_OF_WEEK = Pattern.compile("[*?]|[A-Za-z]{3}(-[A-Za-z]{3})?(,[A-Za-z]{3}(-[A-Za-z]{3})?)*");
+    private static final String[] DAY_NAMES = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"};
+
+    private static final Map<String, String> CRON_MACROS = new HashMap<>();
+
+    static {
+        CRON_MACROS.put("@yearly", "0 0 0 1 1 ?");
+        CRON_MACROS.put("@annually", "0 0 0 1 1 ?");
+        CRON_MACROS.put("@monthly", "0 0 0 1 * ?");
+        CRON_MACROS.put("@weekly", "0 0 0 ? * SUN");
+        CRON_MACROS.put("@daily", "0 0 0 * * ?");
+        CRON_MACROS.put("@midnight", "0 0 0 * * ?");
+        CRON_MACROS.put("@hourly", "0 0 * * * ?");
+    }
+
+    String displayName = "Convert Spring `@Scheduled` to Quarkus `@Scheduled`";
+
+    String description = "Converts Spring's `@Scheduled` jobs to the Quarkus scheduler. `fixedRate` and `fixedDelay` " +
+                         "become `every`, `initialDelay` becomes `delayed`, Spring cron expressions are rewritten in " +
+                         "the Quartz syntax that Quarkus uses and `zone` becomes `timeZone`. Spring never runs a job " +
+                         "while its previous execution is still in progress, whereas Quarkus does by default, so " +
+                         "every converted job is declared with `concurrentExecution = SKIP`. On Java 21 or later the " +
+                         "jobs are also annotated with `@RunOnVirtualThread`, so that long-running jobs do not hold " +
+                         "on to worker threads. Source files with a `@Scheduled` job that has no Quarkus equivalent, " +
+                         "such as a property placeholder or a custom `scheduler`, are left unchanged.";
+
+    transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new TimedVisitor(this, fileTimings, Preconditions.check(
+                new UsesSpring(SpringUsage.SCHEDULED),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                        // Both annotations are called @Scheduled, so a source file is either converted entirely or not at all
+                        if (!isConvertible(cu)) {
+                            return cu;
+                        }
+                        getCursor().putMessage(ON_VIRTUAL_THREADS, cu.getMarkers().findFirst(JavaVersion.class)
+                                .filter(javaVersion -> javaVersion.getMajorVersion() >= MINIMUM_JAVA_VERSION)
+                                .isPresent());
+                        maybeRemoveImport(SPRING_SCHEDULED_FQN);
+                        return super.visitCompilationUnit(cu, ctx);
+                    }
+
+                    @Override
+                    public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                        J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+                        if (!getCursor().getNearestMessage(ON_VIRTUAL_THREADS, false) ||
+                            method.getLeadingAnnotations().stream().noneMatch(SpringScheduledToQuarkusScheduled::isSpringScheduled) ||
+                            m.getLeadingAnnotations().stream().anyMatch(a -> TypeUtils.isOfClassType(a.getType(), BlockingEndpoints.RUN_ON_VIRTUAL_THREAD_FQN))) {
+                            return m;
+                        }
+                        maybeAddImport(BlockingEndpoints.RUN_ON_VIRTUAL_THREAD_FQN);
+                        return JavaTemplateCache.get(ctx, "@RunOnVirtualThread", "smallrye-common-annotation",
+                                        BlockingEndpoints.RUN_ON_VIRTUAL_THREAD_FQN)
+                                .apply(updateCursor(m), m.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
+                    }
+
+                    @Override
+                    public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
+                        J.Annotation a = super.visitAnnotation(annotation, ctx);
+                        String attributes = isSpringScheduled(a) ? quarkusAttributes(a) : null;
+                        if (attributes == null) {
+                            return a;
+                        }
+                        maybeRemoveImport(TIME_UNIT_FQN);
+                        maybeAddImport(QUARKUS_SCHEDULED_FQN);
+                        return JavaTemplateCache.get(ctx, "@Scheduled(" + attributes + ")",
+                                        "quarkus-scheduler-api", QUARKUS_SCHEDULED_FQN)
+                                .apply(getCursor(), a.getCoordinates().replace());
+                    }
+                }
+        ));
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
+    }
+
+    private static boolean isSpringScheduled(J.Annotation annotation) {
+        return TypeUtils.isOfClassType(annotation.getType(), SPRING_SCHEDULED_FQN);
+    }
+
+    /**
+     * Whether every Spring {@code @Scheduled} annotation of the source file is declared directly on a {@code void}
+     * method and has a Quarkus equivalent. Composed annotations and {@code @Schedules} containers are not.
+     */
+    private static boolean isConvertible(J.CompilationUnit cu) {
+        AtomicBoolean convertible = new AtomicBoolean(true);
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Annotation visitAnnotation(J.Annotation annotation, AtomicBoolean convertible) {
+                if (isSpringScheduled(annotation)) {
+                    Object parent = getCursor().getParentTreeCursor().getValue();
+                    if (!(parent instanceof J.MethodDeclaration) ||
+                        !isVoid((J.MethodDeclaration) parent) ||
+                        quarkusAttributes(annotation) == null) {
+                        convertible.set(false);
+                    }
+                }
+                return super.visitAnnotation(annotation, convertible);
+            }
+        }.visit(cu, convertible);
+        return convertible.get();
+    }
+
+    private static boolean isVoid(J.MethodDeclaration method) {
+        return method.getReturnTypeExpression() instanceof J.Primitive &&
+               ((J.Primitive) method.getReturnTypeExpression()).getType() == JavaType.Primitive.Void;
+    }
+
+    /**
+     * The attributes of the Quarkus {@code @Scheduled} annotation equivalent to a Spring {@code @Scheduled}
+     * annotation, or {@code null} when one of its attributes cannot be carried over.
+     */
+    private static @Nullable String quarkusAttributes(J.Annotation scheduled) {
+        List<J.Assignment> attributes = new ArrayList<>();
+        TimeUnit timeUnit = TimeUnit.MILLISECONDS;
+        for (Expression argument : scheduled.getArguments() == null ? Collections.<Expression>emptyList() : scheduled.getArguments()) {
+            if (argument instanceof J.Empty) {
+                continue;
+            }
+            if (!(argument instanceof J.Assignment) || !(((J.Assignment) argument).getVariable() instanceof J.Identifier)) {
+                return null;
+            }
+            J.Assignment attribute = (J.Assignment) argument;
+            if ("timeUnit".equals(((J.Identifier) attribute.getVariable()).getSimpleName())) {
+                Expression unit = attribute.getAssignment();
+                if (!TypeUtils.isOfClassType(unit.getType(), TIME_UNIT_FQN) ||
+                    !(unit instanceof J.FieldAccess || unit instanceof J.Identifier)) {
+                    return null;
+                }
+                timeUnit = TimeUnit.valueOf(unit instanceof J.FieldAccess ?
+                        ((J.FieldAccess) unit).getSimpleName() : ((J.Identifier) unit).getSimpleName());
+            } else {
+                attributes.add(attribute);
+            }
+        }
+
+        Long every = null;
+        Long delayed = null;
+        String cron = null;
+        String timeZone = null;
+        for (J.Assignment attribute : attributes) {
+            Expression value = attribute.getAssignment();
+            switch (((J.Identifier) attribute.getVariable()).getSimpleName()) {
+                case "fixedRate":
+                case "fixedDelay":
+                    every = every == null ? millis(value, timeUnit) : null;
+                    if (every == null || every <= 0) {
+                        return null;
+                    }
+                    break;
+                case "fixedRateString":
+                case "fixedDelayString":
+                    every = every == null ? millis(literal(value), timeUnit) : null;
+                    if (every == null || every <= 0) {
+                        return null;
+                    }
+                    break;
+                case "initialDelay":
+                    delayed = millis(value, timeUnit);
+                    if (delayed == null || delayed < 0) {
+                        return null;
+                    }
+                    break;
+                case "initialDelayString":
+                    delayed = millis(literal(value), timeUnit);
+                    if (delayed == null || delayed < 0) {
+                        return null;
+                    }
+                    break;
+                case "cron":
+                    cron = quartzCron(literal(value));
+                    if (cron == null) {
+                        return null;
+                    }
+                    break;
+                case "zone":
+                    timeZone = literal(value);
+                    if (timeZone == null) {
+                        return null;
+                    }
+                    break;
+                default:
+                    // scheduler and attributes that are not compile-time literals
+                    return null;
+            }
+        }
+        if ((every == null) == (cron == null) || (timeZone != null && cron == null)) {
+            return null;
+        }
+
+        StringJoiner quarkus = new StringJoiner(", ");
+        if (every != null) {
+            quarkus.add("every = \"" + duration(every) + "\"");
+        } else {
+            quarkus.add("cron = \"" + cron + "\"");
+            if (timeZone != null) {
+                quarkus.add("timeZone = \"" + timeZone + "\"");
+            }
+        }
+        if (delayed != null && delayed > 0) {
+            quarkus.add("delayed = \"" + duration(delayed) + "\"");
+        }
+        quarkus.add("concurrentExecution = Scheduled.ConcurrentExecution.SKIP");
+        return quarkus.toString();
+    }
+
+    private static @Nullable String literal(Expression expression) {
+        if (expression instanceof J.Literal && ((J.Literal) expression).getValue() instanceof String) {
+            String value = ((String) ((J.Literal) expression).getValue()).trim();
+            if (!value.contains("${") && !value.contains("#{") && !value.contains("\"") && !value.contains("\\")) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static @Nullable Long millis(Expression expression, TimeUnit timeUnit) {
+        if (expression instanceof J.Literal && ((J.Literal) expression).getValue() instanceof Number) {
+            Number value = (Number) ((J.Literal) expression).getValue();
+            if (value instanceof Integer || value instanceof Long) {
+                return millis(value.longValue(), timeUnit);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses the values Spring accepts in the {@code *String} attributes: a number in the annotation's time unit,
+     * an ISO-8601 duration or a simple duration such as {@code 30s}.
+     */
+    private static @Nullable Long millis(@Nullable String value, TimeUnit timeUnit) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        if (value.chars().allMatch(Character::isDigit)) {
+            return millis(Long.parseLong(value), timeUnit);
+        }
+        if (value.startsWith("P") || value.startsWith("p")) {
+            try {
+                Duration duration = Duration.parse(value);
+                return duration.getNano() % 1_000_000 == 0 ? duration.toMillis() : null;
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+        }
+        Matcher simple = SIMPLE_DURATION.matcher(value);
+        if (simple.matches()) {
+            long amount = Long.parseLong(simple.group(1));
+            switch (simple.group(2)) {
+                case "ms":
+                    return amount;
+                case "s":
+                    return TimeUnit.SECONDS.toMillis(amount);
+                case "m":
+                    return TimeUnit.MINUTES.toMillis(amount);
+                case "h":
+                    return TimeUnit.HOURS.toMillis(amount);
+                default:
+                    return TimeUnit.DAYS.toMillis(amount);
+            }
+        }
+        return null;
+    }
+
+    private static @Nullable Long millis(long amount, TimeUnit timeUnit) {
+        long nanos = timeUnit.toNanos(amount);
+        return nanos % 1_000_000 == 0 ? nanos / 1_000_000 : null;
+    }
+
+    /**
+     * Formats a duration in the syntax of Quarkus' {@code every} and {@code delayed}, which do not accept
+     * milliseconds, so that sub-second durations are written as fractional seconds.
+     */
+    private static String duration(long millis) {
+        if (millis % 3_600_000 == 0) {
+            return millis / 3_600_000 + "h";
+        } else if (millis % 60_000 == 0) {
+            return millis / 60_000 + "m";
+        } else if (millis % 1_000 == 0) {
+            return millis / 1_000 + "s";
+        }
+        return BigDecimal.valueOf(millis, 3).stripTrailingZeros().toPlainString() + "s";
+    }
+
+    /**
+     * Rewrites a Spring cron expression in the Quartz syntax. Quartz requires exactly one of the day-of-month and
+     * day-of-week fields to be {@code ?} and numbers its days of the week from 1 (Sunday) rather than from 0, so
+     * numeric days are written as names.
+     */
+    private static @Nullable String quartzCron(@Nullable String spring) {
+        if (spring == null) {
+            return null;
+        }
+        String[] fields = CRON_MACROS.getOrDefault(spring, spring).split("\\s+");
+        if (fields.length != 6) {
+            return null;
+        }
+        String dayOfMonth = fields[3];
+        String dayOfWeek = quartzDaysOfWeek(fields[5]);
+        if (dayOfWeek == null) {
+            return null;
+        }
+        if ("?".equals(dayOfMonth) && "?".equals(dayOfWeek)) {
+            dayOfMonth = "*";
+        } else if (!"?".equals(dayOfMonth) && !"?".equals(dayOfWeek)) {
+            if ("*".equals(dayOfWeek)) {
+                dayOfWeek = "?";
+            } else if ("*".equals(dayOfMonth)) {
+                dayOfMonth = "?";
+            } else {
+                return null;
+            }
+        }
+        fields[3] = dayOfMonth;
+        fields[5] = dayOfWeek;
+        return String.join(" ", fields);
+    }
+
+    private static @Nullable String quartzDaysOfWeek(String field) {
+        if (NAMED_DAYS_OF_WEEK.matcher(field).matches()) {
+            return field.toUpperCase(Locale.ROOT);
+        } else if (!NUMERIC_DAYS_OF_WEEK.matcher(field).matches()) {
+            return null;
+        }
+        StringJoiner days = new StringJoiner(",");
+        for (String part : field.split(",")) {
+            int start = part.charAt(0) - '0';
+            int end = part.length() > 1 ? part.charAt(2) - '0' : start;
+            if (start > end) {
+                return null;
+            } else if (start == end) {
+                days.add(DAY_NAMES[start]);
+            } else if (end == 7) {
+                // Sunday is both 0 and 7 in Spring, but only the first day of the week in Quartz
+                days.add(start == 6 ? "SAT" : DAY_NAMES[start] + "-SAT");
+                days.add("SUN");
+            } else {
+                days.add(DAY_NAMES[start] + "-" + DAY_NAMES[end]);
+            }
+        }
+        return days.toString();
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The Spring types and methods that the recipes of this module look for before visiting a source file.
+ * <p>
+ * {@link #in(JavaSourceFile, ExecutionContext)} indexes a source file's types in use, imports and used methods into
+ * an {@link EnumSet}, a bit vector over these constants, once per source file instance and run, so that the
+ * preconditions of all recipes ({@link UsesSpring}) are answered from the same index instead of each scanning the
+ * source file again.
+ */
+enum SpringUsage {
+    CONTROLLER("org.springframework.stereotype.Controller"),
+    WEB_BIND_ANNOTATION("org.springframework.web.bind.annotation.*"),
+    RESPONSE_ENTITY("org.springframework.http.ResponseEntity"),
+    BEAN("org.springframework.context.annotation.Bean"),
+    VALUE("org.springframework.beans.factory.annotation.Value"),
+    CONFIGURATION_PROPERTIES("org.springframework.boot.context.properties.ConfigurationProperties"),
+    EVENT_LISTENER("org.springframework.context.event.EventListener"),
+    HEALTH_INDICATOR("org.springframework.boot.actuate.health.HealthIndicator"),
+    JPA_ENTITY("jakarta.persistence.Entity"),
+    MONGO_REPOSITORY("org.springframework.data.mongodb.repository.MongoRepository"),
+    DATA_REPOSITORY("org.springframework.data.repository.*"),
+    JPA_REPOSITORY("org.springframework.data.jpa.repository.*"),
+    REACTOR("reactor.core.publisher.*"),
+    ASYNC("org.springframework.scheduling.annotation.Async"),
+    SCHEDULED("org.springframework.scheduling.annotation.Scheduled"),
+    TASK_EXECUTOR("org.springframework.core.task.*"),
+    THREAD_POOL_TASK_EXECUTOR("org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor"),
+    CACHE_ANNOTATION("org.springframework.cache.annotation.*"),
+    REDIS("org.springframework.data.redis.core.*"),
+    REST_TEMPLATE("org.springframework.web.client.RestTemplate"),
+    WEB_CLIENT("org.springframework.web.reactive.function.client.WebClient"),
+    KAFKA_LISTENER("org.springframework.kafka.annotation.KafkaListener"),
+    KAFKA_TEMPLATE("org.springframework.kafka.core.KafkaTemplate"),
+    RABBIT_LISTENER("org.springframework.amqp.rabbit.annotation.RabbitListener"),
+    RABBIT_TEMPLATE("org.springframework.amqp.rabbit.core.*"),
+    AMQP_TEMPLATE("org.springframework.amqp.core.AmqpTemplate"),
+    SPRING_APPLICATION_RUN(new MethodMatcher("org.springframework.boot.SpringApplication run(..)", true)),
+    CRUD_REPOSITORY_CALL(new MethodMatcher("org.springframework.data.repository.CrudRepository *(..)", true));
+
+    private static final String INDEX_KEY = SpringUsage.class.getName() + ".index";
+
+    private static final Map<String, SpringUsage> BY_TYPE = new HashMap<>();
+    private static final Map<String, SpringUsage> BY_PACKAGE = new HashMap<>();
+    private static final List<SpringUsage> BY_METHOD = new ArrayList<>();
+
+    static {
+        for (SpringUsage usage : values()) {
+            if (usage.method != null) {
+                BY_METHOD.add(usage);
+            } else if (usage.type.endsWith(".*")) {
+                BY_PACKAGE.put(usage.type.substring(0, usage.type.length() - 2), usage);
+            } else {
+                BY_TYPE.put(usage.type, usage);
+            }
+        }
+    }
+
+    /**
+     * A fully qualified type name, or a package name followed by {@code .*} for any type of that package.
+     */
+    private final String type;
+
+    private final @Nullable MethodMatcher method;
+
+    SpringUsage(String type) {
+        this.type = type;
+        this.method = null;
+    }
+
+    SpringUsage(MethodMatcher method) {
+        this.type = "";
+        this.method = method;
+    }
+
+    /**
+     * @return the Spring types and methods the source file uses, computed once for each source file instance and run.
+     */
+    static Set<SpringUsage> in(JavaSourceFile sourceFile, ExecutionContext ctx) {
+        Map<UUID, Indexed> index = ctx.computeMessageIfAbsent(INDEX_KEY, k -> new ConcurrentHashMap<UUID, Indexed>());
+        Indexed indexed = index.get(sourceFile.getId());
+        // A recipe that changed the source file made a new instance, whose usages may differ
+        if (indexed == null || indexed.sourceFile.get() != sourceFile) {
+            indexed = new Indexed(sourceFile, scan(sourceFile));
+            index.put(sourceFile.getId(), indexed);
+        }
+        return indexed.usages;
+    }
+
+    private static Set<SpringUsage> scan(JavaSourceFile sourceFile) {
+        Set<SpringUsage> usages = EnumSet.noneOf(SpringUsage.class);
+        for (JavaType type : sourceFile.getTypesInUse().getTypesInUse()) {
+            if (type instanceof JavaType.FullyQualified) {
+                mark(((JavaType.FullyQualified) type).getFullyQualifiedName(), usages);
+            }
+        }
+        for (J.Import anImport : sourceFile.getImports()) {
+            if ("*".equals(anImport.getQualid().getSimpleName())) {
+                SpringUsage usage = BY_PACKAGE.get(anImport.getPackageName());
+                if (usage != null) {
+                    usages.add(usage);
+                }
+            } else {
+                mark(anImport.getTypeName(), usages);
+            }
+        }
+        if (!BY_METHOD.isEmpty()) {
+            for (JavaType.Method method : sourceFile.getTypesInUse().getUsedMethods()) {
+                for (SpringUsage usage : BY_METHOD) {
+                    //noinspection DataFlowIssue
+                    if (usage.method.matches(method)) {
+                        usages.add(usage);
+                    }
+                }
+            }
+        }
+        return Collections.unmodifiableSet(usages);
+    }
+
+    private static void mark(String fullyQualifiedName, Set<SpringUsage> usages) {
+        SpringUsage usage = BY_TYPE.get(fullyQualifiedName);
+        if (usage != null) {
+            usages.add(usage);
+        }
+        int lastDot = fullyQualifiedName.lastIndexOf('.');
+        if (lastDot > 0) {
+            usage = BY_PACKAGE.get(fullyQualifiedName.substring(0, lastDot));
+            if (usage != null) {
+                usages.add(usage);
+            }
+        }
+    }
+
+    private static class Indexed {
+        final WeakReference<JavaSourceFile> sourceFile;
+        final Set<SpringUsage> usages;
+
+        Indexed(JavaSourceFile sourceFile, Set<SpringUsage> usages) {
+            this.sourceFile = new WeakReference<>(sourceFile);
+            this.usages = usages;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Wraps a recipe's visitor to record, per source file, the time spent visiting it, the number of template
+ * lookups and whether it changed in {@link RecipeFileTimings}, and to accumulate the totals that
+ * {@link #summarize(Recipe, RecipeTimingSummary, ExecutionContext)} writes to {@link RecipeTimingSummary} once the
+ * run completes.
+ */
+final class TimedVisitor extends TreeVisitor<Tree, ExecutionContext> {
+
+    private static final String TOTALS_KEY = TimedVisitor.class.getName() + ".totals";
+
+    private final String recipeName;
+    private final RecipeFileTimings fileTimings;
+    private final TreeVisitor<?, ExecutionContext> delegate;
+
+    TimedVisitor(Recipe recipe, RecipeFileTimings fileTimings, TreeVisitor<?, ExecutionContext> delegate) {
+        this.recipeName = recipe.getName();
+        this.fileTimings = fileTimings;
+        this.delegate = delegate;
+    }
+
+    static void summarize(Recipe recipe, RecipeTimingSummary summary, ExecutionContext ctx) {
+        Map<String, Totals> totalsByRecipe = ctx.getMessage(TOTALS_KEY);
+        Totals totals = totalsByRecipe == null ? null : totalsByRecipe.remove(recipe.getName());
+        if (totals != null) {
+            summary.insertRow(ctx, totals.toRow(recipe.getName()));
+        }
+    }
+
+    @Override
+    public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+        return delegate.isAcceptable(sourceFile, ctx);
+    }
+
+    @Override
+    public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+        if (tree instanceof SourceFile) {
+            return time((SourceFile) tree, ctx, () -> delegate.visit(tree, ctx));
+        }
+        return delegate.visit(tree, ctx);
+    }
+
+    @Override
+    public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx, Cursor parent) {
+        if (tree instanceof SourceFile) {
+            return time((SourceFile) tree, ctx, () -> delegate.visit(tree, ctx, parent));
+        }
+        return delegate.visit(tree, ctx, parent);
+    }
+
+    private @Nullable Tree time(SourceFile before, ExecutionContext ctx, Supplier<@Nullable Tree> visit) {
+        long lookupsBefore = JavaTemplateCache.lookups();
+        long start = System.nanoTime();
+        Tree after = visit.get();
+        long visitTimeNanos = System.nanoTime() - start;
+        int templateLookups = (int) (JavaTemplateCache.lookups() - lookupsBefore);
+        boolean changed = after != before;
+
+        String sourcePath = before.getSourcePath().toString();
+        // Data tables collect their rows in a list that is not safe for concurrent inserts, see ParallelRecipeRun
+        synchronized (fileTimings) {
+            fileTimings.insertRow(ctx, new RecipeFileTimings.Row(recipeName, ctx.getCycle(), sourcePath, visitTimeNanos, templateLookups, changed));
+        }
+        ctx.computeMessageIfAbsent(TOTALS_KEY, k -> new ConcurrentHashMap<String, Totals>())
+                .computeIfAbsent(recipeName, k -> new Totals())
+                .add(sourcePath, visitTimeNanos, templateLookups, changed);
+        return after;
+    }
+
+    private static class Totals {
+        long sourceFileVisits;
+        long changes;
+        long visitTimeNanos;
+        long maxVisitTimeNanos;
+        String slowestSourcePath = "";
+        long templateLookups;
+
+        synchronized void add(String sourcePath, long nanos, int templates, boolean changed) {
+            sourceFileVisits++;
+            if (changed) {
+                changes++;
+            }
+            visitTimeNanos += nanos;
+            if (nanos > maxVisitTimeNanos) {
+                maxVisitTimeNanos = nanos;
+                slowestSourcePath = sourcePath;
+            }
+            templateLookups += templates;
+        }
+
+        synchronized RecipeTimingSummary.Row toRow(String recipeName) {
+            return new RecipeTimingSummary.Row(recipeName, sourceFileVisits, changes,
+                    NANOSECONDS.toMillis(visitTimeNanos), NANOSECONDS.toMillis(maxVisitTimeNanos),
+                    slowestSourcePath, templateLookups);
+        }
+    }
+}
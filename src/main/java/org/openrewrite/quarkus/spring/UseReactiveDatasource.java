@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.properties.PropertiesIsoVisitor;
+import org.openrewrite.properties.tree.Properties;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
+import org.openrewrite.yaml.YamlIsoVisitor;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.*;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class UseReactiveDatasource extends ScanningRecipe<ReactorUsage> {
+
+    private static final Map<String, String> REACTIVE_KEYS = new LinkedHashMap<>();
+
+    static {
+        REACTIVE_KEYS.put("quarkus.datasource.jdbc.url", "quarkus.datasource.reactive.url");
+        REACTIVE_KEYS.put("quarkus.datasource.jdbc.max-size", "quarkus.datasource.reactive.max-size");
+        REACTIVE_KEYS.put("quarkus.datasource.jdbc.idle-removal-interval", "quarkus.datasource.reactive.idle-timeout");
+        REACTIVE_KEYS.put("quarkus.datasource.jdbc.max-lifetime", "quarkus.datasource.reactive.max-lifetime");
+    }
+
+    String displayName = "Use the reactive datasource URL and pool in reactive projects";
+
+    String description = "Moves `quarkus.datasource.jdbc.url` and the JDBC pool settings that the reactive SQL clients " +
+                         "share to their `quarkus.datasource.reactive.*` equivalents, dropping the `jdbc:` prefix of the " +
+                         "URL, in projects whose web tier migrates to reactive Quarkus REST and whose Spring Data JPA starter " +
+                         "`SpringBootDataJpaToQuarkusReactive` swaps for Hibernate Reactive and the reactive SQL clients.";
+
+    transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
+    @Override
+    public ReactorUsage getInitialValue(ExecutionContext ctx) {
+        return new ReactorUsage();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(ReactorUsage acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof SourceFile) {
+                    acc.scan((SourceFile) tree, ctx);
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(ReactorUsage acc) {
+        TreeVisitor<?, ExecutionContext> properties = new PropertiesIsoVisitor<ExecutionContext>() {
+            @Override
+            public Properties.Entry visitEntry(Properties.Entry entry, ExecutionContext ctx) {
+                String reactiveKey = REACTIVE_KEYS.get(entry.getKey());
+                if (reactiveKey == null) {
+                    return entry;
+                }
+                return entry.withKey(reactiveKey).withValue(entry.getValue().withText(reactiveValue(reactiveKey, entry.getValue().getText())));
+            }
+        };
+        TreeVisitor<?, ExecutionContext> yaml = new YamlIsoVisitor<ExecutionContext>() {
+            @Override
+            public Yaml.Documents visitDocuments(Yaml.Documents documents, ExecutionContext ctx) {
+                Set<String> jdbcKeys = new HashSet<>();
+                Map<String, String> moved = new LinkedHashMap<>();
+                for (Map.Entry<String, String> value : YamlProperties.values(documents).entrySet()) {
+                    String reactiveKey = REACTIVE_KEYS.get(value.getKey());
+                    if (reactiveKey != null) {
+                        jdbcKeys.add(value.getKey());
+                        moved.put(reactiveKey, reactiveValue(reactiveKey, value.getValue()));
+                    }
+                }
+                if (moved.isEmpty()) {
+                    return documents;
+                }
+                Yaml.Documents d = YamlProperties.add(YamlProperties.remove(documents, jdbcKeys), moved);
+                return d == null ? documents : d;
+            }
+        };
+        return new TimedVisitor(this, fileTimings, new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof SourceFile && acc.isHibernateReactive(((SourceFile) tree).getMarkers())) {
+                    if (properties.isAcceptable((SourceFile) tree, ctx)) {
+                        return properties.visit(tree, ctx);
+                    }
+                    if (yaml.isAcceptable((SourceFile) tree, ctx)) {
+                        return yaml.visit(tree, ctx);
+                    }
+                }
+                return tree;
+            }
+        });
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
+    }
+
+    /**
+     * Reactive SQL clients take the URL of a JDBC driver without its {@code jdbc:} scheme.
+     */
+    private static String reactiveValue(String reactiveKey, String value) {
+        return "quarkus.datasource.reactive.url".equals(reactiveKey) && value.startsWith("jdbc:") ?
+                value.substring("jdbc:".length()) : value;
+    }
+}
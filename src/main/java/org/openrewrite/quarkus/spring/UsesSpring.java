@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Tree;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.marker.SearchResult;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Marks a source file that uses any of the given Spring types or methods, looked up in the shared
+ * {@link SpringUsage} index rather than by scanning the source file again for each recipe's precondition.
+ */
+final class UsesSpring extends JavaIsoVisitor<ExecutionContext> {
+
+    private final Set<SpringUsage> anyOf;
+
+    UsesSpring(SpringUsage usage, SpringUsage... others) {
+        this.anyOf = EnumSet.of(usage, others);
+    }
+
+    @Override
+    public @Nullable J visit(@Nullable Tree tree, ExecutionContext ctx) {
+        if (tree instanceof JavaSourceFile) {
+            JavaSourceFile sourceFile = (JavaSourceFile) tree;
+            for (SpringUsage usage : SpringUsage.in(sourceFile, ctx)) {
+                if (anyOf.contains(usage)) {
+                    return SearchResult.found(sourceFile);
+                }
+            }
+            return sourceFile;
+        }
+        return (J) tree;
+    }
+}
@@ -22,17 +22,17 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
-import org.openrewrite.java.JavaTemplate;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 @Value
 @EqualsAndHashCode(callSuper = false)
+@ThreadSafeRecipe
 public class ValueToCdiConfigProperty extends Recipe {
 
     private static final Pattern VALUE_ANNOTATION_PROPERTY_VALUE = Pattern.compile(
@@ -45,10 +45,14 @@ public class ValueToCdiConfigProperty extends Recipe {
 
     String description = "Transform Spring `@Value` annotations to MicroProfile `@ConfigProperty` with proper parameter mapping.";
 
+    transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
-                new UsesType<>("org.springframework.beans.factory.annotation.Value", false),
+        return new TimedVisitor(this, fileTimings, Preconditions.check(
+                new UsesSpring(SpringUsage.VALUE),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
@@ -79,12 +83,15 @@ public class ValueToCdiConfigProperty extends Recipe {
                                 String.format("@ConfigProperty(name = \"%s\", defaultValue = \"%s\")", propertyKey, defaultValue) :
                                 String.format("@ConfigProperty(name = \"%s\")", propertyKey);
 
-                        return JavaTemplate.builder(configPropertyTemplate)
-                                .imports("org.eclipse.microprofile.config.inject.ConfigProperty")
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "microprofile-config-api"))
-                                .build()
+                        return JavaTemplateCache.get(ctx, configPropertyTemplate, "microprofile-config-api",
+                                        "org.eclipse.microprofile.config.inject.ConfigProperty")
                                 .apply(getCursor(), a.getCoordinates().replace());
                     }
-                });
+                }));
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
     }
 }
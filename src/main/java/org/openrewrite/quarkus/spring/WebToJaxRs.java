@@ -20,26 +20,69 @@ import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.*;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@ThreadSafeRecipe
 public class WebToJaxRs extends Recipe {
-    private static final AnnotationMatcher REST_CONTROLLER_MATCHER = new AnnotationMatcher("@org.springframework.web.bind.annotation.RestController");
-    private static final AnnotationMatcher CONTROLLER_MATCHER = new AnnotationMatcher("@org.springframework.stereotype.Controller");
-    private static final AnnotationMatcher RESPONSE_BODY_MATCHER = new AnnotationMatcher("@org.springframework.web.bind.annotation.ResponseBody");
-    private static final AnnotationMatcher REQUEST_MAPPING_MATCHER = new AnnotationMatcher("@org.springframework.web.bind.annotation.RequestMapping");
-    private static final AnnotationMatcher PATH_VARIABLE_MATCHER = new AnnotationMatcher("@org.springframework.web.bind.annotation.PathVariable");
-    private static final AnnotationMatcher REQUEST_PARAM_MATCHER = new AnnotationMatcher("@org.springframework.web.bind.annotation.RequestParam");
-    private static final AnnotationMatcher REQUEST_HEADER_MATCHER = new AnnotationMatcher("@org.springframework.web.bind.annotation.RequestHeader");
+    private static final String JAKARTA_WS_RS_API = "jakarta.ws.rs-api";
+
+    private static final String RESOLVED_ANNOTATIONS = "RESOLVED_SPRING_WEB_ANNOTATIONS";
+
     private static final AnnotationMatcher REQUEST_BODY_MATCHER = new AnnotationMatcher("@org.springframework.web.bind.annotation.RequestBody");
 
-    // HTTP method matchers
-    private static final AnnotationMatcher GET_MAPPING_MATCHER = new AnnotationMatcher("@org.springframework.web.bind.annotation.GetMapping");
-    private static final AnnotationMatcher POST_MAPPING_MATCHER = new AnnotationMatcher("@org.springframework.web.bind.annotation.PostMapping");
-    private static final AnnotationMatcher PUT_MAPPING_MATCHER = new AnnotationMatcher("@org.springframework.web.bind.annotation.PutMapping");
-    private static final AnnotationMatcher DELETE_MAPPING_MATCHER = new AnnotationMatcher("@org.springframework.web.bind.annotation.DeleteMapping");
-    private static final AnnotationMatcher PATCH_MAPPING_MATCHER = new AnnotationMatcher("@org.springframework.web.bind.annotation.PatchMapping");
+    /**
+     * The Spring Web annotations this recipe rewrites, resolved from an annotation's fully qualified type name with a
+     * single hash lookup instead of evaluating one {@link AnnotationMatcher} per annotation type.
+     */
+    private enum SpringWebAnnotation {
+        REST_CONTROLLER("org.springframework.web.bind.annotation.RestController"),
+        CONTROLLER("org.springframework.stereotype.Controller"),
+        RESPONSE_BODY("org.springframework.web.bind.annotation.ResponseBody"),
+        REQUEST_MAPPING("org.springframework.web.bind.annotation.RequestMapping"),
+        PATH_VARIABLE("org.springframework.web.bind.annotation.PathVariable"),
+        REQUEST_PARAM("org.springframework.web.bind.annotation.RequestParam"),
+        REQUEST_HEADER("org.springframework.web.bind.annotation.RequestHeader"),
+        REQUEST_BODY("org.springframework.web.bind.annotation.RequestBody"),
+        GET_MAPPING("org.springframework.web.bind.annotation.GetMapping"),
+        POST_MAPPING("org.springframework.web.bind.annotation.PostMapping"),
+        PUT_MAPPING("org.springframework.web.bind.annotation.PutMapping"),
+        DELETE_MAPPING("org.springframework.web.bind.annotation.DeleteMapping"),
+        PATCH_MAPPING("org.springframework.web.bind.annotation.PatchMapping");
+
+        private static final Map<String, SpringWebAnnotation> BY_FQN = new HashMap<>();
+
+        static {
+            for (SpringWebAnnotation annotation : values()) {
+                BY_FQN.put(annotation.fullyQualifiedName, annotation);
+            }
+        }
+
+        final String fullyQualifiedName;
+
+        SpringWebAnnotation(String fullyQualifiedName) {
+            this.fullyQualifiedName = fullyQualifiedName;
+        }
+
+        boolean isHttpMethodMapping() {
+            return this == GET_MAPPING || this == POST_MAPPING || this == PUT_MAPPING ||
+                   this == DELETE_MAPPING || this == PATCH_MAPPING;
+        }
+
+        static @Nullable SpringWebAnnotation of(J.Annotation annotation) {
+            JavaType.FullyQualified type = TypeUtils.asFullyQualified(annotation.getType());
+            return type == null ? null : BY_FQN.get(type.getFullyQualifiedName());
+        }
+    }
 
     @Getter
     final String displayName = "Convert Spring Web annotations to JAX-RS";
@@ -47,16 +90,21 @@ public class WebToJaxRs extends Recipe {
     @Getter
     final String description = "Converts Spring Web annotations such as `@RestController`, `@RequestMapping`, `@GetMapping`, etc., to their JAX-RS equivalents like `@Path`, `@GET`, etc.";
 
+    final transient RecipeFileTimings fileTimings = new RecipeFileTimings(this);
+
+    final transient RecipeTimingSummary timingSummary = new RecipeTimingSummary(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
-                Preconditions.or(
-                        new UsesType<>("org.springframework.stereotype.Controller", false),
-                        new UsesType<>("org.springframework.web.bind.annotation.*", false)
-                ),
-                // XXX See if we can avoid repeatUntilStable by making the visitor idempotent in a single pass
-                Repeat.repeatUntilStable(new WebToJaxRsVisitor())
-        );
+        return new TimedVisitor(this, fileTimings, Preconditions.check(
+                new UsesSpring(SpringUsage.CONTROLLER, SpringUsage.WEB_BIND_ANNOTATION),
+                new WebToJaxRsVisitor()
+        ));
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        TimedVisitor.summarize(this, timingSummary, ctx);
     }
 
     private static class WebToJaxRsVisitor extends JavaIsoVisitor<ExecutionContext> {
@@ -84,13 +132,14 @@ public class WebToJaxRs extends Recipe {
             boolean hasRequestMapping = false;
 
             for (J.Annotation annotation : classDecl.getLeadingAnnotations()) {
-                if (REST_CONTROLLER_MATCHER.matches(annotation)) {
+                SpringWebAnnotation springWebAnnotation = resolve(getCursor(), annotation);
+                if (springWebAnnotation == SpringWebAnnotation.REST_CONTROLLER) {
                     hasRestController = true;
-                } else if (CONTROLLER_MATCHER.matches(annotation)) {
+                } else if (springWebAnnotation == SpringWebAnnotation.CONTROLLER) {
                     hasController = true;
-                } else if (RESPONSE_BODY_MATCHER.matches(annotation)) {
+                } else if (springWebAnnotation == SpringWebAnnotation.RESPONSE_BODY) {
                     hasResponseBody = true;
-                } else if (REQUEST_MAPPING_MATCHER.matches(annotation)) {
+                } else if (springWebAnnotation == SpringWebAnnotation.REQUEST_MAPPING) {
                     hasRequestMapping = true;
                 } else if ("Path".equals(annotation.getSimpleName())) {
                     hasPath = true;
@@ -103,11 +152,9 @@ public class WebToJaxRs extends Recipe {
             // 3. We don't already have @Path
             if ((hasRestController || (hasController && hasResponseBody)) && !hasRequestMapping && !hasPath) {
                 maybeAddImport("jakarta.ws.rs.Path");
-                return JavaTemplate.builder("@Path(\"\")")
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jakarta.ws.rs-api"))
-                        .imports("jakarta.ws.rs.Path")
-                        .build()
-                        .apply(getCursor(), cd.getCoordinates().addAnnotation((a1, a2) -> 0));
+                // Apply to the already transformed class so the removal of Spring annotations done by super is kept
+                return JavaTemplateCache.get(ctx, "@Path(\"\")", JAKARTA_WS_RS_API, "jakarta.ws.rs.Path")
+                        .apply(updateCursor(cd), cd.getCoordinates().addAnnotation((a1, a2) -> 0));
             }
 
             return cd;
@@ -123,16 +170,16 @@ public class WebToJaxRs extends Recipe {
 
             // Check what the original method has before transformation
             for (J.Annotation annotation : method.getLeadingAnnotations()) {
-                if (GET_MAPPING_MATCHER.matches(annotation) ||
-                        POST_MAPPING_MATCHER.matches(annotation) ||
-                        PUT_MAPPING_MATCHER.matches(annotation) ||
-                        DELETE_MAPPING_MATCHER.matches(annotation) ||
-                        PATCH_MAPPING_MATCHER.matches(annotation)) {
+                SpringWebAnnotation springWebAnnotation = resolve(getCursor(), annotation);
+                if (springWebAnnotation == null) {
+                    continue;
+                }
+                if (springWebAnnotation.isHttpMethodMapping()) {
                     pathToAdd = extractPathValue(annotation);
                     consumesToAdd = extractAttributeValue(annotation, "consumes");
                     producesToAdd = extractAttributeValue(annotation, "produces");
                     hasHttpMethod = true;
-                } else if (REQUEST_MAPPING_MATCHER.matches(annotation)) {
+                } else if (springWebAnnotation == SpringWebAnnotation.REQUEST_MAPPING) {
                     pathToAdd = extractPathValue(annotation);
                     consumesToAdd = extractAttributeValue(annotation, "consumes");
                     producesToAdd = extractAttributeValue(annotation, "produces");
@@ -161,33 +208,21 @@ public class WebToJaxRs extends Recipe {
             // Add @Path if needed
             if (hasHttpMethod && pathToAdd != null && !hasPath) {
                 maybeAddImport("jakarta.ws.rs.Path");
-                m = JavaTemplate.builder("@Path(#{any()})")
-                        .contextSensitive()
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jakarta.ws.rs-api"))
-                        .imports("jakarta.ws.rs.Path")
-                        .build()
+                m = JavaTemplateCache.getContextSensitive(ctx, "@Path(#{any()})", JAKARTA_WS_RS_API, "jakarta.ws.rs.Path")
                         .apply(updateCursor(m), m.getCoordinates().addAnnotation((a1, a2) -> 0), pathToAdd);
             }
 
             // Add @Consumes if needed
             if (hasHttpMethod && consumesToAdd != null && !hasConsumes) {
                 maybeAddImport("jakarta.ws.rs.Consumes");
-                m = JavaTemplate.builder("@Consumes(#{any()})")
-                        .contextSensitive()
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jakarta.ws.rs-api"))
-                        .imports("jakarta.ws.rs.Consumes")
-                        .build()
+                m = JavaTemplateCache.getContextSensitive(ctx, "@Consumes(#{any()})", JAKARTA_WS_RS_API, "jakarta.ws.rs.Consumes")
                         .apply(updateCursor(m), m.getCoordinates().addAnnotation((a1, a2) -> 0), consumesToAdd);
             }
 
             // Add @Produces if needed
             if (hasHttpMethod && producesToAdd != null && !hasProduces) {
                 maybeAddImport("jakarta.ws.rs.Produces");
-                m = JavaTemplate.builder("@Produces(#{any()})")
-                        .contextSensitive()
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jakarta.ws.rs-api"))
-                        .imports("jakarta.ws.rs.Produces")
-                        .build()
+                m = JavaTemplateCache.getContextSensitive(ctx, "@Produces(#{any()})", JAKARTA_WS_RS_API, "jakarta.ws.rs.Produces")
                         .apply(updateCursor(m), m.getCoordinates().addAnnotation((a1, a2) -> 0), producesToAdd);
             }
 
@@ -197,101 +232,120 @@ public class WebToJaxRs extends Recipe {
         @Override
         public J.@Nullable Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
             J.Annotation ann = annotation;
-            Object parent = getCursor().getParentOrThrow().getValue();
+            Cursor parentCursor = getCursor().getParentOrThrow();
+            Object parent = parentCursor.getValue();
+            SpringWebAnnotation springWebAnnotation = resolve(parentCursor, ann);
+            if (springWebAnnotation == null) {
+                return ann;
+            }
 
             // Handle class-level annotations
             if (parent instanceof J.ClassDeclaration) {
-                if (REST_CONTROLLER_MATCHER.matches(ann)) {
-                    maybeRemoveImport("org.springframework.web.bind.annotation.RestController");
-                    return null; // Remove the annotation
-                }
-                if (CONTROLLER_MATCHER.matches(ann)) {
-                    // Check if class also has @ResponseBody
-                    J.ClassDeclaration cd = (J.ClassDeclaration) parent;
-                    boolean hasResponseBody = cd.getLeadingAnnotations().stream()
-                            .anyMatch(RESPONSE_BODY_MATCHER::matches);
-                    if (hasResponseBody) {
-                        maybeRemoveImport("org.springframework.stereotype.Controller");
-                        return null; // Remove the annotation
-                    }
-                } else if (RESPONSE_BODY_MATCHER.matches(ann)) {
-                    // Check if class also has @Controller
-                    J.ClassDeclaration cd = (J.ClassDeclaration) parent;
-                    boolean hasController = cd.getLeadingAnnotations().stream()
-                            .anyMatch(CONTROLLER_MATCHER::matches);
-                    if (hasController) {
-                        maybeRemoveImport("org.springframework.web.bind.annotation.ResponseBody");
+                List<J.Annotation> classAnnotations = ((J.ClassDeclaration) parent).getLeadingAnnotations();
+                switch (springWebAnnotation) {
+                    case REST_CONTROLLER:
+                        maybeRemoveImport("org.springframework.web.bind.annotation.RestController");
                         return null; // Remove the annotation
-                    }
-                } else if (REQUEST_MAPPING_MATCHER.matches(ann)) {
-                    // Convert @RequestMapping to @Path at class level
-                    Expression path = extractPathValue(ann);
-                    maybeRemoveImport("org.springframework.web.bind.annotation.RequestMapping");
-                    maybeAddImport("jakarta.ws.rs.Path");
-
-                    // Build @Path with the correct argument
-                    String pathAnnotation = path != null ? "@Path(#{any()})" : "@Path";
-                    return JavaTemplate.builder(pathAnnotation)
-                            .contextSensitive()
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jakarta.ws.rs-api"))
-                            .imports("jakarta.ws.rs.Path")
-                            .build()
-                            .apply(getCursor(), ann.getCoordinates().replace(), path);
+                    case CONTROLLER:
+                        // Check if class also has @ResponseBody
+                        if (hasAnnotation(parentCursor, classAnnotations, SpringWebAnnotation.RESPONSE_BODY)) {
+                            maybeRemoveImport("org.springframework.stereotype.Controller");
+                            return null; // Remove the annotation
+                        }
+                        break;
+                    case RESPONSE_BODY:
+                        // Check if class also has @Controller
+                        if (hasAnnotation(parentCursor, classAnnotations, SpringWebAnnotation.CONTROLLER)) {
+                            maybeRemoveImport("org.springframework.web.bind.annotation.ResponseBody");
+                            return null; // Remove the annotation
+                        }
+                        break;
+                    case REQUEST_MAPPING:
+                        // Convert @RequestMapping to @Path at class level
+                        Expression path = extractPathValue(ann);
+                        maybeRemoveImport("org.springframework.web.bind.annotation.RequestMapping");
+                        maybeAddImport("jakarta.ws.rs.Path");
+
+                        // Build @Path with the correct argument
+                        String pathAnnotation = path != null ? "@Path(#{any()})" : "@Path";
+                        return JavaTemplateCache.getContextSensitive(ctx, pathAnnotation, JAKARTA_WS_RS_API, "jakarta.ws.rs.Path")
+                                .apply(getCursor(), ann.getCoordinates().replace(), path);
+                    default:
+                        break;
                 }
             }
 
             // Handle method-level annotations
             if (parent instanceof J.MethodDeclaration) {
-                if (REQUEST_MAPPING_MATCHER.matches(ann)) {
-                    String jaxRsAnnotation = extractMethodType(ann);
-                    maybeRemoveImport("org.springframework.web.bind.annotation.RequestMapping");
-                    maybeRemoveImport("org.springframework.web.bind.annotation.RequestMethod");
-                    maybeAddImport("jakarta.ws.rs." + jaxRsAnnotation);
-                    return JavaTemplate.builder("@" + jaxRsAnnotation)
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jakarta.ws.rs-api"))
-                            .imports("jakarta.ws.rs." + jaxRsAnnotation)
-                            .build()
-                            .apply(getCursor(), ann.getCoordinates().replace());
-                }
-                if (GET_MAPPING_MATCHER.matches(ann)) {
-                    return convertHttpMethodMapping(ann, "GetMapping", "GET", ctx);
-                }
-                if (POST_MAPPING_MATCHER.matches(ann)) {
-                    return convertHttpMethodMapping(ann, "PostMapping", "POST", ctx);
-                }
-                if (PUT_MAPPING_MATCHER.matches(ann)) {
-                    return convertHttpMethodMapping(ann, "PutMapping", "PUT", ctx);
-                }
-                if (DELETE_MAPPING_MATCHER.matches(ann)) {
-                    return convertHttpMethodMapping(ann, "DeleteMapping", "DELETE", ctx);
-                }
-                if (PATCH_MAPPING_MATCHER.matches(ann)) {
-                    return convertHttpMethodMapping(ann, "PatchMapping", "PATCH", ctx);
+                switch (springWebAnnotation) {
+                    case REQUEST_MAPPING:
+                        String jaxRsAnnotation = extractMethodType(ann);
+                        maybeRemoveImport("org.springframework.web.bind.annotation.RequestMapping");
+                        maybeRemoveImport("org.springframework.web.bind.annotation.RequestMethod");
+                        maybeAddImport("jakarta.ws.rs." + jaxRsAnnotation);
+                        return JavaTemplateCache.get(ctx, "@" + jaxRsAnnotation, JAKARTA_WS_RS_API, "jakarta.ws.rs." + jaxRsAnnotation)
+                                .apply(getCursor(), ann.getCoordinates().replace());
+                    case GET_MAPPING:
+                        return convertHttpMethodMapping(ann, "GetMapping", "GET", ctx);
+                    case POST_MAPPING:
+                        return convertHttpMethodMapping(ann, "PostMapping", "POST", ctx);
+                    case PUT_MAPPING:
+                        return convertHttpMethodMapping(ann, "PutMapping", "PUT", ctx);
+                    case DELETE_MAPPING:
+                        return convertHttpMethodMapping(ann, "DeleteMapping", "DELETE", ctx);
+                    case PATCH_MAPPING:
+                        return convertHttpMethodMapping(ann, "PatchMapping", "PATCH", ctx);
+                    default:
+                        break;
                 }
             }
 
             // Handle parameter annotations
             if (parent instanceof J.VariableDeclarations) {
-                if (PATH_VARIABLE_MATCHER.matches(ann)) {
-                    maybeRemoveImport("org.springframework.web.bind.annotation.PathVariable");
-                    maybeAddImport("jakarta.ws.rs.PathParam");
-                    return convertParamAnnotation(ann, "PathParam", (J.VariableDeclarations) parent, ctx);
-                }
-                if (REQUEST_PARAM_MATCHER.matches(ann)) {
-                    maybeRemoveImport("org.springframework.web.bind.annotation.RequestParam");
-                    maybeAddImport("jakarta.ws.rs.QueryParam");
-                    return convertParamAnnotation(ann, "QueryParam", (J.VariableDeclarations) parent, ctx);
-                }
-                if (REQUEST_HEADER_MATCHER.matches(ann)) {
-                    maybeRemoveImport("org.springframework.web.bind.annotation.RequestHeader");
-                    maybeAddImport("jakarta.ws.rs.HeaderParam");
-                    return convertParamAnnotation(ann, "HeaderParam", (J.VariableDeclarations) parent, ctx);
+                switch (springWebAnnotation) {
+                    case PATH_VARIABLE:
+                        maybeRemoveImport("org.springframework.web.bind.annotation.PathVariable");
+                        maybeAddImport("jakarta.ws.rs.PathParam");
+                        return convertParamAnnotation(ann, "PathParam", (J.VariableDeclarations) parent, ctx);
+                    case REQUEST_PARAM:
+                        maybeRemoveImport("org.springframework.web.bind.annotation.RequestParam");
+                        maybeAddImport("jakarta.ws.rs.QueryParam");
+                        return convertParamAnnotation(ann, "QueryParam", (J.VariableDeclarations) parent, ctx);
+                    case REQUEST_HEADER:
+                        maybeRemoveImport("org.springframework.web.bind.annotation.RequestHeader");
+                        maybeAddImport("jakarta.ws.rs.HeaderParam");
+                        return convertParamAnnotation(ann, "HeaderParam", (J.VariableDeclarations) parent, ctx);
+                    default:
+                        break;
                 }
             }
 
             return ann;
         }
 
+        /**
+         * Resolves an annotation once per declaration: the result is cached on the cursor of the declaration the
+         * annotation belongs to, so the class, method and annotation visits share a single lookup.
+         */
+        private @Nullable SpringWebAnnotation resolve(Cursor owner, J.Annotation annotation) {
+            Map<UUID, @Nullable SpringWebAnnotation> resolved = owner.computeMessageIfAbsent(RESOLVED_ANNOTATIONS, k -> new HashMap<>());
+            if (resolved.containsKey(annotation.getId())) {
+                return resolved.get(annotation.getId());
+            }
+            SpringWebAnnotation springWebAnnotation = SpringWebAnnotation.of(annotation);
+            resolved.put(annotation.getId(), springWebAnnotation);
+            return springWebAnnotation;
+        }
+
+        private boolean hasAnnotation(Cursor owner, List<J.Annotation> annotations, SpringWebAnnotation springWebAnnotation) {
+            for (J.Annotation annotation : annotations) {
+                if (resolve(owner, annotation) == springWebAnnotation) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         private J.Annotation convertParamAnnotation(J.Annotation ann, String jaxRsAnnotation, J.VariableDeclarations varDecls, ExecutionContext ctx) {
             // Extract explicit value/name attribute from the annotation
             Expression value = extractAttributeValue(ann, "value", "name");
@@ -306,20 +360,14 @@ public class WebToJaxRs extends Recipe {
                 template = "@" + jaxRsAnnotation + "(\"" + paramName + "\")";
                 args = new Object[0];
             }
-            return JavaTemplate.builder(template)
-                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jakarta.ws.rs-api"))
-                    .imports("jakarta.ws.rs." + jaxRsAnnotation)
-                    .build()
+            return JavaTemplateCache.get(ctx, template, JAKARTA_WS_RS_API, "jakarta.ws.rs." + jaxRsAnnotation)
                     .apply(getCursor(), ann.getCoordinates().replace(), args);
         }
 
         private J.Annotation convertHttpMethodMapping(J.Annotation ann, String springMapping, String jaxRsMethod, ExecutionContext ctx) {
             maybeRemoveImport("org.springframework.web.bind.annotation." + springMapping);
             maybeAddImport("jakarta.ws.rs." + jaxRsMethod);
-            return JavaTemplate.builder("@" + jaxRsMethod)
-                    .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "jakarta.ws.rs-api"))
-                    .imports("jakarta.ws.rs." + jaxRsMethod)
-                    .build()
+            return JavaTemplateCache.get(ctx, "@" + jaxRsMethod, JAKARTA_WS_RS_API, "jakarta.ws.rs." + jaxRsMethod)
                     .apply(getCursor(), ann.getCoordinates().replace());
         }
 
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.PathUtils;
+import org.openrewrite.SourceFile;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.yaml.YamlParser;
+import org.openrewrite.yaml.tree.Yaml;
+
+import java.util.*;
+
+/**
+ * Reads and writes the dotted property keys of YAML configuration files, whose keys may be nested, as in
+ * {@code quarkus: { datasource: { username: app } } }, dotted, as in {@code quarkus.datasource.username: app}, or both.
+ */
+final class YamlProperties {
+
+    private YamlProperties() {
+    }
+
+    static boolean isMainApplicationYaml(SourceFile sourceFile) {
+        String fileName = sourceFile.getSourcePath().getFileName().toString();
+        return ("application.yml".equals(fileName) || "application.yaml".equals(fileName)) && isInMainSourceSet(sourceFile);
+    }
+
+    /**
+     * @return whether a source file belongs to the main source set, or sits outside of a Maven or Gradle layout.
+     */
+    static boolean isInMainSourceSet(SourceFile sourceFile) {
+        String path = "/" + PathUtils.separatorsToUnix(sourceFile.getSourcePath().toString());
+        int src = path.lastIndexOf("/src/");
+        return src < 0 || path.startsWith("/src/main/", src);
+    }
+
+    /**
+     * @return the dotted property key of the mapping entry at the cursor.
+     */
+    static String key(Cursor cursor) {
+        Deque<String> segments = new ArrayDeque<>();
+        for (Iterator<Object> path = cursor.getPath(); path.hasNext(); ) {
+            Object value = path.next();
+            if (value instanceof Yaml.Mapping.Entry) {
+                segments.push(((Yaml.Mapping.Entry) value).getKey().getValue());
+            }
+        }
+        return String.join(".", segments);
+    }
+
+    /**
+     * @return the scalar values of all documents, by dotted property key.
+     */
+    static Map<String, String> values(Yaml.Documents documents) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (Yaml.Document document : documents.getDocuments()) {
+            if (document.getBlock() instanceof Yaml.Mapping) {
+                values((Yaml.Mapping) document.getBlock(), "", values);
+            }
+        }
+        return values;
+    }
+
+    private static void values(Yaml.Mapping mapping, String prefix, Map<String, String> values) {
+        for (Yaml.Mapping.Entry entry : mapping.getEntries()) {
+            String key = prefix + entry.getKey().getValue();
+            if (entry.getValue() instanceof Yaml.Mapping) {
+                values((Yaml.Mapping) entry.getValue(), key + ".", values);
+            } else if (entry.getValue() instanceof Yaml.Scalar) {
+                values.put(key, ((Yaml.Scalar) entry.getValue()).getValue());
+            }
+        }
+    }
+
+    /**
+     * Removes the scalar entries with the given keys from all documents, along with the mappings they leave empty.
+     */
+    static Yaml.Documents remove(Yaml.Documents documents, Collection<String> keys) {
+        return documents.withDocuments(ListUtils.map(documents.getDocuments(), document ->
+                document.getBlock() instanceof Yaml.Mapping ?
+                        document.withBlock(remove((Yaml.Mapping) document.getBlock(), "", keys)) : document));
+    }
+
+    private static Yaml.Mapping remove(Yaml.Mapping mapping, String prefix, Collection<String> keys) {
+        return mapping.withEntries(ListUtils.map(mapping.getEntries(), entry -> {
+            String key = prefix + entry.getKey().getValue();
+            if (entry.getValue() instanceof Yaml.Scalar) {
+                return keys.contains(key) ? null : entry;
+            }
+            if (entry.getValue() instanceof Yaml.Mapping) {
+                Yaml.Mapping nested = remove((Yaml.Mapping) entry.getValue(), key + ".", keys);
+                return nested.getEntries().isEmpty() ? null : entry.withValue(nested);
+            }
+            return entry;
+        }));
+    }
+
+    /**
+     * Adds scalar entries to the first document, under the mapping that already holds the longest leading part of
+     * their key, so that {@code quarkus.datasource.reactive.url} goes into an existing {@code quarkus: datasource:}
+     * mapping as {@code reactive.url}. Keys that are already present are left as they are.
+     *
+     * @return the documents with the entries added, or {@code null} when the first document is not a mapping.
+     */
+    static Yaml.@Nullable Documents add(Yaml.Documents documents, Map<String, String> entries) {
+        if (documents.getDocuments().isEmpty() || !(documents.getDocuments().get(0).getBlock() instanceof Yaml.Mapping)) {
+            return null;
+        }
+        Map<String, String> present = values(documents);
+        Yaml.Mapping root = (Yaml.Mapping) documents.getDocuments().get(0).getBlock();
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            if (!present.containsKey(entry.getKey())) {
+                root = add(root, "", entry.getKey(), entry.getValue());
+            }
+        }
+        Yaml.Mapping block = root;
+        return documents.withDocuments(ListUtils.mapFirst(documents.getDocuments(), d -> d.withBlock(block)));
+    }
+
+    private static Yaml.Mapping add(Yaml.Mapping mapping, String prefix, String key, String value) {
+        for (Yaml.Mapping.Entry entry : mapping.getEntries()) {
+            String nestedPrefix = prefix + entry.getKey().getValue() + ".";
+            if (entry.getValue() instanceof Yaml.Mapping && key.startsWith(nestedPrefix) &&
+                !((Yaml.Mapping) entry.getValue()).getEntries().isEmpty()) {
+                Yaml.Mapping nested = add((Yaml.Mapping) entry.getValue(), nestedPrefix, key, value);
+                return mapping.withEntries(ListUtils.map(mapping.getEntries(), e -> e == entry ? e.withValue(nested) : e));
+            }
+        }
+        // Entries of the root mapping have a prefix without a newline when they are the first of the file
+        String prefixOfSiblings = mapping.getEntries().isEmpty() ? "" : mapping.getEntries().get(mapping.getEntries().size() - 1).getPrefix();
+        Yaml.Mapping.Entry added = entry(key.substring(prefix.length()), value)
+                .withPrefix(prefixOfSiblings.contains("\n") ? prefixOfSiblings : "\n" + prefixOfSiblings);
+        return mapping.withEntries(ListUtils.concat(mapping.getEntries(), added));
+    }
+
+    private static Yaml.Mapping.Entry entry(String key, String value) {
+        Yaml.Documents parsed = (Yaml.Documents) YamlParser.builder().build()
+                .parse(key + ": " + scalar(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Unable to parse " + key));
+        return ((Yaml.Mapping) parsed.getDocuments().get(0).getBlock()).getEntries().get(0);
+    }
+
+    /**
+     * Quotes values that YAML would not read back as the same plain string.
+     */
+    private static String scalar(String value) {
+        if (value.isEmpty() || value.contains(": ") || value.contains(" #") || value.endsWith(":") ||
+            "-?:,[]{}#&*!|>'\"%@`".indexOf(value.charAt(0)) >= 0 ||
+            value.matches("(?i)true|false|yes|no|on|off|null|~")) {
+            return "'" + value.replace("'", "''") + "'";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class RecipeFileTimings extends DataTable<RecipeFileTimings.Row> {
+
+    public RecipeFileTimings(Recipe recipe) {
+        super(recipe,
+                "Spring to Quarkus recipe timings per source file",
+                "How long each Spring to Quarkus recipe spent visiting each source file, how many templates it applied and whether it changed the file.");
+    }
+
+    @Override
+    protected boolean allowWritingInThisCycle(ExecutionContext ctx) {
+        // Every cycle visits every file again, and that time counts towards the run too
+        return true;
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Recipe",
+                description = "The fully qualified name of the recipe.")
+        String recipe;
+
+        @Column(displayName = "Cycle",
+                description = "The recipe run cycle in which the source file was visited.")
+        int cycle;
+
+        @Column(displayName = "Source path",
+                description = "The path of the visited source file.")
+        String sourcePath;
+
+        @Column(displayName = "Visit time (ns)",
+                description = "Time spent visiting the source file, including the recipe's preconditions, in nanoseconds.")
+        long visitTimeNanos;
+
+        @Column(displayName = "Template lookups",
+                description = "The number of `JavaTemplate` lookups made while visiting the source file, an upper bound on the templates applied.")
+        int templateLookups;
+
+        @Column(displayName = "Changed",
+                description = "Whether the recipe changed the source file.")
+        boolean changed;
+    }
+}
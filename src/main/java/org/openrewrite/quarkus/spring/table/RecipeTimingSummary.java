@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class RecipeTimingSummary extends DataTable<RecipeTimingSummary.Row> {
+
+    public RecipeTimingSummary(Recipe recipe) {
+        super(recipe,
+                "Spring to Quarkus recipe timing summary",
+                "Totals per Spring to Quarkus recipe over the whole run, to find the recipe responsible for a slow migration.");
+    }
+
+    @Override
+    protected boolean allowWritingInThisCycle(ExecutionContext ctx) {
+        // The summary is written once, when the run completes
+        return true;
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Recipe",
+                description = "The fully qualified name of the recipe.")
+        String recipe;
+
+        @Column(displayName = "Source file visits",
+                description = "The number of source file visits over all cycles.")
+        long sourceFileVisits;
+
+        @Column(displayName = "Changes",
+                description = "The number of source file visits that changed the file.")
+        long changes;
+
+        @Column(displayName = "Total visit time (ms)",
+                description = "Time spent visiting source files over all cycles, in milliseconds.")
+        long totalVisitTimeMillis;
+
+        @Column(displayName = "Max visit time (ms)",
+                description = "The longest time spent visiting a single source file, in milliseconds.")
+        long maxVisitTimeMillis;
+
+        @Column(displayName = "Slowest source path",
+                description = "The source file that took the longest to visit.")
+        String slowestSourcePath;
+
+        @Column(displayName = "Template lookups",
+                description = "The number of `JavaTemplate` lookups made over all source files, an upper bound on the templates applied.")
+        long templateLookups;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.properties.Assertions.properties;
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class CaffeineSpecToQuarkusCacheTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new CaffeineSpecToQuarkusCache())
+          .parser(JavaParser.fromJavaVersion().classpath("spring-context"));
+    }
+
+    @DocumentExample
+    @Test
+    void translateSpecForEachCache() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.cache.annotation.Cacheable;
+
+              class BookService {
+                  @Cacheable("books")
+                  public String find(String isbn) {
+                      return isbn;
+                  }
+              }
+              """
+          ),
+          properties(
+            """
+              spring.cache.cache-names=authors
+              spring.cache.caffeine.spec=maximumSize=500,expireAfterWrite=10m
+              """,
+            """
+              spring.cache.cache-names=authors
+              quarkus.cache.caffeine.authors.maximum-size=500
+              quarkus.cache.caffeine.authors.expire-after-write=10m
+              quarkus.cache.caffeine.books.maximum-size=500
+              quarkus.cache.caffeine.books.expire-after-write=10m
+              """,
+            spec -> spec.path("src/main/resources/application.properties")
+          )
+        );
+    }
+
+    @Test
+    void translateSpecInYaml() {
+        rewriteRun(
+          yaml(
+            """
+              spring:
+                cache:
+                  cache-names: books
+                  caffeine:
+                    spec: maximumSize=500,expireAfterWrite=10m
+              """,
+            """
+              spring:
+                cache:
+                  cache-names: books
+              quarkus.cache.caffeine.books.maximum-size: 500
+              quarkus.cache.caffeine.books.expire-after-write: 10m
+              """,
+            spec -> spec.path("src/main/resources/application.yml")
+          )
+        );
+    }
+
+    @Test
+    void keepSpecWithUnsupportedSettings() {
+        rewriteRun(
+          properties(
+            """
+              spring.cache.cache-names=books
+              spring.cache.caffeine.spec=maximumSize=500,weakKeys
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.mavenProject;
+import static org.openrewrite.java.Assertions.srcMainJava;
+import static org.openrewrite.java.Assertions.srcMainResources;
+import static org.openrewrite.properties.Assertions.properties;
+import static org.openrewrite.xml.Assertions.xml;
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class HibernateCacheToQuarkusCacheTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new HibernateCacheToQuarkusCache())
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("jakarta.persistence-api")
+            //language=java
+            .dependsOn(
+              """
+                package org.hibernate.annotations;
+                public enum CacheConcurrencyStrategy { READ_ONLY, READ_WRITE }
+                """,
+              """
+                package org.hibernate.annotations;
+                import java.lang.annotation.*;
+                @Retention(RetentionPolicy.RUNTIME)
+                @Target({ElementType.TYPE, ElementType.FIELD})
+                public @interface Cache {
+                    CacheConcurrencyStrategy usage();
+                    String region() default "";
+                }
+                """
+            ));
+    }
+
+    @DocumentExample
+    @Test
+    void cacheEntitiesWithTheirEhcacheRegionSizing() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import jakarta.persistence.Entity;
+              import org.hibernate.annotations.Cache;
+              import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+              @Entity
+              @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+              public class Book {
+              }
+              """,
+            """
+              package com.example;
+
+              import jakarta.persistence.Cacheable;
+              import jakarta.persistence.Entity;
+              import org.hibernate.annotations.Cache;
+              import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+              @Cacheable
+              @Entity
+              @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+              public class Book {
+              }
+              """
+          ),
+          //language=xml
+          xml(
+            """
+              <config xmlns="http://www.ehcache.org/v3">
+                  <cache alias="com.example.Book">
+                      <expiry>
+                          <tti unit="minutes">10</tti>
+                      </expiry>
+                      <heap unit="entries">5000</heap>
+                  </cache>
+              </config>
+              """,
+            spec -> spec.path("src/main/resources/ehcache.xml")
+          ),
+          properties(
+            """
+              quarkus.hibernate-orm.second-level-caching-enabled=true
+              """,
+            """
+              quarkus.hibernate-orm.second-level-caching-enabled=true
+              quarkus.hibernate-orm.cache."com.example.Book".memory.object-count=5000
+              quarkus.hibernate-orm.cache."com.example.Book".expiration.max-idle=10m
+              """,
+            spec -> spec.path("src/main/resources/application.properties")
+          )
+        );
+    }
+
+    @Test
+    void sizeEhcache2RegionsByName() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import jakarta.persistence.Cacheable;
+              import jakarta.persistence.Entity;
+              import org.hibernate.annotations.Cache;
+              import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+              @Cacheable
+              @Entity
+              @Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "countries")
+              public class Country {
+              }
+              """
+          ),
+          //language=xml
+          xml(
+            """
+              <ehcache>
+                  <cache name="countries" maxEntriesLocalHeap="300" timeToIdleSeconds="0"/>
+              </ehcache>
+              """,
+            spec -> spec.path("src/main/resources/ehcache.xml")
+          ),
+          properties(
+            """
+              quarkus.hibernate-orm.second-level-caching-enabled=true
+              """,
+            """
+              quarkus.hibernate-orm.second-level-caching-enabled=true
+              quarkus.hibernate-orm.cache."countries".memory.object-count=300
+              """,
+            spec -> spec.path("src/main/resources/application.properties")
+          )
+        );
+    }
+
+    @Test
+    void addRegionSettingsToApplicationYaml() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import jakarta.persistence.Cacheable;
+              import jakarta.persistence.Entity;
+              import org.hibernate.annotations.Cache;
+              import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+              @Cacheable
+              @Entity
+              @Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "countries")
+              public class Country {
+              }
+              """
+          ),
+          //language=xml
+          xml(
+            """
+              <ehcache>
+                  <cache name="countries" maxEntriesLocalHeap="300" timeToIdleSeconds="0"/>
+              </ehcache>
+              """,
+            spec -> spec.path("src/main/resources/ehcache.xml")
+          ),
+          yaml(
+            """
+              quarkus:
+                hibernate-orm:
+                  second-level-caching-enabled: true
+              """,
+            """
+              quarkus:
+                hibernate-orm:
+                  second-level-caching-enabled: true
+                  cache."countries".memory.object-count: 300
+              """,
+            spec -> spec.path("src/main/resources/application.yml")
+          )
+        );
+    }
+
+    @Test
+    void createApplicationPropertiesForRegionSettings() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import jakarta.persistence.Cacheable;
+              import jakarta.persistence.Entity;
+              import org.hibernate.annotations.Cache;
+              import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+              @Cacheable
+              @Entity
+              @Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "countries")
+              public class Country {
+              }
+              """
+          ),
+          //language=xml
+          xml(
+            """
+              <ehcache>
+                  <cache name="countries" maxEntriesLocalHeap="300" timeToIdleSeconds="0"/>
+              </ehcache>
+              """,
+            spec -> spec.path("src/main/resources/ehcache.xml")
+          ),
+          properties(
+            null,
+            """
+              quarkus.hibernate-orm.cache."countries".memory.object-count=300
+              """,
+            spec -> spec.path("src/main/resources/application.properties")
+          )
+        );
+    }
+
+    @Test
+    void ignoreApplicationPropertiesOfTestSources() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import jakarta.persistence.Cacheable;
+              import jakarta.persistence.Entity;
+              import org.hibernate.annotations.Cache;
+              import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+              @Cacheable
+              @Entity
+              @Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "countries")
+              public class Country {
+              }
+              """
+          ),
+          //language=xml
+          xml(
+            """
+              <ehcache>
+                  <cache name="countries" maxEntriesLocalHeap="300"/>
+              </ehcache>
+              """,
+            spec -> spec.path("src/main/resources/ehcache.xml")
+          ),
+          properties(
+            """
+              quarkus.datasource.db-kind=h2
+              """,
+            spec -> spec.path("src/test/resources/application.properties")
+          ),
+          properties(
+            null,
+            """
+              quarkus.hibernate-orm.cache."countries".memory.object-count=300
+              """,
+            spec -> spec.path("src/main/resources/application.properties")
+          )
+        );
+    }
+
+    @Test
+    void writeRegionSettingsToTheConfigurationOfEachProject() {
+        rewriteRun(
+          mavenProject("configured",
+            srcMainJava(
+              //language=java
+              java(
+                """
+                  import jakarta.persistence.Cacheable;
+                  import jakarta.persistence.Entity;
+                  import org.hibernate.annotations.Cache;
+                  import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+                  @Cacheable
+                  @Entity
+                  @Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "countries")
+                  public class Country {
+                  }
+                  """
+              )
+            ),
+            srcMainResources(
+              //language=xml
+              xml(
+                """
+                  <ehcache>
+                      <cache name="countries" maxEntriesLocalHeap="300"/>
+                  </ehcache>
+                  """,
+                spec -> spec.path("ehcache.xml")
+              ),
+              properties(
+                """
+                  quarkus.datasource.db-kind=h2
+                  """,
+                """
+                  quarkus.datasource.db-kind=h2
+                  quarkus.hibernate-orm.cache."countries".memory.object-count=300
+                  """,
+                spec -> spec.path("application.properties")
+              )
+            )
+          ),
+          mavenProject("unconfigured",
+            srcMainResources(
+              //language=xml
+              xml(
+                """
+                  <ehcache>
+                      <cache name="countries" maxEntriesLocalHeap="300"/>
+                  </ehcache>
+                  """,
+                spec -> spec.path("ehcache.xml")
+              ),
+              properties(
+                null,
+                """
+                  quarkus.hibernate-orm.cache."countries".memory.object-count=300
+                  """,
+                spec -> spec.path("application.properties")
+              )
+            )
+          )
+        );
+    }
+}
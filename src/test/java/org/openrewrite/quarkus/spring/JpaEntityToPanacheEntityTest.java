@@ -28,7 +28,7 @@ class JpaEntityToPanacheEntityTest implements RewriteTest {
 
     @Override
     public void defaults(RecipeSpec spec) {
-        spec.recipe(new JpaEntityToPanacheEntity())
+        spec.recipe(new JpaEntityToPanacheEntity(null))
           .parser(JavaParser.fromJavaVersion()
             .classpath("jakarta.persistence-api", "quarkus-hibernate-orm-panache"));
     }
@@ -186,6 +186,39 @@ class JpaEntityToPanacheEntityTest implements RewriteTest {
         );
     }
 
+    @Test
+    void targetHibernateReactive() {
+        rewriteRun(
+          spec -> spec.recipe(new JpaEntityToPanacheEntity(true)),
+          //language=java
+          java(
+            """
+              import jakarta.persistence.Entity;
+              import jakarta.persistence.Id;
+
+              @Entity
+              public class Book {
+                  @Id
+                  private String isbn;
+                  private String title;
+              }
+              """,
+            """
+              import io.quarkus.hibernate.reactive.panache.PanacheEntityBase;
+              import jakarta.persistence.Entity;
+              import jakarta.persistence.Id;
+
+              @Entity
+              public class Book extends PanacheEntityBase {
+                  @Id
+                  private String isbn;
+                  private String title;
+              }
+              """
+          )
+        );
+    }
+
     @Test
     void doNotChangeNonEntityClass() {
         rewriteRun(
@@ -0,0 +1,914 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.mavenProject;
+import static org.openrewrite.java.Assertions.srcMainJava;
+import static org.openrewrite.maven.Assertions.pomXml;
+
+class JpaRepositoryToPanacheRepositoryTest implements RewriteTest {
+
+    //language=java
+    private static final String BOOK = """
+      package com.example;
+
+      import jakarta.persistence.Entity;
+      import jakarta.persistence.Id;
+      import java.time.LocalDate;
+
+      @Entity
+      public class Book {
+          @Id
+          Long id;
+          String isbn;
+          String title;
+          String status;
+          LocalDate created;
+          int pages;
+      }
+      """;
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new JpaRepositoryToPanacheRepository(null))
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("jakarta.persistence-api", "spring-data-jpa", "spring-data-commons", "spring-context", "spring-web",
+              "quarkus-hibernate-orm-panache", "quarkus-panache-common"));
+    }
+
+    @DocumentExample
+    @Test
+    void convertRepositoryAndDerivedQueries() {
+        rewriteRun(
+          java(BOOK),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.data.jpa.repository.JpaRepository;
+
+              import java.time.LocalDate;
+              import java.util.List;
+              import java.util.Optional;
+
+              public interface BookRepository extends JpaRepository<Book, Long> {
+                  List<Book> findByStatusAndCreatedAfter(String status, LocalDate created);
+
+                  Optional<Book> findByIsbn(String isbn);
+
+                  List<Book> findTop3ByPagesGreaterThanOrderByCreatedDesc(int pages);
+
+                  long countByStatus(String status);
+
+                  boolean existsByTitle(String title);
+              }
+              """,
+            """
+              package com.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheRepository;
+              import jakarta.enterprise.context.ApplicationScoped;
+
+              import java.time.LocalDate;
+              import java.util.List;
+              import java.util.Optional;
+
+              @ApplicationScoped
+              public class BookRepository implements PanacheRepository<Book> {
+                  public List<Book> findByStatusAndCreatedAfter(String status, LocalDate created) {
+                      return find("status = ?1 and created > ?2", status, created).list();
+                  }
+
+                  public Optional<Book> findByIsbn(String isbn) {
+                      return find("isbn = ?1", isbn).singleResultOptional();
+                  }
+
+                  public List<Book> findTop3ByPagesGreaterThanOrderByCreatedDesc(int pages) {
+                      return find("pages > ?1 order by created desc", pages).range(0, 2).list();
+                  }
+
+                  public long countByStatus(String status) {
+                      return count("status = ?1", status);
+                  }
+
+                  public boolean existsByTitle(String title) {
+                      return count("title = ?1", title) > 0;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void implementQueryMethodsAndTransactionalDeletes() {
+        rewriteRun(
+          java(BOOK),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.data.jpa.repository.Query;
+              import org.springframework.data.repository.CrudRepository;
+              import org.springframework.stereotype.Repository;
+
+              import java.util.List;
+
+              @Repository
+              public interface BookRepository extends CrudRepository<Book, Long> {
+                  @Query("from Book b where b.pages > ?1")
+                  List<Book> findLong(int pages);
+
+                  void deleteByStatus(String status);
+              }
+              """,
+            """
+              package com.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheRepository;
+              import jakarta.enterprise.context.ApplicationScoped;
+              import jakarta.transaction.Transactional;
+
+              import java.util.List;
+
+              @ApplicationScoped
+              public class BookRepository implements PanacheRepository<Book> {
+                  public List<Book> findLong(int pages) {
+                      return find("from Book b where b.pages > ?1", pages).list();
+                  }
+
+                  @Transactional
+                  public void deleteByStatus(String status) {
+                      delete("status = ?1", status);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void convertToHibernateReactiveRepository() {
+        rewriteRun(
+          spec -> spec.recipe(new JpaRepositoryToPanacheRepository(true)),
+          java(BOOK),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.data.jpa.repository.JpaRepository;
+
+              import java.util.List;
+              import java.util.Optional;
+
+              public interface BookRepository extends JpaRepository<Book, Long> {
+                  List<Book> findByStatus(String status);
+
+                  Optional<Book> findFirstByIsbn(String isbn);
+
+                  long countByStatus(String status);
+
+                  boolean existsByTitle(String title);
+
+                  void deleteByStatus(String status);
+              }
+              """,
+            """
+              package com.example;
+
+              import io.quarkus.hibernate.reactive.panache.PanacheRepository;
+              import io.quarkus.hibernate.reactive.panache.common.WithTransaction;
+              import io.smallrye.mutiny.Uni;
+              import jakarta.enterprise.context.ApplicationScoped;
+
+              import java.util.List;
+              import java.util.Optional;
+
+              @ApplicationScoped
+              public class BookRepository implements PanacheRepository<Book> {
+                  public Uni<List<Book>> findByStatus(String status) {
+                      return find("status = ?1", status).list();
+                  }
+
+                  public Uni<Optional<Book>> findFirstByIsbn(String isbn) {
+                      return find("isbn = ?1", isbn).firstResult().map(Optional::ofNullable);
+                  }
+
+                  public Uni<Long> countByStatus(String status) {
+                      return count("status = ?1", status);
+                  }
+
+                  public Uni<Boolean> existsByTitle(String title) {
+                      return count("title = ?1", title).map(count -> count > 0);
+                  }
+
+                  @WithTransaction
+                  public Uni<Void> deleteByStatus(String status) {
+                      return delete("status = ?1", status).replaceWithVoid();
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.web.bind.annotation.GetMapping;
+
+              import java.util.List;
+
+              class BookResource {
+                  BookRepository books;
+
+                  @GetMapping
+                  List<Book> all() {
+                      return books.findAll();
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import io.smallrye.mutiny.Uni;
+              import org.springframework.web.bind.annotation.GetMapping;
+
+              import java.util.List;
+
+              class BookResource {
+                  BookRepository books;
+
+                  @GetMapping
+                  Uni<List<Book>> all() {
+                      return books.listAll();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void returnUniFromCallersOfReactiveRepositories() {
+        rewriteRun(
+          spec -> spec.recipe(new JpaRepositoryToPanacheRepository(true)),
+          java(BOOK),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.data.jpa.repository.JpaRepository;
+
+              public interface BookRepository extends JpaRepository<Book, Long> {
+              }
+              """,
+            """
+              package com.example;
+
+              import io.quarkus.hibernate.reactive.panache.PanacheRepository;
+              import jakarta.enterprise.context.ApplicationScoped;
+
+              @ApplicationScoped
+              public class BookRepository implements PanacheRepository<Book> {
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import java.util.Optional;
+
+              class BookService {
+                  BookRepository books;
+
+                  Optional<Book> one(Long id) {
+                      return books.findById(id);
+                  }
+
+                  boolean known(Long id) {
+                      return books.existsById(id);
+                  }
+
+                  void add(Book book) {
+                      book.title = book.title.trim();
+                      books.save(book);
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import io.smallrye.mutiny.Uni;
+
+              import java.util.Objects;
+              import java.util.Optional;
+
+              class BookService {
+                  BookRepository books;
+
+                  Uni<Optional<Book>> one(Long id) {
+                      return books.findById(id).map(Optional::ofNullable);
+                  }
+
+                  Uni<Boolean> known(Long id) {
+                      return books.findById(id).map(Objects::nonNull);
+                  }
+
+                  Uni<Void> add(Book book) {
+                      book.title = book.title.trim();
+                      return books.persist(book).replaceWithVoid();
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.web.bind.annotation.GetMapping;
+              import org.springframework.web.bind.annotation.PostMapping;
+
+              import java.util.Optional;
+
+              public class BookResource {
+                  BookService service;
+
+                  @GetMapping
+                  public Optional<Book> get(Long id) {
+                      return service.one(id);
+                  }
+
+                  @GetMapping("/exists")
+                  public boolean exists(Long id) {
+                      return service.known(id);
+                  }
+
+                  @PostMapping
+                  public void post(Book book) {
+                      service.add(book);
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import io.quarkus.hibernate.reactive.panache.common.WithTransaction;
+              import io.smallrye.mutiny.Uni;
+              import org.springframework.web.bind.annotation.GetMapping;
+              import org.springframework.web.bind.annotation.PostMapping;
+
+              import java.util.Optional;
+
+              public class BookResource {
+                  BookService service;
+
+                  @GetMapping
+                  public Uni<Optional<Book>> get(Long id) {
+                      return service.one(id);
+                  }
+
+                  @GetMapping("/exists")
+                  public Uni<Boolean> exists(Long id) {
+                      return service.known(id);
+                  }
+
+                  @PostMapping
+                  @WithTransaction
+                  public Uni<Void> post(Book book) {
+                      return service.add(book);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepReactiveRepositoriesWithBlockingCallers() {
+        rewriteRun(
+          spec -> spec.recipe(new JpaRepositoryToPanacheRepository(true)),
+          java(BOOK),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.data.jpa.repository.JpaRepository;
+
+              public interface BookRepository extends JpaRepository<Book, Long> {
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              class BookService {
+                  BookRepository books;
+
+                  int size() {
+                      return books.findAll().size();
+                  }
+
+                  void add(Book book) {
+                      books.save(book);
+                      System.out.println("Added " + book.title);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepReactiveRepositoriesCalledOutsideEndpoints() {
+        rewriteRun(
+          spec -> spec.recipe(new JpaRepositoryToPanacheRepository(true)),
+          java(BOOK),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.data.jpa.repository.JpaRepository;
+
+              public interface BookRepository extends JpaRepository<Book, Long> {
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.context.event.ContextRefreshedEvent;
+              import org.springframework.context.event.EventListener;
+              import org.springframework.web.bind.annotation.PostMapping;
+
+              class BookService {
+                  BookRepository books;
+
+                  @PostMapping
+                  public void post(Book book) {
+                      books.save(book);
+                  }
+
+                  @EventListener
+                  void seed(ContextRefreshedEvent event) {
+                      books.save(new Book());
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void followTheWebTierOfEachProject() {
+        rewriteRun(
+          spec -> spec.recipe(new JpaRepositoryToPanacheRepository(null)),
+          mavenProject("reactive",
+            //language=xml
+            pomXml(
+              """
+                <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>com.example</groupId>
+                    <artifactId>reactive</artifactId>
+                    <version>0.0.1-SNAPSHOT</version>
+                    <dependencies>
+                        <dependency>
+                            <groupId>org.springframework.boot</groupId>
+                            <artifactId>spring-boot-starter-web</artifactId>
+                            <version>3.1.0</version>
+                        </dependency>
+                        <dependency>
+                            <groupId>io.projectreactor</groupId>
+                            <artifactId>reactor-core</artifactId>
+                            <version>3.5.0</version>
+                        </dependency>
+                    </dependencies>
+                </project>
+                """
+            ),
+            srcMainJava(
+              java(BOOK),
+              //language=java
+              java(
+                """
+                  package com.example;
+
+                  import org.springframework.data.jpa.repository.JpaRepository;
+
+                  public interface BookRepository extends JpaRepository<Book, Long> {
+                  }
+                  """,
+                """
+                  package com.example;
+
+                  import io.quarkus.hibernate.reactive.panache.PanacheRepository;
+                  import jakarta.enterprise.context.ApplicationScoped;
+
+                  @ApplicationScoped
+                  public class BookRepository implements PanacheRepository<Book> {
+                  }
+                  """
+              )
+            )
+          ),
+          mavenProject("blocking",
+            //language=xml
+            pomXml(
+              """
+                <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>com.example</groupId>
+                    <artifactId>blocking</artifactId>
+                    <version>0.0.1-SNAPSHOT</version>
+                    <dependencies>
+                        <dependency>
+                            <groupId>io.projectreactor</groupId>
+                            <artifactId>reactor-core</artifactId>
+                            <version>3.5.0</version>
+                        </dependency>
+                    </dependencies>
+                </project>
+                """
+            ),
+            srcMainJava(
+              //language=java
+              java(
+                """
+                  package com.example.other;
+
+                  import com.example.Book;
+                  import org.springframework.data.jpa.repository.JpaRepository;
+
+                  public interface ArchiveRepository extends JpaRepository<Book, Long> {
+                  }
+                  """,
+                """
+                  package com.example.other;
+
+                  import com.example.Book;
+                  import io.quarkus.hibernate.orm.panache.PanacheRepository;
+                  import jakarta.enterprise.context.ApplicationScoped;
+
+                  @ApplicationScoped
+                  public class ArchiveRepository implements PanacheRepository<Book> {
+                  }
+                  """
+              )
+            )
+          )
+        );
+    }
+
+    @Test
+    void renameInheritedMethodCalls() {
+        rewriteRun(
+          java(BOOK),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.data.jpa.repository.JpaRepository;
+
+              public interface BookRepository extends JpaRepository<Book, Long> {
+              }
+              """,
+            """
+              package com.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheRepository;
+              import jakarta.enterprise.context.ApplicationScoped;
+
+              @ApplicationScoped
+              public class BookRepository implements PanacheRepository<Book> {
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import java.util.List;
+              import java.util.Optional;
+
+              class BookService {
+                  BookRepository books;
+
+                  List<Book> all() {
+                      return books.findAll();
+                  }
+
+                  Optional<Book> one(Long id) {
+                      return books.findById(id);
+                  }
+
+                  void add(Book book) {
+                      books.save(book);
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import java.util.List;
+              import java.util.Optional;
+
+              class BookService {
+                  BookRepository books;
+
+                  List<Book> all() {
+                      return books.listAll();
+                  }
+
+                  Optional<Book> one(Long id) {
+                      return books.findByIdOptional(id);
+                  }
+
+                  void add(Book book) {
+                      books.persist(book);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void rewriteCallsWithoutPanacheEquivalent() {
+        rewriteRun(
+          java(BOOK),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.data.jpa.repository.JpaRepository;
+
+              public interface BookRepository extends JpaRepository<Book, Long> {
+              }
+              """,
+            """
+              package com.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheRepository;
+              import jakarta.enterprise.context.ApplicationScoped;
+
+              @ApplicationScoped
+              public class BookRepository implements PanacheRepository<Book> {
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import java.util.List;
+
+              class BookService {
+                  BookRepository books;
+
+                  Book add(Book book) {
+                      return books.save(book);
+                  }
+
+                  Book addAndFlush(Book book) {
+                      Book saved = books.saveAndFlush(book);
+                      return saved;
+                  }
+
+                  boolean known(Long id) {
+                      return books.existsById(id);
+                  }
+
+                  List<Book> some(List<Long> ids) {
+                      return books.findAllById(ids);
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import java.util.List;
+
+              class BookService {
+                  BookRepository books;
+
+                  Book add(Book book) {
+                      books.persist(book);
+                      return book;
+                  }
+
+                  Book addAndFlush(Book book) {
+                      books.persistAndFlush(book);
+                      Book saved = book;
+                      return saved;
+                  }
+
+                  boolean known(Long id) {
+                      return books.findByIdOptional(id).isPresent();
+                  }
+
+                  List<Book> some(List<Long> ids) {
+                      return books.list("id in ?1", ids);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepRepositoriesWithCallsThatCannotBeRewritten() {
+        rewriteRun(
+          java(BOOK),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.data.jpa.repository.JpaRepository;
+
+              public interface BookRepository extends JpaRepository<Book, Long> {
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              class BookService {
+                  BookRepository books;
+
+                  Book create() {
+                      return books.save(new Book());
+                  }
+
+                  Book reference(Long id) {
+                      return books.getReferenceById(id);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void pageAndStreamResults() {
+        rewriteRun(
+          java(BOOK),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.data.domain.Page;
+              import org.springframework.data.domain.Pageable;
+              import org.springframework.data.domain.Sort;
+              import org.springframework.data.jpa.repository.JpaRepository;
+
+              import java.util.List;
+              import java.util.stream.Stream;
+
+              public interface BookRepository extends JpaRepository<Book, Long> {
+                  Page<Book> findByStatus(String status, Pageable pageable);
+
+                  List<Book> findByTitle(String title, Sort sort);
+
+                  Stream<Book> streamByStatus(String status);
+              }
+              """,
+            """
+              package com.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheQuery;
+              import io.quarkus.hibernate.orm.panache.PanacheRepository;
+              import io.quarkus.panache.common.Page;
+              import io.quarkus.panache.common.Sort;
+              import jakarta.enterprise.context.ApplicationScoped;
+              import jakarta.transaction.Transactional;
+
+              import java.util.List;
+              import java.util.stream.Stream;
+
+              @ApplicationScoped
+              public class BookRepository implements PanacheRepository<Book> {
+                  public PanacheQuery<Book> findByStatus(String status, Page pageable) {
+                      return find("status = ?1", status).page(pageable);
+                  }
+
+                  public List<Book> findByTitle(String title, Sort sort) {
+                      return find("title = ?1", sort, title).list();
+                  }
+
+                  @Transactional(Transactional.TxType.MANDATORY)
+                  public Stream<Book> streamByStatus(String status) {
+                      return find("status = ?1", status).stream();
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.data.domain.Page;
+              import org.springframework.data.domain.PageRequest;
+
+              import java.util.List;
+
+              class BookService {
+                  BookRepository books;
+
+                  List<Book> firstPage(String status) {
+                      return books.findByStatus(status, PageRequest.of(0, 20)).getContent();
+                  }
+
+                  long total(String status, int page) {
+                      Page<Book> result = books.findByStatus(status, PageRequest.of(page, 50));
+                      return result.getTotalElements();
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheQuery;
+              import io.quarkus.panache.common.Page;
+
+              import java.util.List;
+
+              class BookService {
+                  BookRepository books;
+
+                  List<Book> firstPage(String status) {
+                      return books.findByStatus(status, Page.of(0, 20)).list();
+                  }
+
+                  long total(String status, int page) {
+                      PanacheQuery<Book> result = books.findByStatus(status, Page.of(page, 50));
+                      return result.count();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepRepositoriesWithUntranslatableMethods() {
+        rewriteRun(
+          java(BOOK),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.data.jpa.repository.JpaRepository;
+
+              import java.util.List;
+
+              public interface BookRepository extends JpaRepository<Book, Long> {
+                  List<Book> findByTitleContainingIgnoreCase(String title);
+              }
+              """
+          )
+        );
+    }
+}
@@ -433,7 +433,7 @@ class MigrateBootStartersTest implements RewriteTest {
                       </dependency>
                       <dependency>
                           <groupId>io.quarkus</groupId>
-                          <artifactId>quarkus-messaging-amqp</artifactId>
+                          <artifactId>quarkus-messaging-rabbitmq</artifactId>
                       </dependency>
                   </dependencies>
               </project>
@@ -568,11 +568,11 @@ class MigrateBootStartersTest implements RewriteTest {
                       </dependency>
                       <dependency>
                           <groupId>io.quarkus</groupId>
-                          <artifactId>quarkus-messaging-amqp</artifactId>
+                          <artifactId>quarkus-messaging-kafka</artifactId>
                       </dependency>
                       <dependency>
                           <groupId>io.quarkus</groupId>
-                          <artifactId>quarkus-messaging-kafka</artifactId>
+                          <artifactId>quarkus-messaging-rabbitmq</artifactId>
                       </dependency>
                   </dependencies>
               </project>
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.properties.Assertions.properties;
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class MigrateJpaPropertiesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipeFromResources("org.openrewrite.quarkus.spring.MigrateJpaProperties");
+    }
+
+    @DocumentExample
+    @Test
+    void migrateBatchingFetchingAndSecondLevelCache() {
+        rewriteRun(
+          properties(
+            """
+              spring.jpa.open-in-view=false
+              spring.jpa.properties.hibernate.jdbc.batch_size=50
+              spring.jpa.properties.hibernate.order_inserts=true
+              spring.jpa.properties.hibernate.default_batch_fetch_size=32
+              spring.jpa.properties.hibernate.cache.use_second_level_cache=true
+              spring.jpa.properties.hibernate.cache.region.factory_class=jcache
+              """,
+            """
+              quarkus.hibernate-orm.jdbc.statement-batch-size=50
+              quarkus.hibernate-orm.unsupported-properties."hibernate.order_inserts"=true
+              quarkus.hibernate-orm.fetch.batch-size=32
+              quarkus.hibernate-orm.second-level-caching-enabled=true
+              """,
+            spec -> spec.path("application.properties")
+          )
+        );
+    }
+
+    @Test
+    void passStatementOrderingOnInYaml() {
+        rewriteRun(
+          yaml(
+            """
+              spring.jpa.properties.hibernate.order_inserts: true
+              spring.jpa.properties.hibernate.order_updates: true
+              """,
+            """
+              quarkus.hibernate-orm.unsupported-properties."hibernate.order_inserts": true
+              quarkus.hibernate-orm.unsupported-properties."hibernate.order_updates": true
+              """,
+            spec -> spec.path("application.yml")
+          )
+        );
+    }
+}
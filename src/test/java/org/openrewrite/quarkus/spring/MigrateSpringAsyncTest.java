@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.properties.Assertions.properties;
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class MigrateSpringAsyncTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipeFromResources("org.openrewrite.quarkus.spring.MigrateSpringAsync");
+    }
+
+    @DocumentExample
+    @Test
+    void migrateTaskExecutionPoolSettings() {
+        rewriteRun(
+          properties(
+            """
+              spring.task.execution.pool.core-size=8
+              spring.task.execution.pool.max-size=16
+              spring.task.execution.thread-name-prefix=task-
+              """,
+            """
+              quarkus.thread-pool.core-threads=8
+              quarkus.thread-pool.max-threads=16
+              """,
+            spec -> spec.path("application.properties")
+          )
+        );
+    }
+
+    @Test
+    void migrateTaskExecutionPoolSettingsInYaml() {
+        rewriteRun(
+          yaml(
+            """
+              spring.task.execution.pool.core-size: 8
+              spring.task.execution.pool.queue-capacity: 100
+              spring.task.execution.thread-name-prefix: task-
+              """,
+            """
+              quarkus.thread-pool.core-threads: 8
+              quarkus.thread-pool.queue-size: 100
+              """,
+            spec -> spec.path("application.yml")
+          )
+        );
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.properties.Assertions.properties;
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class MigrateSpringDataRedisTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipeFromResources("org.openrewrite.quarkus.spring.MigrateSpringDataRedis");
+    }
+
+    @DocumentExample
+    @Test
+    void migrateConnectionAndLettucePoolSettings() {
+        rewriteRun(
+          properties(
+            """
+              spring.data.redis.url=redis://cache:6379
+              spring.data.redis.timeout=2000
+              spring.data.redis.lettuce.pool.max-active=64
+              spring.data.redis.lettuce.pool.max-idle=16
+              spring.data.redis.lettuce.pool.min-idle=4
+              spring.data.redis.lettuce.pool.max-wait=500ms
+              spring.data.redis.lettuce.pool.time-between-eviction-runs=30s
+              """,
+            """
+              quarkus.redis.hosts=redis://cache:6379
+              quarkus.redis.timeout=2000ms
+              quarkus.redis.max-pool-size=64
+              quarkus.redis.pool-cleaner-interval=30s
+              """,
+            spec -> spec.path("application.properties")
+          )
+        );
+    }
+
+    @Test
+    void combineHostPortAndDatabaseIntoHosts() {
+        rewriteRun(
+          properties(
+            """
+              spring.data.redis.host=cache
+              spring.data.redis.port=6380
+              spring.data.redis.database=2
+              spring.data.redis.timeout=2s
+              """,
+            """
+              quarkus.redis.hosts=redis://cache:6380/2
+              quarkus.redis.timeout=2s
+              """,
+            spec -> spec.path("application.properties")
+          )
+        );
+    }
+
+    @Test
+    void combineHostAndDatabaseInYaml() {
+        rewriteRun(
+          yaml(
+            """
+              spring:
+                application:
+                  name: shop
+                data:
+                  redis:
+                    host: cache
+                    database: 1
+              """,
+            """
+              spring:
+                application:
+                  name: shop
+              quarkus.redis.hosts: redis://cache:6379/1
+              """,
+            spec -> spec.path("application.yml")
+          )
+        );
+    }
+
+    @Test
+    void urlTakesPrecedenceOverHostAndPort() {
+        rewriteRun(
+          properties(
+            """
+              spring.data.redis.url=redis://cache:6379
+              spring.data.redis.host=localhost
+              spring.data.redis.port=6379
+              """,
+            """
+              quarkus.redis.hosts=redis://cache:6379
+              """,
+            spec -> spec.path("application.properties")
+          )
+        );
+    }
+}
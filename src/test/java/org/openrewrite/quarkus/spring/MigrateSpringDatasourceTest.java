@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.properties.Assertions.properties;
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class MigrateSpringDatasourceTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipeFromResources("org.openrewrite.quarkus.spring.MigrateSpringDatasource");
+    }
+
+    @DocumentExample
+    @Test
+    void migrateConnectionAndHikariPoolSettings() {
+        rewriteRun(
+          properties(
+            """
+              spring.datasource.url=jdbc:postgresql://localhost:5432/app
+              spring.datasource.username=app
+              spring.datasource.password=secret
+              spring.datasource.driver-class-name=org.postgresql.Driver
+              spring.datasource.hikari.pool-name=app-pool
+              spring.datasource.hikari.maximum-pool-size=50
+              spring.datasource.hikari.minimum-idle=10
+              spring.datasource.hikari.connection-timeout=30000
+              spring.datasource.hikari.idle-timeout=600000
+              spring.datasource.hikari.max-lifetime=1800000
+              """,
+            """
+              quarkus.datasource.jdbc.url=jdbc:postgresql://localhost:5432/app
+              quarkus.datasource.username=app
+              quarkus.datasource.password=secret
+              quarkus.datasource.jdbc.max-size=50
+              quarkus.datasource.jdbc.min-size=10
+              quarkus.datasource.jdbc.acquisition-timeout=30000ms
+              quarkus.datasource.jdbc.idle-removal-interval=600000ms
+              quarkus.datasource.jdbc.max-lifetime=1800000ms
+              """,
+            spec -> spec.path("application.properties")
+          )
+        );
+    }
+
+    @Test
+    void keepDurationsThatAlreadyHaveAUnit() {
+        rewriteRun(
+          properties(
+            """
+              spring.datasource.hikari.connection-timeout=30s
+              spring.datasource.hikari.idle-timeout=${POOL_IDLE_TIMEOUT:10m}
+              """,
+            """
+              quarkus.datasource.jdbc.acquisition-timeout=30s
+              quarkus.datasource.jdbc.idle-removal-interval=${POOL_IDLE_TIMEOUT:10m}
+              """,
+            spec -> spec.path("application.properties")
+          )
+        );
+    }
+
+    @Test
+    void giveMillisecondsToBarePlaceholderDefaults() {
+        rewriteRun(
+          properties(
+            """
+              spring.datasource.hikari.connection-timeout=${POOL_TIMEOUT:30000}
+              """,
+            """
+              quarkus.datasource.jdbc.acquisition-timeout=${POOL_TIMEOUT:30000ms}
+              """,
+            spec -> spec.path("application.properties")
+          )
+        );
+    }
+
+    @Test
+    void migrateHikariTimeoutsInYaml() {
+        rewriteRun(
+          yaml(
+            """
+              spring.datasource.hikari.connection-timeout: 30000
+              spring.datasource.hikari.idle-timeout: 10m
+              spring.datasource.hikari.max-lifetime: ${POOL_MAX_LIFETIME:1800000}
+              """,
+            """
+              quarkus.datasource.jdbc.acquisition-timeout: 30000ms
+              quarkus.datasource.jdbc.idle-removal-interval: 10m
+              quarkus.datasource.jdbc.max-lifetime: ${POOL_MAX_LIFETIME:1800000ms}
+              """,
+            spec -> spec.path("application.yml")
+          )
+        );
+    }
+}
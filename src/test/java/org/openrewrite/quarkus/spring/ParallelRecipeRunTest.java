@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.*;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.util.stream.Collectors.toMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class ParallelRecipeRunTest {
+
+    private static final List<Recipe> THREAD_SAFE_RECIPES = Arrays.asList(
+      new WebToJaxRs(),
+      new ResponseEntityToJaxRsResponse(null),
+      new ValueToCdiConfigProperty(),
+      new SpringEventListenerToObserves(),
+      new SpringApplicationRunToQuarkusRun(),
+      new SpringHealthIndicatorToQuarkus()
+    );
+
+    @Test
+    void sameResultsAsSequentialRun() {
+        List<SourceFile> sourceFiles = new SpringBootProjectGenerator(100).parse(new InMemoryExecutionContext());
+
+        Map<Path, String> sequential = sequential(sourceFiles);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int run = 0; run < 3; run++) {
+                List<Throwable> errors = new CopyOnWriteArrayList<>();
+                Map<Path, String> parallel = new ParallelRecipeRun(THREAD_SAFE_RECIPES, pool)
+                  .run(sourceFiles, new InMemoryExecutionContext(errors::add)).stream()
+                  .collect(toMap(r -> r.getAfter().getSourcePath(), r -> r.getAfter().printAll()));
+                assertThat(errors).isEmpty();
+                assertThat(parallel).isNotEmpty().containsExactlyInAnyOrderEntriesOf(sequential);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void rejectsRecipesNotMarkedThreadSafe() {
+        assertThatIllegalArgumentException()
+          .isThrownBy(() -> new ParallelRecipeRun(Collections.singletonList(new JpaEntityToPanacheEntity(null)), ForkJoinPool.commonPool()));
+    }
+
+    private static Map<Path, String> sequential(List<SourceFile> sourceFiles) {
+        Map<UUID, SourceFile> current = new LinkedHashMap<>();
+        sourceFiles.forEach(sourceFile -> current.put(sourceFile.getId(), sourceFile));
+        for (Recipe recipe : THREAD_SAFE_RECIPES) {
+            recipe.run(new InMemoryLargeSourceSet(new ArrayList<>(current.values())), new InMemoryExecutionContext())
+              .getChangeset().getAllResults()
+              .forEach(result -> current.put(result.getAfter().getId(), result.getAfter()));
+        }
+        Map<Path, String> changed = new HashMap<>();
+        for (SourceFile before : sourceFiles) {
+            SourceFile after = current.get(before.getId());
+            if (after != before) {
+                changed.put(after.getSourcePath(), after.printAll());
+            }
+        }
+        return changed;
+    }
+}
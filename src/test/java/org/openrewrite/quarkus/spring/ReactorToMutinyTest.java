@@ -0,0 +1,217 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class ReactorToMutinyTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new ReactorToMutiny())
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("reactor-core", "reactive-streams", "spring-web", "spring-data-commons", "spring-data-jpa"));
+    }
+
+    @DocumentExample
+    @Test
+    void convertMonoFactoryAndOperators() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.web.bind.annotation.GetMapping;
+              import org.springframework.web.bind.annotation.RestController;
+              import reactor.core.publisher.Mono;
+
+              @RestController
+              class GreetingController {
+                  @GetMapping("/greeting")
+                  Mono<String> greeting() {
+                      return Mono.just("hello").map(String::toUpperCase);
+                  }
+              }
+              """,
+            """
+              import io.smallrye.mutiny.Uni;
+              import org.springframework.web.bind.annotation.GetMapping;
+              import org.springframework.web.bind.annotation.RestController;
+
+              @RestController
+              class GreetingController {
+                  @GetMapping("/greeting")
+                  Uni<String> greeting() {
+                      return Uni.createFrom().item("hello").onItem().transform(String::toUpperCase);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void convertFluxOperators() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import reactor.core.publisher.Flux;
+              import reactor.core.publisher.Mono;
+
+              import java.util.List;
+
+              class Numbers {
+                  Mono<List<Integer>> evens() {
+                      return Flux.just(1, 2, 3, 4).filter(i -> i % 2 == 0).take(1).collectList();
+                  }
+              }
+              """,
+            """
+              import io.smallrye.mutiny.Multi;
+              import io.smallrye.mutiny.Uni;
+
+              import java.util.List;
+
+              class Numbers {
+                  Uni<List<Integer>> evens() {
+                      return Multi.createFrom().items(1, 2, 3, 4).select().where(i -> i % 2 == 0).select().first(1).collect().asList();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void annotateReactiveEndpointCallingBlockingRepository() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Greeting {
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import org.springframework.data.jpa.repository.JpaRepository;
+
+              interface GreetingRepository extends JpaRepository<Greeting, Long> {
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import org.springframework.web.bind.annotation.GetMapping;
+              import org.springframework.web.bind.annotation.RestController;
+              import reactor.core.publisher.Flux;
+
+              @RestController
+              class GreetingController {
+                  private final GreetingRepository repository;
+
+                  GreetingController(GreetingRepository repository) {
+                      this.repository = repository;
+                  }
+
+                  @GetMapping("/greetings")
+                  Flux<Greeting> greetings() {
+                      return Flux.fromIterable(repository.findAll());
+                  }
+              }
+              """,
+            """
+              import io.smallrye.common.annotation.Blocking;
+              import io.smallrye.mutiny.Multi;
+              import org.springframework.web.bind.annotation.GetMapping;
+              import org.springframework.web.bind.annotation.RestController;
+
+              @RestController
+              class GreetingController {
+                  private final GreetingRepository repository;
+
+                  GreetingController(GreetingRepository repository) {
+                      this.repository = repository;
+                  }
+
+                  @Blocking
+                  @GetMapping("/greetings")
+                  Multi<Greeting> greetings() {
+                      return Multi.createFrom().iterable(repository.findAll());
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void doNotAnnotateNonBlockingEndpoint() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.web.bind.annotation.GetMapping;
+              import reactor.core.publisher.Mono;
+
+              class PingController {
+                  @GetMapping("/ping")
+                  Mono<String> ping() {
+                      return Mono.empty();
+                  }
+              }
+              """,
+            """
+              import io.smallrye.mutiny.Uni;
+              import org.springframework.web.bind.annotation.GetMapping;
+
+              class PingController {
+                  @GetMapping("/ping")
+                  Uni<String> ping() {
+                      return Uni.createFrom().nullItem();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noChangeWithoutReactor() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.concurrent.CompletableFuture;
+
+              class Plain {
+                  CompletableFuture<String> value() {
+                      return CompletableFuture.completedFuture("value");
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,392 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class RedisTemplateToRedisDataSourceTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new RedisTemplateToRedisDataSource())
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("spring-data-redis", "spring-tx", "spring-core", "spring-beans", "reactor-core", "reactive-streams"));
+    }
+
+    @DocumentExample
+    @Test
+    void valueAndHashOperationsToCommandGroups() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.data.redis.core.StringRedisTemplate;
+
+              import java.time.Duration;
+
+              class SessionStore {
+                  private final StringRedisTemplate redis;
+
+                  SessionStore(StringRedisTemplate redis) {
+                      this.redis = redis;
+                  }
+
+                  String user(String session) {
+                      return redis.opsForValue().get("session:" + session);
+                  }
+
+                  void login(String session, String user) {
+                      redis.opsForValue().set("session:" + session, user, Duration.ofMinutes(30));
+                      redis.opsForHash().put("users", user, session);
+                  }
+
+                  long visits(String user) {
+                      return redis.opsForValue().increment("visits:" + user);
+                  }
+
+                  boolean active(String session) {
+                      return redis.hasKey("session:" + session);
+                  }
+              }
+              """,
+            """
+              import io.quarkus.redis.datasource.RedisDataSource;
+              import io.quarkus.redis.datasource.value.SetArgs;
+
+              import java.time.Duration;
+
+              class SessionStore {
+                  private final RedisDataSource redis;
+
+                  SessionStore(RedisDataSource redis) {
+                      this.redis = redis;
+                  }
+
+                  String user(String session) {
+                      return redis.value(String.class).get("session:" + session);
+                  }
+
+                  void login(String session, String user) {
+                      redis.value(String.class).set("session:" + session, user, new SetArgs().ex(Duration.ofMinutes(30)));
+                      redis.hash(String.class).hset("users", user, session);
+                  }
+
+                  long visits(String user) {
+                      return redis.value(String.class).incr("visits:" + user);
+                  }
+
+                  boolean active(String session) {
+                      return redis.key().exists("session:" + session);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void valueTypeOfTemplate() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              public class Order {
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.data.redis.core.RedisTemplate;
+
+              import java.util.Map;
+
+              class OrderCache {
+                  private final RedisTemplate<String, Order> redisTemplate;
+
+                  OrderCache(RedisTemplate<String, Order> redisTemplate) {
+                      this.redisTemplate = redisTemplate;
+                  }
+
+                  Order find(String id) {
+                      return redisTemplate.opsForValue().get(id);
+                  }
+
+                  void storeAll(Map<String, Order> orders) {
+                      redisTemplate.opsForValue().multiSet(orders);
+                  }
+
+                  void evict(String id) {
+                      redisTemplate.delete(id);
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import io.quarkus.redis.datasource.RedisDataSource;
+
+              import java.util.Map;
+
+              class OrderCache {
+                  private final RedisDataSource redisTemplate;
+
+                  OrderCache(RedisDataSource redisTemplate) {
+                      this.redisTemplate = redisTemplate;
+                  }
+
+                  Order find(String id) {
+                      return redisTemplate.value(Order.class).get(id);
+                  }
+
+                  void storeAll(Map<String, Order> orders) {
+                      redisTemplate.value(Order.class).mset(orders);
+                  }
+
+                  void evict(String id) {
+                      redisTemplate.key().del(id);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void sessionCallbackTransactionToWithTransaction() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.dao.DataAccessException;
+              import org.springframework.data.redis.core.RedisOperations;
+              import org.springframework.data.redis.core.SessionCallback;
+              import org.springframework.data.redis.core.StringRedisTemplate;
+
+              import java.util.List;
+
+              class Inventory {
+                  private final StringRedisTemplate redis;
+
+                  Inventory(StringRedisTemplate redis) {
+                      this.redis = redis;
+                  }
+
+                  void reserve(String sku, String order) {
+                      redis.execute(new SessionCallback<List<Object>>() {
+                          @Override
+                          @SuppressWarnings("unchecked")
+                          public List<Object> execute(RedisOperations operations) throws DataAccessException {
+                              operations.multi();
+                              operations.opsForValue().decrement("stock:" + sku);
+                              operations.opsForHash().put("reservations", order, sku);
+                              return operations.exec();
+                          }
+                      });
+                  }
+              }
+              """,
+            """
+              import io.quarkus.redis.datasource.RedisDataSource;
+
+              class Inventory {
+                  private final RedisDataSource redis;
+
+                  Inventory(RedisDataSource redis) {
+                      this.redis = redis;
+                  }
+
+                  void reserve(String sku, String order) {
+                      redis.withTransaction(tx -> {
+                          tx.value(String.class).decr("stock:" + sku);
+                          tx.hash(String.class).hset("reservations", order, sku);
+                      });
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reactiveTemplate() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+              import reactor.core.publisher.Mono;
+
+              class RateLimiter {
+                  private final ReactiveStringRedisTemplate redis;
+
+                  RateLimiter(ReactiveStringRedisTemplate redis) {
+                      this.redis = redis;
+                  }
+
+                  Mono<Long> hit(String client) {
+                      return redis.opsForValue().increment("hits:" + client);
+                  }
+              }
+              """,
+            """
+              import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+              import reactor.core.publisher.Mono;
+
+              class RateLimiter {
+                  private final ReactiveRedisDataSource redis;
+
+                  RateLimiter(ReactiveRedisDataSource redis) {
+                      this.redis = redis;
+                  }
+
+                  Mono<Long> hit(String client) {
+                      return redis.value(String.class).incr("hits:" + client);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void pipelinedSessionCallbackToReactiveCommandsChainedInOrder() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.dao.DataAccessException;
+              import org.springframework.data.redis.core.RedisOperations;
+              import org.springframework.data.redis.core.SessionCallback;
+              import org.springframework.data.redis.core.StringRedisTemplate;
+
+              import java.time.Duration;
+
+              class PriceCache {
+                  private final StringRedisTemplate redis;
+
+                  PriceCache(StringRedisTemplate redis) {
+                      this.redis = redis;
+                  }
+
+                  void warm(String sku, String price) {
+                      redis.executePipelined(new SessionCallback<Object>() {
+                          @Override
+                          @SuppressWarnings("unchecked")
+                          public Object execute(RedisOperations operations) throws DataAccessException {
+                              operations.opsForValue().set("price:" + sku, price);
+                              operations.opsForHash().put("prices", sku, price);
+                              operations.expire("prices", Duration.ofHours(1));
+                              return null;
+                          }
+                      });
+                  }
+              }
+              """,
+            """
+              import io.quarkus.redis.datasource.RedisDataSource;
+
+              import java.time.Duration;
+
+              class PriceCache {
+                  private final RedisDataSource redis;
+
+                  PriceCache(RedisDataSource redis) {
+                      this.redis = redis;
+                  }
+
+                  void warm(String sku, String price) {
+                      redis.getReactive().value(String.class).set("price:" + sku, price)
+                              .chain(() -> redis.getReactive().hash(String.class).hset("prices", sku, price))
+                              .chain(() -> redis.getReactive().key().expire("prices", Duration.ofHours(1)))
+                              .replaceWithVoid().await().indefinitely();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void leavePipelinedConnectionCallbacksUnchanged() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.data.redis.core.RedisCallback;
+              import org.springframework.data.redis.core.StringRedisTemplate;
+
+              import java.util.List;
+
+              class Warmup {
+                  private final StringRedisTemplate redis;
+
+                  Warmup(StringRedisTemplate redis) {
+                      this.redis = redis;
+                  }
+
+                  List<Object> ping() {
+                      return redis.executePipelined((RedisCallback<Object>) connection -> {
+                          connection.ping();
+                          return null;
+                      });
+                  }
+
+                  String get(String key) {
+                      return redis.opsForValue().get(key);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void leaveOperationsHeldInVariablesUnchanged() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.data.redis.core.StringRedisTemplate;
+              import org.springframework.data.redis.core.ValueOperations;
+
+              class Counter {
+                  private final StringRedisTemplate redis;
+
+                  Counter(StringRedisTemplate redis) {
+                      this.redis = redis;
+                  }
+
+                  void reset(String key) {
+                      ValueOperations<String, String> ops = redis.opsForValue();
+                      ops.set(key, "0");
+                  }
+              }
+              """
+          )
+        );
+    }
+}
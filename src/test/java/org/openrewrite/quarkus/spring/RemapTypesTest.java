@@ -0,0 +1,172 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class RemapTypesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new RemapTypes(
+            asList(
+              "org.springframework.boot.test.context.SpringBootTest=io.quarkus.test.junit.QuarkusTest",
+              "org.springframework.boot.test.mock.mockito.MockBean=io.quarkus.test.junit.mockito.InjectMock"),
+            singletonList("org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc")))
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("spring-boot-test", "spring-boot-test-autoconfigure", "junit-jupiter-api"));
+    }
+
+    @DocumentExample
+    @Test
+    void changesTypesAndRemovesAnnotationsInOneRecipe() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+              import org.springframework.boot.test.context.SpringBootTest;
+              import org.junit.jupiter.api.Test;
+
+              @SpringBootTest
+              @AutoConfigureMockMvc
+              class MyApplicationTest {
+                  @Test
+                  void contextLoads() {
+                  }
+              }
+              """,
+            """
+              import io.quarkus.test.junit.QuarkusTest;
+              import org.junit.jupiter.api.Test;
+
+              @QuarkusTest
+              class MyApplicationTest {
+                  @Test
+                  void contextLoads() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void removedAnnotationLeavesItsPlaceToTheNextOne() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+              import org.springframework.boot.test.context.SpringBootTest;
+
+              @AutoConfigureMockMvc
+              @SpringBootTest
+              public class MyApplicationTest {
+              }
+              """,
+            """
+              import io.quarkus.test.junit.QuarkusTest;
+
+              @QuarkusTest
+              public class MyApplicationTest {
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void changesNestedTypesWhereverTheyAreReferenced() {
+        rewriteRun(
+          spec -> spec.recipe(new RemapTypes(
+              singletonList("org.springframework.transaction.annotation.Propagation=jakarta.transaction.Transactional$TxType"), null))
+            .parser(JavaParser.fromJavaVersion().classpath("spring-tx", "jakarta.transaction-api")),
+          //language=java
+          java(
+            """
+              import org.springframework.transaction.annotation.Propagation;
+
+              import java.util.List;
+
+              import static org.springframework.transaction.annotation.Propagation.REQUIRES_NEW;
+
+              class Transactions {
+                  Propagation propagation = REQUIRES_NEW;
+                  List<Propagation> propagations;
+
+                  Propagation propagation(org.springframework.transaction.annotation.Propagation fallback) {
+                      return fallback == null ? Propagation.REQUIRED : fallback;
+                  }
+              }
+              """,
+            """
+              import jakarta.transaction.Transactional;
+              import jakarta.transaction.Transactional.TxType;
+
+              import java.util.List;
+
+              import static jakarta.transaction.Transactional.TxType.REQUIRES_NEW;
+
+              class Transactions {
+                  Transactional.TxType propagation = REQUIRES_NEW;
+                  List<Transactional.TxType> propagations;
+
+                  Transactional.TxType propagation(TxType fallback) {
+                      return fallback == null ? Transactional.TxType.REQUIRED : fallback;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void leavesFilesWithoutMappedTypesAlone() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.junit.jupiter.api.Test;
+
+              class PlainTest {
+                  @Test
+                  void works() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void rejectsMalformedMappings() {
+        List<String> mappings = asList("org.example.Old=org.example.New", "org.example.Missing");
+        assertThat(new RemapTypes(mappings, null).validate().isValid()).isFalse();
+        assertThat(new RemapTypes(singletonList("org.example.Old=org.example.New"), null).validate().isValid()).isTrue();
+    }
+}
@@ -18,6 +18,7 @@ package org.openrewrite.quarkus.spring;
 import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
 import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.marker.JavaSourceSet;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 import org.openrewrite.test.TypeValidation;
@@ -28,7 +29,7 @@ class ResponseEntityToJaxRsResponseTest implements RewriteTest {
 
     @Override
     public void defaults(RecipeSpec spec) {
-        spec.recipe(new ResponseEntityToJaxRsResponse())
+        spec.recipe(new ResponseEntityToJaxRsResponse(null))
           .parser(JavaParser.fromJavaVersion().classpath("spring-web", "spring-context"));
     }
 
@@ -242,4 +243,317 @@ class ResponseEntityToJaxRsResponseTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void directReturnOfOkBody() {
+        rewriteRun(
+          spec -> spec.recipe(new ResponseEntityToJaxRsResponse(true)),
+          //language=java
+          java(
+            """
+              import org.springframework.http.ResponseEntity;
+              import org.springframework.web.bind.annotation.GetMapping;
+              import org.springframework.web.bind.annotation.RestController;
+
+              @RestController
+              class ProductController {
+                  @GetMapping("/products/{id}")
+                  ResponseEntity<Product> getProduct() {
+                      Product product = new Product();
+                      return ResponseEntity.ok(product);
+                  }
+              }
+
+              class Product {
+                  String name;
+              }
+              """,
+            """
+              import org.springframework.web.bind.annotation.GetMapping;
+              import org.springframework.web.bind.annotation.RestController;
+
+              @RestController
+              class ProductController {
+                  @GetMapping("/products/{id}")
+                  Product getProduct() {
+                      Product product = new Product();
+                      return product;
+                  }
+              }
+
+              class Product {
+                  String name;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void directReturnLeavesJavaCallersToUpdate() {
+        rewriteRun(
+          spec -> spec.recipe(new ResponseEntityToJaxRsResponse(true))
+            .afterTypeValidationOptions(TypeValidation.none()),
+          //language=java
+          java(
+            """
+              import org.springframework.http.ResponseEntity;
+              import org.springframework.web.bind.annotation.GetMapping;
+              import org.springframework.web.bind.annotation.RestController;
+
+              @RestController
+              class ProductController {
+                  @GetMapping("/products/{id}")
+                  ResponseEntity<Product> getProduct() {
+                      Product product = new Product();
+                      return ResponseEntity.ok(product);
+                  }
+              }
+
+              class Product {
+                  String name;
+              }
+              """,
+            """
+              import org.springframework.web.bind.annotation.GetMapping;
+              import org.springframework.web.bind.annotation.RestController;
+
+              @RestController
+              class ProductController {
+                  @GetMapping("/products/{id}")
+                  Product getProduct() {
+                      Product product = new Product();
+                      return product;
+                  }
+              }
+
+              class Product {
+                  String name;
+              }
+              """
+          ),
+          // The endpoint now returns the Product itself, which this caller does not expect
+          //language=java
+          java(
+            """
+              class ProductControllerTest {
+                  String productName() {
+                      return new ProductController().getProduct().getBody().name;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void directReturnWithStaticStatus() {
+        rewriteRun(
+          spec -> spec.recipe(new ResponseEntityToJaxRsResponse(true))
+            .afterTypeValidationOptions(TypeValidation.none()),
+          //language=java
+          java(
+            """
+              import org.springframework.http.HttpStatus;
+              import org.springframework.http.ResponseEntity;
+              import org.springframework.web.bind.annotation.PostMapping;
+              import org.springframework.web.bind.annotation.RestController;
+
+              @RestController
+              class ProductController {
+                  @PostMapping("/products")
+                  ResponseEntity<Product> createProduct() {
+                      Product product = new Product();
+                      return ResponseEntity.status(HttpStatus.CREATED).body(product);
+                  }
+              }
+
+              class Product {
+                  String name;
+              }
+              """,
+            """
+              import org.jboss.resteasy.reactive.ResponseStatus;
+              import org.springframework.web.bind.annotation.PostMapping;
+              import org.springframework.web.bind.annotation.RestController;
+
+              @RestController
+              class ProductController {
+                  @PostMapping("/products")
+                  @ResponseStatus(201)
+                  Product createProduct() {
+                      Product product = new Product();
+                      return product;
+                  }
+              }
+
+              class Product {
+                  String name;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void restResponseForSeveralStatuses() {
+        rewriteRun(
+          spec -> spec.recipe(new ResponseEntityToJaxRsResponse(true))
+            .afterTypeValidationOptions(TypeValidation.none()),
+          //language=java
+          java(
+            """
+              import org.springframework.http.ResponseEntity;
+              import org.springframework.web.bind.annotation.GetMapping;
+              import org.springframework.web.bind.annotation.RestController;
+
+              @RestController
+              class ProductController {
+                  @GetMapping("/products/{id}")
+                  ResponseEntity<Product> getProduct(String id) {
+                      Product product = find(id);
+                      if (product == null) {
+                          return ResponseEntity.notFound().build();
+                      }
+                      return ResponseEntity.ok(product);
+                  }
+
+                  Product find(String id) {
+                      return null;
+                  }
+              }
+
+              class Product {
+                  String name;
+              }
+              """,
+            """
+              import org.jboss.resteasy.reactive.RestResponse;
+              import org.springframework.web.bind.annotation.GetMapping;
+              import org.springframework.web.bind.annotation.RestController;
+
+              @RestController
+              class ProductController {
+                  @GetMapping("/products/{id}")
+                  RestResponse<Product> getProduct(String id) {
+                      Product product = find(id);
+                      if (product == null) {
+                          return RestResponse.notFound();
+                      }
+                      return RestResponse.ok(product);
+                  }
+
+                  Product find(String id) {
+                      return null;
+                  }
+              }
+
+              class Product {
+                  String name;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void restResponseForBodiesThatMayBeNull() {
+        rewriteRun(
+          spec -> spec.recipe(new ResponseEntityToJaxRsResponse(true))
+            .afterTypeValidationOptions(TypeValidation.none()),
+          //language=java
+          java(
+            """
+              import org.springframework.http.ResponseEntity;
+              import org.springframework.web.bind.annotation.GetMapping;
+              import org.springframework.web.bind.annotation.RestController;
+
+              @RestController
+              class ProductController {
+                  @GetMapping("/products/{id}")
+                  ResponseEntity<Product> getProduct(String id) {
+                      return ResponseEntity.ok(find(id));
+                  }
+
+                  Product find(String id) {
+                      return null;
+                  }
+              }
+
+              class Product {
+                  String name;
+              }
+              """,
+            """
+              import org.jboss.resteasy.reactive.RestResponse;
+              import org.springframework.web.bind.annotation.GetMapping;
+              import org.springframework.web.bind.annotation.RestController;
+
+              @RestController
+              class ProductController {
+                  @GetMapping("/products/{id}")
+                  RestResponse<Product> getProduct(String id) {
+                      return RestResponse.ok(find(id));
+                  }
+
+                  Product find(String id) {
+                      return null;
+                  }
+              }
+
+              class Product {
+                  String name;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepResponseOnClassicWebTier() {
+        rewriteRun(
+          spec -> spec.recipe(new ResponseEntityToJaxRsResponse(true)),
+          //language=java
+          java(
+            """
+              import org.springframework.http.ResponseEntity;
+              import org.springframework.web.bind.annotation.GetMapping;
+              import org.springframework.web.bind.annotation.RestController;
+
+              @RestController
+              class ProductController {
+                  @GetMapping("/products/{id}")
+                  ResponseEntity<Product> getProduct() {
+                      Product product = new Product();
+                      return ResponseEntity.ok(product);
+                  }
+              }
+
+              class Product {
+                  String name;
+              }
+              """,
+            """
+              import jakarta.ws.rs.core.Response;
+              import org.springframework.web.bind.annotation.GetMapping;
+              import org.springframework.web.bind.annotation.RestController;
+
+              @RestController
+              class ProductController {
+                  @GetMapping("/products/{id}")
+                  Response<Product> getProduct() {
+                      Product product = new Product();
+                      return Response.ok(product);
+                  }
+              }
+
+              class Product {
+                  String name;
+              }
+              """,
+            // The classpath of a servlet-based Spring web tier, without Project Reactor
+            spec -> spec.markers(JavaSourceSet.build("main", JavaParser.dependenciesFromClasspath("spring-web")))
+          )
+        );
+    }
 }
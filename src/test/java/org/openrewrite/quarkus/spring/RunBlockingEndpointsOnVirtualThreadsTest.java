@@ -0,0 +1,244 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.version;
+import static org.openrewrite.maven.Assertions.pomXml;
+
+class RunBlockingEndpointsOnVirtualThreadsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new RunBlockingEndpointsOnVirtualThreads())
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("spring-web", "spring-data-commons", "spring-data-jpa"));
+    }
+
+    //language=java
+    private static final String GREETING = """
+      class Greeting {
+      }
+      """;
+
+    //language=java
+    private static final String GREETING_REPOSITORY = """
+      import org.springframework.data.jpa.repository.JpaRepository;
+
+      interface GreetingRepository extends JpaRepository<Greeting, Long> {
+      }
+      """;
+
+    //language=xml
+    private static final String POM = """
+      <project>
+          <groupId>com.example</groupId>
+          <artifactId>demo</artifactId>
+          <version>1.0.0</version>
+          <dependencies>
+              <dependency>
+                  <groupId>io.quarkus</groupId>
+                  <artifactId>%s</artifactId>
+                  <version>3.28.2</version>
+              </dependency>
+          </dependencies>
+      </project>
+      """;
+
+    @DocumentExample
+    @Test
+    void annotateBlockingEndpointAndSwitchToQuarkusRest() {
+        rewriteRun(
+          pomXml(
+            POM.formatted("quarkus-resteasy-jackson"),
+            POM.formatted("quarkus-rest-jackson")
+          ),
+          version(java(GREETING), 21),
+          version(java(GREETING_REPOSITORY), 21),
+          version(
+            //language=java
+            java(
+              """
+                import org.springframework.web.bind.annotation.GetMapping;
+
+                import java.util.List;
+
+                class GreetingController {
+                    private final GreetingRepository repository;
+
+                    GreetingController(GreetingRepository repository) {
+                        this.repository = repository;
+                    }
+
+                    @GetMapping("/greetings")
+                    List<Greeting> greetings() {
+                        return repository.findAll();
+                    }
+
+                    @GetMapping("/ping")
+                    String ping() {
+                        return "pong";
+                    }
+                }
+                """,
+              """
+                import io.smallrye.common.annotation.RunOnVirtualThread;
+                import org.springframework.web.bind.annotation.GetMapping;
+
+                import java.util.List;
+
+                class GreetingController {
+                    private final GreetingRepository repository;
+
+                    GreetingController(GreetingRepository repository) {
+                        this.repository = repository;
+                    }
+
+                    @GetMapping("/greetings")
+                    @RunOnVirtualThread
+                    List<Greeting> greetings() {
+                        return repository.findAll();
+                    }
+
+                    @GetMapping("/ping")
+                    String ping() {
+                        return "pong";
+                    }
+                }
+                """
+            ),
+            21
+          )
+        );
+    }
+
+    @Test
+    void leaveProjectsBeforeJava21Unchanged() {
+        rewriteRun(
+          pomXml(POM.formatted("quarkus-resteasy-jackson")),
+          version(java(GREETING), 17),
+          version(java(GREETING_REPOSITORY), 17),
+          version(
+            //language=java
+            java(
+              """
+                import org.springframework.web.bind.annotation.GetMapping;
+
+                import java.util.List;
+
+                class GreetingController {
+                    private final GreetingRepository repository;
+
+                    GreetingController(GreetingRepository repository) {
+                        this.repository = repository;
+                    }
+
+                    @GetMapping("/greetings")
+                    List<Greeting> greetings() {
+                        return repository.findAll();
+                    }
+                }
+                """
+            ),
+            17
+          )
+        );
+    }
+
+    @Test
+    void removeRestEasyClassicWhenQuarkusRestIsAlreadyPresent() {
+        rewriteRun(
+          pomXml(
+            """
+              <project>
+                  <groupId>com.example</groupId>
+                  <artifactId>demo</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                      <dependency>
+                          <groupId>io.quarkus</groupId>
+                          <artifactId>quarkus-resteasy-jackson</artifactId>
+                          <version>3.28.2</version>
+                      </dependency>
+                      <dependency>
+                          <groupId>io.quarkus</groupId>
+                          <artifactId>quarkus-rest-jackson</artifactId>
+                          <version>3.28.2</version>
+                      </dependency>
+                  </dependencies>
+              </project>
+              """,
+            """
+              <project>
+                  <groupId>com.example</groupId>
+                  <artifactId>demo</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                      <dependency>
+                          <groupId>io.quarkus</groupId>
+                          <artifactId>quarkus-rest-jackson</artifactId>
+                          <version>3.28.2</version>
+                      </dependency>
+                  </dependencies>
+              </project>
+              """
+          ),
+          version(java(GREETING), 21)
+        );
+    }
+
+    @Test
+    void decideJavaVersionPerSourceFile() {
+        rewriteRun(
+          pomXml(
+            POM.formatted("quarkus-resteasy-jackson"),
+            POM.formatted("quarkus-rest-jackson")
+          ),
+          version(java(GREETING), 21),
+          version(java(GREETING_REPOSITORY), 21),
+          version(
+            //language=java
+            java(
+              """
+                import org.springframework.web.bind.annotation.GetMapping;
+
+                import java.util.List;
+
+                class LegacyGreetingController {
+                    private final GreetingRepository repository;
+
+                    LegacyGreetingController(GreetingRepository repository) {
+                        this.repository = repository;
+                    }
+
+                    @GetMapping("/legacy/greetings")
+                    List<Greeting> greetings() {
+                        return repository.findAll();
+                    }
+                }
+                """
+            ),
+            17
+          )
+        );
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.*;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.JavaSourceFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpoolingLargeSourceSetTest {
+
+    @Test
+    void sameResultsAsInMemory(@TempDir Path spoolDirectory) throws IOException {
+        List<SourceFile> sourceFiles = new SpringBootProjectGenerator(40).parse(new InMemoryExecutionContext());
+        Recipe recipe = new WebToJaxRs();
+
+        Map<Path, String> inMemory = afterByPath(recipe.run(new InMemoryLargeSourceSet(sourceFiles), new InMemoryExecutionContext()));
+        Map<Path, String> spooled = afterByPath(recipe.run(new SpoolingLargeSourceSet(spoolDirectory, sourceFiles),
+          new InMemoryExecutionContext()));
+
+        assertThat(inMemory).isNotEmpty();
+        assertThat(spooled).containsExactlyInAnyOrderEntriesOf(inMemory);
+        // Only the initial and the final version of each Java source file are left
+        long javaSourceFiles = sourceFiles.stream().filter(JavaSourceFile.class::isInstance).count();
+        long changedJavaSourceFiles = inMemory.keySet().stream().filter(path -> path.toString().endsWith(".java")).count();
+        try (Stream<Path> files = Files.list(spoolDirectory)) {
+            assertThat(files.count()).isEqualTo(javaSourceFiles + changedJavaSourceFiles);
+        }
+    }
+
+    @Test
+    void keepTypesDeclaredInOtherSourceFiles(@TempDir Path spoolDirectory) {
+        List<SourceFile> sourceFiles = JavaParser.fromJavaVersion()
+          .classpath("jakarta.persistence-api", "spring-data-jpa", "spring-data-commons")
+          .build()
+          .parse(
+            //language=java
+            """
+              package com.example;
+
+              import jakarta.persistence.Entity;
+              import jakarta.persistence.Id;
+
+              @Entity
+              public class Book {
+                  @Id
+                  Long id;
+              }
+              """,
+            //language=java
+            """
+              package com.example;
+
+              import org.springframework.data.jpa.repository.JpaRepository;
+
+              public interface BookRepository extends JpaRepository<Book, Long> {
+              }
+              """,
+            //language=java
+            """
+              package com.example;
+
+              import java.util.List;
+
+              class BookService {
+                  BookRepository books;
+
+                  List<Book> all() {
+                      return books.findAll();
+                  }
+              }
+              """)
+          .collect(toList());
+        // Rewriting the service relies on the type of its field, which is declared in another source file
+        Recipe recipe = new JpaRepositoryToPanacheRepository(false);
+
+        Map<Path, String> inMemory = afterByPath(recipe.run(new InMemoryLargeSourceSet(sourceFiles), new InMemoryExecutionContext()));
+        Map<Path, String> spooled = afterByPath(recipe.run(new SpoolingLargeSourceSet(spoolDirectory, sourceFiles),
+          new InMemoryExecutionContext()));
+
+        assertThat(inMemory.get(Paths.get("com/example/BookService.java"))).contains("books.listAll()");
+        assertThat(spooled).containsExactlyInAnyOrderEntriesOf(inMemory);
+    }
+
+    private static Map<Path, String> afterByPath(RecipeRun run) {
+        return run.getChangeset().getAllResults().stream()
+          .filter(result -> result.getAfter() != null)
+          .collect(toMap(result -> result.getAfter().getSourcePath(), result -> result.getAfter().printAll()));
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.properties.Assertions.properties;
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class SpringAmqpToReactiveMessagingTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new SpringAmqpToReactiveMessaging())
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("spring-rabbit", "spring-amqp", "amqp-client", "spring-messaging", "spring-beans"));
+    }
+
+    @DocumentExample
+    @Test
+    void listenerAndTemplateToIncomingAndEmitter() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.amqp.rabbit.annotation.RabbitListener;
+              import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+              class OrderHandler {
+                  private final RabbitTemplate rabbitTemplate;
+
+                  OrderHandler(RabbitTemplate rabbitTemplate) {
+                      this.rabbitTemplate = rabbitTemplate;
+                  }
+
+                  @RabbitListener(queues = "orders", concurrency = "2-8")
+                  void onOrder(String order) {
+                      rabbitTemplate.convertAndSend("shipping", "order.accepted", order);
+                  }
+              }
+              """,
+            """
+              import org.eclipse.microprofile.reactive.messaging.Channel;
+              import org.eclipse.microprofile.reactive.messaging.Emitter;
+              import org.eclipse.microprofile.reactive.messaging.Incoming;
+
+              class OrderHandler {
+                  private final Emitter<String> rabbitTemplate;
+
+                  OrderHandler(@Channel("shipping-order-accepted") Emitter<String> rabbitTemplate) {
+                      this.rabbitTemplate = rabbitTemplate;
+                  }
+
+                  @Incoming("orders")
+                  void onOrder(String order) {
+                      rabbitTemplate.send(order);
+                  }
+              }
+              """
+          ),
+          properties(
+            """
+              spring.rabbitmq.host=broker
+              spring.rabbitmq.listener.simple.prefetch=250
+              spring.rabbitmq.listener.simple.concurrency=4
+              spring.rabbitmq.listener.simple.max-concurrency=6
+              """,
+            """
+              spring.rabbitmq.host=broker
+              mp.messaging.incoming.orders.max-outstanding-messages=250
+              mp.messaging.incoming.orders.concurrency=8
+              mp.messaging.outgoing.shipping-order-accepted.exchange.name=shipping
+              mp.messaging.outgoing.shipping-order-accepted.default-routing-key=order.accepted
+              """,
+            spec -> spec.path("application.properties")
+          )
+        );
+    }
+
+    @Test
+    void containerConcurrencyKeepsUpperBound() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.amqp.rabbit.annotation.RabbitListener;
+
+              class AuditListener {
+                  @RabbitListener(queues = {"audit.log"})
+                  void onEntry(String entry) {
+                  }
+              }
+              """,
+            """
+              import org.eclipse.microprofile.reactive.messaging.Incoming;
+
+              class AuditListener {
+                  @Incoming("audit-log")
+                  void onEntry(String entry) {
+                  }
+              }
+              """
+          ),
+          properties(
+            """
+              spring.rabbitmq.listener.simple.max-concurrency=10
+              spring.rabbitmq.listener.simple.concurrency=3
+              spring.rabbitmq.listener.simple.prefetch=50
+              """,
+            """
+              mp.messaging.incoming.audit-log.concurrency=10
+              mp.messaging.incoming.audit-log.max-outstanding-messages=50
+              """,
+            spec -> spec.path("application-prod.properties")
+          ),
+          properties(
+            null,
+            """
+              mp.messaging.incoming.audit-log.queue.name=audit.log
+              """,
+            spec -> spec.path("src/main/resources/application.properties")
+          )
+        );
+    }
+
+    @Test
+    void channelSettingsInApplicationYaml() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.amqp.rabbit.annotation.RabbitListener;
+
+              class AuditListener {
+                  @RabbitListener(queues = {"audit.log"})
+                  void onEntry(String entry) {
+                  }
+              }
+              """,
+            """
+              import org.eclipse.microprofile.reactive.messaging.Incoming;
+
+              class AuditListener {
+                  @Incoming("audit-log")
+                  void onEntry(String entry) {
+                  }
+              }
+              """
+          ),
+          yaml(
+            """
+              spring:
+                rabbitmq:
+                  host: rabbit
+                  listener:
+                    simple:
+                      prefetch: 50
+              mp:
+                messaging:
+                  connector:
+                    smallrye-rabbitmq:
+                      host: rabbit
+              """,
+            """
+              spring:
+                rabbitmq:
+                  host: rabbit
+              mp:
+                messaging:
+                  connector:
+                    smallrye-rabbitmq:
+                      host: rabbit
+                  incoming.audit-log.max-outstanding-messages: 50
+                  incoming.audit-log.queue.name: audit.log
+              """,
+            spec -> spec.path("src/main/resources/application.yml")
+          )
+        );
+    }
+
+    @Test
+    void injectedFieldSendingToDefaultExchange() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              public class Invoice {
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.amqp.rabbit.core.RabbitTemplate;
+              import org.springframework.beans.factory.annotation.Autowired;
+
+              class Billing {
+                  @Autowired
+                  private RabbitTemplate rabbitTemplate;
+
+                  void bill(Invoice invoice) {
+                      rabbitTemplate.convertAndSend("invoices", invoice);
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import org.eclipse.microprofile.reactive.messaging.Channel;
+              import org.eclipse.microprofile.reactive.messaging.Emitter;
+              import org.springframework.beans.factory.annotation.Autowired;
+
+              class Billing {
+                  @Autowired
+                  @Channel("invoices")
+                  private Emitter<Invoice> rabbitTemplate;
+
+                  void bill(Invoice invoice) {
+                      rabbitTemplate.send(invoice);
+                  }
+              }
+              """
+          ),
+          properties(
+            """
+              server.port=8080
+              """,
+            """
+              server.port=8080
+              mp.messaging.outgoing.invoices.exchange.name=""
+              mp.messaging.outgoing.invoices.default-routing-key=invoices
+              """,
+            spec -> spec.path("application.properties")
+          )
+        );
+    }
+
+    @Test
+    void leaveListenersWithoutChannelEquivalentUnchanged() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.amqp.core.Message;
+              import org.springframework.amqp.rabbit.annotation.Exchange;
+              import org.springframework.amqp.rabbit.annotation.Queue;
+              import org.springframework.amqp.rabbit.annotation.QueueBinding;
+              import org.springframework.amqp.rabbit.annotation.RabbitListener;
+
+              class Listeners {
+                  @RabbitListener(queues = "raw")
+                  void raw(Message message) {
+                  }
+
+                  @RabbitListener(bindings = @QueueBinding(value = @Queue("bound"), exchange = @Exchange("events")))
+                  void bound(String event) {
+                  }
+
+                  @RabbitListener(queues = "${app.queue}")
+                  void placeholder(String event) {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void leaveTemplatesPublishingToSeveralDestinationsUnchanged() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+              class Notifier {
+                  private final RabbitTemplate rabbitTemplate;
+
+                  Notifier(RabbitTemplate rabbitTemplate) {
+                      this.rabbitTemplate = rabbitTemplate;
+                  }
+
+                  void notify(String message) {
+                      rabbitTemplate.convertAndSend("email", message);
+                      rabbitTemplate.convertAndSend("sms", message);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class SpringAsyncToManagedExecutorTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new SpringAsyncToManagedExecutor())
+          .parser(JavaParser.fromJavaVersion().classpath("spring-context", "spring-core"));
+    }
+
+    @DocumentExample
+    @Test
+    void runAsyncMethodsOnManagedExecutor() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.scheduling.annotation.Async;
+
+              import java.util.concurrent.CompletableFuture;
+
+              class ReportService {
+                  @Async
+                  public CompletableFuture<String> render(String name) {
+                      String report = "report for " + name;
+                      return CompletableFuture.completedFuture(report);
+                  }
+
+                  @Async
+                  public void send(String name) {
+                      System.out.println(name);
+                  }
+              }
+              """,
+            """
+              import jakarta.inject.Inject;
+              import org.eclipse.microprofile.context.ManagedExecutor;
+
+              import java.util.concurrent.CompletableFuture;
+
+              class ReportService {
+                  @Inject
+                  ManagedExecutor managedExecutor;
+
+                  public CompletableFuture<String> render(String name) {
+                      return managedExecutor.supplyAsync(() -> {
+                          String report = "report for " + name;
+                          return report;
+                      });
+                  }
+
+                  public void send(String name) {
+                      managedExecutor.runAsync(() -> {
+                          System.out.println(name);
+                      });
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reuseInjectedTaskExecutor() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.core.task.TaskExecutor;
+              import org.springframework.scheduling.annotation.Async;
+
+              class Notifier {
+                  private final TaskExecutor executor;
+
+                  Notifier(TaskExecutor executor) {
+                      this.executor = executor;
+                  }
+
+                  @Async
+                  public void publish(String message) {
+                      System.out.println(message);
+                  }
+              }
+              """,
+            """
+              import org.eclipse.microprofile.context.ManagedExecutor;
+
+              class Notifier {
+                  private final ManagedExecutor executor;
+
+                  Notifier(ManagedExecutor executor) {
+                      this.executor = executor;
+                  }
+
+                  public void publish(String message) {
+                      executor.runAsync(() -> {
+                          System.out.println(message);
+                      });
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepMethodsThatReassignParameters() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.scheduling.annotation.Async;
+
+              class Counter {
+                  @Async
+                  public void count(int times) {
+                      while (times > 0) {
+                          times--;
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,579 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Parser;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.marker.JavaProject;
+import org.openrewrite.java.marker.JavaSourceSet;
+import org.openrewrite.java.marker.JavaVersion;
+import org.openrewrite.marker.Marker;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.maven.MavenParser;
+import org.openrewrite.properties.PropertiesParser;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+import static org.openrewrite.Tree.randomId;
+
+/**
+ * Generates a realistic Spring Boot project of a given number of files, for scale testing the migration.
+ * <p>
+ * The project is a {@code pom.xml} with Spring Boot starters, an {@code application.properties} and an application
+ * class, followed by one domain after another. Each domain contributes a JPA entity or Mongo document, its repository,
+ * a service and a REST controller, and sometimes {@code @ConfigurationProperties}, a {@code HealthIndicator}, an
+ * {@code @EventListener} or a {@code @Configuration} class. Names, fields, endpoints and mixes are drawn from a
+ * {@link Random} with the given seed, so the same seed and size always produce the same project.
+ */
+final class SpringBootProjectGenerator {
+
+    static final long DEFAULT_SEED = 42L;
+
+    /**
+     * The jars the generated sources compile against, as found on the test runtime classpath.
+     */
+    static final String[] CLASSPATH = {
+      "spring-web", "spring-context", "spring-beans", "spring-boot", "spring-boot-autoconfigure",
+      "spring-boot-actuator", "spring-data-commons", "spring-data-jpa", "spring-data-mongodb",
+      "jakarta.persistence-api"
+    };
+
+    private static final String[] NOUNS = {
+      "Customer", "Order", "Invoice", "Product", "Shipment", "Payment", "Account", "Ticket", "Review", "Coupon",
+      "Warehouse", "Supplier", "Employee", "Department", "Booking", "Subscription", "Cart", "Address", "Category", "Tag"
+    };
+
+    private static final String[][] FIELDS = {
+      {"String", "name"}, {"String", "description"}, {"String", "email"}, {"String", "status"},
+      {"Integer", "quantity"}, {"Long", "version"}, {"Boolean", "active"}, {"java.math.BigDecimal", "amount"},
+      {"java.time.LocalDate", "createdOn"}, {"java.time.Instant", "updatedAt"}
+    };
+
+    private final long seed;
+    private final int files;
+
+    SpringBootProjectGenerator(long seed, int files) {
+        this.seed = seed;
+        this.files = files;
+    }
+
+    SpringBootProjectGenerator(int files) {
+        this(DEFAULT_SEED, files);
+    }
+
+    /**
+     * @return the project's files by their path relative to the project root, in a stable order.
+     */
+    Map<Path, String> generate() {
+        Random random = new Random(seed);
+        Map<Path, String> project = new LinkedHashMap<>();
+        List<String> prefixes = new ArrayList<>();
+
+        project.put(Paths.get("pom.xml"), pom());
+        project.put(javaPath("com.example.demo", "DemoApplication"), application());
+        for (int d = 0; project.size() < files - 1; d++) {
+            String noun = NOUNS[d % NOUNS.length] + (d < NOUNS.length ? "" : String.valueOf(d / NOUNS.length));
+            String pkg = "com.example.demo." + noun.toLowerCase(Locale.ROOT);
+            boolean document = random.nextInt(4) == 0;
+            List<String[]> fields = fields(random);
+
+            List<Map.Entry<Path, String>> domain = new ArrayList<>();
+            domain.add(entry(pkg, noun, document ? document(pkg, noun, fields) : entity(pkg, noun, fields)));
+            domain.add(entry(pkg, noun + "Repository", repository(pkg, noun, document, fields)));
+            domain.add(entry(pkg, noun + "Service", service(pkg, noun, random)));
+            domain.add(entry(pkg, noun + "Controller", controller(pkg, noun, random)));
+            if (random.nextInt(3) == 0) {
+                String prefix = "app." + noun.toLowerCase(Locale.ROOT);
+                prefixes.add(prefix);
+                domain.add(entry(pkg, noun + "Properties", configurationProperties(pkg, noun, prefix, random)));
+            }
+            if (random.nextInt(5) == 0) {
+                domain.add(entry(pkg, noun + "HealthIndicator", healthIndicator(pkg, noun, random)));
+            }
+            if (random.nextInt(3) == 0) {
+                domain.add(entry(pkg, noun + "EventListener", eventListener(pkg, noun, random)));
+            }
+            if (random.nextInt(4) == 0) {
+                domain.add(entry(pkg, noun + "Configuration", configuration(pkg, noun)));
+            }
+            for (Map.Entry<Path, String> file : domain) {
+                if (project.size() == files - 1) {
+                    break;
+                }
+                project.put(file.getKey(), file.getValue());
+            }
+        }
+        project.put(Paths.get("src/main/resources/application.properties"), applicationProperties(prefixes));
+        return project;
+    }
+
+    /**
+     * Parses the generated project with the markers a Maven build would attach.
+     */
+    List<SourceFile> parse(ExecutionContext ctx) {
+        List<Parser.Input> java = new ArrayList<>();
+        List<Parser.Input> properties = new ArrayList<>();
+        List<Parser.Input> poms = new ArrayList<>();
+        for (Map.Entry<Path, String> file : generate().entrySet()) {
+            String fileName = file.getKey().getFileName().toString();
+            Parser.Input input = new Parser.Input(file.getKey(), () -> new ByteArrayInputStream(file.getValue().getBytes(UTF_8)));
+            (fileName.endsWith(".java") ? java : fileName.endsWith(".properties") ? properties : poms).add(input);
+        }
+
+        List<Marker> markers = Arrays.asList(
+          new JavaProject(randomId(), "demo", new JavaProject.Publication("com.example", "demo", "0.0.1-SNAPSHOT")),
+          JavaSourceSet.build("main", emptyList()),
+          new JavaVersion(randomId(), "17", "17", "17", "17")
+        );
+        return Stream.of(
+            MavenParser.builder().build().parseInputs(poms, null, ctx),
+            PropertiesParser.builder().build().parseInputs(properties, null, ctx),
+            JavaParser.fromJavaVersion().classpath(CLASSPATH).build().parseInputs(java, null, ctx))
+          .flatMap(s -> s)
+          .map(sf -> {
+              Markers withProject = sf.getMarkers();
+              for (Marker marker : markers) {
+                  withProject = withProject.addIfAbsent(marker);
+              }
+              return (SourceFile) sf.withMarkers(withProject);
+          })
+          .collect(toList());
+    }
+
+    private static Map.Entry<Path, String> entry(String pkg, String className, String source) {
+        return new AbstractMap.SimpleImmutableEntry<>(javaPath(pkg, className), source);
+    }
+
+    private static Path javaPath(String pkg, String className) {
+        return Paths.get("src/main/java", pkg.replace('.', '/'), className + ".java");
+    }
+
+    private static List<String[]> fields(Random random) {
+        List<String[]> fields = new ArrayList<>(Arrays.asList(FIELDS));
+        Collections.shuffle(fields, random);
+        return fields.subList(0, 2 + random.nextInt(6));
+    }
+
+    private static String capitalize(String s) {
+        return Character.toUpperCase(s.charAt(0)) + s.substring(1);
+    }
+
+    private static String accessors(List<String[]> fields) {
+        StringBuilder sb = new StringBuilder();
+        for (String[] field : fields) {
+            String type = field[0];
+            String name = field[1];
+            sb.append("""
+
+                  public %1$s get%2$s() {
+                      return %3$s;
+                  }
+
+                  public void set%2$s(%1$s %3$s) {
+                      this.%3$s = %3$s;
+                  }
+              """.formatted(type, capitalize(name), name));
+        }
+        return sb.toString();
+    }
+
+    private static String declarations(List<String[]> fields) {
+        StringBuilder sb = new StringBuilder();
+        for (String[] field : fields) {
+            sb.append("    private ").append(field[0]).append(' ').append(field[1]).append(";\n");
+        }
+        return sb.toString();
+    }
+
+    private static String pom() {
+        return """
+          <project>
+              <parent>
+                  <groupId>org.springframework.boot</groupId>
+                  <artifactId>spring-boot-starter-parent</artifactId>
+                  <version>3.1.0</version>
+              </parent>
+              <groupId>com.example</groupId>
+              <artifactId>demo</artifactId>
+              <version>0.0.1-SNAPSHOT</version>
+              <properties>
+                  <java.version>17</java.version>
+              </properties>
+              <dependencies>
+                  <dependency>
+                      <groupId>org.springframework.boot</groupId>
+                      <artifactId>spring-boot-starter-web</artifactId>
+                  </dependency>
+                  <dependency>
+                      <groupId>org.springframework.boot</groupId>
+                      <artifactId>spring-boot-starter-data-jpa</artifactId>
+                  </dependency>
+                  <dependency>
+                      <groupId>org.springframework.boot</groupId>
+                      <artifactId>spring-boot-starter-data-mongodb</artifactId>
+                  </dependency>
+                  <dependency>
+                      <groupId>org.springframework.boot</groupId>
+                      <artifactId>spring-boot-starter-actuator</artifactId>
+                  </dependency>
+                  <dependency>
+                      <groupId>org.springframework.boot</groupId>
+                      <artifactId>spring-boot-starter-test</artifactId>
+                      <scope>test</scope>
+                  </dependency>
+              </dependencies>
+              <build>
+                  <plugins>
+                      <plugin>
+                          <groupId>org.springframework.boot</groupId>
+                          <artifactId>spring-boot-maven-plugin</artifactId>
+                      </plugin>
+                  </plugins>
+              </build>
+          </project>
+          """;
+    }
+
+    private static String applicationProperties(List<String> prefixes) {
+        StringBuilder sb = new StringBuilder("""
+          server.port=8080
+          spring.application.name=demo
+          spring.datasource.url=jdbc:postgresql://localhost:5432/demo
+          spring.datasource.username=demo
+          spring.datasource.password=secret
+          spring.jpa.hibernate.ddl-auto=update
+          spring.data.mongodb.uri=mongodb://localhost:27017/demo
+          greeting.message=Hello
+          """);
+        for (String prefix : prefixes) {
+            sb.append(prefix).append(".enabled=true\n");
+            sb.append(prefix).append(".timeout=30\n");
+        }
+        return sb.toString();
+    }
+
+    private static String application() {
+        return """
+          package com.example.demo;
+
+          import org.springframework.boot.SpringApplication;
+          import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+          @SpringBootApplication
+          public class DemoApplication {
+              public static void main(String[] args) {
+                  SpringApplication.run(DemoApplication.class, args);
+              }
+          }
+          """;
+    }
+
+    private static String entity(String pkg, String noun, List<String[]> fields) {
+        return """
+          package %1$s;
+
+          import jakarta.persistence.Entity;
+          import jakarta.persistence.GeneratedValue;
+          import jakarta.persistence.Id;
+
+          @Entity
+          public class %2$s {
+              @Id
+              @GeneratedValue
+              private Long id;
+          %3$s
+              public Long getId() {
+                  return id;
+              }
+          %4$s}
+          """.formatted(pkg, noun, declarations(fields), accessors(fields));
+    }
+
+    private static String document(String pkg, String noun, List<String[]> fields) {
+        return """
+          package %1$s;
+
+          import org.springframework.data.annotation.Id;
+          import org.springframework.data.mongodb.core.mapping.Document;
+
+          @Document("%3$s")
+          public class %2$s {
+              @Id
+              private String id;
+          %4$s
+              public String getId() {
+                  return id;
+              }
+          %5$s}
+          """.formatted(pkg, noun, noun.toLowerCase(Locale.ROOT) + "s", declarations(fields), accessors(fields));
+    }
+
+    private static String repository(String pkg, String noun, boolean document, List<String[]> fields) {
+        String[] finderField = fields.get(0);
+        String finder = "    List<%1$s> findBy%2$s(%3$s %4$s);\n"
+          .formatted(noun, capitalize(finderField[1]), finderField[0], finderField[1]);
+        if (document) {
+            return """
+              package %1$s;
+
+              import org.springframework.data.mongodb.repository.MongoRepository;
+
+              import java.util.List;
+
+              public interface %2$sRepository extends MongoRepository<%2$s, String> {
+              %3$s}
+              """.formatted(pkg, noun, finder);
+        }
+        return """
+          package %1$s;
+
+          import org.springframework.data.jpa.repository.JpaRepository;
+
+          import java.util.List;
+
+          public interface %2$sRepository extends JpaRepository<%2$s, Long> {
+          %3$s}
+          """.formatted(pkg, noun, finder);
+    }
+
+    private static String service(String pkg, String noun, Random random) {
+        return """
+          package %1$s;
+
+          import org.springframework.beans.factory.annotation.Value;
+          import org.springframework.stereotype.Service;
+
+          import java.util.List;
+
+          @Service
+          public class %2$sService {
+
+              private final %2$sRepository repository;
+
+              @Value("${%3$s.page-size:%4$d}")
+              int pageSize;
+
+              public %2$sService(%2$sRepository repository) {
+                  this.repository = repository;
+              }
+
+              public List<%2$s> findAll() {
+                  return repository.findAll();
+              }
+
+              public %2$s save(%2$s %5$s) {
+                  return repository.save(%5$s);
+              }
+
+              public void delete(Object id) {
+                  repository.findAll().stream().filter(e -> e.getId().equals(id)).forEach(repository::delete);
+              }
+          }
+          """.formatted(pkg, noun, noun.toLowerCase(Locale.ROOT), 10 + random.nextInt(90),
+          Character.toLowerCase(noun.charAt(0)) + noun.substring(1));
+    }
+
+    private static String controller(String pkg, String noun, Random random) {
+        String var = Character.toLowerCase(noun.charAt(0)) + noun.substring(1);
+        StringBuilder endpoints = new StringBuilder("""
+
+              @GetMapping
+              public List<%1$s> list() {
+                  return service.findAll();
+              }
+          """.formatted(noun));
+        if (random.nextBoolean()) {
+            endpoints.append("""
+
+                  @GetMapping("/{id}")
+                  public ResponseEntity<%1$s> get(@PathVariable("id") String id) {
+                      return service.findAll().stream()
+                              .filter(e -> String.valueOf(e.getId()).equals(id))
+                              .findFirst()
+                              .map(ResponseEntity::ok)
+                              .orElse(ResponseEntity.notFound().build());
+                  }
+              """.formatted(noun));
+        }
+        if (random.nextBoolean()) {
+            endpoints.append("""
+
+                  @PostMapping(consumes = "application/json", produces = "application/json")
+                  public %1$s create(@RequestBody %1$s %2$s) {
+                      return service.save(%2$s);
+                  }
+              """.formatted(noun, var));
+        }
+        if (random.nextBoolean()) {
+            endpoints.append("""
+
+                  @PutMapping("/{id}")
+                  public ResponseEntity<%1$s> update(@PathVariable("id") String id, @RequestBody %1$s %2$s) {
+                      return ResponseEntity.ok(service.save(%2$s));
+                  }
+              """.formatted(noun, var));
+        }
+        if (random.nextBoolean()) {
+            endpoints.append("""
+
+                  @DeleteMapping("/{id}")
+                  public void delete(@PathVariable("id") String id) {
+                      service.delete(id);
+                  }
+              """);
+        }
+        if (random.nextInt(3) == 0) {
+            endpoints.append("""
+
+                  @GetMapping("/search")
+                  public List<%1$s> search(@RequestParam("q") String q, @RequestParam(value = "limit", defaultValue = "20") int limit,
+                                         @RequestHeader("X-Request-Id") String requestId) {
+                      return service.findAll();
+                  }
+              """.formatted(noun));
+        }
+        return """
+          package %1$s;
+
+          import org.springframework.http.ResponseEntity;
+          import org.springframework.web.bind.annotation.*;
+
+          import java.util.List;
+
+          @RestController
+          @RequestMapping("/api/%3$s")
+          public class %2$sController {
+
+              private final %2$sService service;
+
+              public %2$sController(%2$sService service) {
+                  this.service = service;
+              }
+          %4$s}
+          """.formatted(pkg, noun, noun.toLowerCase(Locale.ROOT) + "s", endpoints);
+    }
+
+    private static String configurationProperties(String pkg, String noun, String prefix, Random random) {
+        return """
+          package %1$s;
+
+          import org.springframework.boot.context.properties.ConfigurationProperties;
+
+          @ConfigurationProperties(prefix = "%3$s")
+          public class %2$sProperties {
+              private boolean enabled;
+              private int timeout = %4$d;
+
+              public boolean isEnabled() {
+                  return enabled;
+              }
+
+              public void setEnabled(boolean enabled) {
+                  this.enabled = enabled;
+              }
+
+              public int getTimeout() {
+                  return timeout;
+              }
+
+              public void setTimeout(int timeout) {
+                  this.timeout = timeout;
+              }
+          }
+          """.formatted(pkg, noun, prefix, 5 + random.nextInt(55));
+    }
+
+    private static String healthIndicator(String pkg, String noun, Random random) {
+        return """
+          package %1$s;
+
+          import org.springframework.boot.actuate.health.Health;
+          import org.springframework.boot.actuate.health.HealthIndicator;
+          import org.springframework.stereotype.Component;
+
+          @Component
+          public class %2$sHealthIndicator implements HealthIndicator {
+
+              private final %2$sRepository repository;
+
+              public %2$sHealthIndicator(%2$sRepository repository) {
+                  this.repository = repository;
+              }
+
+              @Override
+              public Health health() {
+                  if (repository.count() > %3$d) {
+                      return Health.down().withDetail("reason", "too many records").build();
+                  }
+                  return Health.up().withDetail("count", repository.count()).build();
+              }
+          }
+          """.formatted(pkg, noun, 1000 * (1 + random.nextInt(100)));
+    }
+
+    private static String eventListener(String pkg, String noun, Random random) {
+        StringBuilder listeners = new StringBuilder();
+        int count = 1 + random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            listeners.append("""
+
+                  @EventListener
+                  public void on%1$s%2$d(%1$s event) {
+                      System.out.println("Received " + event);
+                  }
+              """.formatted(noun, i));
+        }
+        return """
+          package %1$s;
+
+          import org.springframework.context.event.EventListener;
+          import org.springframework.stereotype.Component;
+
+          @Component
+          public class %2$sEventListener {
+          %3$s}
+          """.formatted(pkg, noun, listeners);
+    }
+
+    private static String configuration(String pkg, String noun) {
+        return """
+          package %1$s;
+
+          import org.springframework.context.annotation.Bean;
+          import org.springframework.context.annotation.Configuration;
+
+          import java.time.Clock;
+
+          @Configuration
+          public class %2$sConfiguration {
+
+              @Bean
+              public Clock %3$sClock() {
+                  return Clock.systemUTC();
+              }
+          }
+          """.formatted(pkg, noun, Character.toLowerCase(noun.charAt(0)) + noun.substring(1));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.tree.ParseError;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpringBootProjectGeneratorTest {
+
+    @Test
+    void sameSeedGeneratesSameProject() {
+        assertThat(new SpringBootProjectGenerator(7L, 200).generate())
+          .containsExactlyEntriesOf(new SpringBootProjectGenerator(7L, 200).generate());
+    }
+
+    @Test
+    void differentSeedsGenerateDifferentProjects() {
+        assertThat(new SpringBootProjectGenerator(7L, 200).generate())
+          .isNotEqualTo(new SpringBootProjectGenerator(8L, 200).generate());
+    }
+
+    @Test
+    void generatesRequestedNumberOfFiles() {
+        Map<Path, String> project = new SpringBootProjectGenerator(500).generate();
+        assertThat(project).hasSize(500);
+        assertThat(project).containsKeys(
+          Paths.get("pom.xml"),
+          Paths.get("src/main/resources/application.properties"),
+          Paths.get("src/main/java/com/example/demo/DemoApplication.java"));
+        assertThat(project.values())
+          .anyMatch(s -> s.contains("@RestController"))
+          .anyMatch(s -> s.contains("@ConfigurationProperties"))
+          .anyMatch(s -> s.contains("@Entity"))
+          .anyMatch(s -> s.contains("extends MongoRepository"))
+          .anyMatch(s -> s.contains("implements HealthIndicator"))
+          .anyMatch(s -> s.contains("@EventListener"))
+          .anyMatch(s -> s.contains("<artifactId>spring-boot-starter-web</artifactId>"));
+    }
+
+    @Test
+    void parsesWithoutErrors() {
+        List<SourceFile> sourceFiles = new SpringBootProjectGenerator(100).parse(new InMemoryExecutionContext(Throwable::printStackTrace));
+        assertThat(sourceFiles).hasSize(100).noneMatch(ParseError.class::isInstance);
+        assertThat(sourceFiles).filteredOn(J.CompilationUnit.class::isInstance)
+          .allSatisfy(sf -> assertThat(((J.CompilationUnit) sf).getTypesInUse().getTypesInUse())
+            .noneMatch(JavaType.Unknown.class::isInstance));
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class SpringCacheToQuarkusCacheTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new SpringCacheToQuarkusCache())
+          .parser(JavaParser.fromJavaVersion().classpath("spring-context"));
+    }
+
+    @DocumentExample
+    @Test
+    void convertCacheAnnotationsAndKeys() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.cache.annotation.CacheEvict;
+              import org.springframework.cache.annotation.Cacheable;
+
+              class BookService {
+                  @Cacheable(value = "books", key = "#isbn")
+                  public String find(String isbn, boolean verbose) {
+                      return isbn;
+                  }
+
+                  @CacheEvict(value = "books", key = "#p0")
+                  public void update(String isbn, String title) {
+                  }
+
+                  @CacheEvict(value = "books", allEntries = true)
+                  public void clear() {
+                  }
+              }
+              """,
+            """
+              import io.quarkus.cache.CacheInvalidate;
+              import io.quarkus.cache.CacheInvalidateAll;
+              import io.quarkus.cache.CacheKey;
+              import io.quarkus.cache.CacheResult;
+
+              class BookService {
+                  @CacheResult(cacheName = "books")
+                  public String find(@CacheKey String isbn, boolean verbose) {
+                      return isbn;
+                  }
+
+                  @CacheInvalidate(cacheName = "books")
+                  public void update(@CacheKey String isbn, String title) {
+                  }
+
+                  @CacheInvalidateAll(cacheName = "books")
+                  public void clear() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void invalidateAllWhenKeyIsNotAParameter() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.cache.annotation.CacheConfig;
+              import org.springframework.cache.annotation.CachePut;
+
+              @CacheConfig(cacheNames = "books")
+              class BookService {
+                  @CachePut(key = "#book.isbn")
+                  public Book save(Book book) {
+                      return book;
+                  }
+
+                  static class Book {
+                      String isbn;
+                  }
+              }
+              """,
+            """
+              import io.quarkus.cache.CacheInvalidateAll;
+
+              class BookService {
+                  @CacheInvalidateAll(cacheName = "books")
+                  public Book save(Book book) {
+                      return book;
+                  }
+
+                  static class Book {
+                      String isbn;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepCachedResultsWithUnmappableKeys() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.cache.annotation.CacheEvict;
+              import org.springframework.cache.annotation.Cacheable;
+
+              class BookService {
+                  @Cacheable(value = "books", key = "#book.isbn")
+                  public String find(Book book) {
+                      return book.isbn;
+                  }
+
+                  @Cacheable(value = "titles", key = "#isbn")
+                  @CacheEvict(value = "books", key = "#title")
+                  public String rename(String isbn, String title) {
+                      return title;
+                  }
+
+                  static class Book {
+                      String isbn;
+                  }
+              }
+              """,
+            """
+              import io.quarkus.cache.CacheInvalidateAll;
+              import io.quarkus.cache.CacheKey;
+              import io.quarkus.cache.CacheResult;
+              import org.springframework.cache.annotation.Cacheable;
+
+              class BookService {
+                  @Cacheable(value = "books", key = "#book.isbn")
+                  public String find(Book book) {
+                      return book.isbn;
+                  }
+
+                  @CacheResult(cacheName = "titles")
+                  @CacheInvalidateAll(cacheName = "books")
+                  public String rename(@CacheKey String isbn, String title) {
+                      return title;
+                  }
+
+                  static class Book {
+                      String isbn;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepAnnotationsWithConditions() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.cache.annotation.Cacheable;
+
+              class BookService {
+                  @Cacheable(value = "books", unless = "#result == null")
+                  public String find(String isbn) {
+                      return isbn;
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.TypeValidation;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.properties.Assertions.properties;
+
+class SpringHttpClientsToRestClientTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new SpringHttpClientsToRestClient())
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("spring-web", "spring-webflux", "spring-boot", "spring-context", "reactor-core"))
+          // The generated interfaces are parsed without the project's own classes
+          .afterTypeValidationOptions(TypeValidation.none());
+    }
+
+    @DocumentExample
+    @Test
+    void restTemplateToRestClientInterface() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              public class Item {
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import java.time.Duration;
+
+              import org.springframework.boot.web.client.RestTemplateBuilder;
+              import org.springframework.context.annotation.Bean;
+              import org.springframework.web.client.RestTemplate;
+
+              class HttpConfig {
+                  @Bean
+                  RestTemplate restTemplate(RestTemplateBuilder builder) {
+                      return builder
+                        .connectTimeout(Duration.ofSeconds(2))
+                        .readTimeout(Duration.ofMillis(500))
+                        .build();
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.web.client.RestTemplate;
+
+              class InventoryGateway {
+                  private final RestTemplate restTemplate;
+
+                  InventoryGateway(RestTemplate restTemplate) {
+                      this.restTemplate = restTemplate;
+                  }
+
+                  Item item(long id) {
+                      return restTemplate.getForObject("http://inventory-service:8080/items/{id}", Item.class, id);
+                  }
+
+                  void restock(Item item) {
+                      restTemplate.put("http://inventory-service:8080/items", item);
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import org.eclipse.microprofile.rest.client.inject.RestClient;
+
+              class InventoryGateway {
+                  private final InventoryServiceClient restTemplate;
+
+                  InventoryGateway(@RestClient InventoryServiceClient restTemplate) {
+                      this.restTemplate = restTemplate;
+                  }
+
+                  Item item(long id) {
+                      return restTemplate.item(id);
+                  }
+
+                  void restock(Item item) {
+                      restTemplate.restock(item);
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            null,
+            """
+              package com.example;
+
+              import jakarta.ws.rs.GET;
+              import jakarta.ws.rs.PUT;
+              import jakarta.ws.rs.Path;
+              import jakarta.ws.rs.PathParam;
+              import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+
+              @RegisterRestClient(configKey = "inventory-service", baseUri = "http://inventory-service:8080")
+              public interface InventoryServiceClient {
+
+                  @GET
+                  @Path("/items/{id}")
+                  Item item(@PathParam("id") long id);
+
+                  @PUT
+                  @Path("/items")
+                  void restock(Item body);
+              }
+              """,
+            spec -> spec.path("com/example/InventoryServiceClient.java")
+          ),
+          properties(
+            """
+              server.port=8081
+              """,
+            """
+              server.port=8081
+              quarkus.rest-client.connect-timeout=2000
+              quarkus.rest-client.read-timeout=500
+              """,
+            spec -> spec.path("application.properties")
+          )
+        );
+    }
+
+    @Test
+    void reactiveWebClientToUniAndMulti() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              public class Product {
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.web.reactive.function.client.WebClient;
+              import reactor.core.publisher.Flux;
+              import reactor.core.publisher.Mono;
+
+              class CatalogService {
+                  private final WebClient webClient;
+
+                  CatalogService(WebClient webClient) {
+                      this.webClient = webClient;
+                  }
+
+                  Mono<Product> product(String sku) {
+                      return webClient.get().uri("https://catalog.internal/products/{sku}", sku).retrieve().bodyToMono(Product.class);
+                  }
+
+                  Flux<Product> search(String query) {
+                      return webClient.get().uri("https://catalog.internal/products?q={query}", query).retrieve().bodyToFlux(Product.class);
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import io.smallrye.mutiny.Multi;
+              import io.smallrye.mutiny.Uni;
+              import org.eclipse.microprofile.rest.client.inject.RestClient;
+
+              class CatalogService {
+                  private final CatalogClient webClient;
+
+                  CatalogService(@RestClient CatalogClient webClient) {
+                      this.webClient = webClient;
+                  }
+
+                  Uni<Product> product(String sku) {
+                      return webClient.product(sku);
+                  }
+
+                  Multi<Product> search(String query) {
+                      return webClient.search(query);
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            null,
+            """
+              package com.example;
+
+              import io.smallrye.mutiny.Multi;
+              import io.smallrye.mutiny.Uni;
+              import jakarta.ws.rs.GET;
+              import jakarta.ws.rs.Path;
+              import jakarta.ws.rs.PathParam;
+              import jakarta.ws.rs.QueryParam;
+              import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+
+              @RegisterRestClient(configKey = "catalog", baseUri = "https://catalog.internal")
+              public interface CatalogClient {
+
+                  @GET
+                  @Path("/products/{sku}")
+                  Uni<Product> product(@PathParam("sku") String sku);
+
+                  @GET
+                  @Path("/products")
+                  Multi<Product> search(@QueryParam("q") String query);
+              }
+              """,
+            spec -> spec.path("com/example/CatalogClient.java")
+          )
+        );
+    }
+
+    @Test
+    void leaveClientsUsedOtherwiseUnchanged() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.http.ResponseEntity;
+              import org.springframework.web.client.RestTemplate;
+
+              class StatusProbe {
+                  private final RestTemplate restTemplate;
+                  private final String baseUrl;
+
+                  StatusProbe(RestTemplate restTemplate, String baseUrl) {
+                      this.restTemplate = restTemplate;
+                      this.baseUrl = baseUrl;
+                  }
+
+                  String status() {
+                      return restTemplate.getForObject(baseUrl + "/status", String.class);
+                  }
+
+                  ResponseEntity<String> health() {
+                      return restTemplate.getForEntity("http://probe:8080/health", String.class);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
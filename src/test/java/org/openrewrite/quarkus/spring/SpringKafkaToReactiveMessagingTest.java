@@ -0,0 +1,381 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.properties.Assertions.properties;
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class SpringKafkaToReactiveMessagingTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new SpringKafkaToReactiveMessaging())
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("spring-kafka", "kafka-clients", "spring-messaging", "spring-context"));
+    }
+
+    @DocumentExample
+    @Test
+    void listenerAndTemplateToIncomingAndEmitter() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.kafka.annotation.KafkaListener;
+              import org.springframework.kafka.core.KafkaTemplate;
+
+              class OrderProcessor {
+                  private final KafkaTemplate<String, String> kafkaTemplate;
+
+                  OrderProcessor(KafkaTemplate<String, String> kafkaTemplate) {
+                      this.kafkaTemplate = kafkaTemplate;
+                  }
+
+                  @KafkaListener(topics = "orders", groupId = "fulfilment", concurrency = "3")
+                  void onOrder(String order) {
+                      kafkaTemplate.send("shipments", order, "shipped");
+                  }
+              }
+              """,
+            """
+              import io.smallrye.reactive.messaging.kafka.KafkaRecord;
+              import org.eclipse.microprofile.reactive.messaging.Channel;
+              import org.eclipse.microprofile.reactive.messaging.Emitter;
+              import org.eclipse.microprofile.reactive.messaging.Incoming;
+
+              class OrderProcessor {
+                  private final Emitter<String> kafkaTemplate;
+
+                  OrderProcessor(@Channel("shipments") Emitter<String> kafkaTemplate) {
+                      this.kafkaTemplate = kafkaTemplate;
+                  }
+
+                  @Incoming("orders")
+                  void onOrder(String order) {
+                      kafkaTemplate.send(KafkaRecord.of(order, "shipped"));
+                  }
+              }
+              """
+          ),
+          properties(
+            """
+              spring.kafka.bootstrap-servers=localhost:9092
+              spring.kafka.consumer.auto-offset-reset=earliest
+              spring.kafka.consumer.max-poll-records=200
+              spring.kafka.consumer.fetch-min-size=16KB
+              spring.kafka.producer.acks=all
+              """,
+            """
+              spring.kafka.bootstrap-servers=localhost:9092
+              mp.messaging.incoming.orders.auto.offset.reset=earliest
+              mp.messaging.incoming.orders.max.poll.records=200
+              mp.messaging.incoming.orders.fetch.min.bytes=16384
+              mp.messaging.incoming.orders.group.id=fulfilment
+              mp.messaging.incoming.orders.concurrency=3
+              mp.messaging.outgoing.shipments.acks=all
+              """,
+            spec -> spec.path("application.properties")
+          )
+        );
+    }
+
+    @Test
+    void batchOfRecordsToConsumerRecords() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.kafka.clients.consumer.ConsumerRecord;
+              import org.springframework.kafka.annotation.KafkaListener;
+
+              import java.util.List;
+
+              class AuditListener {
+                  @KafkaListener(topics = "audit.events", batch = "true")
+                  void onEvents(List<ConsumerRecord<String, String>> records) {
+                      for (ConsumerRecord<String, String> record : records) {
+                          System.out.println(record.key() + "=" + record.value());
+                      }
+                  }
+              }
+              """,
+            """
+              import org.apache.kafka.clients.consumer.ConsumerRecord;
+              import org.apache.kafka.clients.consumer.ConsumerRecords;
+              import org.eclipse.microprofile.reactive.messaging.Incoming;
+
+              class AuditListener {
+                  @Incoming("audit-events")
+                  void onEvents(ConsumerRecords<String, String> records) {
+                      for (ConsumerRecord<String, String> record : records) {
+                          System.out.println(record.key() + "=" + record.value());
+                      }
+                  }
+              }
+              """
+          ),
+          properties(
+            """
+              spring.kafka.listener.concurrency=2
+              """,
+            """
+              mp.messaging.incoming.audit-events.concurrency=2
+              mp.messaging.incoming.audit-events.topic=audit.events
+              mp.messaging.incoming.audit-events.batch=true
+              """,
+            spec -> spec.path("application.properties")
+          )
+        );
+    }
+
+    @Test
+    void batchOfPayloadsKeepsList() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.kafka.annotation.KafkaListener;
+
+              import java.util.List;
+
+              class InvoiceListener {
+                  @KafkaListener(topics = {"invoices"})
+                  void onInvoices(List<String> invoices) {
+                      invoices.forEach(System.out::println);
+                  }
+              }
+              """,
+            """
+              import org.eclipse.microprofile.reactive.messaging.Incoming;
+
+              import java.util.List;
+
+              class InvoiceListener {
+                  @Incoming("invoices")
+                  void onInvoices(List<String> invoices) {
+                      invoices.forEach(System.out::println);
+                  }
+              }
+              """
+          ),
+          properties(
+            """
+              spring.kafka.consumer.group-id=billing
+              spring.kafka.consumer.fetch-max-wait=2s
+              """,
+            """
+              mp.messaging.incoming.invoices.group.id=billing
+              mp.messaging.incoming.invoices.fetch.max.wait.ms=2000
+              mp.messaging.incoming.invoices.batch=true
+              """,
+            spec -> spec.path("application.properties")
+          )
+        );
+    }
+
+    @Test
+    void profileSettingsDoNotOverrideListenerSettings() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.kafka.annotation.KafkaListener;
+
+              class PaymentListener {
+                  @KafkaListener(id = "payments-group", topics = "payments")
+                  void onPayment(String payment) {
+                  }
+              }
+              """,
+            """
+              import org.eclipse.microprofile.reactive.messaging.Incoming;
+
+              class PaymentListener {
+                  @Incoming("payments")
+                  void onPayment(String payment) {
+                  }
+              }
+              """
+          ),
+          properties(
+            """
+              spring.kafka.consumer.group-id=default
+              spring.kafka.consumer.max-poll-records=50
+              """,
+            """
+              mp.messaging.incoming.payments.max.poll.records=50
+              """,
+            spec -> spec.path("application-prod.properties")
+          ),
+          properties(
+            null,
+            """
+              mp.messaging.incoming.payments.group.id=payments-group
+              """,
+            spec -> spec.path("src/main/resources/application.properties")
+          )
+        );
+    }
+
+    @Test
+    void channelSettingsInApplicationYaml() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.kafka.annotation.KafkaListener;
+
+              class OrderListener {
+                  @KafkaListener(topics = "orders", groupId = "fulfilment")
+                  void onOrder(String order) {
+                  }
+              }
+              """,
+            """
+              import org.eclipse.microprofile.reactive.messaging.Incoming;
+
+              class OrderListener {
+                  @Incoming("orders")
+                  void onOrder(String order) {
+                  }
+              }
+              """
+          ),
+          yaml(
+            """
+              spring:
+                kafka:
+                  bootstrap-servers: localhost:9092
+                  consumer:
+                    auto-offset-reset: earliest
+                    max-poll-records: 200
+              """,
+            """
+              spring:
+                kafka:
+                  bootstrap-servers: localhost:9092
+              mp.messaging.incoming.orders.auto.offset.reset: earliest
+              mp.messaging.incoming.orders.max.poll.records: 200
+              mp.messaging.incoming.orders.group.id: fulfilment
+              """,
+            spec -> spec.path("src/main/resources/application.yml")
+          )
+        );
+    }
+
+    @Test
+    void leaveListenersWithoutConfigurationFileUnchanged() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.springframework.kafka.annotation.KafkaListener;
+
+              class OrderListener {
+                  @KafkaListener(topics = "orders", groupId = "fulfilment")
+                  void onOrder(String order) {
+                  }
+              }
+              """,
+            spec -> spec.path("src/test/java/com/example/OrderListener.java")
+          )
+        );
+    }
+
+    @Test
+    void leaveListenersWithoutChannelEquivalentUnchanged() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.kafka.annotation.KafkaListener;
+              import org.springframework.kafka.support.Acknowledgment;
+
+              class Listeners {
+                  @KafkaListener(topics = "${app.topics.orders}")
+                  void placeholder(String order) {
+                  }
+
+                  @KafkaListener(topics = "returns", containerFactory = "manualAckFactory")
+                  void manualAck(String order, Acknowledgment ack) {
+                      ack.acknowledge();
+                  }
+
+                  @KafkaListener(topicPattern = "audit-.*")
+                  void pattern(String event) {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void leaveListenersSharingTopicUnchanged() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.kafka.annotation.KafkaListener;
+
+              class Listeners {
+                  @KafkaListener(topics = "orders", groupId = "billing")
+                  void bill(String order) {
+                  }
+
+                  @KafkaListener(topics = "orders", groupId = "shipping")
+                  void ship(String order) {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void leaveTemplatesUsingSendResultUnchanged() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.kafka.core.KafkaTemplate;
+
+              class Notifier {
+                  private final KafkaTemplate<String, String> kafkaTemplate;
+
+                  Notifier(KafkaTemplate<String, String> kafkaTemplate) {
+                      this.kafkaTemplate = kafkaTemplate;
+                  }
+
+                  void notify(String message) {
+                      kafkaTemplate.send("notifications", message)
+                        .whenComplete((result, error) -> System.out.println(result));
+                  }
+              }
+              """
+          )
+        );
+    }
+}
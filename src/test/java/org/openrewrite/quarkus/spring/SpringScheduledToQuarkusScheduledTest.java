@@ -0,0 +1,171 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.version;
+
+class SpringScheduledToQuarkusScheduledTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new SpringScheduledToQuarkusScheduled())
+          .parser(JavaParser.fromJavaVersion().classpath("spring-context"));
+    }
+
+    @DocumentExample
+    @Test
+    void fixedRateOnVirtualThreads() {
+        rewriteRun(
+          version(
+            //language=java
+            java(
+              """
+                import org.springframework.scheduling.annotation.Scheduled;
+
+                class ReportJobs {
+                    @Scheduled(fixedRate = 300000, initialDelay = 1500)
+                    void refreshReports() {
+                    }
+                }
+                """,
+              """
+                import io.quarkus.scheduler.Scheduled;
+                import io.smallrye.common.annotation.RunOnVirtualThread;
+
+                class ReportJobs {
+                    @RunOnVirtualThread
+                    @Scheduled(every = "5m", delayed = "1.5s", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+                    void refreshReports() {
+                    }
+                }
+                """
+            ),
+            21
+          )
+        );
+    }
+
+    @Test
+    void fixedDelayInTimeUnitAndDurationString() {
+        rewriteRun(
+          version(
+            //language=java
+            java(
+              """
+                import org.springframework.scheduling.annotation.Scheduled;
+
+                import java.util.concurrent.TimeUnit;
+
+                class CleanupJobs {
+                    @Scheduled(fixedDelay = 2, timeUnit = TimeUnit.MINUTES)
+                    void purgeSessions() {
+                    }
+
+                    @Scheduled(fixedDelayString = "PT30S", initialDelayString = "10s")
+                    void purgeTokens() {
+                    }
+                }
+                """,
+              """
+                import io.quarkus.scheduler.Scheduled;
+
+                class CleanupJobs {
+                    @Scheduled(every = "2m", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+                    void purgeSessions() {
+                    }
+
+                    @Scheduled(every = "30s", delayed = "10s", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+                    void purgeTokens() {
+                    }
+                }
+                """
+            ),
+            17
+          )
+        );
+    }
+
+    @Test
+    void cronToQuartzSyntax() {
+        rewriteRun(
+          version(
+            //language=java
+            java(
+              """
+                import org.springframework.scheduling.annotation.Scheduled;
+
+                class BillingJobs {
+                    @Scheduled(cron = "0 0 9 * * 1-5", zone = "Europe/Paris")
+                    void sendReminders() {
+                    }
+
+                    @Scheduled(cron = "@daily")
+                    void closeDay() {
+                    }
+                }
+                """,
+              """
+                import io.quarkus.scheduler.Scheduled;
+
+                class BillingJobs {
+                    @Scheduled(cron = "0 0 9 ? * MON-FRI", timeZone = "Europe/Paris", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+                    void sendReminders() {
+                    }
+
+                    @Scheduled(cron = "0 0 0 * * ?", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+                    void closeDay() {
+                    }
+                }
+                """
+            ),
+            17
+          )
+        );
+    }
+
+    @Test
+    void leaveSourceFileWithUnconvertibleJobUnchanged() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.scheduling.annotation.Scheduled;
+
+              class Jobs {
+                  @Scheduled(fixedRate = 1000)
+                  void heartbeat() {
+                  }
+
+                  @Scheduled(cron = "${jobs.archive.cron}")
+                  void archive() {
+                  }
+
+                  @Scheduled(fixedDelay = 5000, scheduler = "batchScheduler")
+                  void export() {
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.quarkus.spring.table.RecipeFileTimings;
+import org.openrewrite.quarkus.spring.table.RecipeTimingSummary;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.openrewrite.java.Assertions.java;
+
+class TimedVisitorTest implements RewriteTest {
+
+    private static final String RECIPE_NAME = SpringEventListenerToObserves.class.getName();
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new SpringEventListenerToObserves())
+          .parser(JavaParser.fromJavaVersion().classpath("spring-context"));
+    }
+
+    @Test
+    void recordsTimingsPerFileAndRecipe() {
+        rewriteRun(
+          spec -> spec
+            .dataTable(RecipeFileTimings.Row.class, rows -> {
+                assertThat(rows).allMatch(row -> RECIPE_NAME.equals(row.getRecipe()) && row.getVisitTimeNanos() > 0);
+                assertThat(rows).filteredOn(row -> row.getCycle() == 1)
+                  .extracting(RecipeFileTimings.Row::getSourcePath, RecipeFileTimings.Row::getTemplateLookups, RecipeFileTimings.Row::isChanged)
+                  .containsExactlyInAnyOrder(
+                    tuple("MyEventListener.java", 1, true),
+                    tuple("MyEvent.java", 0, false));
+                assertThat(rows).filteredOn(row -> row.getCycle() > 1).noneMatch(RecipeFileTimings.Row::isChanged);
+            })
+            .dataTable(RecipeTimingSummary.Row.class, rows -> assertThat(rows)
+              .singleElement()
+              .satisfies(row -> {
+                  assertThat(row.getRecipe()).isEqualTo(RECIPE_NAME);
+                  assertThat(row.getSourceFileVisits()).isGreaterThanOrEqualTo(2);
+                  assertThat(row.getChanges()).isEqualTo(1);
+                  assertThat(row.getTemplateLookups()).isEqualTo(1);
+              })),
+          //language=java
+          java(
+            """
+              import org.springframework.context.event.EventListener;
+
+              public class MyEventListener {
+                  @EventListener
+                  public void handleEvent(MyEvent event) {
+                  }
+              }
+              """,
+            """
+              import jakarta.enterprise.event.Observes;
+
+              public class MyEventListener {
+                  public void handleEvent(@Observes MyEvent event) {
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              public class MyEvent {
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.properties.Assertions.properties;
+import static org.openrewrite.yaml.Assertions.yaml;
+
+class UseReactiveDatasourceTest implements RewriteTest {
+
+    //language=java
+    private static final String REACTIVE_SOURCE = """
+      import reactor.core.publisher.Mono;
+
+      class Greeting {
+          Mono<String> hello() {
+              return Mono.just("hello");
+          }
+      }
+      """;
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UseReactiveDatasource())
+          .parser(JavaParser.fromJavaVersion().classpath("reactor-core"));
+    }
+
+    @DocumentExample
+    @Test
+    void moveUrlAndPoolSizeToReactiveProperties() {
+        rewriteRun(
+          java(REACTIVE_SOURCE),
+          properties(
+            """
+              quarkus.datasource.jdbc.url=jdbc:postgresql://localhost:5432/app
+              quarkus.datasource.jdbc.max-size=50
+              quarkus.datasource.jdbc.min-size=10
+              """,
+            """
+              quarkus.datasource.reactive.url=postgresql://localhost:5432/app
+              quarkus.datasource.reactive.max-size=50
+              quarkus.datasource.jdbc.min-size=10
+              """,
+            spec -> spec.path("application.properties")
+          )
+        );
+    }
+
+    @Test
+    void moveNestedYamlKeys() {
+        rewriteRun(
+          java(REACTIVE_SOURCE),
+          //language=yaml
+          yaml(
+            """
+              quarkus:
+                datasource:
+                  username: app
+                  jdbc:
+                    url: jdbc:postgresql://localhost:5432/app
+                    max-size: 50
+              """,
+            """
+              quarkus:
+                datasource:
+                  username: app
+                  reactive.url: postgresql://localhost:5432/app
+                  reactive.max-size: 50
+              """,
+            spec -> spec.path("application.yml")
+          )
+        );
+    }
+
+    @Test
+    void keepJdbcDatasourceInBlockingProjects() {
+        rewriteRun(
+          properties(
+            """
+              quarkus.datasource.jdbc.url=jdbc:postgresql://localhost:5432/app
+              """,
+            spec -> spec.path("application.properties")
+          )
+        );
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.test.RewriteTest.toRecipe;
+
+class UsesSpringTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(toRecipe(() -> new UsesSpring(SpringUsage.CONTROLLER, SpringUsage.WEB_BIND_ANNOTATION)))
+          .parser(JavaParser.fromJavaVersion().classpath("spring-web", "spring-context", "spring-boot"));
+    }
+
+    @Test
+    void findsTypeInPackage() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.web.bind.annotation.GetMapping;
+
+              class UserController {
+                  @GetMapping
+                  String list() {
+                      return "";
+                  }
+              }
+              """,
+            """
+              /*~~>*/import org.springframework.web.bind.annotation.GetMapping;
+
+              class UserController {
+                  @GetMapping
+                  String list() {
+                      return "";
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void findsWildcardImport() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.web.bind.annotation.*;
+
+              class UserController {
+              }
+              """,
+            """
+              /*~~>*/import org.springframework.web.bind.annotation.*;
+
+              class UserController {
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void findsMethod() {
+        rewriteRun(
+          spec -> spec.recipe(toRecipe(() -> new UsesSpring(SpringUsage.SPRING_APPLICATION_RUN))),
+          //language=java
+          java(
+            """
+              import org.springframework.boot.SpringApplication;
+
+              class Application {
+                  public static void main(String[] args) {
+                      SpringApplication.run(Application.class, args);
+                  }
+              }
+              """,
+            """
+              /*~~>*/import org.springframework.boot.SpringApplication;
+
+              class Application {
+                  public static void main(String[] args) {
+                      SpringApplication.run(Application.class, args);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void ignoresOtherTypes() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.springframework.stereotype.Service;
+
+              @Service
+              class UserService {
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void indexesEachSourceFileOnce() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        J.CompilationUnit cu = JavaParser.fromJavaVersion().classpath("spring-context").build()
+          .parse(ctx, "import org.springframework.stereotype.Controller; @Controller class UserController {}")
+          .map(J.CompilationUnit.class::cast)
+          .findFirst()
+          .orElseThrow();
+
+        assertThat(SpringUsage.in(cu, ctx))
+          .containsExactly(SpringUsage.CONTROLLER)
+          .isSameAs(SpringUsage.in(cu, ctx));
+        assertThat(SpringUsage.in(cu.withImports(emptyList()), ctx))
+          .isNotSameAs(SpringUsage.in(cu, ctx));
+    }
+}
@@ -650,6 +650,144 @@ class WebToJaxRsTest implements RewriteTest {
         );
     }
 
+    @Test
+    void leaveAnnotationsWithSpringSimpleNamesFromOtherPackagesAlone() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              public @interface GetMapping {
+                  String value() default "";
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import com.example.GetMapping;
+              import org.springframework.web.bind.annotation.RestController;
+
+              @RestController
+              public class UserController {
+                  @GetMapping("/users")
+                  public String getUsers() {
+                      return "users";
+                  }
+              }
+              """,
+            """
+              import com.example.GetMapping;
+              import jakarta.ws.rs.Path;
+
+              @Path("")
+              public class UserController {
+                  @GetMapping("/users")
+                  public String getUsers() {
+                      return "users";
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void convertsInSinglePass() {
+        rewriteRun(
+          spec -> spec.cycles(1).expectedCyclesThatMakeChanges(1),
+          //language=java
+          java(
+            """
+              import org.springframework.web.bind.annotation.*;
+
+              @RestController
+              public class UserController {
+
+                  @GetMapping(value = "/users/{id}", produces = "application/json")
+                  public String getUser(@PathVariable Long id, @RequestParam("verbose") boolean verbose) {
+                      return "user";
+                  }
+
+                  @PostMapping("/users")
+                  public String createUser(@RequestBody User user) {
+                      return "created";
+                  }
+              }
+
+              class User {
+                  String name;
+              }
+              """,
+            """
+              import jakarta.ws.rs.*;
+
+              @Path("")
+              public class UserController {
+
+                  @GET
+                  @Path("/users/{id}")
+                  @Produces("application/json")
+                  public String getUser(@PathParam("id") Long id, @QueryParam("verbose") boolean verbose) {
+                      return "user";
+                  }
+
+                  @POST
+                  @Path("/users")
+                  public String createUser(User user) {
+                      return "created";
+                  }
+              }
+
+              class User {
+                  String name;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void secondPassIsNoOp() {
+        rewriteRun(
+          spec -> spec.cycles(2).expectedCyclesThatMakeChanges(1),
+          //language=java
+          java(
+            """
+              import org.springframework.stereotype.Controller;
+              import org.springframework.web.bind.annotation.*;
+
+              @Controller
+              @ResponseBody
+              @RequestMapping("/api")
+              public class UserController {
+
+                  @RequestMapping(value = "/users", method = RequestMethod.DELETE)
+                  public String deleteUsers(@RequestHeader("X-Token") String token) {
+                      return "deleted";
+                  }
+              }
+              """,
+            """
+              import jakarta.ws.rs.DELETE;
+              import jakarta.ws.rs.HeaderParam;
+              import jakarta.ws.rs.Path;
+
+              @Path("/api")
+              public class UserController {
+
+                  @DELETE
+                  @Path("/users")
+                  public String deleteUsers(@HeaderParam("X-Token") String token) {
+                      return "deleted";
+                  }
+              }
+              """
+          )
+        );
+    }
+
     @Nested
     class ConsumesProduces {
         @Test